@@ -48,7 +48,8 @@ func main() {
 	inventoryRepo := database.NewPostgresInventoryRepository(db, logger)
 
 	// Initialize service
-	inventoryService := service.NewInventoryService(inventoryRepo, logger)
+	statusFeed := service.NewStatusFeed(cfg.Service.StatusChangeLogSize, cfg.Service.StatusSubscriberBuffer, logger)
+	inventoryService := service.NewInventoryService(inventoryRepo, statusFeed, logger)
 
 	// Initialize Kafka producer
 	kafkaProducer, err := kafka.NewProducer(&cfg.Kafka, logger)
@@ -135,7 +136,8 @@ func main() {
 	// Cancel context to stop all goroutines
 	cancel()
 
-	// Stop servers
+	// Stop servers (đóng status feed trước để các stream trạng thái kết thúc)
+	statusFeed.Close()
 	grpcSrv.Stop()
 
 	shutdownCtx, shutdownCancel := context.WithTimeout(context.Background(), 30*time.Second)
@@ -60,6 +60,8 @@ type ServiceConfig struct {
 	ReservationTimeoutMinutes int
 	InventoryCheckBatchSize   int
 	HealthCheckInterval       time.Duration
+	StatusChangeLogSize       int
+	StatusSubscriberBuffer    int
 }
 
 type LoggingConfig struct {
@@ -109,6 +111,8 @@ func Load() *Config {
 			ReservationTimeoutMinutes: getEnvAsInt("RESERVATION_TIMEOUT_MINUTES", 15),
 			InventoryCheckBatchSize:   getEnvAsInt("INVENTORY_CHECK_BATCH_SIZE", 100),
 			HealthCheckInterval:       getEnvAsDuration("HEALTH_CHECK_INTERVAL", 30*time.Second),
+			StatusChangeLogSize:       getEnvAsInt("STATUS_CHANGE_LOG_SIZE", 10000),
+			StatusSubscriberBuffer:    getEnvAsInt("STATUS_SUBSCRIBER_BUFFER", 1024),
 		},
 		Logging: LoggingConfig{
 			Level:  getEnv("LOG_LEVEL", "info"),
@@ -11,6 +11,7 @@ type InventoryRepository interface {
 	// Inventory operations
 	GetByProductID(ctx context.Context, productID string) (*entity.Inventory, error)
 	GetByProductIDs(ctx context.Context, productIDs []string) ([]*entity.Inventory, error)
+	GetAll(ctx context.Context) ([]*entity.Inventory, error)
 	Create(ctx context.Context, inventory *entity.Inventory) error
 	Update(ctx context.Context, inventory *entity.Inventory) error
 	UpdateQuantity(ctx context.Context, productID string, quantityChange int32, operationType entity.OperationType, referenceID, reason, createdBy string) error
@@ -103,6 +103,23 @@ func (r *PostgresInventoryRepository) GetByProductIDs(ctx context.Context, produ
 	return inventories, nil
 }
 
+// GetAll trả về toàn bộ inventory, dùng làm snapshot cho stream trạng thái
+func (r *PostgresInventoryRepository) GetAll(ctx context.Context) ([]*entity.Inventory, error) {
+	query := `
+		SELECT id, product_id, quantity, reserved_quantity, available_quantity, 
+		       status, min_stock_level, max_stock_level, reorder_point, 
+		       created_at, updated_at, version
+		FROM inventory`
+
+	var inventories []*entity.Inventory
+	if err := r.db.SelectContext(ctx, &inventories, query); err != nil {
+		r.logger.Error("Failed to get all inventories", zap.Error(err))
+		return nil, errors.Wrap(err, "failed to get all inventories")
+	}
+
+	return inventories, nil
+}
+
 func (r *PostgresInventoryRepository) Create(ctx context.Context, inventory *entity.Inventory) error {
 	if inventory.ID == "" {
 		inventory.ID = uuid.New().String()
@@ -840,3 +840,82 @@ func (h *InventoryHandler) GetInventoryHistory(ctx context.Context, req *invento
 
 	return response, nil
 }
+
+// SubscribeInventoryStatus streams inventory status changes. A subscriber that cannot resume from
+// from_version gets RESET, the full snapshot and SNAPSHOT_END before live changes.
+func (h *InventoryHandler) SubscribeInventoryStatus(req *inventorypb.SubscribeInventoryStatusRequest, stream inventorypb.InventoryService_SubscribeInventoryStatusServer) error {
+	subscriber, missed, version, resumed := h.inventoryService.SubscribeStatus(req.FromVersion)
+	defer h.inventoryService.UnsubscribeStatus(subscriber)
+
+	h.logger.Info("SubscribeInventoryStatus request received",
+		zap.String("subscriber_id", req.SubscriberId),
+		zap.Int64("from_version", req.FromVersion),
+		zap.Int64("version", version),
+		zap.Bool("resumed", resumed),
+		zap.Int("missed_changes", len(missed)),
+	)
+
+	if !resumed {
+		snapshot, err := h.inventoryService.StatusSnapshot(stream.Context(), version)
+		if err != nil {
+			h.logger.Error("Failed to load inventory status snapshot",
+				zap.String("subscriber_id", req.SubscriberId),
+				zap.Error(err),
+			)
+			return status.Error(codes.Internal, "failed to load inventory status snapshot")
+		}
+
+		if err := stream.Send(&inventorypb.InventoryStatusChange{
+			Type:    inventorypb.InventoryStatusChange_RESET,
+			Version: version,
+		}); err != nil {
+			return err
+		}
+		missed = snapshot
+	}
+
+	for _, change := range missed {
+		if err := stream.Send(toStatusChangeProto(change)); err != nil {
+			return err
+		}
+	}
+
+	if err := stream.Send(&inventorypb.InventoryStatusChange{
+		Type:    inventorypb.InventoryStatusChange_SNAPSHOT_END,
+		Version: version,
+	}); err != nil {
+		return err
+	}
+
+	for {
+		select {
+		case change := <-subscriber.Changes():
+			if err := stream.Send(toStatusChangeProto(change)); err != nil {
+				return err
+			}
+		case <-subscriber.Done():
+			if subscriber.Lagged() {
+				// Không dùng UNAVAILABLE: client coi đó là inventory service quá tải
+				return status.Error(codes.ResourceExhausted, "subscriber fell behind, resume from the last received version")
+			}
+			return status.Error(codes.Unavailable, "inventory service is shutting down")
+		case <-stream.Context().Done():
+			h.logger.Info("SubscribeInventoryStatus stream closed",
+				zap.String("subscriber_id", req.SubscriberId),
+			)
+			return nil
+		}
+	}
+}
+
+func toStatusChangeProto(change service.StatusChange) *inventorypb.InventoryStatusChange {
+	return &inventorypb.InventoryStatusChange{
+		Type:              inventorypb.InventoryStatusChange_CHANGE,
+		ProductId:         change.ProductID,
+		Available:         change.Available,
+		AvailableQuantity: change.AvailableQuantity,
+		Status:            change.Status,
+		Version:           change.Version,
+		UpdatedAt:         change.UpdatedAt.UnixMilli(),
+	}
+}
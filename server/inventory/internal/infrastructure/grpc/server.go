@@ -41,6 +41,7 @@ func (s *Server) Start() error {
 	// Create gRPC server with interceptors
 	s.server = grpc.NewServer(
 		grpc.UnaryInterceptor(s.loggingInterceptor),
+		grpc.StreamInterceptor(s.streamLoggingInterceptor),
 	)
 
 	// Register services
@@ -87,3 +88,30 @@ func (s *Server) loggingInterceptor(ctx context.Context, req interface{}, info *
 
 	return resp, err
 }
+
+func (s *Server) streamLoggingInterceptor(srv interface{}, stream grpc.ServerStream, info *grpc.StreamServerInfo, handler grpc.StreamHandler) error {
+	start := time.Now()
+
+	s.logger.Info("gRPC stream started",
+		zap.String("method", info.FullMethod),
+	)
+
+	err := handler(srv, stream)
+
+	duration := time.Since(start)
+
+	if err != nil {
+		s.logger.Warn("gRPC stream ended with error",
+			zap.String("method", info.FullMethod),
+			zap.Duration("duration", duration),
+			zap.Error(err),
+		)
+	} else {
+		s.logger.Info("gRPC stream completed",
+			zap.String("method", info.FullMethod),
+			zap.Duration("duration", duration),
+		)
+	}
+
+	return err
+}
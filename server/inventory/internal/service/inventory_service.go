@@ -15,8 +15,9 @@ import (
 )
 
 type InventoryService struct {
-	repo   repository.InventoryRepository
-	logger *zap.Logger
+	repo       repository.InventoryRepository
+	statusFeed *StatusFeed
+	logger     *zap.Logger
 }
 
 type ProductInfo struct {
@@ -25,13 +26,66 @@ type ProductInfo struct {
 	Price           float64
 }
 
-func NewInventoryService(repo repository.InventoryRepository, logger *zap.Logger) *InventoryService {
+func NewInventoryService(repo repository.InventoryRepository, statusFeed *StatusFeed, logger *zap.Logger) *InventoryService {
 	return &InventoryService{
-		repo:   repo,
-		logger: logger,
+		repo:       repo,
+		statusFeed: statusFeed,
+		logger:     logger,
 	}
 }
 
+// SubscribeStatus đăng ký nhận thay đổi trạng thái tồn kho, xem StatusFeed.Subscribe
+func (s *InventoryService) SubscribeStatus(fromVersion int64) (*StatusSubscriber, []StatusChange, int64, bool) {
+	return s.statusFeed.Subscribe(fromVersion)
+}
+
+func (s *InventoryService) UnsubscribeStatus(subscriber *StatusSubscriber) {
+	s.statusFeed.Unsubscribe(subscriber)
+}
+
+// StatusSnapshot đọc trạng thái hiện tại của mọi sản phẩm cho subscriber không resume được,
+// mỗi dòng mang version của feed lúc đăng ký
+func (s *InventoryService) StatusSnapshot(ctx context.Context, version int64) ([]StatusChange, error) {
+	inventories, err := s.repo.GetAll(ctx)
+	if err != nil {
+		return nil, errors.Wrap(err, "failed to get inventory status snapshot")
+	}
+
+	changes := make([]StatusChange, len(inventories))
+	for i, inv := range inventories {
+		changes[i] = newStatusChange(inv, version)
+	}
+	return changes, nil
+}
+
+// publishStatus đọc lại các dòng vừa ghi và đẩy trạng thái mới lên status feed.
+// Lỗi chỉ được log: thao tác ghi đã thành công, subscriber sẽ nhận trạng thái đúng ở lần thay đổi sau hoặc khi lấy lại snapshot.
+func (s *InventoryService) publishStatus(ctx context.Context, productIDs ...string) {
+	if len(productIDs) == 0 {
+		return
+	}
+
+	inventories, err := s.repo.GetByProductIDs(ctx, productIDs)
+	if err != nil {
+		s.logger.Warn("Failed to publish inventory status change",
+			zap.Strings("product_ids", productIDs),
+			zap.Error(err))
+		return
+	}
+
+	for _, inv := range inventories {
+		s.statusFeed.Publish(inv)
+	}
+}
+
+func reservationProductIDs(reservation *entity.InventoryReservation) []string {
+	productIDs := make([]string, len(reservation.Items))
+	for i, item := range reservation.Items {
+		productIDs[i] = item.ProductID
+	}
+	return productIDs
+}
+
 func (s *InventoryService) CheckInventoryWithProductInfo(ctx context.Context, productID string, quantity int32, productInfo *ProductInfo) (*entity.Inventory, bool, error) {
 	s.logger.Info("=== INVENTORY CHECK START ===",
 		zap.String("product_id", productID),
@@ -193,6 +247,7 @@ func (s *InventoryService) smartCreateInventory(ctx context.Context, productID s
 			zap.Error(err))
 		return nil, fmt.Errorf("failed to create inventory: %w", err)
 	}
+	s.statusFeed.Publish(inventory)
 
 	// Verify saved inventory
 	savedInv, err := s.repo.GetByProductID(ctx, productID)
@@ -313,6 +368,7 @@ func (s *InventoryService) ReserveInventory(ctx context.Context, userID string,
 	if err != nil {
 		return nil, errors.Wrap(err, "failed to reserve inventory")
 	}
+	s.publishStatus(ctx, reservationProductIDs(reservation)...)
 
 	s.logger.Info("Inventory reserved",
 		zap.String("reservation_id", reservationID),
@@ -343,6 +399,7 @@ func (s *InventoryService) ConfirmReservation(ctx context.Context, reservationID
 	if err != nil {
 		return errors.Wrap(err, "failed to confirm reservation")
 	}
+	s.publishStatus(ctx, reservationProductIDs(reservation)...)
 
 	s.logger.Info("Reservation confirmed",
 		zap.String("reservation_id", reservationID),
@@ -371,6 +428,7 @@ func (s *InventoryService) CancelReservation(ctx context.Context, reservationID,
 	if err != nil {
 		return errors.Wrap(err, "failed to cancel reservation")
 	}
+	s.publishStatus(ctx, reservationProductIDs(reservation)...)
 
 	s.logger.Info("Reservation cancelled",
 		zap.String("reservation_id", reservationID),
@@ -401,6 +459,7 @@ func (s *InventoryService) UpdateInventory(ctx context.Context, updates []struct
 		if err != nil {
 			return errors.Wrapf(err, "failed to update inventory for product %s", update.ProductID)
 		}
+		s.publishStatus(ctx, update.ProductID)
 
 		s.logger.Info("Inventory updated",
 			zap.String("product_id", update.ProductID),
@@ -444,6 +503,7 @@ func (s *InventoryService) CleanupExpiredReservations(ctx context.Context) error
 			)
 			continue
 		}
+		s.publishStatus(ctx, reservationProductIDs(reservation)...)
 
 		s.logger.Info("Expired reservation cleaned up",
 			zap.String("reservation_id", reservation.ID),
@@ -472,6 +532,7 @@ func (s *InventoryService) SyncInventoryStatus(ctx context.Context, productID st
 		if err != nil {
 			return errors.Wrap(err, "failed to update inventory status")
 		}
+		s.statusFeed.Publish(inventory)
 
 		s.logger.Info("Inventory status synced",
 			zap.String("product_id", productID),
@@ -0,0 +1,187 @@
+package service
+
+import (
+	"sync"
+	"time"
+
+	"inventory-service/internal/domain/entity"
+
+	"go.uber.org/zap"
+)
+
+// StatusChange là trạng thái mới của một sản phẩm, đánh số theo thứ tự trong feed
+type StatusChange struct {
+	ProductID         string
+	Available         bool
+	AvailableQuantity int32
+	Status            string
+	Version           int64
+	UpdatedAt         time.Time
+}
+
+// StatusFeed giữ các thay đổi trạng thái tồn kho gần nhất và đẩy thay đổi mới tới các subscriber.
+// Subscriber kết nối lại được resume từ version đã nhận nếu version đó còn trong change log,
+// nếu không thì phải nhận lại snapshot.
+// Feed chỉ thấy thay đổi ghi qua instance này; version của mỗi instance không trùng nhau
+// nên subscriber chuyển sang instance khác sẽ nhận snapshot thay vì resume.
+type StatusFeed struct {
+	mu          sync.Mutex
+	version     int64
+	changeLog   []StatusChange // ring buffer, changeLog[start] là thay đổi cũ nhất
+	start       int
+	size        int
+	rowVersions map[string]int32 // version của dòng inventory đã đẩy gần nhất, bỏ qua lần đọc cũ hơn
+	subscribers map[*StatusSubscriber]struct{}
+	bufferSize  int
+	closed      bool
+	logger      *zap.Logger
+}
+
+// StatusSubscriber nhận thay đổi qua Changes() tới khi Done() đóng
+type StatusSubscriber struct {
+	changes chan StatusChange
+	done    chan struct{}
+	lagged  bool
+	once    sync.Once
+}
+
+func NewStatusFeed(changeLogSize, subscriberBufferSize int, logger *zap.Logger) *StatusFeed {
+	if changeLogSize <= 0 {
+		changeLogSize = 1
+	}
+	return &StatusFeed{
+		// Version bắt đầu từ thời điểm khởi động: version của lần chạy trước luôn nhỏ hơn version đầu tiên
+		// nên subscriber cũ nhận snapshot thay vì resume nhầm sau khi service khởi động lại
+		version:     time.Now().UnixMicro(),
+		changeLog:   make([]StatusChange, changeLogSize),
+		rowVersions: make(map[string]int32),
+		subscribers: make(map[*StatusSubscriber]struct{}),
+		bufferSize:  subscriberBufferSize,
+		logger:      logger,
+	}
+}
+
+// Publish đẩy trạng thái hiện tại của inventory tới mọi subscriber.
+// Bỏ qua nếu đã đẩy một trạng thái mới hơn của cùng sản phẩm (đọc lại sau khi ghi có thể về không theo thứ tự).
+func (f *StatusFeed) Publish(inv *entity.Inventory) {
+	f.mu.Lock()
+	defer f.mu.Unlock()
+
+	if last, ok := f.rowVersions[inv.ProductID]; ok && inv.Version != 0 && inv.Version <= last {
+		return
+	}
+	f.rowVersions[inv.ProductID] = inv.Version
+
+	f.version++
+	change := newStatusChange(inv, f.version)
+
+	capacity := len(f.changeLog)
+	if f.size < capacity {
+		f.changeLog[(f.start+f.size)%capacity] = change
+		f.size++
+	} else {
+		f.changeLog[f.start] = change
+		f.start = (f.start + 1) % capacity
+	}
+
+	for subscriber := range f.subscribers {
+		select {
+		case subscriber.changes <- change:
+		default:
+			// Subscriber đọc không kịp: ngắt để nó kết nối lại và resume từ change log
+			subscriber.lagged = true
+			f.removeLocked(subscriber)
+			f.logger.Warn("Inventory status subscriber fell behind, disconnecting",
+				zap.Int("buffer_size", f.bufferSize))
+		}
+	}
+}
+
+func newStatusChange(inv *entity.Inventory, version int64) StatusChange {
+	return StatusChange{
+		ProductID:         inv.ProductID,
+		Available:         inv.Status != entity.StatusOutOfStock && inv.CalculateAvailableQuantity() > 0,
+		AvailableQuantity: inv.CalculateAvailableQuantity(),
+		Status:            string(inv.Status),
+		Version:           version,
+		UpdatedAt:         inv.UpdatedAt,
+	}
+}
+
+// Subscribe đăng ký subscriber mới. Khi resume được từ fromVersion thì trả về các thay đổi bị lỡ;
+// nếu không (resumed = false) caller phải gửi snapshot, các thay đổi từ lúc đăng ký đã nằm trong Changes().
+func (f *StatusFeed) Subscribe(fromVersion int64) (subscriber *StatusSubscriber, missed []StatusChange, version int64, resumed bool) {
+	f.mu.Lock()
+	defer f.mu.Unlock()
+
+	subscriber = &StatusSubscriber{
+		changes: make(chan StatusChange, f.bufferSize),
+		done:    make(chan struct{}),
+	}
+	if f.closed {
+		close(subscriber.done)
+		return subscriber, nil, f.version, false
+	}
+	f.subscribers[subscriber] = struct{}{}
+
+	oldest := f.version + 1
+	if f.size > 0 {
+		oldest = f.changeLog[f.start].Version
+	}
+	if fromVersion <= 0 || fromVersion > f.version || fromVersion < oldest-1 {
+		return subscriber, nil, f.version, false
+	}
+
+	capacity := len(f.changeLog)
+	for i := 0; i < f.size; i++ {
+		change := f.changeLog[(f.start+i)%capacity]
+		if change.Version > fromVersion {
+			missed = append(missed, change)
+		}
+	}
+	return subscriber, missed, f.version, true
+}
+
+// Unsubscribe gỡ subscriber khi stream kết thúc
+func (f *StatusFeed) Unsubscribe(subscriber *StatusSubscriber) {
+	f.mu.Lock()
+	defer f.mu.Unlock()
+	f.removeLocked(subscriber)
+}
+
+// Close ngắt mọi subscriber và từ chối subscriber mới, gọi trước khi dừng gRPC server
+// vì GracefulStop chờ các stream đang mở kết thúc
+func (f *StatusFeed) Close() {
+	f.mu.Lock()
+	defer f.mu.Unlock()
+	f.closed = true
+	for subscriber := range f.subscribers {
+		f.removeLocked(subscriber)
+	}
+}
+
+func (f *StatusFeed) removeLocked(subscriber *StatusSubscriber) {
+	delete(f.subscribers, subscriber)
+	subscriber.once.Do(func() { close(subscriber.done) })
+}
+
+// SubscriberCount trả về số subscriber đang kết nối
+func (f *StatusFeed) SubscriberCount() int {
+	f.mu.Lock()
+	defer f.mu.Unlock()
+	return len(f.subscribers)
+}
+
+func (s *StatusSubscriber) Changes() <-chan StatusChange {
+	return s.changes
+}
+
+// Done đóng khi subscriber bị gỡ khỏi feed
+func (s *StatusSubscriber) Done() <-chan struct{} {
+	return s.done
+}
+
+// Lagged cho biết subscriber bị ngắt vì đọc không kịp, chỉ đọc sau khi Done() đã đóng
+func (s *StatusSubscriber) Lagged() bool {
+	return s.lagged
+}
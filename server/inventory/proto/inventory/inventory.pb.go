@@ -21,6 +21,55 @@ const (
 	_ = protoimpl.EnforceVersion(protoimpl.MaxVersion - 20)
 )
 
+type InventoryStatusChange_Type int32
+
+const (
+	InventoryStatusChange_CHANGE       InventoryStatusChange_Type = 0 // trạng thái mới của một sản phẩm
+	InventoryStatusChange_RESET        InventoryStatusChange_Type = 1 // không resume được: bỏ bảng hiện có, snapshot theo sau
+	InventoryStatusChange_SNAPSHOT_END InventoryStatusChange_Type = 2 // đã gửi hết snapshot hoặc thay đổi bị lỡ, sau đây là thay đổi mới
+)
+
+// Enum value maps for InventoryStatusChange_Type.
+var (
+	InventoryStatusChange_Type_name = map[int32]string{
+		0: "CHANGE",
+		1: "RESET",
+		2: "SNAPSHOT_END",
+	}
+	InventoryStatusChange_Type_value = map[string]int32{
+		"CHANGE":       0,
+		"RESET":        1,
+		"SNAPSHOT_END": 2,
+	}
+)
+
+func (x InventoryStatusChange_Type) Enum() *InventoryStatusChange_Type {
+	p := new(InventoryStatusChange_Type)
+	*p = x
+	return p
+}
+
+func (x InventoryStatusChange_Type) String() string {
+	return protoimpl.X.EnumStringOf(x.Descriptor(), protoreflect.EnumNumber(x))
+}
+
+func (InventoryStatusChange_Type) Descriptor() protoreflect.EnumDescriptor {
+	return file_inventory_inventory_proto_enumTypes[0].Descriptor()
+}
+
+func (InventoryStatusChange_Type) Type() protoreflect.EnumType {
+	return &file_inventory_inventory_proto_enumTypes[0]
+}
+
+func (x InventoryStatusChange_Type) Number() protoreflect.EnumNumber {
+	return protoreflect.EnumNumber(x)
+}
+
+// Deprecated: Use InventoryStatusChange_Type.Descriptor instead.
+func (InventoryStatusChange_Type) EnumDescriptor() ([]byte, []int) {
+	return file_inventory_inventory_proto_rawDescGZIP(), []int{22, 0}
+}
+
 type CheckInventoryRequest struct {
 	state         protoimpl.MessageState
 	sizeCache     protoimpl.SizeCache
@@ -1576,6 +1625,164 @@ func (x *InventoryHistoryEntry) GetCreatedBy() string {
 	return ""
 }
 
+type SubscribeInventoryStatusRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	FromVersion  int64            `protobuf:"varint,1,opt,name=from_version,json=fromVersion,proto3" json:"from_version,omitempty"` // version cuối đã nhận, 0 = cần snapshot đầy đủ
+	SubscriberId string           `protobuf:"bytes,2,opt,name=subscriber_id,json=subscriberId,proto3" json:"subscriber_id,omitempty"`
+	Metadata     *common.Metadata `protobuf:"bytes,3,opt,name=metadata,proto3" json:"metadata,omitempty"`
+}
+
+func (x *SubscribeInventoryStatusRequest) Reset() {
+	*x = SubscribeInventoryStatusRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_inventory_inventory_proto_msgTypes[21]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *SubscribeInventoryStatusRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*SubscribeInventoryStatusRequest) ProtoMessage() {}
+
+func (x *SubscribeInventoryStatusRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_inventory_inventory_proto_msgTypes[21]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use SubscribeInventoryStatusRequest.ProtoReflect.Descriptor instead.
+func (*SubscribeInventoryStatusRequest) Descriptor() ([]byte, []int) {
+	return file_inventory_inventory_proto_rawDescGZIP(), []int{21}
+}
+
+func (x *SubscribeInventoryStatusRequest) GetFromVersion() int64 {
+	if x != nil {
+		return x.FromVersion
+	}
+	return 0
+}
+
+func (x *SubscribeInventoryStatusRequest) GetSubscriberId() string {
+	if x != nil {
+		return x.SubscriberId
+	}
+	return ""
+}
+
+func (x *SubscribeInventoryStatusRequest) GetMetadata() *common.Metadata {
+	if x != nil {
+		return x.Metadata
+	}
+	return nil
+}
+
+type InventoryStatusChange struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Type              InventoryStatusChange_Type `protobuf:"varint,1,opt,name=type,proto3,enum=ecommerce.inventory.InventoryStatusChange_Type" json:"type,omitempty"`
+	ProductId         string                     `protobuf:"bytes,2,opt,name=product_id,json=productId,proto3" json:"product_id,omitempty"`
+	Available         bool                       `protobuf:"varint,3,opt,name=available,proto3" json:"available,omitempty"`
+	AvailableQuantity int32                      `protobuf:"varint,4,opt,name=available_quantity,json=availableQuantity,proto3" json:"available_quantity,omitempty"`
+	Status            string                     `protobuf:"bytes,5,opt,name=status,proto3" json:"status,omitempty"`
+	Version           int64                      `protobuf:"varint,6,opt,name=version,proto3" json:"version,omitempty"`
+	UpdatedAt         int64                      `protobuf:"varint,7,opt,name=updated_at,json=updatedAt,proto3" json:"updated_at,omitempty"` // epoch millis
+}
+
+func (x *InventoryStatusChange) Reset() {
+	*x = InventoryStatusChange{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_inventory_inventory_proto_msgTypes[22]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *InventoryStatusChange) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*InventoryStatusChange) ProtoMessage() {}
+
+func (x *InventoryStatusChange) ProtoReflect() protoreflect.Message {
+	mi := &file_inventory_inventory_proto_msgTypes[22]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use InventoryStatusChange.ProtoReflect.Descriptor instead.
+func (*InventoryStatusChange) Descriptor() ([]byte, []int) {
+	return file_inventory_inventory_proto_rawDescGZIP(), []int{22}
+}
+
+func (x *InventoryStatusChange) GetType() InventoryStatusChange_Type {
+	if x != nil {
+		return x.Type
+	}
+	return InventoryStatusChange_CHANGE
+}
+
+func (x *InventoryStatusChange) GetProductId() string {
+	if x != nil {
+		return x.ProductId
+	}
+	return ""
+}
+
+func (x *InventoryStatusChange) GetAvailable() bool {
+	if x != nil {
+		return x.Available
+	}
+	return false
+}
+
+func (x *InventoryStatusChange) GetAvailableQuantity() int32 {
+	if x != nil {
+		return x.AvailableQuantity
+	}
+	return 0
+}
+
+func (x *InventoryStatusChange) GetStatus() string {
+	if x != nil {
+		return x.Status
+	}
+	return ""
+}
+
+func (x *InventoryStatusChange) GetVersion() int64 {
+	if x != nil {
+		return x.Version
+	}
+	return 0
+}
+
+func (x *InventoryStatusChange) GetUpdatedAt() int64 {
+	if x != nil {
+		return x.UpdatedAt
+	}
+	return 0
+}
+
 var File_inventory_inventory_proto protoreflect.FileDescriptor
 
 var file_inventory_inventory_proto_rawDesc = []byte{
@@ -1849,61 +2056,100 @@ var file_inventory_inventory_proto_rawDesc = []byte{
 	0x18, 0x09, 0x20, 0x01, 0x28, 0x03, 0x52, 0x09, 0x63, 0x72, 0x65, 0x61, 0x74, 0x65, 0x64, 0x41,
 	0x74, 0x12, 0x1d, 0x0a, 0x0a, 0x63, 0x72, 0x65, 0x61, 0x74, 0x65, 0x64, 0x5f, 0x62, 0x79, 0x18,
 	0x0a, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x63, 0x72, 0x65, 0x61, 0x74, 0x65, 0x64, 0x42, 0x79,
-	0x32, 0xbb, 0x06, 0x0a, 0x10, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x53, 0x65,
-	0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x69, 0x0a, 0x0e, 0x43, 0x68, 0x65, 0x63, 0x6b, 0x49, 0x6e,
-	0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2a, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65,
-	0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x68,
-	0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x71, 0x75,
-	0x65, 0x73, 0x74, 0x1a, 0x2b, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e,
-	0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x68, 0x65, 0x63, 0x6b, 0x49,
-	0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65,
-	0x12, 0x78, 0x0a, 0x13, 0x43, 0x68, 0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f,
-	0x72, 0x79, 0x42, 0x61, 0x74, 0x63, 0x68, 0x12, 0x2f, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65,
-	0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x68,
-	0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x42, 0x61, 0x74, 0x63,
-	0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x30, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d,
+	0x22, 0xa1, 0x01, 0x0a, 0x1f, 0x53, 0x75, 0x62, 0x73, 0x63, 0x72, 0x69, 0x62, 0x65, 0x49, 0x6e,
+	0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x53, 0x74, 0x61, 0x74, 0x75, 0x73, 0x52, 0x65, 0x71,
+	0x75, 0x65, 0x73, 0x74, 0x12, 0x21, 0x0a, 0x0c, 0x66, 0x72, 0x6f, 0x6d, 0x5f, 0x76, 0x65, 0x72,
+	0x73, 0x69, 0x6f, 0x6e, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x0b, 0x66, 0x72, 0x6f, 0x6d,
+	0x56, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x23, 0x0a, 0x0d, 0x73, 0x75, 0x62, 0x73, 0x63,
+	0x72, 0x69, 0x62, 0x65, 0x72, 0x5f, 0x69, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c,
+	0x73, 0x75, 0x62, 0x73, 0x63, 0x72, 0x69, 0x62, 0x65, 0x72, 0x49, 0x64, 0x12, 0x36, 0x0a, 0x08,
+	0x6d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x1a,
+	0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x63, 0x6f, 0x6d, 0x6d, 0x6f,
+	0x6e, 0x2e, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x52, 0x08, 0x6d, 0x65, 0x74, 0x61,
+	0x64, 0x61, 0x74, 0x61, 0x22, 0xca, 0x02, 0x0a, 0x15, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f,
+	0x72, 0x79, 0x53, 0x74, 0x61, 0x74, 0x75, 0x73, 0x43, 0x68, 0x61, 0x6e, 0x67, 0x65, 0x12, 0x43,
+	0x0a, 0x04, 0x74, 0x79, 0x70, 0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x0e, 0x32, 0x2f, 0x2e, 0x65,
+	0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f,
+	0x72, 0x79, 0x2e, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x53, 0x74, 0x61, 0x74,
+	0x75, 0x73, 0x43, 0x68, 0x61, 0x6e, 0x67, 0x65, 0x2e, 0x54, 0x79, 0x70, 0x65, 0x52, 0x04, 0x74,
+	0x79, 0x70, 0x65, 0x12, 0x1d, 0x0a, 0x0a, 0x70, 0x72, 0x6f, 0x64, 0x75, 0x63, 0x74, 0x5f, 0x69,
+	0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x70, 0x72, 0x6f, 0x64, 0x75, 0x63, 0x74,
+	0x49, 0x64, 0x12, 0x1c, 0x0a, 0x09, 0x61, 0x76, 0x61, 0x69, 0x6c, 0x61, 0x62, 0x6c, 0x65, 0x18,
+	0x03, 0x20, 0x01, 0x28, 0x08, 0x52, 0x09, 0x61, 0x76, 0x61, 0x69, 0x6c, 0x61, 0x62, 0x6c, 0x65,
+	0x12, 0x2d, 0x0a, 0x12, 0x61, 0x76, 0x61, 0x69, 0x6c, 0x61, 0x62, 0x6c, 0x65, 0x5f, 0x71, 0x75,
+	0x61, 0x6e, 0x74, 0x69, 0x74, 0x79, 0x18, 0x04, 0x20, 0x01, 0x28, 0x05, 0x52, 0x11, 0x61, 0x76,
+	0x61, 0x69, 0x6c, 0x61, 0x62, 0x6c, 0x65, 0x51, 0x75, 0x61, 0x6e, 0x74, 0x69, 0x74, 0x79, 0x12,
+	0x16, 0x0a, 0x06, 0x73, 0x74, 0x61, 0x74, 0x75, 0x73, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09, 0x52,
+	0x06, 0x73, 0x74, 0x61, 0x74, 0x75, 0x73, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69,
+	0x6f, 0x6e, 0x18, 0x06, 0x20, 0x01, 0x28, 0x03, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f,
+	0x6e, 0x12, 0x1d, 0x0a, 0x0a, 0x75, 0x70, 0x64, 0x61, 0x74, 0x65, 0x64, 0x5f, 0x61, 0x74, 0x18,
+	0x07, 0x20, 0x01, 0x28, 0x03, 0x52, 0x09, 0x75, 0x70, 0x64, 0x61, 0x74, 0x65, 0x64, 0x41, 0x74,
+	0x22, 0x2f, 0x0a, 0x04, 0x54, 0x79, 0x70, 0x65, 0x12, 0x0a, 0x0a, 0x06, 0x43, 0x48, 0x41, 0x4e,
+	0x47, 0x45, 0x10, 0x00, 0x12, 0x09, 0x0a, 0x05, 0x52, 0x45, 0x53, 0x45, 0x54, 0x10, 0x01, 0x12,
+	0x10, 0x0a, 0x0c, 0x53, 0x4e, 0x41, 0x50, 0x53, 0x48, 0x4f, 0x54, 0x5f, 0x45, 0x4e, 0x44, 0x10,
+	0x02, 0x32, 0xbb, 0x07, 0x0a, 0x10, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x53,
+	0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x69, 0x0a, 0x0e, 0x43, 0x68, 0x65, 0x63, 0x6b, 0x49,
+	0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2a, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d,
+	0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43,
+	0x68, 0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x71,
+	0x75, 0x65, 0x73, 0x74, 0x1a, 0x2b, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65,
+	0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x68, 0x65, 0x63, 0x6b,
+	0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
+	0x65, 0x12, 0x78, 0x0a, 0x13, 0x43, 0x68, 0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74,
+	0x6f, 0x72, 0x79, 0x42, 0x61, 0x74, 0x63, 0x68, 0x12, 0x2f, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d,
 	0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43,
 	0x68, 0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x42, 0x61, 0x74,
-	0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6f, 0x0a, 0x10, 0x52, 0x65,
-	0x73, 0x65, 0x72, 0x76, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2c,
-	0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e,
-	0x74, 0x6f, 0x72, 0x79, 0x2e, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x65, 0x49, 0x6e, 0x76, 0x65,
-	0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2d, 0x2e, 0x65,
-	0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f,
-	0x72, 0x79, 0x2e, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74,
-	0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x75, 0x0a, 0x12, 0x43,
-	0x6f, 0x6e, 0x66, 0x69, 0x72, 0x6d, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f,
-	0x6e, 0x12, 0x2e, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e,
-	0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x6f, 0x6e, 0x66, 0x69, 0x72, 0x6d, 0x52,
-	0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
-	0x74, 0x1a, 0x2f, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e,
-	0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x6f, 0x6e, 0x66, 0x69, 0x72, 0x6d, 0x52,
-	0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e,
-	0x73, 0x65, 0x12, 0x72, 0x0a, 0x11, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x52, 0x65, 0x73, 0x65,
-	0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x12, 0x2d, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65,
+	0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x30, 0x2e, 0x65, 0x63, 0x6f, 0x6d,
+	0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e,
+	0x43, 0x68, 0x65, 0x63, 0x6b, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x42, 0x61,
+	0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6f, 0x0a, 0x10, 0x52,
+	0x65, 0x73, 0x65, 0x72, 0x76, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x12,
+	0x2c, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65,
+	0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x65, 0x49, 0x6e, 0x76,
+	0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2d, 0x2e,
+	0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74,
+	0x6f, 0x72, 0x79, 0x2e, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e,
+	0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x75, 0x0a, 0x12,
+	0x43, 0x6f, 0x6e, 0x66, 0x69, 0x72, 0x6d, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69,
+	0x6f, 0x6e, 0x12, 0x2e, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69,
+	0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x6f, 0x6e, 0x66, 0x69, 0x72, 0x6d,
+	0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65,
+	0x73, 0x74, 0x1a, 0x2f, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69,
+	0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x6f, 0x6e, 0x66, 0x69, 0x72, 0x6d,
+	0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f,
+	0x6e, 0x73, 0x65, 0x12, 0x72, 0x0a, 0x11, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x52, 0x65, 0x73,
+	0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x12, 0x2d, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d,
+	0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43,
+	0x61, 0x6e, 0x63, 0x65, 0x6c, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e,
+	0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2e, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65,
 	0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x61,
 	0x6e, 0x63, 0x65, 0x6c, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52,
-	0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2e, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72,
-	0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x43, 0x61, 0x6e,
-	0x63, 0x65, 0x6c, 0x52, 0x65, 0x73, 0x65, 0x72, 0x76, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65,
-	0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6c, 0x0a, 0x0f, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65,
-	0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2b, 0x2e, 0x65, 0x63, 0x6f, 0x6d,
-	0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e,
-	0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52,
-	0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2c, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72,
-	0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x55, 0x70, 0x64,
-	0x61, 0x74, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70,
-	0x6f, 0x6e, 0x73, 0x65, 0x12, 0x78, 0x0a, 0x13, 0x47, 0x65, 0x74, 0x49, 0x6e, 0x76, 0x65, 0x6e,
-	0x74, 0x6f, 0x72, 0x79, 0x48, 0x69, 0x73, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2f, 0x2e, 0x65, 0x63,
-	0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72,
-	0x79, 0x2e, 0x47, 0x65, 0x74, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x48, 0x69,
-	0x73, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x30, 0x2e, 0x65,
+	0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6c, 0x0a, 0x0f, 0x55, 0x70, 0x64, 0x61, 0x74,
+	0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2b, 0x2e, 0x65, 0x63, 0x6f,
+	0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79,
+	0x2e, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79,
+	0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2c, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65,
+	0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x55, 0x70,
+	0x64, 0x61, 0x74, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73,
+	0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x78, 0x0a, 0x13, 0x47, 0x65, 0x74, 0x49, 0x6e, 0x76, 0x65,
+	0x6e, 0x74, 0x6f, 0x72, 0x79, 0x48, 0x69, 0x73, 0x74, 0x6f, 0x72, 0x79, 0x12, 0x2f, 0x2e, 0x65,
 	0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f,
 	0x72, 0x79, 0x2e, 0x47, 0x65, 0x74, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x48,
-	0x69, 0x73, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x42, 0x23,
-	0x5a, 0x21, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2d, 0x73, 0x65, 0x72, 0x76,
-	0x69, 0x63, 0x65, 0x2f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x2f, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74,
-	0x6f, 0x72, 0x79, 0x62, 0x06, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
+	0x69, 0x73, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x30, 0x2e,
+	0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74,
+	0x6f, 0x72, 0x79, 0x2e, 0x47, 0x65, 0x74, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79,
+	0x48, 0x69, 0x73, 0x74, 0x6f, 0x72, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12,
+	0x7e, 0x0a, 0x18, 0x53, 0x75, 0x62, 0x73, 0x63, 0x72, 0x69, 0x62, 0x65, 0x49, 0x6e, 0x76, 0x65,
+	0x6e, 0x74, 0x6f, 0x72, 0x79, 0x53, 0x74, 0x61, 0x74, 0x75, 0x73, 0x12, 0x34, 0x2e, 0x65, 0x63,
+	0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72,
+	0x79, 0x2e, 0x53, 0x75, 0x62, 0x73, 0x63, 0x72, 0x69, 0x62, 0x65, 0x49, 0x6e, 0x76, 0x65, 0x6e,
+	0x74, 0x6f, 0x72, 0x79, 0x53, 0x74, 0x61, 0x74, 0x75, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+	0x74, 0x1a, 0x2a, 0x2e, 0x65, 0x63, 0x6f, 0x6d, 0x6d, 0x65, 0x72, 0x63, 0x65, 0x2e, 0x69, 0x6e,
+	0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2e, 0x49, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72,
+	0x79, 0x53, 0x74, 0x61, 0x74, 0x75, 0x73, 0x43, 0x68, 0x61, 0x6e, 0x67, 0x65, 0x30, 0x01, 0x42,
+	0x23, 0x5a, 0x21, 0x69, 0x6e, 0x76, 0x65, 0x6e, 0x74, 0x6f, 0x72, 0x79, 0x2d, 0x73, 0x65, 0x72,
+	0x76, 0x69, 0x63, 0x65, 0x2f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x2f, 0x69, 0x6e, 0x76, 0x65, 0x6e,
+	0x74, 0x6f, 0x72, 0x79, 0x62, 0x06, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
 }
 
 var (
@@ -1918,75 +2164,83 @@ func file_inventory_inventory_proto_rawDescGZIP() []byte {
 	return file_inventory_inventory_proto_rawDescData
 }
 
-var file_inventory_inventory_proto_msgTypes = make([]protoimpl.MessageInfo, 21)
+var file_inventory_inventory_proto_enumTypes = make([]protoimpl.EnumInfo, 1)
+var file_inventory_inventory_proto_msgTypes = make([]protoimpl.MessageInfo, 23)
 var file_inventory_inventory_proto_goTypes = []interface{}{
-	(*CheckInventoryRequest)(nil),       // 0: ecommerce.inventory.CheckInventoryRequest
-	(*ProductInfo)(nil),                 // 1: ecommerce.inventory.ProductInfo
-	(*CheckInventoryResponse)(nil),      // 2: ecommerce.inventory.CheckInventoryResponse
-	(*CheckInventoryBatchRequest)(nil),  // 3: ecommerce.inventory.CheckInventoryBatchRequest
-	(*CheckInventoryBatchResponse)(nil), // 4: ecommerce.inventory.CheckInventoryBatchResponse
-	(*ReserveInventoryRequest)(nil),     // 5: ecommerce.inventory.ReserveInventoryRequest
-	(*ReserveInventoryResponse)(nil),    // 6: ecommerce.inventory.ReserveInventoryResponse
-	(*ConfirmReservationRequest)(nil),   // 7: ecommerce.inventory.ConfirmReservationRequest
-	(*ConfirmReservationResponse)(nil),  // 8: ecommerce.inventory.ConfirmReservationResponse
-	(*CancelReservationRequest)(nil),    // 9: ecommerce.inventory.CancelReservationRequest
-	(*CancelReservationResponse)(nil),   // 10: ecommerce.inventory.CancelReservationResponse
-	(*UpdateInventoryRequest)(nil),      // 11: ecommerce.inventory.UpdateInventoryRequest
-	(*UpdateInventoryResponse)(nil),     // 12: ecommerce.inventory.UpdateInventoryResponse
-	(*GetInventoryHistoryRequest)(nil),  // 13: ecommerce.inventory.GetInventoryHistoryRequest
-	(*GetInventoryHistoryResponse)(nil), // 14: ecommerce.inventory.GetInventoryHistoryResponse
-	(*InventoryItem)(nil),               // 15: ecommerce.inventory.InventoryItem
-	(*InventoryStatus)(nil),             // 16: ecommerce.inventory.InventoryStatus
-	(*ReservationResult)(nil),           // 17: ecommerce.inventory.ReservationResult
-	(*InventoryUpdate)(nil),             // 18: ecommerce.inventory.InventoryUpdate
-	(*InventoryUpdateResult)(nil),       // 19: ecommerce.inventory.InventoryUpdateResult
-	(*InventoryHistoryEntry)(nil),       // 20: ecommerce.inventory.InventoryHistoryEntry
-	(*common.Metadata)(nil),             // 21: ecommerce.common.Metadata
-	(*common.Status)(nil),               // 22: ecommerce.common.Status
+	(InventoryStatusChange_Type)(0),         // 0: ecommerce.inventory.InventoryStatusChange.Type
+	(*CheckInventoryRequest)(nil),           // 1: ecommerce.inventory.CheckInventoryRequest
+	(*ProductInfo)(nil),                     // 2: ecommerce.inventory.ProductInfo
+	(*CheckInventoryResponse)(nil),          // 3: ecommerce.inventory.CheckInventoryResponse
+	(*CheckInventoryBatchRequest)(nil),      // 4: ecommerce.inventory.CheckInventoryBatchRequest
+	(*CheckInventoryBatchResponse)(nil),     // 5: ecommerce.inventory.CheckInventoryBatchResponse
+	(*ReserveInventoryRequest)(nil),         // 6: ecommerce.inventory.ReserveInventoryRequest
+	(*ReserveInventoryResponse)(nil),        // 7: ecommerce.inventory.ReserveInventoryResponse
+	(*ConfirmReservationRequest)(nil),       // 8: ecommerce.inventory.ConfirmReservationRequest
+	(*ConfirmReservationResponse)(nil),      // 9: ecommerce.inventory.ConfirmReservationResponse
+	(*CancelReservationRequest)(nil),        // 10: ecommerce.inventory.CancelReservationRequest
+	(*CancelReservationResponse)(nil),       // 11: ecommerce.inventory.CancelReservationResponse
+	(*UpdateInventoryRequest)(nil),          // 12: ecommerce.inventory.UpdateInventoryRequest
+	(*UpdateInventoryResponse)(nil),         // 13: ecommerce.inventory.UpdateInventoryResponse
+	(*GetInventoryHistoryRequest)(nil),      // 14: ecommerce.inventory.GetInventoryHistoryRequest
+	(*GetInventoryHistoryResponse)(nil),     // 15: ecommerce.inventory.GetInventoryHistoryResponse
+	(*InventoryItem)(nil),                   // 16: ecommerce.inventory.InventoryItem
+	(*InventoryStatus)(nil),                 // 17: ecommerce.inventory.InventoryStatus
+	(*ReservationResult)(nil),               // 18: ecommerce.inventory.ReservationResult
+	(*InventoryUpdate)(nil),                 // 19: ecommerce.inventory.InventoryUpdate
+	(*InventoryUpdateResult)(nil),           // 20: ecommerce.inventory.InventoryUpdateResult
+	(*InventoryHistoryEntry)(nil),           // 21: ecommerce.inventory.InventoryHistoryEntry
+	(*SubscribeInventoryStatusRequest)(nil), // 22: ecommerce.inventory.SubscribeInventoryStatusRequest
+	(*InventoryStatusChange)(nil),           // 23: ecommerce.inventory.InventoryStatusChange
+	(*common.Metadata)(nil),                 // 24: ecommerce.common.Metadata
+	(*common.Status)(nil),                   // 25: ecommerce.common.Status
 }
 var file_inventory_inventory_proto_depIdxs = []int32{
-	21, // 0: ecommerce.inventory.CheckInventoryRequest.metadata:type_name -> ecommerce.common.Metadata
-	1,  // 1: ecommerce.inventory.CheckInventoryRequest.product_info:type_name -> ecommerce.inventory.ProductInfo
-	22, // 2: ecommerce.inventory.CheckInventoryResponse.result_status:type_name -> ecommerce.common.Status
-	15, // 3: ecommerce.inventory.CheckInventoryBatchRequest.items:type_name -> ecommerce.inventory.InventoryItem
-	21, // 4: ecommerce.inventory.CheckInventoryBatchRequest.metadata:type_name -> ecommerce.common.Metadata
-	16, // 5: ecommerce.inventory.CheckInventoryBatchResponse.items:type_name -> ecommerce.inventory.InventoryStatus
-	22, // 6: ecommerce.inventory.CheckInventoryBatchResponse.result_status:type_name -> ecommerce.common.Status
-	15, // 7: ecommerce.inventory.ReserveInventoryRequest.items:type_name -> ecommerce.inventory.InventoryItem
-	21, // 8: ecommerce.inventory.ReserveInventoryRequest.metadata:type_name -> ecommerce.common.Metadata
-	17, // 9: ecommerce.inventory.ReserveInventoryResponse.results:type_name -> ecommerce.inventory.ReservationResult
-	22, // 10: ecommerce.inventory.ReserveInventoryResponse.result_status:type_name -> ecommerce.common.Status
-	21, // 11: ecommerce.inventory.ConfirmReservationRequest.metadata:type_name -> ecommerce.common.Metadata
-	18, // 12: ecommerce.inventory.ConfirmReservationResponse.updates:type_name -> ecommerce.inventory.InventoryUpdate
-	22, // 13: ecommerce.inventory.ConfirmReservationResponse.result_status:type_name -> ecommerce.common.Status
-	21, // 14: ecommerce.inventory.CancelReservationRequest.metadata:type_name -> ecommerce.common.Metadata
-	22, // 15: ecommerce.inventory.CancelReservationResponse.result_status:type_name -> ecommerce.common.Status
-	18, // 16: ecommerce.inventory.UpdateInventoryRequest.updates:type_name -> ecommerce.inventory.InventoryUpdate
-	21, // 17: ecommerce.inventory.UpdateInventoryRequest.metadata:type_name -> ecommerce.common.Metadata
-	19, // 18: ecommerce.inventory.UpdateInventoryResponse.results:type_name -> ecommerce.inventory.InventoryUpdateResult
-	22, // 19: ecommerce.inventory.UpdateInventoryResponse.result_status:type_name -> ecommerce.common.Status
-	21, // 20: ecommerce.inventory.GetInventoryHistoryRequest.metadata:type_name -> ecommerce.common.Metadata
-	20, // 21: ecommerce.inventory.GetInventoryHistoryResponse.entries:type_name -> ecommerce.inventory.InventoryHistoryEntry
-	22, // 22: ecommerce.inventory.GetInventoryHistoryResponse.result_status:type_name -> ecommerce.common.Status
-	0,  // 23: ecommerce.inventory.InventoryService.CheckInventory:input_type -> ecommerce.inventory.CheckInventoryRequest
-	3,  // 24: ecommerce.inventory.InventoryService.CheckInventoryBatch:input_type -> ecommerce.inventory.CheckInventoryBatchRequest
-	5,  // 25: ecommerce.inventory.InventoryService.ReserveInventory:input_type -> ecommerce.inventory.ReserveInventoryRequest
-	7,  // 26: ecommerce.inventory.InventoryService.ConfirmReservation:input_type -> ecommerce.inventory.ConfirmReservationRequest
-	9,  // 27: ecommerce.inventory.InventoryService.CancelReservation:input_type -> ecommerce.inventory.CancelReservationRequest
-	11, // 28: ecommerce.inventory.InventoryService.UpdateInventory:input_type -> ecommerce.inventory.UpdateInventoryRequest
-	13, // 29: ecommerce.inventory.InventoryService.GetInventoryHistory:input_type -> ecommerce.inventory.GetInventoryHistoryRequest
-	2,  // 30: ecommerce.inventory.InventoryService.CheckInventory:output_type -> ecommerce.inventory.CheckInventoryResponse
-	4,  // 31: ecommerce.inventory.InventoryService.CheckInventoryBatch:output_type -> ecommerce.inventory.CheckInventoryBatchResponse
-	6,  // 32: ecommerce.inventory.InventoryService.ReserveInventory:output_type -> ecommerce.inventory.ReserveInventoryResponse
-	8,  // 33: ecommerce.inventory.InventoryService.ConfirmReservation:output_type -> ecommerce.inventory.ConfirmReservationResponse
-	10, // 34: ecommerce.inventory.InventoryService.CancelReservation:output_type -> ecommerce.inventory.CancelReservationResponse
-	12, // 35: ecommerce.inventory.InventoryService.UpdateInventory:output_type -> ecommerce.inventory.UpdateInventoryResponse
-	14, // 36: ecommerce.inventory.InventoryService.GetInventoryHistory:output_type -> ecommerce.inventory.GetInventoryHistoryResponse
-	30, // [30:37] is the sub-list for method output_type
-	23, // [23:30] is the sub-list for method input_type
-	23, // [23:23] is the sub-list for extension type_name
-	23, // [23:23] is the sub-list for extension extendee
-	0,  // [0:23] is the sub-list for field type_name
+	24, // 0: ecommerce.inventory.CheckInventoryRequest.metadata:type_name -> ecommerce.common.Metadata
+	2,  // 1: ecommerce.inventory.CheckInventoryRequest.product_info:type_name -> ecommerce.inventory.ProductInfo
+	25, // 2: ecommerce.inventory.CheckInventoryResponse.result_status:type_name -> ecommerce.common.Status
+	16, // 3: ecommerce.inventory.CheckInventoryBatchRequest.items:type_name -> ecommerce.inventory.InventoryItem
+	24, // 4: ecommerce.inventory.CheckInventoryBatchRequest.metadata:type_name -> ecommerce.common.Metadata
+	17, // 5: ecommerce.inventory.CheckInventoryBatchResponse.items:type_name -> ecommerce.inventory.InventoryStatus
+	25, // 6: ecommerce.inventory.CheckInventoryBatchResponse.result_status:type_name -> ecommerce.common.Status
+	16, // 7: ecommerce.inventory.ReserveInventoryRequest.items:type_name -> ecommerce.inventory.InventoryItem
+	24, // 8: ecommerce.inventory.ReserveInventoryRequest.metadata:type_name -> ecommerce.common.Metadata
+	18, // 9: ecommerce.inventory.ReserveInventoryResponse.results:type_name -> ecommerce.inventory.ReservationResult
+	25, // 10: ecommerce.inventory.ReserveInventoryResponse.result_status:type_name -> ecommerce.common.Status
+	24, // 11: ecommerce.inventory.ConfirmReservationRequest.metadata:type_name -> ecommerce.common.Metadata
+	19, // 12: ecommerce.inventory.ConfirmReservationResponse.updates:type_name -> ecommerce.inventory.InventoryUpdate
+	25, // 13: ecommerce.inventory.ConfirmReservationResponse.result_status:type_name -> ecommerce.common.Status
+	24, // 14: ecommerce.inventory.CancelReservationRequest.metadata:type_name -> ecommerce.common.Metadata
+	25, // 15: ecommerce.inventory.CancelReservationResponse.result_status:type_name -> ecommerce.common.Status
+	19, // 16: ecommerce.inventory.UpdateInventoryRequest.updates:type_name -> ecommerce.inventory.InventoryUpdate
+	24, // 17: ecommerce.inventory.UpdateInventoryRequest.metadata:type_name -> ecommerce.common.Metadata
+	20, // 18: ecommerce.inventory.UpdateInventoryResponse.results:type_name -> ecommerce.inventory.InventoryUpdateResult
+	25, // 19: ecommerce.inventory.UpdateInventoryResponse.result_status:type_name -> ecommerce.common.Status
+	24, // 20: ecommerce.inventory.GetInventoryHistoryRequest.metadata:type_name -> ecommerce.common.Metadata
+	21, // 21: ecommerce.inventory.GetInventoryHistoryResponse.entries:type_name -> ecommerce.inventory.InventoryHistoryEntry
+	25, // 22: ecommerce.inventory.GetInventoryHistoryResponse.result_status:type_name -> ecommerce.common.Status
+	24, // 23: ecommerce.inventory.SubscribeInventoryStatusRequest.metadata:type_name -> ecommerce.common.Metadata
+	0,  // 24: ecommerce.inventory.InventoryStatusChange.type:type_name -> ecommerce.inventory.InventoryStatusChange.Type
+	1,  // 25: ecommerce.inventory.InventoryService.CheckInventory:input_type -> ecommerce.inventory.CheckInventoryRequest
+	4,  // 26: ecommerce.inventory.InventoryService.CheckInventoryBatch:input_type -> ecommerce.inventory.CheckInventoryBatchRequest
+	6,  // 27: ecommerce.inventory.InventoryService.ReserveInventory:input_type -> ecommerce.inventory.ReserveInventoryRequest
+	8,  // 28: ecommerce.inventory.InventoryService.ConfirmReservation:input_type -> ecommerce.inventory.ConfirmReservationRequest
+	10, // 29: ecommerce.inventory.InventoryService.CancelReservation:input_type -> ecommerce.inventory.CancelReservationRequest
+	12, // 30: ecommerce.inventory.InventoryService.UpdateInventory:input_type -> ecommerce.inventory.UpdateInventoryRequest
+	14, // 31: ecommerce.inventory.InventoryService.GetInventoryHistory:input_type -> ecommerce.inventory.GetInventoryHistoryRequest
+	22, // 32: ecommerce.inventory.InventoryService.SubscribeInventoryStatus:input_type -> ecommerce.inventory.SubscribeInventoryStatusRequest
+	3,  // 33: ecommerce.inventory.InventoryService.CheckInventory:output_type -> ecommerce.inventory.CheckInventoryResponse
+	5,  // 34: ecommerce.inventory.InventoryService.CheckInventoryBatch:output_type -> ecommerce.inventory.CheckInventoryBatchResponse
+	7,  // 35: ecommerce.inventory.InventoryService.ReserveInventory:output_type -> ecommerce.inventory.ReserveInventoryResponse
+	9,  // 36: ecommerce.inventory.InventoryService.ConfirmReservation:output_type -> ecommerce.inventory.ConfirmReservationResponse
+	11, // 37: ecommerce.inventory.InventoryService.CancelReservation:output_type -> ecommerce.inventory.CancelReservationResponse
+	13, // 38: ecommerce.inventory.InventoryService.UpdateInventory:output_type -> ecommerce.inventory.UpdateInventoryResponse
+	15, // 39: ecommerce.inventory.InventoryService.GetInventoryHistory:output_type -> ecommerce.inventory.GetInventoryHistoryResponse
+	23, // 40: ecommerce.inventory.InventoryService.SubscribeInventoryStatus:output_type -> ecommerce.inventory.InventoryStatusChange
+	33, // [33:41] is the sub-list for method output_type
+	25, // [25:33] is the sub-list for method input_type
+	25, // [25:25] is the sub-list for extension type_name
+	25, // [25:25] is the sub-list for extension extendee
+	0,  // [0:25] is the sub-list for field type_name
 }
 
 func init() { file_inventory_inventory_proto_init() }
@@ -2247,6 +2501,30 @@ func file_inventory_inventory_proto_init() {
 				return nil
 			}
 		}
+		file_inventory_inventory_proto_msgTypes[21].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SubscribeInventoryStatusRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_inventory_inventory_proto_msgTypes[22].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*InventoryStatusChange); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
 	}
 	file_inventory_inventory_proto_msgTypes[0].OneofWrappers = []interface{}{}
 	type x struct{}
@@ -2254,13 +2532,14 @@ func file_inventory_inventory_proto_init() {
 		File: protoimpl.DescBuilder{
 			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
 			RawDescriptor: file_inventory_inventory_proto_rawDesc,
-			NumEnums:      0,
-			NumMessages:   21,
+			NumEnums:      1,
+			NumMessages:   23,
 			NumExtensions: 0,
 			NumServices:   1,
 		},
 		GoTypes:           file_inventory_inventory_proto_goTypes,
 		DependencyIndexes: file_inventory_inventory_proto_depIdxs,
+		EnumInfos:         file_inventory_inventory_proto_enumTypes,
 		MessageInfos:      file_inventory_inventory_proto_msgTypes,
 	}.Build()
 	File_inventory_inventory_proto = out.File
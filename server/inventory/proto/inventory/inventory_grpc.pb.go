@@ -29,6 +29,8 @@ type InventoryServiceClient interface {
 	CancelReservation(ctx context.Context, in *CancelReservationRequest, opts ...grpc.CallOption) (*CancelReservationResponse, error)
 	UpdateInventory(ctx context.Context, in *UpdateInventoryRequest, opts ...grpc.CallOption) (*UpdateInventoryResponse, error)
 	GetInventoryHistory(ctx context.Context, in *GetInventoryHistoryRequest, opts ...grpc.CallOption) (*GetInventoryHistoryResponse, error)
+	// Stream trạng thái tồn kho: snapshot (nếu cần) rồi từng thay đổi, resume được từ version đã nhận
+	SubscribeInventoryStatus(ctx context.Context, in *SubscribeInventoryStatusRequest, opts ...grpc.CallOption) (InventoryService_SubscribeInventoryStatusClient, error)
 }
 
 type inventoryServiceClient struct {
@@ -102,6 +104,38 @@ func (c *inventoryServiceClient) GetInventoryHistory(ctx context.Context, in *Ge
 	return out, nil
 }
 
+func (c *inventoryServiceClient) SubscribeInventoryStatus(ctx context.Context, in *SubscribeInventoryStatusRequest, opts ...grpc.CallOption) (InventoryService_SubscribeInventoryStatusClient, error) {
+	stream, err := c.cc.NewStream(ctx, &InventoryService_ServiceDesc.Streams[0], "/ecommerce.inventory.InventoryService/SubscribeInventoryStatus", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &inventoryServiceSubscribeInventoryStatusClient{stream}
+	if err := x.ClientStream.SendMsg(in); err != nil {
+		return nil, err
+	}
+	if err := x.ClientStream.CloseSend(); err != nil {
+		return nil, err
+	}
+	return x, nil
+}
+
+type InventoryService_SubscribeInventoryStatusClient interface {
+	Recv() (*InventoryStatusChange, error)
+	grpc.ClientStream
+}
+
+type inventoryServiceSubscribeInventoryStatusClient struct {
+	grpc.ClientStream
+}
+
+func (x *inventoryServiceSubscribeInventoryStatusClient) Recv() (*InventoryStatusChange, error) {
+	m := new(InventoryStatusChange)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 // InventoryServiceServer is the server API for InventoryService service.
 // All implementations must embed UnimplementedInventoryServiceServer
 // for forward compatibility
@@ -113,6 +147,8 @@ type InventoryServiceServer interface {
 	CancelReservation(context.Context, *CancelReservationRequest) (*CancelReservationResponse, error)
 	UpdateInventory(context.Context, *UpdateInventoryRequest) (*UpdateInventoryResponse, error)
 	GetInventoryHistory(context.Context, *GetInventoryHistoryRequest) (*GetInventoryHistoryResponse, error)
+	// Stream trạng thái tồn kho: snapshot (nếu cần) rồi từng thay đổi, resume được từ version đã nhận
+	SubscribeInventoryStatus(*SubscribeInventoryStatusRequest, InventoryService_SubscribeInventoryStatusServer) error
 	mustEmbedUnimplementedInventoryServiceServer()
 }
 
@@ -141,6 +177,9 @@ func (UnimplementedInventoryServiceServer) UpdateInventory(context.Context, *Upd
 func (UnimplementedInventoryServiceServer) GetInventoryHistory(context.Context, *GetInventoryHistoryRequest) (*GetInventoryHistoryResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method GetInventoryHistory not implemented")
 }
+func (UnimplementedInventoryServiceServer) SubscribeInventoryStatus(*SubscribeInventoryStatusRequest, InventoryService_SubscribeInventoryStatusServer) error {
+	return status.Errorf(codes.Unimplemented, "method SubscribeInventoryStatus not implemented")
+}
 func (UnimplementedInventoryServiceServer) mustEmbedUnimplementedInventoryServiceServer() {}
 
 // UnsafeInventoryServiceServer may be embedded to opt out of forward compatibility for this service.
@@ -280,6 +319,27 @@ func _InventoryService_GetInventoryHistory_Handler(srv interface{}, ctx context.
 	return interceptor(ctx, in, info, handler)
 }
 
+func _InventoryService_SubscribeInventoryStatus_Handler(srv interface{}, stream grpc.ServerStream) error {
+	m := new(SubscribeInventoryStatusRequest)
+	if err := stream.RecvMsg(m); err != nil {
+		return err
+	}
+	return srv.(InventoryServiceServer).SubscribeInventoryStatus(m, &inventoryServiceSubscribeInventoryStatusServer{stream})
+}
+
+type InventoryService_SubscribeInventoryStatusServer interface {
+	Send(*InventoryStatusChange) error
+	grpc.ServerStream
+}
+
+type inventoryServiceSubscribeInventoryStatusServer struct {
+	grpc.ServerStream
+}
+
+func (x *inventoryServiceSubscribeInventoryStatusServer) Send(m *InventoryStatusChange) error {
+	return x.ServerStream.SendMsg(m)
+}
+
 // InventoryService_ServiceDesc is the grpc.ServiceDesc for InventoryService service.
 // It's only intended for direct use with grpc.RegisterService,
 // and not to be introspected or modified (even as a copy)
@@ -316,6 +376,12 @@ var InventoryService_ServiceDesc = grpc.ServiceDesc{
 			Handler:    _InventoryService_GetInventoryHistory_Handler,
 		},
 	},
-	Streams:  []grpc.StreamDesc{},
+	Streams: []grpc.StreamDesc{
+		{
+			StreamName:    "SubscribeInventoryStatus",
+			Handler:       _InventoryService_SubscribeInventoryStatus_Handler,
+			ServerStreams: true,
+		},
+	},
 	Metadata: "inventory/inventory.proto",
 }
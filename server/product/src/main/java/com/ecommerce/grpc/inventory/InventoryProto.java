@@ -49,6 +49,16 @@ public final class InventoryProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_ecommerce_inventory_InventoryStatus_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ecommerce_inventory_InventoryStatusChange_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ecommerce_inventory_InventoryStatusChange_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -82,15 +92,27 @@ public final class InventoryProto {
       "tatus\022\022\n\nproduct_id\030\001 \001(\t\022\021\n\tavailable\030\002" +
       " \001(\010\022\032\n\022available_quantity\030\003 \001(\005\022\031\n\021rese" +
       "rved_quantity\030\004 \001(\005\022\016\n\006status\030\005 \001(\t\022\025\n\re" +
-      "rror_message\030\006 \001(\t2\367\001\n\020InventoryService\022" +
-      "i\n\016CheckInventory\022*.ecommerce.inventory." +
-      "CheckInventoryRequest\032+.ecommerce.invent" +
-      "ory.CheckInventoryResponse\022x\n\023CheckInven" +
-      "toryBatch\022/.ecommerce.inventory.CheckInv" +
-      "entoryBatchRequest\0320.ecommerce.inventory" +
-      ".CheckInventoryBatchResponseB0\n\034com.ecom" +
-      "merce.grpc.inventoryB\016InventoryProtoP\001b\006" +
-      "proto3"
+      "rror_message\030\006 \001(\t\"|\n\037SubscribeInventory" +
+      "StatusRequest\022\024\n\014from_version\030\001 \001(\003\022\025\n\rs" +
+      "ubscriber_id\030\002 \001(\t\022,\n\010metadata\030\003 \001(\0132\032.e" +
+      "commerce.common.Metadata\"\377\001\n\025InventorySt" +
+      "atusChange\022=\n\004type\030\001 \001(\0162/.ecommerce.inv" +
+      "entory.InventoryStatusChange.Type\022\022\n\npro" +
+      "duct_id\030\002 \001(\t\022\021\n\tavailable\030\003 \001(\010\022\032\n\022avai" +
+      "lable_quantity\030\004 \001(\005\022\016\n\006status\030\005 \001(\t\022\017\n\007" +
+      "version\030\006 \001(\003\022\022\n\nupdated_at\030\007 \001(\003\"/\n\004Typ" +
+      "e\022\n\n\006CHANGE\020\000\022\t\n\005RESET\020\001\022\020\n\014SNAPSHOT_END" +
+      "\020\0022\367\002\n\020InventoryService\022i\n\016CheckInventor" +
+      "y\022*.ecommerce.inventory.CheckInventoryRe" +
+      "quest\032+.ecommerce.inventory.CheckInvento" +
+      "ryResponse\022x\n\023CheckInventoryBatch\022/.ecom" +
+      "merce.inventory.CheckInventoryBatchReque" +
+      "st\0320.ecommerce.inventory.CheckInventoryB" +
+      "atchResponse\022~\n\030SubscribeInventoryStatus" +
+      "\0224.ecommerce.inventory.SubscribeInventor" +
+      "yStatusRequest\032*.ecommerce.inventory.Inv" +
+      "entoryStatusChange0\001B0\n\034com.ecommerce.gr" +
+      "pc.inventoryB\016InventoryProtoP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -139,6 +161,18 @@ public final class InventoryProto {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ecommerce_inventory_InventoryStatus_descriptor,
         new java.lang.String[] { "ProductId", "Available", "AvailableQuantity", "ReservedQuantity", "Status", "ErrorMessage", });
+    internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_descriptor,
+        new java.lang.String[] { "FromVersion", "SubscriberId", "Metadata", });
+    internal_static_ecommerce_inventory_InventoryStatusChange_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_ecommerce_inventory_InventoryStatusChange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ecommerce_inventory_InventoryStatusChange_descriptor,
+        new java.lang.String[] { "Type", "ProductId", "Available", "AvailableQuantity", "Status", "Version", "UpdatedAt", });
     com.ecommerce.grpc.common.CommonProto.getDescriptor();
   }
 
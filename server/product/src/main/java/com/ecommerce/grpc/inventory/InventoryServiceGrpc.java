@@ -77,6 +77,37 @@ public final class InventoryServiceGrpc {
     return getCheckInventoryBatchMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest,
+      com.ecommerce.grpc.inventory.InventoryStatusChange> getSubscribeInventoryStatusMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SubscribeInventoryStatus",
+      requestType = com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.class,
+      responseType = com.ecommerce.grpc.inventory.InventoryStatusChange.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest,
+      com.ecommerce.grpc.inventory.InventoryStatusChange> getSubscribeInventoryStatusMethod() {
+    io.grpc.MethodDescriptor<com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest, com.ecommerce.grpc.inventory.InventoryStatusChange> getSubscribeInventoryStatusMethod;
+    if ((getSubscribeInventoryStatusMethod = InventoryServiceGrpc.getSubscribeInventoryStatusMethod) == null) {
+      synchronized (InventoryServiceGrpc.class) {
+        if ((getSubscribeInventoryStatusMethod = InventoryServiceGrpc.getSubscribeInventoryStatusMethod) == null) {
+          InventoryServiceGrpc.getSubscribeInventoryStatusMethod = getSubscribeInventoryStatusMethod =
+              io.grpc.MethodDescriptor.<com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest, com.ecommerce.grpc.inventory.InventoryStatusChange>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SubscribeInventoryStatus"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.ecommerce.grpc.inventory.InventoryStatusChange.getDefaultInstance()))
+              .setSchemaDescriptor(new InventoryServiceMethodDescriptorSupplier("SubscribeInventoryStatus"))
+              .build();
+        }
+      }
+    }
+    return getSubscribeInventoryStatusMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -139,6 +170,16 @@ public final class InventoryServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCheckInventoryBatchMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Stream trạng thái tồn kho: snapshot (nếu cần) rồi từng thay đổi, resume được từ version đã nhận
+     * </pre>
+     */
+    public void subscribeInventoryStatus(com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest request,
+        io.grpc.stub.StreamObserver<com.ecommerce.grpc.inventory.InventoryStatusChange> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSubscribeInventoryStatusMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -155,6 +196,13 @@ public final class InventoryServiceGrpc {
                 com.ecommerce.grpc.inventory.CheckInventoryBatchRequest,
                 com.ecommerce.grpc.inventory.CheckInventoryBatchResponse>(
                   this, METHODID_CHECK_INVENTORY_BATCH)))
+          .addMethod(
+            getSubscribeInventoryStatusMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest,
+                com.ecommerce.grpc.inventory.InventoryStatusChange>(
+                  this, METHODID_SUBSCRIBE_INVENTORY_STATUS)))
           .build();
     }
   }
@@ -188,6 +236,17 @@ public final class InventoryServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getCheckInventoryBatchMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Stream trạng thái tồn kho: snapshot (nếu cần) rồi từng thay đổi, resume được từ version đã nhận
+     * </pre>
+     */
+    public void subscribeInventoryStatus(com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest request,
+        io.grpc.stub.StreamObserver<com.ecommerce.grpc.inventory.InventoryStatusChange> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getSubscribeInventoryStatusMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -217,6 +276,17 @@ public final class InventoryServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getCheckInventoryBatchMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Stream trạng thái tồn kho: snapshot (nếu cần) rồi từng thay đổi, resume được từ version đã nhận
+     * </pre>
+     */
+    public java.util.Iterator<com.ecommerce.grpc.inventory.InventoryStatusChange> subscribeInventoryStatus(
+        com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getSubscribeInventoryStatusMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -252,6 +322,7 @@ public final class InventoryServiceGrpc {
 
   private static final int METHODID_CHECK_INVENTORY = 0;
   private static final int METHODID_CHECK_INVENTORY_BATCH = 1;
+  private static final int METHODID_SUBSCRIBE_INVENTORY_STATUS = 2;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -278,6 +349,10 @@ public final class InventoryServiceGrpc {
           serviceImpl.checkInventoryBatch((com.ecommerce.grpc.inventory.CheckInventoryBatchRequest) request,
               (io.grpc.stub.StreamObserver<com.ecommerce.grpc.inventory.CheckInventoryBatchResponse>) responseObserver);
           break;
+        case METHODID_SUBSCRIBE_INVENTORY_STATUS:
+          serviceImpl.subscribeInventoryStatus((com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest) request,
+              (io.grpc.stub.StreamObserver<com.ecommerce.grpc.inventory.InventoryStatusChange>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -341,6 +416,7 @@ public final class InventoryServiceGrpc {
               .setSchemaDescriptor(new InventoryServiceFileDescriptorSupplier())
               .addMethod(getCheckInventoryMethod())
               .addMethod(getCheckInventoryBatchMethod())
+              .addMethod(getSubscribeInventoryStatusMethod())
               .build();
         }
       }
@@ -0,0 +1,1209 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: inventory.proto
+
+package com.ecommerce.grpc.inventory;
+
+/**
+ * Protobuf type {@code ecommerce.inventory.InventoryStatusChange}
+ */
+public final class InventoryStatusChange extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ecommerce.inventory.InventoryStatusChange)
+    InventoryStatusChangeOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use InventoryStatusChange.newBuilder() to construct.
+  private InventoryStatusChange(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private InventoryStatusChange() {
+    type_ = 0;
+    productId_ = "";
+    status_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new InventoryStatusChange();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private InventoryStatusChange(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            int rawValue = input.readEnum();
+
+            type_ = rawValue;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            productId_ = s;
+            break;
+          }
+          case 24: {
+
+            available_ = input.readBool();
+            break;
+          }
+          case 32: {
+
+            availableQuantity_ = input.readInt32();
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            status_ = s;
+            break;
+          }
+          case 48: {
+
+            version_ = input.readInt64();
+            break;
+          }
+          case 56: {
+
+            updatedAt_ = input.readInt64();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_InventoryStatusChange_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_InventoryStatusChange_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.ecommerce.grpc.inventory.InventoryStatusChange.class, com.ecommerce.grpc.inventory.InventoryStatusChange.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code ecommerce.inventory.InventoryStatusChange.Type}
+   */
+  public enum Type
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * trạng thái mới của một sản phẩm
+     * </pre>
+     *
+     * <code>CHANGE = 0;</code>
+     */
+    CHANGE(0),
+    /**
+     * <pre>
+     * không resume được: bỏ bảng hiện có, snapshot theo sau
+     * </pre>
+     *
+     * <code>RESET = 1;</code>
+     */
+    RESET(1),
+    /**
+     * <pre>
+     * đã gửi hết snapshot hoặc thay đổi bị lỡ, sau đây là thay đổi mới
+     * </pre>
+     *
+     * <code>SNAPSHOT_END = 2;</code>
+     */
+    SNAPSHOT_END(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * trạng thái mới của một sản phẩm
+     * </pre>
+     *
+     * <code>CHANGE = 0;</code>
+     */
+    public static final int CHANGE_VALUE = 0;
+    /**
+     * <pre>
+     * không resume được: bỏ bảng hiện có, snapshot theo sau
+     * </pre>
+     *
+     * <code>RESET = 1;</code>
+     */
+    public static final int RESET_VALUE = 1;
+    /**
+     * <pre>
+     * đã gửi hết snapshot hoặc thay đổi bị lỡ, sau đây là thay đổi mới
+     * </pre>
+     *
+     * <code>SNAPSHOT_END = 2;</code>
+     */
+    public static final int SNAPSHOT_END_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Type valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Type forNumber(int value) {
+      switch (value) {
+        case 0: return CHANGE;
+        case 1: return RESET;
+        case 2: return SNAPSHOT_END;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Type>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Type> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Type>() {
+            public Type findValueByNumber(int number) {
+              return Type.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.ecommerce.grpc.inventory.InventoryStatusChange.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Type[] VALUES = values();
+
+    public static Type valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Type(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:ecommerce.inventory.InventoryStatusChange.Type)
+  }
+
+  public static final int TYPE_FIELD_NUMBER = 1;
+  private int type_;
+  /**
+   * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+   * @return The enum numeric value on the wire for type.
+   */
+  @java.lang.Override public int getTypeValue() {
+    return type_;
+  }
+  /**
+   * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+   * @return The type.
+   */
+  @java.lang.Override public com.ecommerce.grpc.inventory.InventoryStatusChange.Type getType() {
+    @SuppressWarnings("deprecation")
+    com.ecommerce.grpc.inventory.InventoryStatusChange.Type result = com.ecommerce.grpc.inventory.InventoryStatusChange.Type.valueOf(type_);
+    return result == null ? com.ecommerce.grpc.inventory.InventoryStatusChange.Type.UNRECOGNIZED : result;
+  }
+
+  public static final int PRODUCT_ID_FIELD_NUMBER = 2;
+  private volatile java.lang.Object productId_;
+  /**
+   * <code>string product_id = 2;</code>
+   * @return The productId.
+   */
+  @java.lang.Override
+  public java.lang.String getProductId() {
+    java.lang.Object ref = productId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      productId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string product_id = 2;</code>
+   * @return The bytes for productId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getProductIdBytes() {
+    java.lang.Object ref = productId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      productId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int AVAILABLE_FIELD_NUMBER = 3;
+  private boolean available_;
+  /**
+   * <code>bool available = 3;</code>
+   * @return The available.
+   */
+  @java.lang.Override
+  public boolean getAvailable() {
+    return available_;
+  }
+
+  public static final int AVAILABLE_QUANTITY_FIELD_NUMBER = 4;
+  private int availableQuantity_;
+  /**
+   * <code>int32 available_quantity = 4;</code>
+   * @return The availableQuantity.
+   */
+  @java.lang.Override
+  public int getAvailableQuantity() {
+    return availableQuantity_;
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 5;
+  private volatile java.lang.Object status_;
+  /**
+   * <code>string status = 5;</code>
+   * @return The status.
+   */
+  @java.lang.Override
+  public java.lang.String getStatus() {
+    java.lang.Object ref = status_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      status_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string status = 5;</code>
+   * @return The bytes for status.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getStatusBytes() {
+    java.lang.Object ref = status_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      status_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 6;
+  private long version_;
+  /**
+   * <code>int64 version = 6;</code>
+   * @return The version.
+   */
+  @java.lang.Override
+  public long getVersion() {
+    return version_;
+  }
+
+  public static final int UPDATED_AT_FIELD_NUMBER = 7;
+  private long updatedAt_;
+  /**
+   * <pre>
+   * epoch millis
+   * </pre>
+   *
+   * <code>int64 updated_at = 7;</code>
+   * @return The updatedAt.
+   */
+  @java.lang.Override
+  public long getUpdatedAt() {
+    return updatedAt_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (type_ != com.ecommerce.grpc.inventory.InventoryStatusChange.Type.CHANGE.getNumber()) {
+      output.writeEnum(1, type_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(productId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, productId_);
+    }
+    if (available_ != false) {
+      output.writeBool(3, available_);
+    }
+    if (availableQuantity_ != 0) {
+      output.writeInt32(4, availableQuantity_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, status_);
+    }
+    if (version_ != 0L) {
+      output.writeInt64(6, version_);
+    }
+    if (updatedAt_ != 0L) {
+      output.writeInt64(7, updatedAt_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (type_ != com.ecommerce.grpc.inventory.InventoryStatusChange.Type.CHANGE.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, type_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(productId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, productId_);
+    }
+    if (available_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, available_);
+    }
+    if (availableQuantity_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, availableQuantity_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, status_);
+    }
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(6, version_);
+    }
+    if (updatedAt_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, updatedAt_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.ecommerce.grpc.inventory.InventoryStatusChange)) {
+      return super.equals(obj);
+    }
+    com.ecommerce.grpc.inventory.InventoryStatusChange other = (com.ecommerce.grpc.inventory.InventoryStatusChange) obj;
+
+    if (type_ != other.type_) return false;
+    if (!getProductId()
+        .equals(other.getProductId())) return false;
+    if (getAvailable()
+        != other.getAvailable()) return false;
+    if (getAvailableQuantity()
+        != other.getAvailableQuantity()) return false;
+    if (!getStatus()
+        .equals(other.getStatus())) return false;
+    if (getVersion()
+        != other.getVersion()) return false;
+    if (getUpdatedAt()
+        != other.getUpdatedAt()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + type_;
+    hash = (37 * hash) + PRODUCT_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getProductId().hashCode();
+    hash = (37 * hash) + AVAILABLE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getAvailable());
+    hash = (37 * hash) + AVAILABLE_QUANTITY_FIELD_NUMBER;
+    hash = (53 * hash) + getAvailableQuantity();
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + getStatus().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    hash = (37 * hash) + UPDATED_AT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getUpdatedAt());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.ecommerce.grpc.inventory.InventoryStatusChange prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ecommerce.inventory.InventoryStatusChange}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ecommerce.inventory.InventoryStatusChange)
+      com.ecommerce.grpc.inventory.InventoryStatusChangeOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_InventoryStatusChange_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_InventoryStatusChange_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.ecommerce.grpc.inventory.InventoryStatusChange.class, com.ecommerce.grpc.inventory.InventoryStatusChange.Builder.class);
+    }
+
+    // Construct using com.ecommerce.grpc.inventory.InventoryStatusChange.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      type_ = 0;
+
+      productId_ = "";
+
+      available_ = false;
+
+      availableQuantity_ = 0;
+
+      status_ = "";
+
+      version_ = 0L;
+
+      updatedAt_ = 0L;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_InventoryStatusChange_descriptor;
+    }
+
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.InventoryStatusChange getDefaultInstanceForType() {
+      return com.ecommerce.grpc.inventory.InventoryStatusChange.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.InventoryStatusChange build() {
+      com.ecommerce.grpc.inventory.InventoryStatusChange result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.InventoryStatusChange buildPartial() {
+      com.ecommerce.grpc.inventory.InventoryStatusChange result = new com.ecommerce.grpc.inventory.InventoryStatusChange(this);
+      result.type_ = type_;
+      result.productId_ = productId_;
+      result.available_ = available_;
+      result.availableQuantity_ = availableQuantity_;
+      result.status_ = status_;
+      result.version_ = version_;
+      result.updatedAt_ = updatedAt_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.ecommerce.grpc.inventory.InventoryStatusChange) {
+        return mergeFrom((com.ecommerce.grpc.inventory.InventoryStatusChange)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.ecommerce.grpc.inventory.InventoryStatusChange other) {
+      if (other == com.ecommerce.grpc.inventory.InventoryStatusChange.getDefaultInstance()) return this;
+      if (other.type_ != 0) {
+        setTypeValue(other.getTypeValue());
+      }
+      if (!other.getProductId().isEmpty()) {
+        productId_ = other.productId_;
+        onChanged();
+      }
+      if (other.getAvailable() != false) {
+        setAvailable(other.getAvailable());
+      }
+      if (other.getAvailableQuantity() != 0) {
+        setAvailableQuantity(other.getAvailableQuantity());
+      }
+      if (!other.getStatus().isEmpty()) {
+        status_ = other.status_;
+        onChanged();
+      }
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      if (other.getUpdatedAt() != 0L) {
+        setUpdatedAt(other.getUpdatedAt());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.ecommerce.grpc.inventory.InventoryStatusChange parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.ecommerce.grpc.inventory.InventoryStatusChange) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int type_ = 0;
+    /**
+     * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+     * @param value The enum numeric value on the wire for type to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeValue(int value) {
+      
+      type_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.InventoryStatusChange.Type getType() {
+      @SuppressWarnings("deprecation")
+      com.ecommerce.grpc.inventory.InventoryStatusChange.Type result = com.ecommerce.grpc.inventory.InventoryStatusChange.Type.valueOf(type_);
+      return result == null ? com.ecommerce.grpc.inventory.InventoryStatusChange.Type.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+     * @param value The type to set.
+     * @return This builder for chaining.
+     */
+    public Builder setType(com.ecommerce.grpc.inventory.InventoryStatusChange.Type value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      type_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearType() {
+      
+      type_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object productId_ = "";
+    /**
+     * <code>string product_id = 2;</code>
+     * @return The productId.
+     */
+    public java.lang.String getProductId() {
+      java.lang.Object ref = productId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        productId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string product_id = 2;</code>
+     * @return The bytes for productId.
+     */
+    public com.google.protobuf.ByteString
+        getProductIdBytes() {
+      java.lang.Object ref = productId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        productId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string product_id = 2;</code>
+     * @param value The productId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProductId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      productId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string product_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProductId() {
+      
+      productId_ = getDefaultInstance().getProductId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string product_id = 2;</code>
+     * @param value The bytes for productId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProductIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      productId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean available_ ;
+    /**
+     * <code>bool available = 3;</code>
+     * @return The available.
+     */
+    @java.lang.Override
+    public boolean getAvailable() {
+      return available_;
+    }
+    /**
+     * <code>bool available = 3;</code>
+     * @param value The available to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAvailable(boolean value) {
+      
+      available_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool available = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAvailable() {
+      
+      available_ = false;
+      onChanged();
+      return this;
+    }
+
+    private int availableQuantity_ ;
+    /**
+     * <code>int32 available_quantity = 4;</code>
+     * @return The availableQuantity.
+     */
+    @java.lang.Override
+    public int getAvailableQuantity() {
+      return availableQuantity_;
+    }
+    /**
+     * <code>int32 available_quantity = 4;</code>
+     * @param value The availableQuantity to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAvailableQuantity(int value) {
+      
+      availableQuantity_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 available_quantity = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAvailableQuantity() {
+      
+      availableQuantity_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object status_ = "";
+    /**
+     * <code>string status = 5;</code>
+     * @return The status.
+     */
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string status = 5;</code>
+     * @return The bytes for status.
+     */
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string status = 5;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      status_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string status = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      
+      status_ = getDefaultInstance().getStatus();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string status = 5;</code>
+     * @param value The bytes for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      status_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long version_ ;
+    /**
+     * <code>int64 version = 6;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>int64 version = 6;</code>
+     * @param value The version to set.
+     * @return This builder for chaining.
+     */
+    public Builder setVersion(long value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 version = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long updatedAt_ ;
+    /**
+     * <pre>
+     * epoch millis
+     * </pre>
+     *
+     * <code>int64 updated_at = 7;</code>
+     * @return The updatedAt.
+     */
+    @java.lang.Override
+    public long getUpdatedAt() {
+      return updatedAt_;
+    }
+    /**
+     * <pre>
+     * epoch millis
+     * </pre>
+     *
+     * <code>int64 updated_at = 7;</code>
+     * @param value The updatedAt to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUpdatedAt(long value) {
+      
+      updatedAt_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * epoch millis
+     * </pre>
+     *
+     * <code>int64 updated_at = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUpdatedAt() {
+      
+      updatedAt_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ecommerce.inventory.InventoryStatusChange)
+  }
+
+  // @@protoc_insertion_point(class_scope:ecommerce.inventory.InventoryStatusChange)
+  private static final com.ecommerce.grpc.inventory.InventoryStatusChange DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.ecommerce.grpc.inventory.InventoryStatusChange();
+  }
+
+  public static com.ecommerce.grpc.inventory.InventoryStatusChange getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<InventoryStatusChange>
+      PARSER = new com.google.protobuf.AbstractParser<InventoryStatusChange>() {
+    @java.lang.Override
+    public InventoryStatusChange parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new InventoryStatusChange(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<InventoryStatusChange> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<InventoryStatusChange> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.ecommerce.grpc.inventory.InventoryStatusChange getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
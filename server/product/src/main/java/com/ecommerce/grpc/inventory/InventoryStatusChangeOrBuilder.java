@@ -0,0 +1,72 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: inventory.proto
+
+package com.ecommerce.grpc.inventory;
+
+public interface InventoryStatusChangeOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ecommerce.inventory.InventoryStatusChange)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+   * @return The enum numeric value on the wire for type.
+   */
+  int getTypeValue();
+  /**
+   * <code>.ecommerce.inventory.InventoryStatusChange.Type type = 1;</code>
+   * @return The type.
+   */
+  com.ecommerce.grpc.inventory.InventoryStatusChange.Type getType();
+
+  /**
+   * <code>string product_id = 2;</code>
+   * @return The productId.
+   */
+  java.lang.String getProductId();
+  /**
+   * <code>string product_id = 2;</code>
+   * @return The bytes for productId.
+   */
+  com.google.protobuf.ByteString
+      getProductIdBytes();
+
+  /**
+   * <code>bool available = 3;</code>
+   * @return The available.
+   */
+  boolean getAvailable();
+
+  /**
+   * <code>int32 available_quantity = 4;</code>
+   * @return The availableQuantity.
+   */
+  int getAvailableQuantity();
+
+  /**
+   * <code>string status = 5;</code>
+   * @return The status.
+   */
+  java.lang.String getStatus();
+  /**
+   * <code>string status = 5;</code>
+   * @return The bytes for status.
+   */
+  com.google.protobuf.ByteString
+      getStatusBytes();
+
+  /**
+   * <code>int64 version = 6;</code>
+   * @return The version.
+   */
+  long getVersion();
+
+  /**
+   * <pre>
+   * epoch millis
+   * </pre>
+   *
+   * <code>int64 updated_at = 7;</code>
+   * @return The updatedAt.
+   */
+  long getUpdatedAt();
+}
@@ -0,0 +1,828 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: inventory.proto
+
+package com.ecommerce.grpc.inventory;
+
+/**
+ * Protobuf type {@code ecommerce.inventory.SubscribeInventoryStatusRequest}
+ */
+public final class SubscribeInventoryStatusRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ecommerce.inventory.SubscribeInventoryStatusRequest)
+    SubscribeInventoryStatusRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SubscribeInventoryStatusRequest.newBuilder() to construct.
+  private SubscribeInventoryStatusRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SubscribeInventoryStatusRequest() {
+    subscriberId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SubscribeInventoryStatusRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SubscribeInventoryStatusRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            fromVersion_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            subscriberId_ = s;
+            break;
+          }
+          case 26: {
+            com.ecommerce.grpc.common.Metadata.Builder subBuilder = null;
+            if (metadata_ != null) {
+              subBuilder = metadata_.toBuilder();
+            }
+            metadata_ = input.readMessage(com.ecommerce.grpc.common.Metadata.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(metadata_);
+              metadata_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.class, com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.Builder.class);
+  }
+
+  public static final int FROM_VERSION_FIELD_NUMBER = 1;
+  private long fromVersion_;
+  /**
+   * <pre>
+   * version cuối đã nhận, 0 = cần snapshot đầy đủ
+   * </pre>
+   *
+   * <code>int64 from_version = 1;</code>
+   * @return The fromVersion.
+   */
+  @java.lang.Override
+  public long getFromVersion() {
+    return fromVersion_;
+  }
+
+  public static final int SUBSCRIBER_ID_FIELD_NUMBER = 2;
+  private volatile java.lang.Object subscriberId_;
+  /**
+   * <code>string subscriber_id = 2;</code>
+   * @return The subscriberId.
+   */
+  @java.lang.Override
+  public java.lang.String getSubscriberId() {
+    java.lang.Object ref = subscriberId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      subscriberId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string subscriber_id = 2;</code>
+   * @return The bytes for subscriberId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getSubscriberIdBytes() {
+    java.lang.Object ref = subscriberId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      subscriberId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int METADATA_FIELD_NUMBER = 3;
+  private com.ecommerce.grpc.common.Metadata metadata_;
+  /**
+   * <code>.ecommerce.common.Metadata metadata = 3;</code>
+   * @return Whether the metadata field is set.
+   */
+  @java.lang.Override
+  public boolean hasMetadata() {
+    return metadata_ != null;
+  }
+  /**
+   * <code>.ecommerce.common.Metadata metadata = 3;</code>
+   * @return The metadata.
+   */
+  @java.lang.Override
+  public com.ecommerce.grpc.common.Metadata getMetadata() {
+    return metadata_ == null ? com.ecommerce.grpc.common.Metadata.getDefaultInstance() : metadata_;
+  }
+  /**
+   * <code>.ecommerce.common.Metadata metadata = 3;</code>
+   */
+  @java.lang.Override
+  public com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder() {
+    return getMetadata();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (fromVersion_ != 0L) {
+      output.writeInt64(1, fromVersion_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(subscriberId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, subscriberId_);
+    }
+    if (metadata_ != null) {
+      output.writeMessage(3, getMetadata());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (fromVersion_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, fromVersion_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(subscriberId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, subscriberId_);
+    }
+    if (metadata_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getMetadata());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest)) {
+      return super.equals(obj);
+    }
+    com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest other = (com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest) obj;
+
+    if (getFromVersion()
+        != other.getFromVersion()) return false;
+    if (!getSubscriberId()
+        .equals(other.getSubscriberId())) return false;
+    if (hasMetadata() != other.hasMetadata()) return false;
+    if (hasMetadata()) {
+      if (!getMetadata()
+          .equals(other.getMetadata())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + FROM_VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getFromVersion());
+    hash = (37 * hash) + SUBSCRIBER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getSubscriberId().hashCode();
+    if (hasMetadata()) {
+      hash = (37 * hash) + METADATA_FIELD_NUMBER;
+      hash = (53 * hash) + getMetadata().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ecommerce.inventory.SubscribeInventoryStatusRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ecommerce.inventory.SubscribeInventoryStatusRequest)
+      com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.class, com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.Builder.class);
+    }
+
+    // Construct using com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      fromVersion_ = 0L;
+
+      subscriberId_ = "";
+
+      if (metadataBuilder_ == null) {
+        metadata_ = null;
+      } else {
+        metadata_ = null;
+        metadataBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.ecommerce.grpc.inventory.InventoryProto.internal_static_ecommerce_inventory_SubscribeInventoryStatusRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest getDefaultInstanceForType() {
+      return com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest build() {
+      com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest buildPartial() {
+      com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest result = new com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest(this);
+      result.fromVersion_ = fromVersion_;
+      result.subscriberId_ = subscriberId_;
+      if (metadataBuilder_ == null) {
+        result.metadata_ = metadata_;
+      } else {
+        result.metadata_ = metadataBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest) {
+        return mergeFrom((com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest other) {
+      if (other == com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest.getDefaultInstance()) return this;
+      if (other.getFromVersion() != 0L) {
+        setFromVersion(other.getFromVersion());
+      }
+      if (!other.getSubscriberId().isEmpty()) {
+        subscriberId_ = other.subscriberId_;
+        onChanged();
+      }
+      if (other.hasMetadata()) {
+        mergeMetadata(other.getMetadata());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long fromVersion_ ;
+    /**
+     * <pre>
+     * version cuối đã nhận, 0 = cần snapshot đầy đủ
+     * </pre>
+     *
+     * <code>int64 from_version = 1;</code>
+     * @return The fromVersion.
+     */
+    @java.lang.Override
+    public long getFromVersion() {
+      return fromVersion_;
+    }
+    /**
+     * <pre>
+     * version cuối đã nhận, 0 = cần snapshot đầy đủ
+     * </pre>
+     *
+     * <code>int64 from_version = 1;</code>
+     * @param value The fromVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFromVersion(long value) {
+      
+      fromVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * version cuối đã nhận, 0 = cần snapshot đầy đủ
+     * </pre>
+     *
+     * <code>int64 from_version = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFromVersion() {
+      
+      fromVersion_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object subscriberId_ = "";
+    /**
+     * <code>string subscriber_id = 2;</code>
+     * @return The subscriberId.
+     */
+    public java.lang.String getSubscriberId() {
+      java.lang.Object ref = subscriberId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        subscriberId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string subscriber_id = 2;</code>
+     * @return The bytes for subscriberId.
+     */
+    public com.google.protobuf.ByteString
+        getSubscriberIdBytes() {
+      java.lang.Object ref = subscriberId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        subscriberId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string subscriber_id = 2;</code>
+     * @param value The subscriberId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSubscriberId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      subscriberId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string subscriber_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSubscriberId() {
+      
+      subscriberId_ = getDefaultInstance().getSubscriberId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string subscriber_id = 2;</code>
+     * @param value The bytes for subscriberId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSubscriberIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      subscriberId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.ecommerce.grpc.common.Metadata metadata_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.ecommerce.grpc.common.Metadata, com.ecommerce.grpc.common.Metadata.Builder, com.ecommerce.grpc.common.MetadataOrBuilder> metadataBuilder_;
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     * @return Whether the metadata field is set.
+     */
+    public boolean hasMetadata() {
+      return metadataBuilder_ != null || metadata_ != null;
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     * @return The metadata.
+     */
+    public com.ecommerce.grpc.common.Metadata getMetadata() {
+      if (metadataBuilder_ == null) {
+        return metadata_ == null ? com.ecommerce.grpc.common.Metadata.getDefaultInstance() : metadata_;
+      } else {
+        return metadataBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    public Builder setMetadata(com.ecommerce.grpc.common.Metadata value) {
+      if (metadataBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        metadata_ = value;
+        onChanged();
+      } else {
+        metadataBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    public Builder setMetadata(
+        com.ecommerce.grpc.common.Metadata.Builder builderForValue) {
+      if (metadataBuilder_ == null) {
+        metadata_ = builderForValue.build();
+        onChanged();
+      } else {
+        metadataBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    public Builder mergeMetadata(com.ecommerce.grpc.common.Metadata value) {
+      if (metadataBuilder_ == null) {
+        if (metadata_ != null) {
+          metadata_ =
+            com.ecommerce.grpc.common.Metadata.newBuilder(metadata_).mergeFrom(value).buildPartial();
+        } else {
+          metadata_ = value;
+        }
+        onChanged();
+      } else {
+        metadataBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    public Builder clearMetadata() {
+      if (metadataBuilder_ == null) {
+        metadata_ = null;
+        onChanged();
+      } else {
+        metadata_ = null;
+        metadataBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    public com.ecommerce.grpc.common.Metadata.Builder getMetadataBuilder() {
+      
+      onChanged();
+      return getMetadataFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    public com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder() {
+      if (metadataBuilder_ != null) {
+        return metadataBuilder_.getMessageOrBuilder();
+      } else {
+        return metadata_ == null ?
+            com.ecommerce.grpc.common.Metadata.getDefaultInstance() : metadata_;
+      }
+    }
+    /**
+     * <code>.ecommerce.common.Metadata metadata = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.ecommerce.grpc.common.Metadata, com.ecommerce.grpc.common.Metadata.Builder, com.ecommerce.grpc.common.MetadataOrBuilder> 
+        getMetadataFieldBuilder() {
+      if (metadataBuilder_ == null) {
+        metadataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.ecommerce.grpc.common.Metadata, com.ecommerce.grpc.common.Metadata.Builder, com.ecommerce.grpc.common.MetadataOrBuilder>(
+                getMetadata(),
+                getParentForChildren(),
+                isClean());
+        metadata_ = null;
+      }
+      return metadataBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ecommerce.inventory.SubscribeInventoryStatusRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:ecommerce.inventory.SubscribeInventoryStatusRequest)
+  private static final com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest();
+  }
+
+  public static com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubscribeInventoryStatusRequest>
+      PARSER = new com.google.protobuf.AbstractParser<SubscribeInventoryStatusRequest>() {
+    @java.lang.Override
+    public SubscribeInventoryStatusRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SubscribeInventoryStatusRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubscribeInventoryStatusRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubscribeInventoryStatusRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,46 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: inventory.proto
+
+package com.ecommerce.grpc.inventory;
+
+public interface SubscribeInventoryStatusRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ecommerce.inventory.SubscribeInventoryStatusRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * version cuối đã nhận, 0 = cần snapshot đầy đủ
+   * </pre>
+   *
+   * <code>int64 from_version = 1;</code>
+   * @return The fromVersion.
+   */
+  long getFromVersion();
+
+  /**
+   * <code>string subscriber_id = 2;</code>
+   * @return The subscriberId.
+   */
+  java.lang.String getSubscriberId();
+  /**
+   * <code>string subscriber_id = 2;</code>
+   * @return The bytes for subscriberId.
+   */
+  com.google.protobuf.ByteString
+      getSubscriberIdBytes();
+
+  /**
+   * <code>.ecommerce.common.Metadata metadata = 3;</code>
+   * @return Whether the metadata field is set.
+   */
+  boolean hasMetadata();
+  /**
+   * <code>.ecommerce.common.Metadata metadata = 3;</code>
+   * @return The metadata.
+   */
+  com.ecommerce.grpc.common.Metadata getMetadata();
+  /**
+   * <code>.ecommerce.common.Metadata metadata = 3;</code>
+   */
+  com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder();
+}
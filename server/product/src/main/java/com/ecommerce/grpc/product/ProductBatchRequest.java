@@ -72,6 +72,11 @@ private static final long serialVersionUID = 0L;
 
             break;
           }
+          case 24: {
+
+            chunkSize_ = input.readInt32();
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -170,6 +175,21 @@ private static final long serialVersionUID = 0L;
     return getMetadata();
   }
 
+  public static final int CHUNK_SIZE_FIELD_NUMBER = 3;
+  private int chunkSize_;
+  /**
+   * <pre>
+   * GetProductsBatchStream: số id mỗi chunk, 0 = mặc định
+   * </pre>
+   *
+   * <code>int32 chunk_size = 3;</code>
+   * @return The chunkSize.
+   */
+  @java.lang.Override
+  public int getChunkSize() {
+    return chunkSize_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -190,6 +210,9 @@ private static final long serialVersionUID = 0L;
     if (metadata_ != null) {
       output.writeMessage(2, getMetadata());
     }
+    if (chunkSize_ != 0) {
+      output.writeInt32(3, chunkSize_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -211,6 +234,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(2, getMetadata());
     }
+    if (chunkSize_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, chunkSize_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -233,6 +260,8 @@ private static final long serialVersionUID = 0L;
       if (!getMetadata()
           .equals(other.getMetadata())) return false;
     }
+    if (getChunkSize()
+        != other.getChunkSize()) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -252,6 +281,8 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + METADATA_FIELD_NUMBER;
       hash = (53 * hash) + getMetadata().hashCode();
     }
+    hash = (37 * hash) + CHUNK_SIZE_FIELD_NUMBER;
+    hash = (53 * hash) + getChunkSize();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -393,6 +424,8 @@ private static final long serialVersionUID = 0L;
         metadata_ = null;
         metadataBuilder_ = null;
       }
+      chunkSize_ = 0;
+
       return this;
     }
 
@@ -430,6 +463,7 @@ private static final long serialVersionUID = 0L;
       } else {
         result.metadata_ = metadataBuilder_.build();
       }
+      result.chunkSize_ = chunkSize_;
       onBuilt();
       return result;
     }
@@ -491,6 +525,9 @@ private static final long serialVersionUID = 0L;
       if (other.hasMetadata()) {
         mergeMetadata(other.getMetadata());
       }
+      if (other.getChunkSize() != 0) {
+        setChunkSize(other.getChunkSize());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -749,6 +786,49 @@ private static final long serialVersionUID = 0L;
       }
       return metadataBuilder_;
     }
+
+    private int chunkSize_ ;
+    /**
+     * <pre>
+     * GetProductsBatchStream: số id mỗi chunk, 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 chunk_size = 3;</code>
+     * @return The chunkSize.
+     */
+    @java.lang.Override
+    public int getChunkSize() {
+      return chunkSize_;
+    }
+    /**
+     * <pre>
+     * GetProductsBatchStream: số id mỗi chunk, 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 chunk_size = 3;</code>
+     * @param value The chunkSize to set.
+     * @return This builder for chaining.
+     */
+    public Builder setChunkSize(int value) {
+      
+      chunkSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * GetProductsBatchStream: số id mỗi chunk, 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 chunk_size = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearChunkSize() {
+      
+      chunkSize_ = 0;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
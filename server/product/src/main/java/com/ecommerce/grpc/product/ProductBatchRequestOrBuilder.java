@@ -46,4 +46,14 @@ public interface ProductBatchRequestOrBuilder extends
    * <code>.ecommerce.common.Metadata metadata = 2;</code>
    */
   com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder();
+
+  /**
+   * <pre>
+   * GetProductsBatchStream: số id mỗi chunk, 0 = mặc định
+   * </pre>
+   *
+   * <code>int32 chunk_size = 3;</code>
+   * @return The chunkSize.
+   */
+  int getChunkSize();
 }
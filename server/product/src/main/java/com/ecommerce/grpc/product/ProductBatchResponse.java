@@ -90,6 +90,16 @@ private static final long serialVersionUID = 0L;
 
             break;
           }
+          case 40: {
+
+            chunk_ = input.readInt32();
+            break;
+          }
+          case 48: {
+
+            finished_ = input.readBool();
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -230,6 +240,36 @@ private static final long serialVersionUID = 0L;
     return getMetadata();
   }
 
+  public static final int CHUNK_FIELD_NUMBER = 5;
+  private int chunk_;
+  /**
+   * <pre>
+   * GetProductsBatchStream: số thứ tự chunk, bắt đầu từ 0
+   * </pre>
+   *
+   * <code>int32 chunk = 5;</code>
+   * @return The chunk.
+   */
+  @java.lang.Override
+  public int getChunk() {
+    return chunk_;
+  }
+
+  public static final int FINISHED_FIELD_NUMBER = 6;
+  private boolean finished_;
+  /**
+   * <pre>
+   * GetProductsBatchStream: chunk cuối cùng
+   * </pre>
+   *
+   * <code>bool finished = 6;</code>
+   * @return The finished.
+   */
+  @java.lang.Override
+  public boolean getFinished() {
+    return finished_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -256,6 +296,12 @@ private static final long serialVersionUID = 0L;
     if (metadata_ != null) {
       output.writeMessage(4, getMetadata());
     }
+    if (chunk_ != 0) {
+      output.writeInt32(5, chunk_);
+    }
+    if (finished_ != false) {
+      output.writeBool(6, finished_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -281,6 +327,14 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(4, getMetadata());
     }
+    if (chunk_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(5, chunk_);
+    }
+    if (finished_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, finished_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -311,6 +365,10 @@ private static final long serialVersionUID = 0L;
       if (!getMetadata()
           .equals(other.getMetadata())) return false;
     }
+    if (getChunk()
+        != other.getChunk()) return false;
+    if (getFinished()
+        != other.getFinished()) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -337,6 +395,11 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + METADATA_FIELD_NUMBER;
       hash = (53 * hash) + getMetadata().hashCode();
     }
+    hash = (37 * hash) + CHUNK_FIELD_NUMBER;
+    hash = (53 * hash) + getChunk();
+    hash = (37 * hash) + FINISHED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getFinished());
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -491,6 +554,10 @@ private static final long serialVersionUID = 0L;
         metadata_ = null;
         metadataBuilder_ = null;
       }
+      chunk_ = 0;
+
+      finished_ = false;
+
       return this;
     }
 
@@ -538,6 +605,8 @@ private static final long serialVersionUID = 0L;
       } else {
         result.metadata_ = metadataBuilder_.build();
       }
+      result.chunk_ = chunk_;
+      result.finished_ = finished_;
       onBuilt();
       return result;
     }
@@ -621,6 +690,12 @@ private static final long serialVersionUID = 0L;
       if (other.hasMetadata()) {
         mergeMetadata(other.getMetadata());
       }
+      if (other.getChunk() != 0) {
+        setChunk(other.getChunk());
+      }
+      if (other.getFinished() != false) {
+        setFinished(other.getFinished());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -1159,6 +1234,92 @@ private static final long serialVersionUID = 0L;
       }
       return metadataBuilder_;
     }
+
+    private int chunk_ ;
+    /**
+     * <pre>
+     * GetProductsBatchStream: số thứ tự chunk, bắt đầu từ 0
+     * </pre>
+     *
+     * <code>int32 chunk = 5;</code>
+     * @return The chunk.
+     */
+    @java.lang.Override
+    public int getChunk() {
+      return chunk_;
+    }
+    /**
+     * <pre>
+     * GetProductsBatchStream: số thứ tự chunk, bắt đầu từ 0
+     * </pre>
+     *
+     * <code>int32 chunk = 5;</code>
+     * @param value The chunk to set.
+     * @return This builder for chaining.
+     */
+    public Builder setChunk(int value) {
+      
+      chunk_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * GetProductsBatchStream: số thứ tự chunk, bắt đầu từ 0
+     * </pre>
+     *
+     * <code>int32 chunk = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearChunk() {
+      
+      chunk_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean finished_ ;
+    /**
+     * <pre>
+     * GetProductsBatchStream: chunk cuối cùng
+     * </pre>
+     *
+     * <code>bool finished = 6;</code>
+     * @return The finished.
+     */
+    @java.lang.Override
+    public boolean getFinished() {
+      return finished_;
+    }
+    /**
+     * <pre>
+     * GetProductsBatchStream: chunk cuối cùng
+     * </pre>
+     *
+     * <code>bool finished = 6;</code>
+     * @param value The finished to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFinished(boolean value) {
+      
+      finished_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * GetProductsBatchStream: chunk cuối cùng
+     * </pre>
+     *
+     * <code>bool finished = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFinished() {
+      
+      finished_ = false;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
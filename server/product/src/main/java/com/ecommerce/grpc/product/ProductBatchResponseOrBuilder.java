@@ -66,4 +66,24 @@ public interface ProductBatchResponseOrBuilder extends
    * <code>.ecommerce.common.Metadata metadata = 4;</code>
    */
   com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder();
+
+  /**
+   * <pre>
+   * GetProductsBatchStream: số thứ tự chunk, bắt đầu từ 0
+   * </pre>
+   *
+   * <code>int32 chunk = 5;</code>
+   * @return The chunk.
+   */
+  int getChunk();
+
+  /**
+   * <pre>
+   * GetProductsBatchStream: chunk cuối cùng
+   * </pre>
+   *
+   * <code>bool finished = 6;</code>
+   * @return The finished.
+   */
+  boolean getFinished();
 }
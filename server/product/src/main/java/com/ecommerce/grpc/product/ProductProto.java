@@ -89,62 +89,72 @@ public final class ProductProto {
   static {
     java.lang.String[] descriptorData = {
       "\n\rproduct.proto\022\021ecommerce.product\032\014comm" +
-      "on.proto\"S\n\024SearchProductRequest\022\r\n\005quer" +
-      "y\030\001 \001(\t\022,\n\010metadata\030\002 \001(\0132\032.ecommerce.co" +
-      "mmon.Metadata\"n\n\024ProductDetailRequest\022\022\n" +
-      "\nproduct_id\030\001 \001(\t\022\024\n\014product_name\030\002 \001(\t\022" +
-      ",\n\010metadata\030\003 \001(\0132\032.ecommerce.common.Met" +
-      "adata\"k\n\017CategoryRequest\022\023\n\013category_id\030" +
-      "\001 \001(\t\022\025\n\rcategory_name\030\002 \001(\t\022,\n\010metadata" +
-      "\030\003 \001(\0132\032.ecommerce.common.Metadata\"X\n\023Pr" +
-      "oductBatchRequest\022\023\n\013product_ids\030\001 \003(\t\022," +
-      "\n\010metadata\030\002 \001(\0132\032.ecommerce.common.Meta" +
-      "data\"\225\001\n\017ProductUIAction\022\014\n\004type\030\001 \001(\t\022\013" +
-      "\n\003url\030\002 \001(\t\022:\n\004data\030\003 \003(\0132,.ecommerce.pr" +
-      "oduct.ProductUIAction.DataEntry\032+\n\tDataE" +
-      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\305\001\n" +
-      "\017ProductResponse\022\017\n\007message\030\001 \001(\t\0225\n\tui_" +
-      "action\030\002 \001(\0132\".ecommerce.product.Product" +
-      "UIAction\022(\n\006status\030\003 \001(\0132\030.ecommerce.com" +
-      "mon.Status\022\022\n\nlatency_ms\030\004 \001(\001\022,\n\010metada" +
-      "ta\030\005 \001(\0132\032.ecommerce.common.Metadata\"\230\001\n" +
-      "\024ProductResponseChunk\022\r\n\005chunk\030\001 \001(\t\0225\n\t" +
-      "ui_action\030\002 \001(\0132\".ecommerce.product.Prod" +
-      "uctUIAction\022\020\n\010finished\030\003 \001(\010\022(\n\006status\030" +
-      "\004 \001(\0132\030.ecommerce.common.Status\"\333\002\n\016Prod" +
-      "uctSummary\022\n\n\002id\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\031\n\021" +
-      "short_description\030\003 \001(\t\022\r\n\005price\030\004 \001(\001\022\026" +
-      "\n\016original_price\030\005 \001(\001\022\026\n\016rating_average" +
-      "\030\006 \001(\001\022\024\n\014review_count\030\007 \001(\005\022\030\n\020inventor" +
-      "y_status\030\010 \001(\t\022\025\n\rquantity_sold\030\t \001(\005\022+\n" +
-      "\005brand\030\n \001(\0132\034.ecommerce.product.BrandIn" +
-      "fo\022,\n\006images\030\013 \003(\0132\034.ecommerce.product.I" +
-      "mageInfo\0223\n\ncategories\030\014 \003(\0132\037.ecommerce" +
-      ".product.CategoryInfo\"N\n\tBrandInfo\022\n\n\002id" +
-      "\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\014\n\004slug\030\003 \001(\t\022\031\n\021co" +
-      "untry_of_origin\030\004 \001(\t\"6\n\tImageInfo\022\n\n\002id" +
-      "\030\001 \001(\t\022\013\n\003url\030\002 \001(\t\022\020\n\010position\030\003 \001(\005\"W\n" +
-      "\014CategoryInfo\022\n\n\002id\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022" +
-      "\013\n\003url\030\003 \001(\t\022\021\n\tparent_id\030\004 \001(\t\022\r\n\005level" +
-      "\030\005 \001(\005\"\267\001\n\024ProductBatchResponse\0223\n\010produ" +
-      "cts\030\001 \003(\0132!.ecommerce.product.ProductSum" +
-      "mary\022(\n\006status\030\002 \001(\0132\030.ecommerce.common." +
-      "Status\022\022\n\nlatency_ms\030\003 \001(\001\022,\n\010metadata\030\004" +
-      " \001(\0132\032.ecommerce.common.Metadata2\366\003\n\016Pro" +
-      "ductService\022\\\n\rSearchProduct\022\'.ecommerce" +
-      ".product.SearchProductRequest\032\".ecommerc" +
-      "e.product.ProductResponse\022_\n\020GetProductD" +
-      "etail\022\'.ecommerce.product.ProductDetailR" +
-      "equest\032\".ecommerce.product.ProductRespon" +
-      "se\022U\n\013GetCategory\022\".ecommerce.product.Ca" +
-      "tegoryRequest\032\".ecommerce.product.Produc" +
-      "tResponse\022c\n\020GetProductsBatch\022&.ecommerc" +
-      "e.product.ProductBatchRequest\032\'.ecommerc" +
-      "e.product.ProductBatchResponse\022i\n\023Search" +
-      "ProductStream\022\'.ecommerce.product.Search" +
-      "ProductRequest\032\'.ecommerce.product.Produ" +
-      "ctResponseChunk0\001B,\n\032com.ecommerce.grpc." +
-      "productB\014ProductProtoP\001b\006proto3"
+      "on.proto\"\213\001\n\024SearchProductRequest\022\r\n\005que" +
+      "ry\030\001 \001(\t\022,\n\010metadata\030\002 \001(\0132\032.ecommerce.c" +
+      "ommon.Metadata\022\021\n\tpage_size\030\003 \001(\005\022\023\n\013max" +
+      "_results\030\004 \001(\005\022\016\n\006fields\030\005 \003(\t\"n\n\024Produc" +
+      "tDetailRequest\022\022\n\nproduct_id\030\001 \001(\t\022\024\n\014pr" +
+      "oduct_name\030\002 \001(\t\022,\n\010metadata\030\003 \001(\0132\032.eco" +
+      "mmerce.common.Metadata\"k\n\017CategoryReques" +
+      "t\022\023\n\013category_id\030\001 \001(\t\022\025\n\rcategory_name\030" +
+      "\002 \001(\t\022,\n\010metadata\030\003 \001(\0132\032.ecommerce.comm" +
+      "on.Metadata\"l\n\023ProductBatchRequest\022\023\n\013pr" +
+      "oduct_ids\030\001 \003(\t\022,\n\010metadata\030\002 \001(\0132\032.ecom" +
+      "merce.common.Metadata\022\022\n\nchunk_size\030\003 \001(" +
+      "\005\"\225\001\n\017ProductUIAction\022\014\n\004type\030\001 \001(\t\022\013\n\003u" +
+      "rl\030\002 \001(\t\022:\n\004data\030\003 \003(\0132,.ecommerce.produ" +
+      "ct.ProductUIAction.DataEntry\032+\n\tDataEntr" +
+      "y\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\221\002\n\017Pr" +
+      "oductResponse\022\017\n\007message\030\001 \001(\t\0225\n\tui_act" +
+      "ion\030\002 \001(\0132\".ecommerce.product.ProductUIA" +
+      "ction\022(\n\006status\030\003 \001(\0132\030.ecommerce.common" +
+      ".Status\022\022\n\nlatency_ms\030\004 \001(\001\022,\n\010metadata\030" +
+      "\005 \001(\0132\032.ecommerce.common.Metadata\0223\n\010pro" +
+      "ducts\030\006 \003(\0132!.ecommerce.product.ProductS" +
+      "ummary\022\025\n\rtotal_results\030\007 \001(\003\"\362\001\n\024Produc" +
+      "tResponseChunk\022\r\n\005chunk\030\001 \001(\t\0225\n\tui_acti" +
+      "on\030\002 \001(\0132\".ecommerce.product.ProductUIAc" +
+      "tion\022\020\n\010finished\030\003 \001(\010\022(\n\006status\030\004 \001(\0132\030" +
+      ".ecommerce.common.Status\0223\n\010products\030\005 \003" +
+      "(\0132!.ecommerce.product.ProductSummary\022\014\n" +
+      "\004page\030\006 \001(\005\022\025\n\rtotal_results\030\007 \001(\003\"\333\002\n\016P" +
+      "roductSummary\022\n\n\002id\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022" +
+      "\031\n\021short_description\030\003 \001(\t\022\r\n\005price\030\004 \001(" +
+      "\001\022\026\n\016original_price\030\005 \001(\001\022\026\n\016rating_aver" +
+      "age\030\006 \001(\001\022\024\n\014review_count\030\007 \001(\005\022\030\n\020inven" +
+      "tory_status\030\010 \001(\t\022\025\n\rquantity_sold\030\t \001(\005" +
+      "\022+\n\005brand\030\n \001(\0132\034.ecommerce.product.Bran" +
+      "dInfo\022,\n\006images\030\013 \003(\0132\034.ecommerce.produc" +
+      "t.ImageInfo\0223\n\ncategories\030\014 \003(\0132\037.ecomme" +
+      "rce.product.CategoryInfo\"N\n\tBrandInfo\022\n\n" +
+      "\002id\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\014\n\004slug\030\003 \001(\t\022\031\n" +
+      "\021country_of_origin\030\004 \001(\t\"6\n\tImageInfo\022\n\n" +
+      "\002id\030\001 \001(\t\022\013\n\003url\030\002 \001(\t\022\020\n\010position\030\003 \001(\005" +
+      "\"W\n\014CategoryInfo\022\n\n\002id\030\001 \001(\t\022\014\n\004name\030\002 \001" +
+      "(\t\022\013\n\003url\030\003 \001(\t\022\021\n\tparent_id\030\004 \001(\t\022\r\n\005le" +
+      "vel\030\005 \001(\005\"\330\001\n\024ProductBatchResponse\0223\n\010pr" +
+      "oducts\030\001 \003(\0132!.ecommerce.product.Product" +
+      "Summary\022(\n\006status\030\002 \001(\0132\030.ecommerce.comm" +
+      "on.Status\022\022\n\nlatency_ms\030\003 \001(\001\022,\n\010metadat" +
+      "a\030\004 \001(\0132\032.ecommerce.common.Metadata\022\r\n\005c" +
+      "hunk\030\005 \001(\005\022\020\n\010finished\030\006 \001(\0102\343\004\n\016Product" +
+      "Service\022\\\n\rSearchProduct\022\'.ecommerce.pro" +
+      "duct.SearchProductRequest\032\".ecommerce.pr" +
+      "oduct.ProductResponse\022_\n\020GetProductDetai" +
+      "l\022\'.ecommerce.product.ProductDetailReque" +
+      "st\032\".ecommerce.product.ProductResponse\022U" +
+      "\n\013GetCategory\022\".ecommerce.product.Catego" +
+      "ryRequest\032\".ecommerce.product.ProductRes" +
+      "ponse\022c\n\020GetProductsBatch\022&.ecommerce.pr" +
+      "oduct.ProductBatchRequest\032\'.ecommerce.pr" +
+      "oduct.ProductBatchResponse\022i\n\023SearchProd" +
+      "uctStream\022\'.ecommerce.product.SearchProd" +
+      "uctRequest\032\'.ecommerce.product.ProductRe" +
+      "sponseChunk0\001\022k\n\026GetProductsBatchStream\022" +
+      "&.ecommerce.product.ProductBatchRequest\032" +
+      "\'.ecommerce.product.ProductBatchResponse" +
+      "0\001B,\n\032com.ecommerce.grpc.productB\014Produc" +
+      "tProtoP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -156,7 +166,7 @@ public final class ProductProto {
     internal_static_ecommerce_product_SearchProductRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ecommerce_product_SearchProductRequest_descriptor,
-        new java.lang.String[] { "Query", "Metadata", });
+        new java.lang.String[] { "Query", "Metadata", "PageSize", "MaxResults", "Fields", });
     internal_static_ecommerce_product_ProductDetailRequest_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_ecommerce_product_ProductDetailRequest_fieldAccessorTable = new
@@ -174,7 +184,7 @@ public final class ProductProto {
     internal_static_ecommerce_product_ProductBatchRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ecommerce_product_ProductBatchRequest_descriptor,
-        new java.lang.String[] { "ProductIds", "Metadata", });
+        new java.lang.String[] { "ProductIds", "Metadata", "ChunkSize", });
     internal_static_ecommerce_product_ProductUIAction_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_ecommerce_product_ProductUIAction_fieldAccessorTable = new
@@ -192,13 +202,13 @@ public final class ProductProto {
     internal_static_ecommerce_product_ProductResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ecommerce_product_ProductResponse_descriptor,
-        new java.lang.String[] { "Message", "UiAction", "Status", "LatencyMs", "Metadata", });
+        new java.lang.String[] { "Message", "UiAction", "Status", "LatencyMs", "Metadata", "Products", "TotalResults", });
     internal_static_ecommerce_product_ProductResponseChunk_descriptor =
       getDescriptor().getMessageTypes().get(6);
     internal_static_ecommerce_product_ProductResponseChunk_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ecommerce_product_ProductResponseChunk_descriptor,
-        new java.lang.String[] { "Chunk", "UiAction", "Finished", "Status", });
+        new java.lang.String[] { "Chunk", "UiAction", "Finished", "Status", "Products", "Page", "TotalResults", });
     internal_static_ecommerce_product_ProductSummary_descriptor =
       getDescriptor().getMessageTypes().get(7);
     internal_static_ecommerce_product_ProductSummary_fieldAccessorTable = new
@@ -228,7 +238,7 @@ public final class ProductProto {
     internal_static_ecommerce_product_ProductBatchResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ecommerce_product_ProductBatchResponse_descriptor,
-        new java.lang.String[] { "Products", "Status", "LatencyMs", "Metadata", });
+        new java.lang.String[] { "Products", "Status", "LatencyMs", "Metadata", "Chunk", "Finished", });
     com.ecommerce.grpc.common.CommonProto.getDescriptor();
   }
 
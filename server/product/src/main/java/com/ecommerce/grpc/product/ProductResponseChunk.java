@@ -17,6 +17,7 @@ private static final long serialVersionUID = 0L;
   }
   private ProductResponseChunk() {
     chunk_ = "";
+    products_ = java.util.Collections.emptyList();
   }
 
   @java.lang.Override
@@ -39,6 +40,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new java.lang.NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -86,6 +88,25 @@ private static final long serialVersionUID = 0L;
 
             break;
           }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              products_ = new java.util.ArrayList<com.ecommerce.grpc.product.ProductSummary>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            products_.add(
+                input.readMessage(com.ecommerce.grpc.product.ProductSummary.parser(), extensionRegistry));
+            break;
+          }
+          case 48: {
+
+            page_ = input.readInt32();
+            break;
+          }
+          case 56: {
+
+            totalResults_ = input.readInt64();
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -103,6 +124,9 @@ private static final long serialVersionUID = 0L;
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        products_ = java.util.Collections.unmodifiableList(products_);
+      }
       this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
@@ -221,6 +245,88 @@ private static final long serialVersionUID = 0L;
     return getStatus();
   }
 
+  public static final int PRODUCTS_FIELD_NUMBER = 5;
+  private java.util.List<com.ecommerce.grpc.product.ProductSummary> products_;
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.ecommerce.grpc.product.ProductSummary> getProductsList() {
+    return products_;
+  }
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.ecommerce.grpc.product.ProductSummaryOrBuilder> 
+      getProductsOrBuilderList() {
+    return products_;
+  }
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  @java.lang.Override
+  public int getProductsCount() {
+    return products_.size();
+  }
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  @java.lang.Override
+  public com.ecommerce.grpc.product.ProductSummary getProducts(int index) {
+    return products_.get(index);
+  }
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  @java.lang.Override
+  public com.ecommerce.grpc.product.ProductSummaryOrBuilder getProductsOrBuilder(
+      int index) {
+    return products_.get(index);
+  }
+
+  public static final int PAGE_FIELD_NUMBER = 6;
+  private int page_;
+  /**
+   * <code>int32 page = 6;</code>
+   * @return The page.
+   */
+  @java.lang.Override
+  public int getPage() {
+    return page_;
+  }
+
+  public static final int TOTAL_RESULTS_FIELD_NUMBER = 7;
+  private long totalResults_;
+  /**
+   * <code>int64 total_results = 7;</code>
+   * @return The totalResults.
+   */
+  @java.lang.Override
+  public long getTotalResults() {
+    return totalResults_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -247,6 +353,15 @@ private static final long serialVersionUID = 0L;
     if (status_ != null) {
       output.writeMessage(4, getStatus());
     }
+    for (int i = 0; i < products_.size(); i++) {
+      output.writeMessage(5, products_.get(i));
+    }
+    if (page_ != 0) {
+      output.writeInt32(6, page_);
+    }
+    if (totalResults_ != 0L) {
+      output.writeInt64(7, totalResults_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -271,6 +386,18 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(4, getStatus());
     }
+    for (int i = 0; i < products_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, products_.get(i));
+    }
+    if (page_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(6, page_);
+    }
+    if (totalResults_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, totalResults_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -300,6 +427,12 @@ private static final long serialVersionUID = 0L;
       if (!getStatus()
           .equals(other.getStatus())) return false;
     }
+    if (!getProductsList()
+        .equals(other.getProductsList())) return false;
+    if (getPage()
+        != other.getPage()) return false;
+    if (getTotalResults()
+        != other.getTotalResults()) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -324,6 +457,15 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + getStatus().hashCode();
     }
+    if (getProductsCount() > 0) {
+      hash = (37 * hash) + PRODUCTS_FIELD_NUMBER;
+      hash = (53 * hash) + getProductsList().hashCode();
+    }
+    hash = (37 * hash) + PAGE_FIELD_NUMBER;
+    hash = (53 * hash) + getPage();
+    hash = (37 * hash) + TOTAL_RESULTS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTotalResults());
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -452,6 +594,7 @@ private static final long serialVersionUID = 0L;
     private void maybeForceBuilderInitialization() {
       if (com.google.protobuf.GeneratedMessageV3
               .alwaysUseFieldBuilders) {
+        getProductsFieldBuilder();
       }
     }
     @java.lang.Override
@@ -473,6 +616,16 @@ private static final long serialVersionUID = 0L;
         status_ = null;
         statusBuilder_ = null;
       }
+      if (productsBuilder_ == null) {
+        products_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        productsBuilder_.clear();
+      }
+      page_ = 0;
+
+      totalResults_ = 0L;
+
       return this;
     }
 
@@ -499,6 +652,7 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public com.ecommerce.grpc.product.ProductResponseChunk buildPartial() {
       com.ecommerce.grpc.product.ProductResponseChunk result = new com.ecommerce.grpc.product.ProductResponseChunk(this);
+      int from_bitField0_ = bitField0_;
       result.chunk_ = chunk_;
       if (uiActionBuilder_ == null) {
         result.uiAction_ = uiAction_;
@@ -511,6 +665,17 @@ private static final long serialVersionUID = 0L;
       } else {
         result.status_ = statusBuilder_.build();
       }
+      if (productsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          products_ = java.util.Collections.unmodifiableList(products_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.products_ = products_;
+      } else {
+        result.products_ = productsBuilder_.build();
+      }
+      result.page_ = page_;
+      result.totalResults_ = totalResults_;
       onBuilt();
       return result;
     }
@@ -572,6 +737,38 @@ private static final long serialVersionUID = 0L;
       if (other.hasStatus()) {
         mergeStatus(other.getStatus());
       }
+      if (productsBuilder_ == null) {
+        if (!other.products_.isEmpty()) {
+          if (products_.isEmpty()) {
+            products_ = other.products_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureProductsIsMutable();
+            products_.addAll(other.products_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.products_.isEmpty()) {
+          if (productsBuilder_.isEmpty()) {
+            productsBuilder_.dispose();
+            productsBuilder_ = null;
+            products_ = other.products_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            productsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getProductsFieldBuilder() : null;
+          } else {
+            productsBuilder_.addAllMessages(other.products_);
+          }
+        }
+      }
+      if (other.getPage() != 0) {
+        setPage(other.getPage());
+      }
+      if (other.getTotalResults() != 0L) {
+        setTotalResults(other.getTotalResults());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -600,6 +797,7 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int bitField0_;
 
     private java.lang.Object chunk_ = "";
     /**
@@ -945,6 +1143,380 @@ private static final long serialVersionUID = 0L;
       }
       return statusBuilder_;
     }
+
+    private java.util.List<com.ecommerce.grpc.product.ProductSummary> products_ =
+      java.util.Collections.emptyList();
+    private void ensureProductsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        products_ = new java.util.ArrayList<com.ecommerce.grpc.product.ProductSummary>(products_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.ecommerce.grpc.product.ProductSummary, com.ecommerce.grpc.product.ProductSummary.Builder, com.ecommerce.grpc.product.ProductSummaryOrBuilder> productsBuilder_;
+
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public java.util.List<com.ecommerce.grpc.product.ProductSummary> getProductsList() {
+      if (productsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(products_);
+      } else {
+        return productsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public int getProductsCount() {
+      if (productsBuilder_ == null) {
+        return products_.size();
+      } else {
+        return productsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public com.ecommerce.grpc.product.ProductSummary getProducts(int index) {
+      if (productsBuilder_ == null) {
+        return products_.get(index);
+      } else {
+        return productsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder setProducts(
+        int index, com.ecommerce.grpc.product.ProductSummary value) {
+      if (productsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureProductsIsMutable();
+        products_.set(index, value);
+        onChanged();
+      } else {
+        productsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder setProducts(
+        int index, com.ecommerce.grpc.product.ProductSummary.Builder builderForValue) {
+      if (productsBuilder_ == null) {
+        ensureProductsIsMutable();
+        products_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        productsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder addProducts(com.ecommerce.grpc.product.ProductSummary value) {
+      if (productsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureProductsIsMutable();
+        products_.add(value);
+        onChanged();
+      } else {
+        productsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder addProducts(
+        int index, com.ecommerce.grpc.product.ProductSummary value) {
+      if (productsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureProductsIsMutable();
+        products_.add(index, value);
+        onChanged();
+      } else {
+        productsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder addProducts(
+        com.ecommerce.grpc.product.ProductSummary.Builder builderForValue) {
+      if (productsBuilder_ == null) {
+        ensureProductsIsMutable();
+        products_.add(builderForValue.build());
+        onChanged();
+      } else {
+        productsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder addProducts(
+        int index, com.ecommerce.grpc.product.ProductSummary.Builder builderForValue) {
+      if (productsBuilder_ == null) {
+        ensureProductsIsMutable();
+        products_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        productsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder addAllProducts(
+        java.lang.Iterable<? extends com.ecommerce.grpc.product.ProductSummary> values) {
+      if (productsBuilder_ == null) {
+        ensureProductsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, products_);
+        onChanged();
+      } else {
+        productsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder clearProducts() {
+      if (productsBuilder_ == null) {
+        products_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        productsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public Builder removeProducts(int index) {
+      if (productsBuilder_ == null) {
+        ensureProductsIsMutable();
+        products_.remove(index);
+        onChanged();
+      } else {
+        productsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public com.ecommerce.grpc.product.ProductSummary.Builder getProductsBuilder(
+        int index) {
+      return getProductsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public com.ecommerce.grpc.product.ProductSummaryOrBuilder getProductsOrBuilder(
+        int index) {
+      if (productsBuilder_ == null) {
+        return products_.get(index);  } else {
+        return productsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public java.util.List<? extends com.ecommerce.grpc.product.ProductSummaryOrBuilder> 
+         getProductsOrBuilderList() {
+      if (productsBuilder_ != null) {
+        return productsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(products_);
+      }
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public com.ecommerce.grpc.product.ProductSummary.Builder addProductsBuilder() {
+      return getProductsFieldBuilder().addBuilder(
+          com.ecommerce.grpc.product.ProductSummary.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public com.ecommerce.grpc.product.ProductSummary.Builder addProductsBuilder(
+        int index) {
+      return getProductsFieldBuilder().addBuilder(
+          index, com.ecommerce.grpc.product.ProductSummary.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * một trang kết quả tìm kiếm
+     * </pre>
+     *
+     * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+     */
+    public java.util.List<com.ecommerce.grpc.product.ProductSummary.Builder> 
+         getProductsBuilderList() {
+      return getProductsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.ecommerce.grpc.product.ProductSummary, com.ecommerce.grpc.product.ProductSummary.Builder, com.ecommerce.grpc.product.ProductSummaryOrBuilder> 
+        getProductsFieldBuilder() {
+      if (productsBuilder_ == null) {
+        productsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.ecommerce.grpc.product.ProductSummary, com.ecommerce.grpc.product.ProductSummary.Builder, com.ecommerce.grpc.product.ProductSummaryOrBuilder>(
+                products_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        products_ = null;
+      }
+      return productsBuilder_;
+    }
+
+    private int page_ ;
+    /**
+     * <code>int32 page = 6;</code>
+     * @return The page.
+     */
+    @java.lang.Override
+    public int getPage() {
+      return page_;
+    }
+    /**
+     * <code>int32 page = 6;</code>
+     * @param value The page to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPage(int value) {
+      
+      page_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 page = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPage() {
+      
+      page_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long totalResults_ ;
+    /**
+     * <code>int64 total_results = 7;</code>
+     * @return The totalResults.
+     */
+    @java.lang.Override
+    public long getTotalResults() {
+      return totalResults_;
+    }
+    /**
+     * <code>int64 total_results = 7;</code>
+     * @param value The totalResults to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTotalResults(long value) {
+      
+      totalResults_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 total_results = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTotalResults() {
+      
+      totalResults_ = 0L;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
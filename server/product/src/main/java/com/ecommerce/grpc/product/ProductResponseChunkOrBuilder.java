@@ -54,4 +54,60 @@ public interface ProductResponseChunkOrBuilder extends
    * <code>.ecommerce.common.Status status = 4;</code>
    */
   com.ecommerce.grpc.common.StatusOrBuilder getStatusOrBuilder();
+
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  java.util.List<com.ecommerce.grpc.product.ProductSummary> 
+      getProductsList();
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  com.ecommerce.grpc.product.ProductSummary getProducts(int index);
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  int getProductsCount();
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  java.util.List<? extends com.ecommerce.grpc.product.ProductSummaryOrBuilder> 
+      getProductsOrBuilderList();
+  /**
+   * <pre>
+   * một trang kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 5;</code>
+   */
+  com.ecommerce.grpc.product.ProductSummaryOrBuilder getProductsOrBuilder(
+      int index);
+
+  /**
+   * <code>int32 page = 6;</code>
+   * @return The page.
+   */
+  int getPage();
+
+  /**
+   * <code>int64 total_results = 7;</code>
+   * @return The totalResults.
+   */
+  long getTotalResults();
 }
@@ -69,4 +69,54 @@ public interface ProductResponseOrBuilder extends
    * <code>.ecommerce.common.Metadata metadata = 5;</code>
    */
   com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder();
+
+  /**
+   * <pre>
+   * SearchProduct: top-N kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 6;</code>
+   */
+  java.util.List<com.ecommerce.grpc.product.ProductSummary> 
+      getProductsList();
+  /**
+   * <pre>
+   * SearchProduct: top-N kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 6;</code>
+   */
+  com.ecommerce.grpc.product.ProductSummary getProducts(int index);
+  /**
+   * <pre>
+   * SearchProduct: top-N kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 6;</code>
+   */
+  int getProductsCount();
+  /**
+   * <pre>
+   * SearchProduct: top-N kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 6;</code>
+   */
+  java.util.List<? extends com.ecommerce.grpc.product.ProductSummaryOrBuilder> 
+      getProductsOrBuilderList();
+  /**
+   * <pre>
+   * SearchProduct: top-N kết quả tìm kiếm
+   * </pre>
+   *
+   * <code>repeated .ecommerce.product.ProductSummary products = 6;</code>
+   */
+  com.ecommerce.grpc.product.ProductSummaryOrBuilder getProductsOrBuilder(
+      int index);
+
+  /**
+   * <code>int64 total_results = 7;</code>
+   * @return The totalResults.
+   */
+  long getTotalResults();
 }
@@ -170,6 +170,37 @@ public final class ProductServiceGrpc {
     return getSearchProductStreamMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.ecommerce.grpc.product.ProductBatchRequest,
+      com.ecommerce.grpc.product.ProductBatchResponse> getGetProductsBatchStreamMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetProductsBatchStream",
+      requestType = com.ecommerce.grpc.product.ProductBatchRequest.class,
+      responseType = com.ecommerce.grpc.product.ProductBatchResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.ecommerce.grpc.product.ProductBatchRequest,
+      com.ecommerce.grpc.product.ProductBatchResponse> getGetProductsBatchStreamMethod() {
+    io.grpc.MethodDescriptor<com.ecommerce.grpc.product.ProductBatchRequest, com.ecommerce.grpc.product.ProductBatchResponse> getGetProductsBatchStreamMethod;
+    if ((getGetProductsBatchStreamMethod = ProductServiceGrpc.getGetProductsBatchStreamMethod) == null) {
+      synchronized (ProductServiceGrpc.class) {
+        if ((getGetProductsBatchStreamMethod = ProductServiceGrpc.getGetProductsBatchStreamMethod) == null) {
+          ProductServiceGrpc.getGetProductsBatchStreamMethod = getGetProductsBatchStreamMethod =
+              io.grpc.MethodDescriptor.<com.ecommerce.grpc.product.ProductBatchRequest, com.ecommerce.grpc.product.ProductBatchResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetProductsBatchStream"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.ecommerce.grpc.product.ProductBatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.ecommerce.grpc.product.ProductBatchResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new ProductServiceMethodDescriptorSupplier("GetProductsBatchStream"))
+              .build();
+        }
+      }
+    }
+    return getGetProductsBatchStreamMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -268,6 +299,16 @@ public final class ProductServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSearchProductStreamMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Batch lớn (xuất lịch sử đơn hàng, đồng bộ wishlist): mỗi message một chunk id đã enrich
+     * </pre>
+     */
+    public void getProductsBatchStream(com.ecommerce.grpc.product.ProductBatchRequest request,
+        io.grpc.stub.StreamObserver<com.ecommerce.grpc.product.ProductBatchResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetProductsBatchStreamMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -305,6 +346,13 @@ public final class ProductServiceGrpc {
                 com.ecommerce.grpc.product.SearchProductRequest,
                 com.ecommerce.grpc.product.ProductResponseChunk>(
                   this, METHODID_SEARCH_PRODUCT_STREAM)))
+          .addMethod(
+            getGetProductsBatchStreamMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.ecommerce.grpc.product.ProductBatchRequest,
+                com.ecommerce.grpc.product.ProductBatchResponse>(
+                  this, METHODID_GET_PRODUCTS_BATCH_STREAM)))
           .build();
     }
   }
@@ -377,6 +425,17 @@ public final class ProductServiceGrpc {
       io.grpc.stub.ClientCalls.asyncServerStreamingCall(
           getChannel().newCall(getSearchProductStreamMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Batch lớn (xuất lịch sử đơn hàng, đồng bộ wishlist): mỗi message một chunk id đã enrich
+     * </pre>
+     */
+    public void getProductsBatchStream(com.ecommerce.grpc.product.ProductBatchRequest request,
+        io.grpc.stub.StreamObserver<com.ecommerce.grpc.product.ProductBatchResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetProductsBatchStreamMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -443,6 +502,17 @@ public final class ProductServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
           getChannel(), getSearchProductStreamMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Batch lớn (xuất lịch sử đơn hàng, đồng bộ wishlist): mỗi message một chunk id đã enrich
+     * </pre>
+     */
+    public java.util.Iterator<com.ecommerce.grpc.product.ProductBatchResponse> getProductsBatchStream(
+        com.ecommerce.grpc.product.ProductBatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetProductsBatchStreamMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -509,6 +579,7 @@ public final class ProductServiceGrpc {
   private static final int METHODID_GET_CATEGORY = 2;
   private static final int METHODID_GET_PRODUCTS_BATCH = 3;
   private static final int METHODID_SEARCH_PRODUCT_STREAM = 4;
+  private static final int METHODID_GET_PRODUCTS_BATCH_STREAM = 5;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -547,6 +618,10 @@ public final class ProductServiceGrpc {
           serviceImpl.searchProductStream((com.ecommerce.grpc.product.SearchProductRequest) request,
               (io.grpc.stub.StreamObserver<com.ecommerce.grpc.product.ProductResponseChunk>) responseObserver);
           break;
+        case METHODID_GET_PRODUCTS_BATCH_STREAM:
+          serviceImpl.getProductsBatchStream((com.ecommerce.grpc.product.ProductBatchRequest) request,
+              (io.grpc.stub.StreamObserver<com.ecommerce.grpc.product.ProductBatchResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -613,6 +688,7 @@ public final class ProductServiceGrpc {
               .addMethod(getGetCategoryMethod())
               .addMethod(getGetProductsBatchMethod())
               .addMethod(getSearchProductStreamMethod())
+              .addMethod(getGetProductsBatchStreamMethod())
               .build();
         }
       }
@@ -17,6 +17,7 @@ private static final long serialVersionUID = 0L;
   }
   private SearchProductRequest() {
     query_ = "";
+    fields_ = com.google.protobuf.LazyStringArrayList.EMPTY;
   }
 
   @java.lang.Override
@@ -39,6 +40,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new java.lang.NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -68,6 +70,25 @@ private static final long serialVersionUID = 0L;
 
             break;
           }
+          case 24: {
+
+            pageSize_ = input.readInt32();
+            break;
+          }
+          case 32: {
+
+            maxResults_ = input.readInt32();
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              fields_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            fields_.add(s);
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -85,6 +106,9 @@ private static final long serialVersionUID = 0L;
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        fields_ = fields_.getUnmodifiableView();
+      }
       this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
@@ -166,6 +190,87 @@ private static final long serialVersionUID = 0L;
     return getMetadata();
   }
 
+  public static final int PAGE_SIZE_FIELD_NUMBER = 3;
+  private int pageSize_;
+  /**
+   * <pre>
+   * SearchProductStream: số sản phẩm mỗi chunk, 0 = mặc định
+   * </pre>
+   *
+   * <code>int32 page_size = 3;</code>
+   * @return The pageSize.
+   */
+  @java.lang.Override
+  public int getPageSize() {
+    return pageSize_;
+  }
+
+  public static final int MAX_RESULTS_FIELD_NUMBER = 4;
+  private int maxResults_;
+  /**
+   * <pre>
+   * số sản phẩm tối đa trả về (SearchProduct: top-N), 0 = mặc định
+   * </pre>
+   *
+   * <code>int32 max_results = 4;</code>
+   * @return The maxResults.
+   */
+  @java.lang.Override
+  public int getMaxResults() {
+    return maxResults_;
+  }
+
+  public static final int FIELDS_FIELD_NUMBER = 5;
+  private com.google.protobuf.LazyStringList fields_;
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @return A list containing the fields.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getFieldsList() {
+    return fields_;
+  }
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @return The count of fields.
+   */
+  public int getFieldsCount() {
+    return fields_.size();
+  }
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @param index The index of the element to return.
+   * @return The fields at the given index.
+   */
+  public java.lang.String getFields(int index) {
+    return fields_.get(index);
+  }
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the fields at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getFieldsBytes(int index) {
+    return fields_.getByteString(index);
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -186,6 +291,15 @@ private static final long serialVersionUID = 0L;
     if (metadata_ != null) {
       output.writeMessage(2, getMetadata());
     }
+    if (pageSize_ != 0) {
+      output.writeInt32(3, pageSize_);
+    }
+    if (maxResults_ != 0) {
+      output.writeInt32(4, maxResults_);
+    }
+    for (int i = 0; i < fields_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, fields_.getRaw(i));
+    }
     unknownFields.writeTo(output);
   }
 
@@ -202,6 +316,22 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(2, getMetadata());
     }
+    if (pageSize_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, pageSize_);
+    }
+    if (maxResults_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, maxResults_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < fields_.size(); i++) {
+        dataSize += computeStringSizeNoTag(fields_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getFieldsList().size();
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -224,6 +354,12 @@ private static final long serialVersionUID = 0L;
       if (!getMetadata()
           .equals(other.getMetadata())) return false;
     }
+    if (getPageSize()
+        != other.getPageSize()) return false;
+    if (getMaxResults()
+        != other.getMaxResults()) return false;
+    if (!getFieldsList()
+        .equals(other.getFieldsList())) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -241,6 +377,14 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + METADATA_FIELD_NUMBER;
       hash = (53 * hash) + getMetadata().hashCode();
     }
+    hash = (37 * hash) + PAGE_SIZE_FIELD_NUMBER;
+    hash = (53 * hash) + getPageSize();
+    hash = (37 * hash) + MAX_RESULTS_FIELD_NUMBER;
+    hash = (53 * hash) + getMaxResults();
+    if (getFieldsCount() > 0) {
+      hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+      hash = (53 * hash) + getFieldsList().hashCode();
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -382,6 +526,12 @@ private static final long serialVersionUID = 0L;
         metadata_ = null;
         metadataBuilder_ = null;
       }
+      pageSize_ = 0;
+
+      maxResults_ = 0;
+
+      fields_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
       return this;
     }
 
@@ -408,12 +558,20 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public com.ecommerce.grpc.product.SearchProductRequest buildPartial() {
       com.ecommerce.grpc.product.SearchProductRequest result = new com.ecommerce.grpc.product.SearchProductRequest(this);
+      int from_bitField0_ = bitField0_;
       result.query_ = query_;
       if (metadataBuilder_ == null) {
         result.metadata_ = metadata_;
       } else {
         result.metadata_ = metadataBuilder_.build();
       }
+      result.pageSize_ = pageSize_;
+      result.maxResults_ = maxResults_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        fields_ = fields_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.fields_ = fields_;
       onBuilt();
       return result;
     }
@@ -469,6 +627,22 @@ private static final long serialVersionUID = 0L;
       if (other.hasMetadata()) {
         mergeMetadata(other.getMetadata());
       }
+      if (other.getPageSize() != 0) {
+        setPageSize(other.getPageSize());
+      }
+      if (other.getMaxResults() != 0) {
+        setMaxResults(other.getMaxResults());
+      }
+      if (!other.fields_.isEmpty()) {
+        if (fields_.isEmpty()) {
+          fields_ = other.fields_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureFieldsIsMutable();
+          fields_.addAll(other.fields_);
+        }
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -497,6 +671,7 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int bitField0_;
 
     private java.lang.Object query_ = "";
     /**
@@ -692,6 +867,238 @@ private static final long serialVersionUID = 0L;
       }
       return metadataBuilder_;
     }
+
+    private int pageSize_ ;
+    /**
+     * <pre>
+     * SearchProductStream: số sản phẩm mỗi chunk, 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 page_size = 3;</code>
+     * @return The pageSize.
+     */
+    @java.lang.Override
+    public int getPageSize() {
+      return pageSize_;
+    }
+    /**
+     * <pre>
+     * SearchProductStream: số sản phẩm mỗi chunk, 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 page_size = 3;</code>
+     * @param value The pageSize to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPageSize(int value) {
+      
+      pageSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * SearchProductStream: số sản phẩm mỗi chunk, 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 page_size = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPageSize() {
+      
+      pageSize_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int maxResults_ ;
+    /**
+     * <pre>
+     * số sản phẩm tối đa trả về (SearchProduct: top-N), 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 max_results = 4;</code>
+     * @return The maxResults.
+     */
+    @java.lang.Override
+    public int getMaxResults() {
+      return maxResults_;
+    }
+    /**
+     * <pre>
+     * số sản phẩm tối đa trả về (SearchProduct: top-N), 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 max_results = 4;</code>
+     * @param value The maxResults to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMaxResults(int value) {
+      
+      maxResults_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * số sản phẩm tối đa trả về (SearchProduct: top-N), 0 = mặc định
+     * </pre>
+     *
+     * <code>int32 max_results = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMaxResults() {
+      
+      maxResults_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList fields_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureFieldsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        fields_ = new com.google.protobuf.LazyStringArrayList(fields_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @return A list containing the fields.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFieldsList() {
+      return fields_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @return The count of fields.
+     */
+    public int getFieldsCount() {
+      return fields_.size();
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @param index The index of the element to return.
+     * @return The fields at the given index.
+     */
+    public java.lang.String getFields(int index) {
+      return fields_.get(index);
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the fields at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFieldsBytes(int index) {
+      return fields_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @param index The index to set the value at.
+     * @param value The fields to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFields(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFieldsIsMutable();
+      fields_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @param value The fields to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFields(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFieldsIsMutable();
+      fields_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @param values The fields to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllFields(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureFieldsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, fields_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFields() {
+      fields_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+     * </pre>
+     *
+     * <code>repeated string fields = 5;</code>
+     * @param value The bytes of the fields to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFieldsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureFieldsIsMutable();
+      fields_.add(value);
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -33,4 +33,65 @@ public interface SearchProductRequestOrBuilder extends
    * <code>.ecommerce.common.Metadata metadata = 2;</code>
    */
   com.ecommerce.grpc.common.MetadataOrBuilder getMetadataOrBuilder();
+
+  /**
+   * <pre>
+   * SearchProductStream: số sản phẩm mỗi chunk, 0 = mặc định
+   * </pre>
+   *
+   * <code>int32 page_size = 3;</code>
+   * @return The pageSize.
+   */
+  int getPageSize();
+
+  /**
+   * <pre>
+   * số sản phẩm tối đa trả về (SearchProduct: top-N), 0 = mặc định
+   * </pre>
+   *
+   * <code>int32 max_results = 4;</code>
+   * @return The maxResults.
+   */
+  int getMaxResults();
+
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @return A list containing the fields.
+   */
+  java.util.List<java.lang.String>
+      getFieldsList();
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @return The count of fields.
+   */
+  int getFieldsCount();
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @param index The index of the element to return.
+   * @return The fields at the given index.
+   */
+  java.lang.String getFields(int index);
+  /**
+   * <pre>
+   * tên field của ProductSummary cần trả (vd. id, name, price), rỗng = tất cả
+   * </pre>
+   *
+   * <code>repeated string fields = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the fields at the given index.
+   */
+  com.google.protobuf.ByteString
+      getFieldsBytes(int index);
 }
@@ -0,0 +1,181 @@
+package com.ecommerce.product.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidation index: ghi nhận cache entry nào (trang danh sách, kết quả tìm kiếm, ...)
+ * chứa những product id nào, để khi product X thay đổi chỉ xóa các entry chứa X
+ * thay vì xóa toàn bộ cache (allEntries = true).
+ */
+@Slf4j
+public class CacheInvalidationIndex {
+
+    record EntryRef(String cacheName, Object key) {
+    }
+
+    private final Map<String, Set<EntryRef>> entriesByTag = new ConcurrentHashMap<>();
+    private final Map<EntryRef, Set<String>> tagsByEntry = new ConcurrentHashMap<>();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    // Cache nằm ngoài CacheManager (vd. ProductSummaryProtoCache) nhận product id khi product bị invalidate
+    private final List<Consumer<String>> productEvictionListeners = new CopyOnWriteArrayList<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public CacheInvalidationIndex(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("cache.invalidation.index.tags", entriesByTag, Map::size)
+                .description("Number of tags tracked by the cache invalidation index")
+                .register(meterRegistry);
+        Gauge.builder("cache.invalidation.index.entries", tagsByEntry, Map::size)
+                .description("Number of cache entries tracked by the cache invalidation index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evict every cached entry that contains the given product.
+     */
+    public int evictProduct(String productId) {
+        return evictTag(CacheTags.product(productId));
+    }
+
+    /**
+     * Evict every cached entry that contains the given product once the current transaction commits,
+     * see {@link #evictTagAfterCommit}.
+     */
+    public void evictProductAfterCommit(String productId) {
+        evictTagAfterCommit(CacheTags.product(productId));
+    }
+
+    /**
+     * Evict the entries carrying the given tag after the current transaction commits, or right away outside
+     * a transaction. Evicting before commit lets a concurrent reader load the old row and cache it again.
+     */
+    public void evictTagAfterCommit(String tag) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictTag(tag);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictTag(tag);
+            }
+        });
+    }
+
+    /**
+     * Call {@code listener} with the product id every time a product tag is evicted, for caches that are not
+     * managed by the cache manager and so are not tracked by this index.
+     */
+    public void addProductEvictionListener(Consumer<String> listener) {
+        productEvictionListeners.add(listener);
+    }
+
+    /**
+     * Evict every cached entry carrying the given tag and return the fan-out (number of entries evicted).
+     */
+    public int evictTag(String tag) {
+        String productId = CacheTags.productIdOf(tag);
+        if (productId != null) {
+            productEvictionListeners.forEach(listener -> listener.accept(productId));
+        }
+
+        Set<EntryRef> refs = entriesByTag.get(tag);
+        List<EntryRef> snapshot = refs != null ? new ArrayList<>(refs) : List.of();
+
+        for (EntryRef ref : snapshot) {
+            Cache cache = caches.get(ref.cacheName());
+            if (cache != null) {
+                cache.evict(ref.key());
+            }
+            unregister(ref.cacheName(), ref.key());
+
+            Counter.builder("cache.invalidation.evictions")
+                    .description("Cache entries evicted through the invalidation index")
+                    .tag("cache", ref.cacheName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        DistributionSummary.builder("cache.invalidation.fanout")
+                .description("Number of cache entries evicted per invalidation")
+                .tag("type", CacheTags.typeOf(tag))
+                .register(meterRegistry)
+                .record(snapshot.size());
+
+        log.debug("Invalidated tag {}: {} cache entries evicted", tag, snapshot.size());
+        return snapshot.size();
+    }
+
+    /**
+     * Caffeine eviction listener (size/expiry) keeping the index in sync with the native cache.
+     */
+    public RemovalListener<Object, Object> evictionListener(String cacheName) {
+        return (key, value, cause) -> unregister(cacheName, key);
+    }
+
+    void registerCache(Cache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    void register(String cacheName, Object key, Object value) {
+        Set<String> tags = CacheTags.resolve(cacheName, key, value);
+        EntryRef ref = new EntryRef(cacheName, key);
+
+        unregister(cacheName, key);
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        tagsByEntry.put(ref, tags);
+        for (String tag : tags) {
+            entriesByTag.compute(tag, (t, refs) -> {
+                Set<EntryRef> result = refs != null ? refs : ConcurrentHashMap.newKeySet();
+                result.add(ref);
+                return result;
+            });
+        }
+    }
+
+    void unregister(String cacheName, Object key) {
+        EntryRef ref = new EntryRef(cacheName, key);
+        Set<String> tags = tagsByEntry.remove(ref);
+        if (tags == null) {
+            return;
+        }
+
+        for (String tag : tags) {
+            entriesByTag.computeIfPresent(tag, (t, refs) -> {
+                refs.remove(ref);
+                return refs.isEmpty() ? null : refs;
+            });
+        }
+    }
+
+    void unregisterAll(String cacheName) {
+        for (EntryRef ref : new ArrayList<>(tagsByEntry.keySet())) {
+            if (ref.cacheName().equals(cacheName)) {
+                unregister(ref.cacheName(), ref.key());
+            }
+        }
+    }
+}
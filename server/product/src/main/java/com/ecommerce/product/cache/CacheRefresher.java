@@ -0,0 +1,138 @@
+package com.ecommerce.product.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Worker pool cho refresh-ahead: nhận yêu cầu làm mới các entry đã quá soft TTL,
+ * bỏ trùng theo (cache, key), ưu tiên entry được truy cập nhiều nhất và giới hạn số việc chờ.
+ * Khi hàng đợi đầy, yêu cầu bị bỏ qua - entry sẽ được load lại đồng bộ khi quá hard TTL.
+ * Mỗi cache cần một loader đăng ký qua {@link #registerLoader}: không dùng lại Callable của cache aspect,
+ * vì nó gắn với method invocation đã kết thúc và bỏ qua transaction cùng các interceptor khác.
+ */
+@Slf4j
+public class CacheRefresher implements DisposableBean {
+
+    private record RefreshKey(String cacheName, Object key) {
+    }
+
+    private final class RefreshTask implements Runnable, Comparable<RefreshTask> {
+
+        private final RefreshKey refreshKey;
+        private final long accessCount;
+        private final Runnable refresh;
+
+        private RefreshTask(RefreshKey refreshKey, long accessCount, Runnable refresh) {
+            this.refreshKey = refreshKey;
+            this.accessCount = accessCount;
+            this.refresh = refresh;
+        }
+
+        @Override
+        public void run() {
+            try {
+                refresh.run();
+                count(refreshKey.cacheName(), "refreshed");
+            } catch (RuntimeException e) {
+                count(refreshKey.cacheName(), "failed");
+                log.warn("Refresh-ahead failed for cache {} key {}: {}",
+                        refreshKey.cacheName(), refreshKey.key(), e.getMessage());
+            } finally {
+                pending.remove(refreshKey);
+            }
+        }
+
+        @Override
+        public int compareTo(RefreshTask other) {
+            // Entry được truy cập nhiều hơn chạy trước
+            return Long.compare(other.accessCount, accessCount);
+        }
+    }
+
+    private final Duration softTtl;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final Set<RefreshKey> pending = ConcurrentHashMap.newKeySet();
+    private final Map<String, Function<Object, ?>> loaders = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CacheRefresher(Duration softTtl, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.softTtl = softTtl;
+        this.queueCapacity = queueCapacity;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("cache.refresh.queue", executor, e -> e.getQueue().size())
+                .description("Refresh-ahead tasks waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    public Duration getSoftTtl() {
+        return softTtl;
+    }
+
+    /**
+     * Register how entries of a cache are reloaded from their cache key. The loader runs on a refresher thread,
+     * so it must open its own transaction. Caches without a loader are not refreshed ahead.
+     */
+    public void registerLoader(String cacheName, Function<Object, ?> loader) {
+        loaders.put(cacheName, loader);
+    }
+
+    Function<Object, ?> loaderOf(String cacheName) {
+        return loaders.get(cacheName);
+    }
+
+    /**
+     * Schedule a background refresh of the given entry unless one is already pending.
+     */
+    void schedule(String cacheName, Object key, long accessCount, Runnable refresh) {
+        RefreshKey refreshKey = new RefreshKey(cacheName, key);
+        if (!pending.add(refreshKey)) {
+            return;
+        }
+        if (executor.getQueue().size() >= queueCapacity) {
+            pending.remove(refreshKey);
+            count(cacheName, "rejected");
+            return;
+        }
+
+        executor.execute(new RefreshTask(refreshKey, accessCount, refresh));
+        count(cacheName, "scheduled");
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("cache.refresh")
+                .description("Refresh-ahead requests by outcome")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
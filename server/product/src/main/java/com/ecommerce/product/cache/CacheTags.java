@@ -0,0 +1,101 @@
+package com.ecommerce.product.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.ecommerce.product.dto.PagedResponseDTO;
+import com.ecommerce.product.dto.ProductDetailDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+
+/**
+ * Tag dùng cho invalidation index: mỗi cache entry được gắn các tag
+ * (ví dụ "product:{id}") để có thể xóa chính xác các entry liên quan.
+ */
+public final class CacheTags {
+
+    private static final String PRODUCT = "product";
+    private static final String PRODUCT_REVIEWS = "reviews:product";
+    private static final String USER_REVIEWS = "reviews:user";
+
+    private CacheTags() {
+    }
+
+    public static String product(String productId) {
+        return PRODUCT + ":" + productId;
+    }
+
+    public static String reviewsOfProduct(String productId) {
+        return PRODUCT_REVIEWS + ":" + productId;
+    }
+
+    public static String reviewsOfUser(String userId) {
+        return USER_REVIEWS + ":" + userId;
+    }
+
+    /**
+     * Product id of a {@link #product} tag, null for other tags.
+     */
+    static String productIdOf(String tag) {
+        return tag.startsWith(PRODUCT + ":") ? tag.substring(PRODUCT.length() + 1) : null;
+    }
+
+    /**
+     * Tag type without the id part, used as a low-cardinality metric tag.
+     */
+    static String typeOf(String tag) {
+        int separator = tag.lastIndexOf(':');
+        return separator > 0 ? tag.substring(0, separator) : tag;
+    }
+
+    /**
+     * Resolve tags of a cache entry from its cache name, key and cached value.
+     */
+    static Set<String> resolve(String cacheName, Object key, Object value) {
+        switch (cacheName) {
+            case "reviewsByProduct":
+                return firstKeyPart(key).map(id -> Set.of(reviewsOfProduct(id))).orElse(Collections.emptySet());
+            case "reviewsByUser":
+                return firstKeyPart(key).map(id -> Set.of(reviewsOfUser(id))).orElse(Collections.emptySet());
+            default:
+                return productTags(value);
+        }
+    }
+
+    private static Set<String> productTags(Object value) {
+        if (value instanceof ProductSummaryDTO summary) {
+            return Set.of(product(summary.getId()));
+        }
+        if (value instanceof ProductDetailDTO detail) {
+            return Set.of(product(detail.getId()));
+        }
+
+        List<?> items = null;
+        if (value instanceof PagedResponseDTO<?> paged) {
+            items = paged.getContent();
+        } else if (value instanceof List<?> list) {
+            items = list;
+        }
+        if (items == null || items.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> tags = new HashSet<>(items.size() * 2);
+        for (Object item : items) {
+            if (item instanceof ProductSummaryDTO summary && summary.getId() != null) {
+                tags.add(product(summary.getId()));
+            }
+        }
+        return tags;
+    }
+
+    // Key dạng {#productId, #page, ...} được SpEL tạo thành List
+    private static Optional<String> firstKeyPart(Object key) {
+        if (key instanceof List<?> parts && !parts.isEmpty() && parts.get(0) != null) {
+            return Optional.of(parts.get(0).toString());
+        }
+        return key != null ? Optional.of(key.toString()) : Optional.empty();
+    }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce.product.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheOperationInvoker.ThrowableWrapper;
+
+import com.ecommerce.product.dto.PagedResponseDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache decorator gộp các lần miss đồng thời trên cùng một key (single-flight):
+ * chỉ một request chạy valueLoader, các request còn lại chờ chung kết quả đó.
+ * Dùng cho các phương thức {@code @Cacheable(sync = true)}.
+ *
+ * Kết quả rỗng (null, trang không có sản phẩm) vẫn được trả cho các request đang chờ
+ * nhưng không được lưu vào cache - thay cho điều kiện {@code unless} không dùng được khi sync = true.
+ */
+public class CoalescingCache implements Cache {
+
+    private final Cache delegate;
+    private final Map<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Counter coalescedWaiters;
+    private final Timer storedLoads;
+    private final Timer skippedLoads;
+    private final Timer failedLoads;
+
+    public CoalescingCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        String cacheName = delegate.getName();
+        this.coalescedWaiters = Counter.builder("cache.load.coalesced")
+                .description("Cache misses that waited on an in-flight load of the same key")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        this.storedLoads = loadTimer(meterRegistry, cacheName, "stored");
+        this.skippedLoads = loadTimer(meterRegistry, cacheName, "skipped");
+        this.failedLoads = loadTimer(meterRegistry, cacheName, "failed");
+
+        Gauge.builder("cache.load.in-flight", inFlightLoads, Map::size)
+                .description("Cache loads currently in flight")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Timer.builder("cache.load.latency")
+                .description("Latency of cache loads (value loader execution)")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            coalescedWaiters.increment();
+            return (T) awaitLoad(key, valueLoader, inFlight);
+        }
+
+        return runLoad(key, load, () -> {
+            // Một request khác có thể vừa load xong trước khi ta giành được slot
+            ValueWrapper current = delegate.get(key);
+            return current != null ? (T) current.get() : load(key, valueLoader);
+        });
+    }
+
+    /**
+     * Reload an entry that is still cached (refresh-ahead). The current value keeps being served
+     * until the new one is stored; misses on the same key in the meantime join this load.
+     *
+     * @return false if a load of the key was already in flight
+     */
+    public boolean refresh(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(key, load) != null) {
+            return false;
+        }
+        runLoad(key, load, () -> load(key, valueLoader));
+        return true;
+    }
+
+    private <T> T runLoad(Object key, CompletableFuture<Object> load, Supplier<T> loader) {
+        try {
+            T value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e instanceof ValueRetrievalException && e.getCause() != null ? e.getCause() : e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            failedLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (isEmpty(value)) {
+            skippedLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } else {
+            delegate.put(key, value);
+            storedLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return value;
+    }
+
+    private Object awaitLoad(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, new ThrowableWrapper(e));
+        } catch (ExecutionException | CompletionException e) {
+            // CacheAspectSupport yêu cầu cause là ThrowableWrapper (giống lỗi từ chính loader)
+            Throwable cause = e.getCause();
+            throw new ValueRetrievalException(key, valueLoader,
+                    cause instanceof ThrowableWrapper ? cause : new ThrowableWrapper(cause));
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof PagedResponseDTO<?> paged) {
+            return paged.getContent() == null || paged.getContent().isEmpty();
+        }
+        return value instanceof Collection<?> collection && collection.isEmpty();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.product.cache;
+
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+
+import com.ecommerce.product.dto.BrandDTO;
+import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.ImageDTO;
+import com.ecommerce.product.dto.PagedResponseDTO;
+import com.ecommerce.product.dto.ProductDetailDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.dto.ReviewDTO;
+import com.ecommerce.product.dto.SellerDTO;
+import com.ecommerce.product.dto.SpecificationDTO;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weigher ước lượng số byte mà một cache entry giữ trên heap (64-bit JVM, compressed oops),
+ * để giới hạn cache theo ngân sách bộ nhớ thay vì số entry.
+ * Chỉ là ước lượng theo cấu trúc DTO, không phải phép đo chính xác.
+ */
+public class EstimatedSizeWeigher implements Weigher<Object, Object> {
+
+    private static final long OBJECT_HEADER = 16;
+    private static final long REFERENCE = 4;
+    private static final long STRING_OVERHEAD = 40;
+    private static final long BIG_DECIMAL = 40;
+    private static final long BOXED = 16;
+    private static final long TEMPORAL = 48;
+    private static final long LIST_OVERHEAD = 40;
+    // Node của Caffeine (key, value, thời gian ghi, liên kết LRU/TinyLFU)
+    private static final long ENTRY_OVERHEAD = 96;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = ENTRY_OVERHEAD + estimate(key) + estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String s) {
+            // Chuỗi tiếng Việt có dấu được lưu dạng UTF-16
+            return STRING_OVERHEAD + 2L * s.length();
+        }
+        if (value instanceof BigDecimal) {
+            return BIG_DECIMAL;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return BOXED;
+        }
+        if (value instanceof Temporal) {
+            return TEMPORAL;
+        }
+        if (value instanceof Collection<?> items) {
+            long bytes = LIST_OVERHEAD + REFERENCE * items.size();
+            for (Object item : items) {
+                bytes += estimate(item);
+            }
+            return bytes;
+        }
+        if (value instanceof PagedResponseDTO<?> paged) {
+            return OBJECT_HEADER + 32 + estimate(paged.getContent());
+        }
+        if (value instanceof ProductSummaryDTO p) {
+            return OBJECT_HEADER + 13 * REFERENCE
+                    + sum(p.getId(), p.getName(), p.getShortDescription(), p.getPrice(), p.getOriginalPrice(),
+                            p.getRatingAverage(), p.getReviewCount(), p.getInventoryStatus(), p.getQuantitySold(),
+                            p.getBrand(), p.getSeller(), p.getImages(), p.getCategories());
+        }
+        if (value instanceof ProductDetailDTO p) {
+            return OBJECT_HEADER + 20 * REFERENCE
+                    + sum(p.getId(), p.getName(), p.getShortDescription(), p.getPrice(), p.getOriginalPrice(),
+                            p.getDescription(), p.getRatingAverage(), p.getReviewCount(), p.getInventoryStatus(),
+                            p.getAllTimeQuantitySold(), p.getQuantitySold(), p.getCreatedAt(), p.getUpdatedAt(),
+                            p.getBrand(), p.getSeller(), p.getImages(), p.getSpecifications(), p.getCategories(),
+                            p.getReviews());
+        }
+        if (value instanceof ReviewDTO r) {
+            return OBJECT_HEADER + 8 * REFERENCE
+                    + sum(r.getId(), r.getUserId(), r.getRating(), r.getTitle(), r.getContent(),
+                            r.getHelpfulVotes(), r.getVerifiedPurchase(), r.getReviewDate());
+        }
+        if (value instanceof ImageDTO i) {
+            return OBJECT_HEADER + 3 * REFERENCE + sum(i.getId(), i.getUrl(), i.getPosition());
+        }
+        if (value instanceof CategoryDTO c) {
+            return OBJECT_HEADER + 5 * REFERENCE + sum(c.getId(), c.getName(), c.getUrl(), c.getParentId(), c.getLevel());
+        }
+        if (value instanceof BrandDTO b) {
+            return OBJECT_HEADER + 4 * REFERENCE + sum(b.getId(), b.getName(), b.getSlug(), b.getCountryOfOrigin());
+        }
+        if (value instanceof SellerDTO s) {
+            return OBJECT_HEADER + 3 * REFERENCE + sum(s.getId(), s.getName(), s.getIsOfficial());
+        }
+        if (value instanceof SpecificationDTO s) {
+            return OBJECT_HEADER + 4 * REFERENCE + sum(s.getId(), s.getSpecGroup(), s.getSpecName(), s.getSpecValue());
+        }
+        // Kiểu chưa biết: tính như một object nhỏ
+        return OBJECT_HEADER + 4 * REFERENCE;
+    }
+
+    private static long sum(Object... fields) {
+        long bytes = 0;
+        for (Object field : fields) {
+            bytes += estimate(field);
+        }
+        return bytes;
+    }
+}
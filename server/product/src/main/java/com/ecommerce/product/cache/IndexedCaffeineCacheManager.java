@@ -0,0 +1,64 @@
+package com.ecommerce.product.cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * CaffeineCacheManager tạo mỗi cache từ builder riêng theo tên cache (chính sách riêng, eviction listener)
+ * và bọc cache bằng {@link CoalescingCache} (single-flight khi miss) và {@link IndexedCache}
+ * (invalidation theo product id / tag). Các cache đăng ký refresh-ahead được bọc thêm {@link RefreshAheadCache}.
+ */
+public class IndexedCaffeineCacheManager extends CaffeineCacheManager {
+
+    private final Function<String, Caffeine<Object, Object>> cacheBuilder;
+    private final CacheInvalidationIndex invalidationIndex;
+    private final MeterRegistry meterRegistry;
+
+    private CacheRefresher refresher;
+    private Set<String> refreshAheadCacheNames = Set.of();
+
+    public IndexedCaffeineCacheManager(Function<String, Caffeine<Object, Object>> cacheBuilder,
+            CacheInvalidationIndex invalidationIndex, MeterRegistry meterRegistry) {
+        this.cacheBuilder = cacheBuilder;
+        this.invalidationIndex = invalidationIndex;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Serve the given caches stale-while-revalidate. Must be called before the caches are created.
+     */
+    public void setRefreshAhead(CacheRefresher refresher, Collection<String> cacheNames) {
+        this.refresher = refresher;
+        this.refreshAheadCacheNames = Set.copyOf(cacheNames);
+    }
+
+    @Override
+    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+        return cacheBuilder.apply(name)
+                .evictionListener(invalidationIndex.evictionListener(name))
+                .build();
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return decorate(super.adaptCaffeineCache(name, cache));
+    }
+
+    private Cache decorate(Cache cache) {
+        CoalescingCache coalescing = new CoalescingCache(cache, meterRegistry);
+        Cache loading = refresher != null && refreshAheadCacheNames.contains(cache.getName())
+                ? new RefreshAheadCache(coalescing, refresher, invalidationIndex)
+                : coalescing;
+        Cache indexed = new IndexedCache(loading, invalidationIndex);
+        invalidationIndex.registerCache(indexed);
+        return indexed;
+    }
+}
@@ -0,0 +1,174 @@
+package com.ecommerce.product.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kết quả tra tồn kho gần đây theo product id, đặt trước InventoryGrpcClient để tra lặp lại trong vài giây
+ * không phải gọi inventory service. Sản phẩm inventory service không biết cũng được nhớ (negative entry)
+ * với TTL riêng. Entry của sản phẩm bị bỏ khi nhận InventoryStatusUpdateEvent.
+ * Kết quả dự phòng (fallback) khi inventory service lỗi không được lưu.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryResultCache {
+
+    // status == null: inventory service không biết sản phẩm này
+    private record Entry(InventoryStatus status) {
+
+        boolean negative() {
+            return status == null;
+        }
+    }
+
+    private static final Entry MISSING = new Entry(null);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.inventory-result.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.inventory-result.positive-ttl-seconds:10}")
+    private long positiveTtlSeconds;
+
+    @Value("${cache.inventory-result.negative-ttl-seconds:60}")
+    private long negativeTtlSeconds;
+
+    @Value("${cache.inventory-result.maximum-size:50000}")
+    private long maximumSize;
+
+    // Tăng mỗi lần invalidate; invalidatedAt giữ giá trị lúc sản phẩm bị invalidate lần cuối.
+    // Kết quả của sản phẩm đó bắt đầu tra trước thời điểm này không được ghi vào cache, sản phẩm khác không ảnh hưởng.
+    private final AtomicLong generation = new AtomicLong();
+
+    // Chỉ cần giữ lâu hơn một lần tra tồn kho đang chạy
+    private final Cache<String, Long> invalidatedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    private Cache<String, Entry> results;
+
+    @PostConstruct
+    public void init() {
+        long positiveTtl = Duration.ofSeconds(positiveTtlSeconds).toNanos();
+        long negativeTtl = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String productId, Entry entry, long currentTime) {
+                        return entry.negative() ? negativeTtl : positiveTtl;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String productId, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(productId, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String productId, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "inventoryResults");
+        log.info("Inventory result cache: enabled={}, positive TTL {}s, negative TTL {}s, maximum size {}",
+                enabled, positiveTtlSeconds, negativeTtlSeconds, maximumSize);
+    }
+
+    /**
+     * Put the cached statuses of the given products into {@code found} and return the ids with no cached result.
+     * Products cached as unknown to the inventory service are in neither.
+     */
+    public List<String> lookup(Collection<String> productIds, Map<String, InventoryStatus> found) {
+        if (!enabled) {
+            return new ArrayList<>(productIds);
+        }
+        Map<String, Entry> present = results.getAllPresent(productIds);
+        List<String> misses = new ArrayList<>(productIds.size() - present.size());
+        for (String productId : productIds) {
+            Entry entry = present.get(productId);
+            if (entry == null) {
+                misses.add(productId);
+            } else if (!entry.negative()) {
+                found.put(productId, entry.status());
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * Cached status of the product: null when nothing is cached, {@link InventoryStatus#getDefaultInstance()}
+     * when the inventory service does not know the product.
+     */
+    public InventoryStatus getIfPresent(String productId) {
+        Entry entry = enabled && productId != null ? results.getIfPresent(productId) : null;
+        if (entry == null) {
+            return null;
+        }
+        return entry.negative() ? InventoryStatus.getDefaultInstance() : entry.status();
+    }
+
+    /**
+     * Token to pass to {@link #put} and {@link #putMissing}, taken before the inventory service is called.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(InventoryStatus status, long generation) {
+        putIfCurrent(status.getProductId(), new Entry(status), generation);
+    }
+
+    /**
+     * Remember that the inventory service does not know the product.
+     */
+    public void putMissing(String productId, long generation) {
+        putIfCurrent(productId, MISSING, generation);
+    }
+
+    // Kiểm tra và ghi trong compute của cùng key: invalidate chạy song song không thể chen giữa hai bước
+    private void putIfCurrent(String productId, Entry entry, long generation) {
+        if (!enabled) {
+            return;
+        }
+        results.asMap().compute(productId, (key, current) -> {
+            Long invalidated = invalidatedAt.getIfPresent(key);
+            return invalidated != null && invalidated > generation ? current : entry;
+        });
+    }
+
+    public void invalidate(String productId) {
+        if (productId == null) {
+            return;
+        }
+        invalidatedAt.put(productId, generation.incrementAndGet());
+        results.invalidate(productId);
+    }
+
+    public long size() {
+        return results.estimatedSize();
+    }
+}
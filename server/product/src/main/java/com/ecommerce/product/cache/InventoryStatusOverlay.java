@@ -0,0 +1,150 @@
+package com.ecommerce.product.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.product.dto.ProductDetailDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Trạng thái tồn kho mới nhất theo product id, cập nhật từ event inventory.status.updated.
+ * Được ghép vào DTO lúc trả response nên các cache sản phẩm (TTL dài) không cần evict mỗi khi tồn kho đổi.
+ * Khi một entry hết hạn hoặc bị đẩy ra, các cache của sản phẩm đó mới bị evict một lần
+ * để DTO load lại từ DB với trạng thái đã được lưu.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryStatusOverlay {
+
+    private record StatusEntry(String status, LocalDateTime updatedAt) {
+    }
+
+    private final CacheInvalidationIndex cacheInvalidationIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.inventory-status.expire-after-write-minutes:10}")
+    private long expireAfterWriteMinutes;
+
+    @Value("${cache.inventory-status.maximum-size:100000}")
+    private long maximumSize;
+
+    private Cache<String, StatusEntry> statuses;
+
+    @PostConstruct
+    public void init() {
+        statuses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .maximumSize(maximumSize)
+                // Hết hạn đúng lúc thay vì đợi lần truy cập sau, để evict cache sản phẩm kịp thời
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Record a status change. Events older than the known status for the product are ignored.
+     */
+    public void update(String productId, String status, LocalDateTime updatedAt) {
+        if (productId == null || status == null) {
+            return;
+        }
+        LocalDateTime timestamp = updatedAt != null ? updatedAt : LocalDateTime.now();
+        statuses.asMap().merge(productId, new StatusEntry(status, timestamp),
+                (current, next) -> next.updatedAt().isBefore(current.updatedAt()) ? current : next);
+    }
+
+    /**
+     * Latest known status of the product, or null when no recent change was received.
+     */
+    public String statusOf(String productId) {
+        StatusEntry entry = productId != null ? statuses.getIfPresent(productId) : null;
+        return entry != null ? entry.status() : null;
+    }
+
+    /**
+     * The given detail with the latest status. Cached DTOs are shared, so a copy is returned when the status differs.
+     */
+    public ProductDetailDTO apply(ProductDetailDTO detail) {
+        if (detail == null) {
+            return null;
+        }
+        String status = statusOf(detail.getId());
+        if (status == null || status.equals(detail.getInventoryStatus())) {
+            return detail;
+        }
+        count("detail");
+        return detail.toBuilder().inventoryStatus(status).build();
+    }
+
+    public ProductSummaryDTO apply(ProductSummaryDTO summary) {
+        if (summary == null) {
+            return null;
+        }
+        String status = statusOf(summary.getId());
+        if (status == null || status.equals(summary.getInventoryStatus())) {
+            return summary;
+        }
+        count("summary");
+        return summary.toBuilder().inventoryStatus(status).build();
+    }
+
+    /**
+     * The given summaries with the latest statuses; the same list is returned when nothing changed.
+     */
+    public List<ProductSummaryDTO> apply(List<ProductSummaryDTO> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            return summaries;
+        }
+        List<ProductSummaryDTO> result = null;
+        for (int i = 0; i < summaries.size(); i++) {
+            ProductSummaryDTO summary = summaries.get(i);
+            ProductSummaryDTO overlaid = apply(summary);
+            if (overlaid != summary && result == null) {
+                result = new ArrayList<>(summaries);
+            }
+            if (result != null) {
+                result.set(i, overlaid);
+            }
+        }
+        return result != null ? result : summaries;
+    }
+
+    public long size() {
+        return statuses.estimatedSize();
+    }
+
+    private void onRemoval(String productId, StatusEntry entry, RemovalCause cause) {
+        if (productId == null || cause == RemovalCause.REPLACED || cause == RemovalCause.EXPLICIT) {
+            return;
+        }
+        // DTO cache còn trạng thái cũ, bỏ đi để lần sau load trạng thái đã lưu trong DB
+        int evicted = cacheInvalidationIndex.evictProduct(productId);
+        log.debug("Inventory status overlay for product {} dropped ({}), evicted {} cached entries",
+                productId, cause, evicted);
+    }
+
+    private void count(String target) {
+        Counter.builder("cache.inventory-status.overlay")
+                .description("DTOs whose inventory status was replaced by a newer event")
+                .tag("target", target)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.product.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.ecommerce.grpc.inventory.InventoryStatusChange;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bảng trạng thái tồn kho của mọi sản phẩm, được inventory service đẩy về qua SubscribeInventoryStatus.
+ * Chỉ dùng để trả lời tra cứu khi bảng đã đầy đủ (nhận xong snapshot) và stream đang kết nối;
+ * ngoài lúc đó caller gọi inventory service như bình thường.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryStatusTable {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, InventoryStatus> statuses = new ConcurrentHashMap<>();
+
+    private volatile long version;
+    private volatile boolean complete;
+    private volatile boolean live;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("inventory.status-table.size", statuses, Map::size)
+                .description("Products in the pushed inventory status table")
+                .register(meterRegistry);
+        Gauge.builder("inventory.status-table.live", this, table -> table.isServing() ? 1 : 0)
+                .description("Whether lookups are answered from the pushed inventory status table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Apply one pushed change, in stream order.
+     */
+    public void apply(InventoryStatusChange change) {
+        statuses.put(change.getProductId(), InventoryStatus.newBuilder()
+                .setProductId(change.getProductId())
+                .setAvailable(change.getAvailable())
+                .setAvailableQuantity(change.getAvailableQuantity())
+                .setStatus(change.getStatus())
+                .build());
+        if (change.getVersion() > version) {
+            version = change.getVersion();
+        }
+    }
+
+    /**
+     * The stream could not resume: drop everything until the next snapshot is complete.
+     */
+    public void reset() {
+        complete = false;
+        statuses.clear();
+        version = 0;
+    }
+
+    public void snapshotComplete(long snapshotVersion) {
+        version = Math.max(version, snapshotVersion);
+        if (!complete) {
+            log.info("Inventory status table complete: {} products at version {}", statuses.size(), version);
+        }
+        complete = true;
+    }
+
+    public void setLive(boolean live) {
+        if (this.live != live) {
+            log.info("Inventory status table {}", live ? "live" : "no longer live, lookups go to the inventory service");
+        }
+        this.live = live;
+    }
+
+    /**
+     * Version to resume the subscription from, 0 when a full snapshot is needed.
+     */
+    public long resumeVersion() {
+        return complete ? version : 0;
+    }
+
+    public boolean isServing() {
+        return live && complete;
+    }
+
+    /**
+     * Put the statuses of the given products into {@code found} and return the ids the table cannot answer.
+     * While serving, products missing from the table are unknown to the inventory service and are not returned.
+     */
+    public List<String> lookup(Collection<String> productIds, Map<String, InventoryStatus> found) {
+        if (!isServing()) {
+            return new ArrayList<>(productIds);
+        }
+        for (String productId : productIds) {
+            InventoryStatus status = statuses.get(productId);
+            if (status != null) {
+                found.put(productId, status);
+            }
+        }
+        return List.of();
+    }
+
+    public int size() {
+        return statuses.size();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.product.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.product.dto.ProductFilterDTO;
+import com.ecommerce.product.dto.ProductListing;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.specification.ProductSpecification;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tổng số sản phẩm gần đúng cho mỗi (loại danh sách, filter): COUNT chạy ở background
+ * và được làm mới định kỳ, request không bao giờ phải chờ COUNT.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCountCache {
+
+    public static final long UNKNOWN = -1;
+
+    private record CountKey(ProductListing listing, ProductFilterDTO filter) {
+    }
+
+    private final ProductRepository productRepository;
+
+    @Value("${cache.product-count.refresh-after-write-minutes:5}")
+    private long refreshAfterWriteMinutes;
+
+    @Value("${cache.product-count.expire-after-access-minutes:60}")
+    private long expireAfterAccessMinutes;
+
+    @Value("${cache.product-count.maximum-size:2000}")
+    private long maximumSize;
+
+    private AsyncLoadingCache<CountKey, Long> counts;
+
+    @PostConstruct
+    public void init() {
+        counts = Caffeine.newBuilder()
+                .refreshAfterWrite(Duration.ofMinutes(refreshAfterWriteMinutes))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .buildAsync(this::count);
+    }
+
+    /**
+     * Last known total of the listing, or {@link #UNKNOWN} while the first count is still running.
+     * A count older than the refresh interval is returned as is and recomputed in the background.
+     */
+    public long getApproximateTotal(ProductListing listing, ProductFilterDTO filter) {
+        CompletableFuture<Long> total = counts.get(new CountKey(listing, filter));
+        if (total.isDone() && !total.isCompletedExceptionally()) {
+            return total.join();
+        }
+        return UNKNOWN;
+    }
+
+    private long count(CountKey key) {
+        long start = System.currentTimeMillis();
+        long total = productRepository.count(ProductSpecification.forListing(key.listing(), key.filter()));
+        log.debug("Counted {} products for {} {} in {} ms", total, key.listing(), key.filter().getCacheKey(),
+                System.currentTimeMillis() - start);
+        return total;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.product.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.product.dto.ProductSummaryDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache fragment ProductSummaryDTO theo product id.
+ * Các trang danh sách chỉ cần lấy ID từ DB, phần hiển thị lấy từ cache,
+ * chỉ những sản phẩm bị miss mới phải enrich (images, brand, seller, categories).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSummaryCache {
+
+    public static final String CACHE_NAME = "productSummaries";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Get fragments for the given ids, loading all misses with a single call to {@code missLoader}.
+     * Result keeps the order of {@code productIds}; ids that cannot be loaded are skipped.
+     * Returned DTOs are copies, so callers may overlay fields (e.g. inventory status) freely.
+     */
+    public List<ProductSummaryDTO> getAll(List<String> productIds,
+            Function<List<String>, List<ProductSummaryDTO>> missLoader) {
+        if (productIds == null || productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        Set<String> distinctIds = new LinkedHashSet<>(productIds);
+        Map<String, ProductSummaryDTO> fragments = new HashMap<>(distinctIds.size() * 2);
+        List<String> misses = new ArrayList<>();
+
+        for (String id : distinctIds) {
+            ProductSummaryDTO fragment = cache != null ? cache.get(id, ProductSummaryDTO.class) : null;
+            if (fragment != null) {
+                fragments.put(id, fragment);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (ProductSummaryDTO loaded : missLoader.apply(misses)) {
+                fragments.put(loaded.getId(), loaded);
+                if (cache != null) {
+                    cache.put(loaded.getId(), loaded);
+                }
+            }
+        }
+
+        log.debug("Product summary fragments: {} requested, {} hits, {} misses",
+                distinctIds.size(), distinctIds.size() - misses.size(), misses.size());
+
+        List<ProductSummaryDTO> result = new ArrayList<>(distinctIds.size());
+        for (String id : distinctIds) {
+            ProductSummaryDTO fragment = fragments.get(id);
+            if (fragment != null) {
+                result.add(fragment.toBuilder().build());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.product.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.grpc.product.ProductSummary;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.grpc.mapper.GrpcMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductSummary protobuf đã dựng sẵn theo product id, để response gRPC dùng lại message bất biến
+ * thay vì dựng lại brand, images, categories từ DTO mỗi lần.
+ * Entry chỉ được dùng khi DTO nguồn không đổi (so sánh mọi field trừ inventory status); DTO lấy từ
+ * {@link ProductSummaryCache} dùng chung list và object con nên phép so sánh gần như chỉ so tham chiếu.
+ * Inventory status thay đổi thường xuyên nên được vá riêng lên message đã cache.
+ * Entry bị bỏ khi product bị invalidate qua {@link CacheInvalidationIndex}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSummaryProtoCache {
+
+    // source: DTO đã dùng để dựng message, đóng vai trò version của entry
+    private record Entry(ProductSummaryDTO source, ProductSummary message) {
+    }
+
+    private final GrpcMapper grpcMapper;
+    private final MeterRegistry meterRegistry;
+    private final CacheInvalidationIndex cacheInvalidationIndex;
+
+    @Value("${cache.product-summary-proto.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.product-summary-proto.expire-after-access-minutes:30}")
+    private long expireAfterAccessMinutes;
+
+    @Value("${cache.product-summary-proto.maximum-size:50000}")
+    private long maximumSize;
+
+    private Cache<String, Entry> messages;
+
+    @PostConstruct
+    public void init() {
+        messages = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, messages, "productSummaryProtos");
+        cacheInvalidationIndex.addProductEvictionListener(this::invalidate);
+        log.info("Product summary proto cache: enabled={}, maximum size {}", enabled, maximumSize);
+    }
+
+    public ProductSummary toProductSummaryProto(ProductSummaryDTO dto) {
+        if (!enabled || dto == null || dto.getId() == null) {
+            return grpcMapper.toProductSummaryProto(dto);
+        }
+
+        Entry entry = messages.getIfPresent(dto.getId());
+        if (entry == null || !sameSource(entry.source(), dto)) {
+            entry = new Entry(dto, grpcMapper.toProductSummaryProto(dto));
+            messages.put(dto.getId(), entry);
+        }
+
+        // Vá inventory status: toBuilder() chỉ chép tham chiếu tới brand, images, categories
+        String status = dto.getInventoryStatus() != null ? dto.getInventoryStatus() : "";
+        ProductSummary message = entry.message();
+        return status.equals(message.getInventoryStatus())
+                ? message
+                : message.toBuilder().setInventoryStatus(status).build();
+    }
+
+    public List<ProductSummary> toProductSummaryList(List<ProductSummaryDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<ProductSummary> result = new ArrayList<>(dtos.size());
+        for (ProductSummaryDTO dto : dtos) {
+            result.add(toProductSummaryProto(dto));
+        }
+        return result;
+    }
+
+    public void invalidate(String productId) {
+        if (productId != null) {
+            messages.invalidate(productId);
+        }
+    }
+
+    public long size() {
+        return messages.estimatedSize();
+    }
+
+    // Mọi field GrpcMapper dùng, trừ inventory status
+    private static boolean sameSource(ProductSummaryDTO cached, ProductSummaryDTO dto) {
+        return cached == dto
+                || Objects.equals(cached.getName(), dto.getName())
+                        && Objects.equals(cached.getShortDescription(), dto.getShortDescription())
+                        && Objects.equals(cached.getPrice(), dto.getPrice())
+                        && Objects.equals(cached.getOriginalPrice(), dto.getOriginalPrice())
+                        && Objects.equals(cached.getRatingAverage(), dto.getRatingAverage())
+                        && Objects.equals(cached.getReviewCount(), dto.getReviewCount())
+                        && Objects.equals(cached.getQuantitySold(), dto.getQuantitySold())
+                        && Objects.equals(cached.getBrand(), dto.getBrand())
+                        && Objects.equals(cached.getImages(), dto.getImages())
+                        && Objects.equals(cached.getCategories(), dto.getCategories());
+    }
+}
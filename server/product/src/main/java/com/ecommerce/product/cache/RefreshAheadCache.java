@@ -0,0 +1,147 @@
+package com.ecommerce.product.cache;
+
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache decorator stale-while-revalidate: entry quá soft TTL vẫn được trả ngay cho caller
+ * trong khi {@link CacheRefresher} load lại ở background; chỉ khi quá hard TTL
+ * (expireAfterWrite của cache) caller mới phải chờ load đồng bộ.
+ * Refresh dùng loader đăng ký trong {@link CacheRefresher} cho tên cache; cache chưa có loader chỉ hết hạn theo TTL.
+ */
+public class RefreshAheadCache implements Cache {
+
+    private final CoalescingCache delegate;
+    private final CacheRefresher refresher;
+    private final CacheInvalidationIndex invalidationIndex;
+    private final long softTtlNanos;
+
+    // Số lần truy cập mỗi key kể từ lần refresh gần nhất - dùng làm độ ưu tiên refresh
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LongAdder> accessCounts;
+
+    public RefreshAheadCache(CoalescingCache delegate, CacheRefresher refresher,
+            CacheInvalidationIndex invalidationIndex) {
+        this.delegate = delegate;
+        this.refresher = refresher;
+        this.invalidationIndex = invalidationIndex;
+        this.softTtlNanos = refresher.getSoftTtl().toNanos();
+        this.accessCounts = Caffeine.newBuilder()
+                .expireAfterAccess(refresher.getSoftTtl())
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached == null) {
+            return delegate.get(key, valueLoader);
+        }
+
+        Function<Object, ?> loader = refresher.loaderOf(getName());
+        if (loader == null) {
+            return (T) cached.get();
+        }
+        LongAdder accesses = accessCounts.get(key, k -> new LongAdder());
+        accesses.increment();
+        if (isStale(key)) {
+            refresher.schedule(getName(), key, accesses.sum(), () -> {
+                boolean refreshed = delegate.refresh(key, () -> {
+                    Object value = loader.apply(key);
+                    // Entry mới thay entry cũ: ghi lại tag như lúc load qua IndexedCache
+                    invalidationIndex.register(getName(), key, value);
+                    return value;
+                });
+                if (refreshed) {
+                    accessCounts.invalidate(key);
+                }
+            });
+        }
+        return (T) cached.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isStale(Object key) {
+        if (!(delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return false;
+        }
+        OptionalLong age = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).policy()
+                .expireAfterWrite()
+                .map(expiration -> expiration.ageOf(key, TimeUnit.NANOSECONDS))
+                .orElse(OptionalLong.empty());
+        return age.isPresent() && age.getAsLong() >= softTtlNanos;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        accessCounts.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        accessCounts.invalidate(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        accessCounts.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        accessCounts.invalidateAll();
+        return delegate.invalidate();
+    }
+}
@@ -1,60 +1,95 @@
 package com.ecommerce.product.config;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.CacheRefresher;
+import com.ecommerce.product.cache.EstimatedSizeWeigher;
+import com.ecommerce.product.cache.IndexedCaffeineCacheManager;
+import com.ecommerce.product.cache.ProductSummaryCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    private final CachePolicyConfig cachePolicyConfig;
+
+    @Value("${cache.refresh-ahead.cache-names:topSellingProducts,topRatedProducts,newArrivals,topSellingFiltered,topRatedFiltered,newArrivalsFiltered}")
+    private List<String> refreshAheadCacheNames;
+
+    @Value("${cache.refresh-ahead.soft-ttl-minutes:20}")
+    private long refreshAheadSoftTtlMinutes;
+
+    @Value("${cache.refresh-ahead.threads:2}")
+    private int refreshAheadThreads;
+
+    @Value("${cache.refresh-ahead.queue-capacity:100}")
+    private int refreshAheadQueueCapacity;
+
+    @Bean
+    public CacheInvalidationIndex cacheInvalidationIndex(MeterRegistry meterRegistry) {
+        return new CacheInvalidationIndex(meterRegistry);
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheRefresher cacheRefresher(MeterRegistry meterRegistry) {
+        return new CacheRefresher(Duration.ofMinutes(refreshAheadSoftTtlMinutes),
+                refreshAheadThreads, refreshAheadQueueCapacity, meterRegistry);
+    }
 
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(30, TimeUnit.MINUTES)
-                .maximumSize(500)
-                .recordStats());
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationIndex cacheInvalidationIndex, CacheRefresher cacheRefresher,
+            MeterRegistry meterRegistry) {
+        IndexedCaffeineCacheManager cacheManager = new IndexedCaffeineCacheManager(
+                this::cacheBuilder,
+                cacheInvalidationIndex,
+                meterRegistry);
 
-        cacheManager.setCacheNames(java.util.Arrays.asList(
+        // Trang chủ: trả entry cũ sau soft TTL và làm mới ở background, chỉ chặn caller sau hard TTL
+        cacheManager.setRefreshAhead(cacheRefresher, refreshAheadCacheNames);
+        cacheManager.setCacheNames(List.of(
                 "productById",
                 "productsByCategory",
                 "productsByBrand",
+                "productsByPriceRange",
                 "topSellingProducts",
                 "topRatedProducts",
                 "newArrivals",
                 "reviewsByProduct",
+                "reviewsByUser",
                 "allProducts",
-                        "filteredProducts",
+                "filteredProducts",
                 "searchResults",
                 "topSellingFiltered",
                 "topRatedFiltered",
-                "newArrivalsFiltered"
-            ));
+                "newArrivalsFiltered",
+                "productSlices",
+                // Fragment cache theo product id - dùng chung cho tất cả các trang danh sách
+                ProductSummaryCache.CACHE_NAME));
 
         return cacheManager;
     }
 
-    @Bean
-    public Caffeine<Object, Object> productByIdCaffeine() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(1, TimeUnit.HOURS)
-                .initialCapacity(100)
-                .maximumSize(1000);
-    }
-
-    @Bean
-    public Caffeine<Object, Object> productsByCategoryCaffeine() {
+    // Giới hạn theo byte ước lượng (EstimatedSizeWeigher) thay vì số entry
+    private Caffeine<Object, Object> cacheBuilder(String cacheName) {
+        CachePolicyConfig.Policy policy = cachePolicyConfig.policyOf(cacheName);
         return Caffeine.newBuilder()
-                .expireAfterWrite(15, TimeUnit.MINUTES)
-                .initialCapacity(50)
-                .maximumSize(200);
+                .expireAfterWrite(policy.getExpireAfterWriteMinutes(), TimeUnit.MINUTES)
+                .maximumWeight(policy.getMaximumBytes())
+                .weigher(new EstimatedSizeWeigher())
+                .recordStats();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.product.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Chính sách của từng cache (TTL, ngân sách bộ nhớ theo byte ước lượng).
+ * Cache không có cấu hình riêng dùng {@code cache.defaults}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+@Data
+public class CachePolicyConfig {
+
+    private Policy defaults = new Policy(30L, 8L * 1024 * 1024);
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private Long expireAfterWriteMinutes;
+        private Long maximumBytes;
+    }
+
+    /**
+     * Effective policy of a cache: its own settings, falling back to the defaults field by field.
+     */
+    public Policy policyOf(String cacheName) {
+        Policy policy = policies.get(cacheName);
+        if (policy == null) {
+            return defaults;
+        }
+        return new Policy(
+                policy.getExpireAfterWriteMinutes() != null ? policy.getExpireAfterWriteMinutes() : defaults.getExpireAfterWriteMinutes(),
+                policy.getMaximumBytes() != null ? policy.getMaximumBytes() : defaults.getMaximumBytes());
+    }
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.product.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ecommerce.product.repository.DeadlineAwareDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Wraps the data source so JDBC statements honour the deadline of the request they run for.
+     */
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor(
+            @Value("${product.datasource.deadline-aware.enabled:true}") boolean enabled,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof DeadlineAwareDataSource) {
+                    return bean;
+                }
+                return new DeadlineAwareDataSource(dataSource, () -> Counter.builder("jdbc.statements.abandoned")
+                        .description("Connections and statements not opened because the caller cancelled or timed out")
+                        .register(meterRegistry.getObject()));
+            }
+        };
+    }
+}
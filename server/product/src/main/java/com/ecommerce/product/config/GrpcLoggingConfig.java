@@ -0,0 +1,46 @@
+package com.ecommerce.product.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Log gRPC call theo từng method (tên method trong proto, ví dụ {@code GetProductsBatch}):
+ * call chậm hơn ngưỡng và call lỗi luôn được log, call bình thường chỉ log theo tỉ lệ lấy mẫu.
+ * Method không có cấu hình riêng dùng {@code grpc.server.logging.defaults}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "grpc.server.logging")
+@Data
+public class GrpcLoggingConfig {
+
+    private Policy defaults = new Policy(500L, 0.0);
+    private Map<String, Policy> methods = new LinkedHashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private Long slowCallThresholdMs;
+        private Double sampleRate;
+    }
+
+    /**
+     * Effective policy of a method: its own settings, falling back to the defaults field by field.
+     */
+    public Policy policyOf(String methodName) {
+        Policy policy = methods.get(methodName);
+        if (policy == null) {
+            return defaults;
+        }
+        return new Policy(
+                policy.getSlowCallThresholdMs() != null ? policy.getSlowCallThresholdMs() : defaults.getSlowCallThresholdMs(),
+                policy.getSampleRate() != null ? policy.getSampleRate() : defaults.getSampleRate());
+    }
+}
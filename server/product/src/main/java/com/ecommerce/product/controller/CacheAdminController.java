@@ -1,17 +1,21 @@
 package com.ecommerce.product.controller;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ecommerce.product.cache.CacheInvalidationIndex;
 import com.ecommerce.product.dto.ApiResponseDTO;
+import com.ecommerce.product.exception.ResourceNotFoundException;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CacheAdminController {
 
     private final CacheManager cacheManager;
+    private final CacheInvalidationIndex cacheInvalidationIndex;
     
     @GetMapping("/stats")
     @Operation(summary = "Get cache statistics", description = "Returns statistics for all caches")
@@ -38,10 +43,8 @@ public class CacheAdminController {
 
         Map<String, Object> stats = new HashMap<>();
         cacheManager.getCacheNames().forEach(cacheName -> {
-            CaffeineCache caffeineCache = (CaffeineCache) cacheManager.getCache(cacheName);
-            if (caffeineCache != null) {
-                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
-
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
                 if (nativeCache.stats() != null) {
                     CacheStats cacheStats = nativeCache.stats();
                     Map<String, Object> cacheInfo = new HashMap<>();
@@ -51,6 +54,7 @@ public class CacheAdminController {
                     cacheInfo.put("hitRate", cacheStats.hitRate());
                     cacheInfo.put("missRate", cacheStats.missRate());
                     cacheInfo.put("evictionCount", cacheStats.evictionCount());
+                    cacheInfo.putAll(policyInfo(nativeCache));
 
                     stats.put(cacheName, cacheInfo);
                 }
@@ -60,6 +64,44 @@ public class CacheAdminController {
         return ApiResponseDTO.success(stats, "Cache statistics retrieved successfully");
     }
 
+    @PutMapping("/policy/{cacheName}")
+    @Operation(summary = "Tune cache policy", description = "Resizes a cache (memory budget in estimated bytes) and/or changes its time to live at runtime")
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponseDTO<Map<String, Object>> updateCachePolicy(
+            @Parameter(description = "Cache name", required = true) @PathVariable String cacheName,
+            @Parameter(description = "Memory budget in estimated retained bytes") @RequestParam(required = false) Long maximumBytes,
+            @Parameter(description = "Time to live in minutes") @RequestParam(required = false) Long expireAfterWriteMinutes) {
+        log.debug("Updating cache policy: {} maximumBytes={} expireAfterWriteMinutes={}", cacheName, maximumBytes, expireAfterWriteMinutes);
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            throw new ResourceNotFoundException("Cache not found: " + cacheName);
+        }
+
+        if (maximumBytes != null) {
+            nativeCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumBytes));
+        }
+        if (expireAfterWriteMinutes != null) {
+            nativeCache.policy().expireAfterWrite()
+                    .ifPresent(expiration -> expiration.setExpiresAfter(Duration.ofMinutes(expireAfterWriteMinutes)));
+        }
+
+        Map<String, Object> result = new HashMap<>(policyInfo(nativeCache));
+        result.put("size", nativeCache.estimatedSize());
+        return ApiResponseDTO.success(result, "Cache policy updated successfully");
+    }
+
+    private Map<String, Object> policyInfo(com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+        Map<String, Object> info = new HashMap<>();
+        nativeCache.policy().eviction().ifPresent(eviction -> {
+            eviction.weightedSize().ifPresent(bytes -> info.put("estimatedBytes", bytes));
+            info.put("maximumBytes", eviction.getMaximum());
+        });
+        nativeCache.policy().expireAfterWrite()
+                .ifPresent(expiration -> info.put("expireAfterWriteMinutes", expiration.getExpiresAfter().toMinutes()));
+        return info;
+    }
+
     @GetMapping("/clear/{cacheName}")
     @Operation(summary = "Clear specific cache", description = "Clears a specific cache by name")
     @SecurityRequirement(name = "bearerAuth")
@@ -80,6 +122,20 @@ public class CacheAdminController {
         return ApiResponseDTO.success(result);
     }
 
+    @GetMapping("/evict/tag/{tag}")
+    @Operation(summary = "Evict cache entries by tag", description = "Evicts every cached entry carrying the tag, e.g. product:{id} or reviews:product:{id}")
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponseDTO<Map<String, Object>> evictByTag(
+            @Parameter(description = "Cache tag", required = true) @PathVariable String tag) {
+        log.debug("Evicting cache entries with tag: {}", tag);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("tag", tag);
+        result.put("evicted", cacheInvalidationIndex.evictTag(tag));
+
+        return ApiResponseDTO.success(result, "Cache entries evicted successfully");
+    }
+
     @GetMapping("/clear/all")
     @Operation(summary = "Clear all caches", description = "Clears all caches")
     @SecurityRequirement(name = "bearerAuth")
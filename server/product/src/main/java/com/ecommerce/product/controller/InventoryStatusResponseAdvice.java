@@ -0,0 +1,52 @@
+package com.ecommerce.product.controller;
+
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.dto.ApiResponseDTO;
+import com.ecommerce.product.dto.ProductDetailDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Ghép trạng thái tồn kho mới nhất (InventoryStatusOverlay) vào response của ProductController,
+ * sau lớp cache nên DTO đã cache không cần evict khi tồn kho thay đổi.
+ */
+@ControllerAdvice(assignableTypes = ProductController.class)
+@RequiredArgsConstructor
+public class InventoryStatusResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final InventoryStatusOverlay inventoryStatusOverlay;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(body instanceof ApiResponseDTO<?> apiResponse)) {
+            return body;
+        }
+
+        Object data = apiResponse.getData();
+        if (data instanceof ProductDetailDTO detail) {
+            ((ApiResponseDTO<Object>) apiResponse).setData(inventoryStatusOverlay.apply(detail));
+        } else if (data instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof ProductSummaryDTO) {
+            ((ApiResponseDTO<Object>) apiResponse).setData(inventoryStatusOverlay.apply((List<ProductSummaryDTO>) list));
+        }
+        return body;
+    }
+}
@@ -11,11 +11,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ecommerce.product.dto.ApiResponseDTO;
+import com.ecommerce.product.dto.CursorMetaDTO;
+import com.ecommerce.product.dto.CursorPagedResponseDTO;
 import com.ecommerce.product.dto.PageMetaDTO;
 import com.ecommerce.product.dto.PagedResponseDTO;
 import com.ecommerce.product.dto.ProductDetailDTO;
 import com.ecommerce.product.dto.ProductFilterDTO;
+import com.ecommerce.product.dto.ProductListing;
 import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.dto.TotalCountMode;
 import com.ecommerce.product.service.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,6 +67,8 @@ public class ProductController {
                 @Parameter(description = "Category IDs") @RequestParam(required = false) List<String> categoryIds,
                 @Parameter(description = "Inventory status") @RequestParam(required = false) String inventoryStatus,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Cursor from the previous page (empty for the first page); enables cursor pagination and ignores page") @RequestParam(required = false) String cursor,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
                 @Parameter(description = "Sort field") @RequestParam(required = false) String sortBy,
                 @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "asc") String direction) {
@@ -83,6 +89,23 @@ public class ProductController {
                 .direction(direction)
                 .build();
 
+        if (cursor != null) {
+                CursorPagedResponseDTO<ProductSummaryDTO> cursorPage = productService.getProductsAfterCursor(filter, cursor, size);
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        cursorPage.getContent(),
+                        "Products retrieved successfully",
+                        CursorMetaDTO.fromCursorPagedResponse(cursorPage)));
+        }
+
+        if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(
+                        ProductListing.ALL, filter, page, size, TotalCountMode.fromParam(count));
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        slice.getContent(),
+                        "Products retrieved successfully",
+                        PageMetaDTO.fromPagedResponse(slice)));
+        }
+
         PagedResponseDTO<ProductSummaryDTO> products = productService.getAllProductsWithFilters(filter, page, size);
 
         return ResponseEntity.ok(ApiResponseDTO.success(
@@ -106,8 +129,18 @@ public class ProductController {
         public ResponseEntity<ApiResponseDTO<List<ProductSummaryDTO>>> getProductsByCategory(
                 @Parameter(description = "Category ID", required = true) @PathVariable String categoryId,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
                 log.debug("REST request to get products by category id: {}", categoryId);
+                if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                        PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(ProductListing.ALL,
+                                ProductFilterDTO.builder().categoryIds(List.of(categoryId)).build(), page, size, TotalCountMode.fromParam(count));
+                        return ResponseEntity.ok(ApiResponseDTO.success(
+                                slice.getContent(),
+                                "Products for category retrieved successfully",
+                                PageMetaDTO.fromPagedResponse(slice)));
+                }
+
                 PagedResponseDTO<ProductSummaryDTO> products = productService.getProductsByCategory(categoryId, page,
                         size);
 
@@ -122,8 +155,18 @@ public class ProductController {
         public ResponseEntity<ApiResponseDTO<List<ProductSummaryDTO>>> getProductsByBrand(
                 @Parameter(description = "Brand ID", required = true) @PathVariable String brandId,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
                 log.debug("REST request to get products by brand id: {}", brandId);
+                if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                        PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(ProductListing.ALL,
+                                ProductFilterDTO.builder().brandIds(List.of(brandId)).build(), page, size, TotalCountMode.fromParam(count));
+                        return ResponseEntity.ok(ApiResponseDTO.success(
+                                slice.getContent(),
+                                "Products for brand retrieved successfully",
+                                PageMetaDTO.fromPagedResponse(slice)));
+                }
+
                 PagedResponseDTO<ProductSummaryDTO> products = productService.getProductsByBrand(brandId, page, size);
 
                 return ResponseEntity.ok(ApiResponseDTO.success(
@@ -138,8 +181,18 @@ public class ProductController {
                 @Parameter(description = "Minimum price") @RequestParam BigDecimal minPrice,
                 @Parameter(description = "Maximum price") @RequestParam BigDecimal maxPrice,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
                 log.debug("REST request to get products by price range: {} - {}", minPrice, maxPrice);
+                if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                        PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(ProductListing.ALL,
+                                ProductFilterDTO.builder().minPrice(minPrice).maxPrice(maxPrice).build(), page, size, TotalCountMode.fromParam(count));
+                        return ResponseEntity.ok(ApiResponseDTO.success(
+                                slice.getContent(),
+                                "Products within price range retrieved successfully",
+                                PageMetaDTO.fromPagedResponse(slice)));
+                }
+
                 PagedResponseDTO<ProductSummaryDTO> products = productService.getProductsByPriceRange(minPrice,
                         maxPrice, page, size);
 
@@ -162,6 +215,7 @@ public class ProductController {
                 @Parameter(description = "Category IDs") @RequestParam(required = false) List<String> categoryIds,
                 @Parameter(description = "Inventory status") @RequestParam(required = false) String inventoryStatus,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
                 @Parameter(description = "Sort field") @RequestParam(required = false) String sortBy,
                 @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "asc") String direction) {
@@ -182,6 +236,15 @@ public class ProductController {
                 .direction(direction)
                 .build();
         
+        if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(
+                        ProductListing.SEARCH, filter, page, size, TotalCountMode.fromParam(count));
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        slice.getContent(),
+                        "Search results retrieved successfully",
+                        PageMetaDTO.fromPagedResponse(slice)));
+        }
+
         PagedResponseDTO<ProductSummaryDTO> products = productService.searchProductsWithFilters(filter, page, size);
 
         return ResponseEntity.ok(ApiResponseDTO.success(
@@ -203,6 +266,8 @@ public class ProductController {
                 @Parameter(description = "Category IDs") @RequestParam(required = false) List<String> categoryIds,
                 @Parameter(description = "Inventory status") @RequestParam(required = false) String inventoryStatus,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Cursor from the previous page (empty for the first page); enables cursor pagination and ignores page") @RequestParam(required = false) String cursor,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         log.debug("REST request to get top selling products with filters");
@@ -221,6 +286,23 @@ public class ProductController {
                 .direction("desc")
                 .build();
         
+        if (cursor != null) {
+                CursorPagedResponseDTO<ProductSummaryDTO> cursorPage = productService.getProductsAfterCursor(filter, cursor, size);
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        cursorPage.getContent(),
+                        "Top selling products retrieved successfully",
+                        CursorMetaDTO.fromCursorPagedResponse(cursorPage)));
+        }
+
+        if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(
+                        ProductListing.TOP_SELLING, filter, page, size, TotalCountMode.fromParam(count));
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        slice.getContent(),
+                        "Top selling products retrieved successfully",
+                        PageMetaDTO.fromPagedResponse(slice)));
+        }
+
         PagedResponseDTO<ProductSummaryDTO> products = productService.getTopSellingProductsWithFilters(filter, page, size);
 
         return ResponseEntity.ok(ApiResponseDTO.success(
@@ -242,6 +324,8 @@ public class ProductController {
                 @Parameter(description = "Category IDs") @RequestParam(required = false) List<String> categoryIds,
                 @Parameter(description = "Inventory status") @RequestParam(required = false) String inventoryStatus,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Cursor from the previous page (empty for the first page); enables cursor pagination and ignores page") @RequestParam(required = false) String cursor,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         log.debug("REST request to get top rated products with filters");
@@ -260,6 +344,23 @@ public class ProductController {
                 .direction("desc")
                 .build();
         
+        if (cursor != null) {
+                CursorPagedResponseDTO<ProductSummaryDTO> cursorPage = productService.getProductsAfterCursor(filter, cursor, size);
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        cursorPage.getContent(),
+                        "Top rated products retrieved successfully",
+                        CursorMetaDTO.fromCursorPagedResponse(cursorPage)));
+        }
+
+        if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(
+                        ProductListing.TOP_RATED, filter, page, size, TotalCountMode.fromParam(count));
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        slice.getContent(),
+                        "Top rated products retrieved successfully",
+                        PageMetaDTO.fromPagedResponse(slice)));
+        }
+
         PagedResponseDTO<ProductSummaryDTO> products = productService.getTopRatedProductsWithFilters(filter, page, size);
 
         return ResponseEntity.ok(ApiResponseDTO.success(
@@ -281,6 +382,8 @@ public class ProductController {
                 @Parameter(description = "Category IDs") @RequestParam(required = false) List<String> categoryIds,
                 @Parameter(description = "Inventory status") @RequestParam(required = false) String inventoryStatus,
                 @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+                @Parameter(description = "Cursor from the previous page (empty for the first page); enables cursor pagination and ignores page") @RequestParam(required = false) String cursor,
+                @Parameter(description = "Total count mode: exact (default), none (no COUNT, totals are -1) or approximate (cached total, -1 until known)") @RequestParam(defaultValue = "exact") String count,
                 @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         log.debug("REST request to get new arrivals with filters");
@@ -299,6 +402,23 @@ public class ProductController {
                 .direction("desc")
                 .build();
         
+        if (cursor != null) {
+                CursorPagedResponseDTO<ProductSummaryDTO> cursorPage = productService.getProductsAfterCursor(filter, cursor, size);
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        cursorPage.getContent(),
+                        "New arrivals retrieved successfully",
+                        CursorMetaDTO.fromCursorPagedResponse(cursorPage)));
+        }
+
+        if (TotalCountMode.fromParam(count) != TotalCountMode.EXACT) {
+                PagedResponseDTO<ProductSummaryDTO> slice = productService.getProductSlice(
+                        ProductListing.NEW_ARRIVALS, filter, page, size, TotalCountMode.fromParam(count));
+                return ResponseEntity.ok(ApiResponseDTO.success(
+                        slice.getContent(),
+                        "New arrivals retrieved successfully",
+                        PageMetaDTO.fromPagedResponse(slice)));
+        }
+
         PagedResponseDTO<ProductSummaryDTO> products = productService.getNewArrivalsWithFilters(filter, page, size);
 
         return ResponseEntity.ok(ApiResponseDTO.success(
@@ -0,0 +1,47 @@
+package com.ecommerce.product.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.ecommerce.product.service.RequestDeadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Đặt {@link RequestDeadline} cho request REST có header {@value RequestDeadline#BUDGET_HEADER}
+ * (số mili giây caller còn chờ), để truy vấn DB và lời gọi inventory dừng khi hết budget.
+ */
+@Component
+@Slf4j
+public class RequestBudgetFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String budget = request.getHeader(RequestDeadline.BUDGET_HEADER);
+        if (StringUtils.hasText(budget)) {
+            try {
+                long budgetMs = Long.parseLong(budget.trim());
+                if (budgetMs > 0) {
+                    request.setAttribute(RequestDeadline.REQUEST_ATTRIBUTE,
+                            RequestDeadline.after(Duration.ofMillis(budgetMs)));
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", RequestDeadline.BUDGET_HEADER, budget);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorMetaDTO {
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static CursorMetaDTO fromCursorPagedResponse(CursorPagedResponseDTO<?> pagedResponse) {
+        return CursorMetaDTO.builder()
+                .size(pagedResponse.getSize())
+                .nextCursor(pagedResponse.getNextCursor())
+                .hasNext(pagedResponse.isHasNext())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.product.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+import com.ecommerce.product.exception.InvalidCursorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Vị trí trong danh sách sản phẩm cho keyset pagination: giá trị sort key và id của sản phẩm cuối trang.
+ * Client chỉ thấy chuỗi opaque (Base64 URL-safe) và gửi lại nguyên vẹn để lấy trang kế tiếp.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Sort keys supported by cursor paging - each one is backed by an index on products.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum SortKey {
+        CREATED_AT("createdAt", LocalDateTime::parse),       // idx_product_created_at
+        QUANTITY_SOLD("allTimeQuantitySold", Integer::valueOf), // idx_product_quantity_sold
+        RATING("ratingAverage", BigDecimal::new),            // idx_product_rating
+        PRICE("price", BigDecimal::new);                     // idx_product_price
+
+        private final String property;
+        private final Function<String, Comparable<?>> parser;
+
+        public static SortKey fromProperty(String property) {
+            if (property == null || property.isEmpty()) {
+                return CREATED_AT;
+            }
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            throw new InvalidCursorException("Cursor pagination does not support sorting by: " + property);
+        }
+    }
+
+    private final SortKey sortKey;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final String id;
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + format(value) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor issued for the same sort key and direction.
+     *
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another ordering
+     */
+    public static ProductCursor decode(String cursor, SortKey sortKey, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+        if (parts.length != 4 || !parts[0].equals(sortKey.name()) || !parts[1].equals(direction.name())) {
+            throw new InvalidCursorException("Invalid cursor for this listing");
+        }
+
+        try {
+            return new ProductCursor(sortKey, direction, sortKey.getParser().apply(parts[2]), parts[3]);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    private static String format(Comparable<?> value) {
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value);
+    }
+}
@@ -1,6 +1,8 @@
 package com.ecommerce.product.dto;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -53,4 +55,28 @@ public class ProductFilterDTO {
         sb.append(direction != null ? direction : "");
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable copy of this filter, used as cache key so that later changes to the DTO
+     * cannot alter a key already stored in the cache.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(q, minPrice, maxPrice, minRating, maxRating, copyOf(brandIds), copyOf(brandNames),
+                copyOf(categoryIds), inventoryStatus, sortBy, direction);
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : null;
+    }
+
+    public record Snapshot(String q, BigDecimal minPrice, BigDecimal maxPrice, BigDecimal minRating,
+            BigDecimal maxRating, List<String> brandIds, List<String> brandNames, List<String> categoryIds,
+            String inventoryStatus, String sortBy, String direction) {
+
+        // Refresh-ahead cần dựng lại filter từ key để load lại trang
+        public ProductFilterDTO toFilter() {
+            return new ProductFilterDTO(q, minPrice, maxPrice, minRating, maxRating, copyOf(brandIds),
+                    copyOf(brandNames), copyOf(categoryIds), inventoryStatus, sortBy, direction);
+        }
+    }
+}
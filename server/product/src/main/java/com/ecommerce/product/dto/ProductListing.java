@@ -0,0 +1,12 @@
+package com.ecommerce.product.dto;
+
+/**
+ * Các loại danh sách sản phẩm - quyết định điều kiện nền và thứ tự sắp xếp khi truy vấn theo filter.
+ */
+public enum ProductListing {
+    ALL,
+    SEARCH,
+    TOP_SELLING,
+    TOP_RATED,
+    NEW_ARRIVALS
+}
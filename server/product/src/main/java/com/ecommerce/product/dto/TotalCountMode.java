@@ -0,0 +1,26 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.product.exception.InvalidCountModeException;
+
+/**
+ * Cách tính tổng số phần tử của một trang danh sách.
+ */
+public enum TotalCountMode {
+    // COUNT chính xác mỗi lần (mặc định, tương thích client cũ)
+    EXACT,
+    // Không COUNT, chỉ biết còn trang sau hay không; totalElements/totalPages = -1
+    NONE,
+    // Tổng lấy từ cache, được làm mới ở background; -1 khi chưa có
+    APPROXIMATE;
+
+    public static TotalCountMode fromParam(String value) {
+        if (value == null || value.isEmpty()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCountModeException("Unsupported count mode: " + value);
+        }
+    }
+}
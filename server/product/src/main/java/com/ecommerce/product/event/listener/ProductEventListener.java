@@ -76,6 +76,33 @@ public class ProductEventListener {
         }
     }
 
+    /**
+     * Same inventory updates on a group of its own per instance, so every instance refreshes its in-memory
+     * status overlay. The shared group above only writes the status to the DB once.
+     */
+    @KafkaListener(topics = "inventory.status.updated",
+                   groupId = "${spring.kafka.consumer.group-id}-${random.uuid}",
+                   concurrency = "1",
+                   // Group mới mỗi lần khởi động: chỉ cần sự kiện từ giờ trở đi, trạng thái cũ đã có trong DB
+                   properties = "auto.offset.reset=latest")
+    public void handleInventoryStatusBroadcast(
+            @Payload Object payload,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            Acknowledgment acknowledgment) {
+
+        try {
+            InventoryStatusUpdateEvent event = extractMessage(payload, InventoryStatusUpdateEvent.class);
+            if (event != null) {
+                productEventService.applyInventoryStatus(event);
+                log.debug("Applied inventory status for product {} on this instance", event.getProductId());
+            }
+            acknowledgment.acknowledge();
+        } catch (Exception e) {
+            log.error("Error applying inventory status update from topic: {}", topic, e);
+            acknowledgment.acknowledge();
+        }
+    }
+
     /**
      * Listen to rating updates from Review Service
      */
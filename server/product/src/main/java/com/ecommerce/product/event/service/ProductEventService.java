@@ -3,6 +3,8 @@ package com.ecommerce.product.event.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ecommerce.product.cache.InventoryResultCache;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
 import com.ecommerce.product.event.model.InventoryStatusUpdateEvent;
 import com.ecommerce.product.event.model.ProductRatingUpdateEvent;
 import com.ecommerce.product.event.model.ProductSalesUpdateEvent;
@@ -17,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductEventService {
 
     private final ProductService productService;
+    private final InventoryStatusOverlay inventoryStatusOverlay;
+    private final InventoryResultCache inventoryResultCache;
 
     /**
      * Handle sales statistics update from Order Service
@@ -40,13 +44,24 @@ public class ProductEventService {
     }
 
     /**
-     * Handle inventory status update from Inventory Service  
+     * Apply an inventory status update to this instance's overlay and result cache.
+     * Every instance must receive the event, see {@code ProductEventListener#handleInventoryStatusBroadcast}.
+     */
+    public void applyInventoryStatus(InventoryStatusUpdateEvent event) {
+        // Ghép vào response ngay, kể cả khi ghi DB chậm hoặc lỗi
+        inventoryStatusOverlay.update(event.getProductId(), event.getNewStatus(), event.getTimestamp());
+        // Kết quả tra tồn kho đã lưu không còn đúng, lần sau gọi lại inventory service
+        inventoryResultCache.invalidate(event.getProductId());
+    }
+
+    /**
+     * Handle inventory status update from Inventory Service: persist the new status, once per event across instances
      */
     @Transactional
     public void handleInventoryStatusUpdate(InventoryStatusUpdateEvent event) {
         log.info("Processing inventory status update for product: {} -> {}", 
                 event.getProductId(), event.getNewStatus());
-        
+
         try {
             productService.updateInventoryStatus(event.getProductId(), event.getNewStatus());
             log.info("Updated inventory status for product {}: {}", 
@@ -3,6 +3,7 @@ package com.ecommerce.product.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -36,6 +37,39 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler({ InvalidCursorException.class, InvalidCountModeException.class })
+    public ResponseEntity<ApiResponseDTO<Void>> handleInvalidPaginationException(
+            RuntimeException ex, HttpServletRequest request) {
+
+        log.warn("Bad request: {}", ex.getMessage());
+
+        ApiResponseDTO<Void> response = ApiResponseDTO.<Void>builder()
+                .status("error")
+                .code(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .meta(Map.of("path", request.getRequestURI()))
+                .build();
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleQueryTimeoutException(
+            QueryTimeoutException ex, HttpServletRequest request) {
+
+        // Truy vấn vượt budget của request (header X-Request-Budget-Ms)
+        log.warn("Query timed out: {}", ex.getMessage());
+
+        ApiResponseDTO<Void> response = ApiResponseDTO.<Void>builder()
+                .status("error")
+                .code(HttpStatus.GATEWAY_TIMEOUT.value())
+                .message("Request deadline exceeded")
+                .meta(Map.of("path", request.getRequestURI()))
+                .build();
+
+        return new ResponseEntity<>(response, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ApiResponseDTO<Void>> handleAccessDeniedException(
             AccessDeniedException ex, HttpServletRequest request) {
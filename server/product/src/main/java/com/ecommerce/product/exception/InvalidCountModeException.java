@@ -0,0 +1,11 @@
+package com.ecommerce.product.exception;
+
+/**
+ * Giá trị tham số count không thuộc {@link com.ecommerce.product.dto.TotalCountMode}.
+ */
+public class InvalidCountModeException extends RuntimeException {
+
+    public InvalidCountModeException(String message) {
+        super(message);
+    }
+}
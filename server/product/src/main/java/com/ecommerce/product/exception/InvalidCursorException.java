@@ -0,0 +1,11 @@
+package com.ecommerce.product.exception;
+
+/**
+ * Cursor phân trang không hợp lệ: sai định dạng, phát hành cho thứ tự sắp xếp khác, hoặc sort key không hỗ trợ.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
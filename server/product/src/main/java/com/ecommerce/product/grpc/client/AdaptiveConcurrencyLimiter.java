@@ -0,0 +1,123 @@
+package com.ecommerce.product.grpc.client;
+
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Giới hạn số lời gọi đang chạy tới một service, tự học giới hạn theo AIMD:
+ * tăng dần (+1/limit mỗi lời gọi) khi latency còn gần latency nền, giảm theo tỉ lệ khi latency vượt
+ * {@code latencyTolerance} lần latency nền hoặc lời gọi bị timeout / mất kết nối.
+ * Lời gọi vượt giới hạn bị từ chối ngay để caller dùng giá trị dự phòng thay vì xếp hàng.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    // Latency nền trôi dần lên để không bị kẹt ở một mẫu nhanh bất thường
+    private static final double BASELINE_DRIFT = 0.001;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final Counter rejected;
+    private final LongSupplier nanoClock;
+
+    private double limit;
+    private int inFlight;
+    private double baselineRttNanos = Double.NaN;
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            double latencyTolerance, MeterRegistry meterRegistry) {
+        this(name, initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            double latencyTolerance, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.nanoClock = nanoClock;
+
+        Gauge.builder("grpc.client.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit of concurrent calls")
+                .tag("client", name)
+                .register(meterRegistry);
+        Gauge.builder("grpc.client.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Calls currently in flight")
+                .tag("client", name)
+                .register(meterRegistry);
+        rejected = Counter.builder("grpc.client.concurrency.rejected")
+                .description("Calls rejected because the concurrency limit was reached")
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a call may start now. Every permitted call must be followed by {@link #release}
+     * or {@link #releaseWithoutSample}.
+     */
+    public boolean tryAcquire() {
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * @param dropped whether the call timed out or could not reach the service
+     */
+    public synchronized void release(long rttNanos, boolean dropped) {
+        inFlight--;
+
+        long now = nanoClock.getAsLong();
+        if (!dropped) {
+            baselineRttNanos = Double.isNaN(baselineRttNanos) || rttNanos < baselineRttNanos
+                    ? rttNanos
+                    : baselineRttNanos + (rttNanos - baselineRttNanos) * BASELINE_DRIFT;
+        }
+
+        boolean overloaded = dropped || rttNanos > baselineRttNanos * latencyTolerance;
+        if (overloaded) {
+            // Giảm tối đa một lần mỗi RTT, các lời gọi chậm cùng đợt không làm giới hạn sụp về min
+            if (now - lastDecreaseAt >= rttNanos) {
+                lastDecreaseAt = now;
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                if ((int) previous != (int) limit) {
+                    log.debug("Concurrency limit {} decreased to {}", name, (int) limit);
+                }
+            }
+        } else if (inFlight + 1 >= (int) limit / 2) {
+            // Chỉ tăng khi giới hạn đang thực sự được dùng tới
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * Release a call whose latency says nothing about the service's load (cancelled, rejected downstream).
+     */
+    public synchronized void releaseWithoutSample() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ecommerce.product.grpc.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker đếm theo cửa sổ N lời gọi gần nhất. Mở khi tỉ lệ lỗi hoặc tỉ lệ gọi chậm vượt ngưỡng,
+ * giữ trạng thái mở trong {@code openDuration}, sau đó cho một số lời gọi thử (half-open)
+ * để quyết định đóng lại hay mở tiếp.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final int slowCallRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    // Kết quả của các lời gọi gần nhất (bit FAILED / SLOW), ghi vòng
+    private final byte[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+            Duration slowCallThreshold, int slowCallRateThreshold, Duration openDuration, int halfOpenCalls,
+            MeterRegistry meterRegistry) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, slowCallRateThreshold,
+                openDuration, halfOpenCalls, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+            Duration slowCallThreshold, int slowCallRateThreshold, Duration openDuration, int halfOpenCalls,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.window = new byte[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+
+        Gauge.builder("grpc.client.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a call may go through now. Every permitted call must be followed by {@link #record}
+     * or {@link #releaseWithoutRecord}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+            halfOpenPermits = halfOpenCalls;
+            reset();
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void record(long durationNanos, boolean failed) {
+        if (state == State.OPEN) {
+            // Lời gọi bắt đầu trước khi mạch mở, bỏ qua
+            return;
+        }
+
+        byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallThresholdNanos ? SLOW : 0));
+        if (recorded == window.length) {
+            evict(window[next]);
+        } else {
+            recorded++;
+        }
+        window[next] = outcome;
+        next = (next + 1) % window.length;
+        failures += (outcome & FAILED) != 0 ? 1 : 0;
+        slowCalls += (outcome & SLOW) != 0 ? 1 : 0;
+
+        if (state == State.HALF_OPEN) {
+            if (recorded < halfOpenCalls) {
+                return;
+            }
+            if (exceedsThresholds()) {
+                open();
+            } else {
+                transitionTo(State.CLOSED);
+                reset();
+            }
+            return;
+        }
+
+        if (recorded >= minimumCalls && exceedsThresholds()) {
+            open();
+        }
+    }
+
+    /**
+     * Give back a permit for a call whose outcome says nothing about the service (cancelled by the caller).
+     */
+    public synchronized void releaseWithoutRecord() {
+        // Half-open: trả lại lượt thử, nếu không mạch kẹt ở half-open khi mọi lượt thử bị huỷ
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private boolean exceedsThresholds() {
+        return failures * 100 >= failureRateThreshold * recorded
+                || slowCalls * 100 >= slowCallRateThreshold * recorded;
+    }
+
+    private void open() {
+        log.warn("Circuit breaker {} opened: {}/{} failed, {}/{} slow", name, failures, recorded, slowCalls, recorded);
+        transitionTo(State.OPEN);
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void transitionTo(State newState) {
+        if (state != newState) {
+            log.info("Circuit breaker {}: {} -> {}", name, state, newState);
+            state = newState;
+        }
+    }
+
+    private void evict(byte outcome) {
+        failures -= (outcome & FAILED) != 0 ? 1 : 0;
+        slowCalls -= (outcome & SLOW) != 0 ? 1 : 0;
+    }
+
+    private void reset() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
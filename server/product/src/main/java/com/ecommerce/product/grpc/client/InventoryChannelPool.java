@@ -0,0 +1,233 @@
+package com.ecommerce.product.grpc.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tập channel tới nhiều instance inventory: mỗi endpoint có thể mở nhiều channel (nhiều kết nối HTTP/2)
+ * để tránh dồn mọi stream lên một kết nối. Chọn endpoint theo round-robin hoặc ít request đang chạy nhất,
+ * bỏ qua endpoint không khoẻ.
+ *
+ * Sức khoẻ endpoint: chủ động theo trạng thái kết nối (kiểm tra định kỳ), bị động theo số lỗi kết nối
+ * liên tiếp (tạm loại trong một chu kỳ kiểm tra). Khi không còn endpoint nào khoẻ thì vẫn gửi tới tất cả.
+ */
+@Slf4j
+public class InventoryChannelPool {
+
+    public enum Balancer {
+        ROUND_ROBIN, LEAST_OUTSTANDING;
+
+        public static Balancer fromProperty(String value) {
+            return "least-outstanding".equalsIgnoreCase(value) || "least_outstanding".equalsIgnoreCase(value)
+                    ? LEAST_OUTSTANDING
+                    : ROUND_ROBIN;
+        }
+    }
+
+    /**
+     * A channel handed out for one call. {@link #release} must be called exactly once when the call ends.
+     */
+    public static final class Lease {
+
+        private final Endpoint endpoint;
+        private final ManagedChannel channel;
+
+        private Lease(Endpoint endpoint, ManagedChannel channel) {
+            this.endpoint = endpoint;
+            this.channel = channel;
+        }
+
+        public ManagedChannel channel() {
+            return channel;
+        }
+
+        public String target() {
+            return endpoint.target;
+        }
+
+        /**
+         * @param connectionFailure whether the call failed because the endpoint could not be reached
+         */
+        public void release(boolean connectionFailure) {
+            endpoint.outstanding.decrementAndGet();
+            endpoint.recordResult(connectionFailure);
+        }
+    }
+
+    private final class Endpoint {
+
+        private final String target;
+        private final List<ManagedChannel> channels;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger nextChannel = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile boolean connected = true;
+        private volatile long ejectedUntil;
+
+        private Endpoint(String target, List<ManagedChannel> channels) {
+            this.target = target;
+            this.channels = channels;
+        }
+
+        boolean isHealthy(long now) {
+            return connected && now >= ejectedUntil;
+        }
+
+        ManagedChannel nextChannel() {
+            return channels.get(Math.floorMod(nextChannel.getAndIncrement(), channels.size()));
+        }
+
+        void recordResult(boolean connectionFailure) {
+            if (!connectionFailure) {
+                consecutiveFailures.set(0);
+                return;
+            }
+            if (consecutiveFailures.incrementAndGet() >= ejectionFailureThreshold) {
+                consecutiveFailures.set(0);
+                ejectedUntil = System.nanoTime() + healthCheckIntervalNanos;
+                log.warn("Inventory endpoint {} ejected after {} consecutive connection failures",
+                        target, ejectionFailureThreshold);
+            }
+        }
+
+        void checkConnectivity() {
+            boolean anyReady = false;
+            for (ManagedChannel channel : channels) {
+                // getState(true) cũng khởi động kết nối cho channel đang IDLE
+                ConnectivityState state = channel.getState(true);
+                anyReady |= state != ConnectivityState.TRANSIENT_FAILURE && state != ConnectivityState.SHUTDOWN;
+            }
+            if (connected != anyReady) {
+                log.info("Inventory endpoint {} is now {}", target, anyReady ? "healthy" : "unhealthy");
+            }
+            connected = anyReady;
+        }
+    }
+
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final Balancer balancer;
+    private final int ejectionFailureThreshold;
+    private final long healthCheckIntervalNanos;
+    private final AtomicInteger nextEndpoint = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor healthChecker;
+
+    public InventoryChannelPool(List<String> targets, int channelsPerEndpoint, Function<String, ManagedChannel> channelFactory,
+            Balancer balancer, Duration healthCheckInterval, int ejectionFailureThreshold, MeterRegistry meterRegistry) {
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("At least one inventory endpoint is required");
+        }
+        this.balancer = balancer;
+        this.ejectionFailureThreshold = ejectionFailureThreshold;
+        this.healthCheckIntervalNanos = healthCheckInterval.toNanos();
+
+        for (String target : targets) {
+            List<ManagedChannel> channels = new ArrayList<>(channelsPerEndpoint);
+            for (int i = 0; i < Math.max(1, channelsPerEndpoint); i++) {
+                channels.add(channelFactory.apply(target));
+            }
+            Endpoint endpoint = new Endpoint(target, channels);
+            endpoints.add(endpoint);
+
+            Gauge.builder("grpc.client.inventory.outstanding", endpoint, e -> e.outstanding.get())
+                    .description("Inventory calls in flight per endpoint")
+                    .tag("endpoint", target)
+                    .register(meterRegistry);
+            Gauge.builder("grpc.client.inventory.endpoint.healthy", endpoint, e -> e.isHealthy(System.nanoTime()) ? 1 : 0)
+                    .description("Whether the inventory endpoint receives traffic")
+                    .tag("endpoint", target)
+                    .register(meterRegistry);
+        }
+
+        healthChecker = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "inventory-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("Inventory channel pool: {} endpoint(s) x {} channel(s), {} balancing",
+                endpoints.size(), Math.max(1, channelsPerEndpoint), balancer);
+    }
+
+    /**
+     * Pick a channel for one call.
+     */
+    public Lease acquire() {
+        long now = System.nanoTime();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // Không có endpoint nào khoẻ: thử tất cả thay vì từ chối ngay
+            candidates = endpoints;
+        }
+
+        Endpoint chosen = balancer == Balancer.LEAST_OUTSTANDING ? leastOutstanding(candidates) : roundRobin(candidates);
+        chosen.outstanding.incrementAndGet();
+        return new Lease(chosen, chosen.nextChannel());
+    }
+
+    public int size() {
+        return endpoints.size();
+    }
+
+    public void shutdown() {
+        healthChecker.shutdownNow();
+        for (Endpoint endpoint : endpoints) {
+            endpoint.channels.forEach(ManagedChannel::shutdown);
+        }
+        for (Endpoint endpoint : endpoints) {
+            for (ManagedChannel channel : endpoint.channels) {
+                try {
+                    if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
+                        channel.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    channel.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private Endpoint roundRobin(List<Endpoint> candidates) {
+        return candidates.get(Math.floorMod(nextEndpoint.getAndIncrement(), candidates.size()));
+    }
+
+    private Endpoint leastOutstanding(List<Endpoint> candidates) {
+        // Bắt đầu từ vị trí xoay vòng để các endpoint bằng nhau được chia đều
+        int start = Math.floorMod(nextEndpoint.getAndIncrement(), candidates.size());
+        Endpoint best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            Endpoint endpoint = candidates.get((start + i) % candidates.size());
+            if (best == null || endpoint.outstanding.get() < best.outstanding.get()) {
+                best = endpoint;
+            }
+        }
+        return best;
+    }
+
+    private void checkHealth() {
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.checkConnectivity();
+            } catch (RuntimeException e) {
+                log.warn("Health check of inventory endpoint {} failed: {}", endpoint.target, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.ecommerce.product.grpc.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.grpc.inventory.CheckInventoryBatchResponse;
+import com.ecommerce.grpc.inventory.CheckInventoryResponse;
+import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.ecommerce.product.grpc.client.InventoryGrpcClient.InventoryCheckItemWithInfo;
+import com.ecommerce.product.service.RequestDeadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gom các lần kiểm tra tồn kho từng sản phẩm của nhiều request trong một cửa sổ ngắn
+ * thành một CheckInventoryBatch duy nhất, rồi trả kết quả lại cho từng caller.
+ * Batch được gửi khi hết cửa sổ hoặc khi đủ {@code max-batch-size} sản phẩm.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryCheckBatcher {
+
+    private record ItemKey(String productId, int quantity) {
+    }
+
+    private static final class PendingItem {
+
+        private final String lastKnownStatus;
+        private final CompletableFuture<CheckInventoryResponse> result = new CompletableFuture<>();
+
+        private PendingItem(String lastKnownStatus) {
+            this.lastKnownStatus = lastKnownStatus;
+        }
+    }
+
+    private final InventoryGrpcClient inventoryGrpcClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${grpc.client.inventory.batching.enabled:true}")
+    private boolean enabled;
+
+    @Value("${grpc.client.inventory.batching.window-ms:2}")
+    private long windowMs;
+
+    @Value("${grpc.client.inventory.batching.max-batch-size:100}")
+    private int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Map<ItemKey, PendingItem> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private ScheduledThreadPoolExecutor scheduler;
+    private Counter lookups;
+    private DistributionSummary batchSize;
+    private DistributionSummary batchFill;
+
+    @PostConstruct
+    public void init() {
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "inventory-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        lookups = Counter.builder("grpc.client.inventory.batch.lookups")
+                .description("Single-product inventory lookups submitted to the batcher")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("grpc.client.inventory.batch.size")
+                .description("Products per batched inventory check")
+                .register(meterRegistry);
+        batchFill = DistributionSummary.builder("grpc.client.inventory.batch.fill")
+                .description("Batch size as a percentage of the maximum batch size")
+                .baseUnit("percent")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Check one product, sharing an inventory RPC with other lookups in the same window.
+     * Like the client, never fails: on error the product's last known status is returned.
+     *
+     * @param lastKnownStatus status to fall back to when the inventory service cannot be reached
+     */
+    public CompletableFuture<CheckInventoryResponse> checkInventory(String productId, int quantity,
+            String lastKnownStatus) {
+        if (!enabled) {
+            return inventoryGrpcClient.checkInventoryWithProductInfoAsync(productId, quantity, lastKnownStatus, "", 0.0);
+        }
+
+        lookups.increment();
+
+        PendingItem item;
+        Map<ItemKey, PendingItem> fullBatch = null;
+        synchronized (lock) {
+            item = pending.computeIfAbsent(new ItemKey(productId, quantity), key -> new PendingItem(lastKnownStatus));
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flushWindow, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            // Batch chung của nhiều caller: không mang deadline hay trạng thái huỷ của caller tình cờ làm đầy nó
+            Map<ItemKey, PendingItem> batch = fullBatch;
+            RequestDeadline.runDetached(() -> send(batch, "full"));
+        }
+        // Mỗi caller một bản sao, huỷ của caller này không ảnh hưởng caller khác
+        return item.result.copy();
+    }
+
+    private void flushWindow() {
+        Map<ItemKey, PendingItem> batch;
+        synchronized (lock) {
+            scheduledFlush = null;
+            batch = takePending();
+        }
+        send(batch, "window");
+    }
+
+    // Gọi khi đang giữ lock
+    private Map<ItemKey, PendingItem> takePending() {
+        Map<ItemKey, PendingItem> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(Map<ItemKey, PendingItem> batch, String trigger) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ItemKey> keys = new ArrayList<>(batch.keySet());
+        List<InventoryCheckItemWithInfo> items = keys.stream()
+                .map(key -> new InventoryCheckItemWithInfo(key.productId(), key.quantity(),
+                        batch.get(key).lastKnownStatus, "", 0.0))
+                .toList();
+
+        batchSize.record(items.size());
+        batchFill.record(items.size() * 100.0 / maxBatchSize);
+        Counter.builder("grpc.client.inventory.batch.flush")
+                .description("Batched inventory RPCs by what triggered them")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .increment();
+
+        inventoryGrpcClient.checkInventoryBatchWithProductInfoAsync(items)
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.warn("Batched inventory check failed: {}", e.getMessage());
+                        batch.values().forEach(item -> item.result.completeExceptionally(e));
+                        return;
+                    }
+                    complete(keys, batch, response);
+                });
+    }
+
+    private void complete(List<ItemKey> keys, Map<ItemKey, PendingItem> batch, CheckInventoryBatchResponse response) {
+        // Inventory service trả item theo đúng thứ tự request, kiểm tra lại product id cho chắc
+        Map<String, InventoryStatus> byProductId = null;
+        for (int i = 0; i < keys.size(); i++) {
+            ItemKey key = keys.get(i);
+            InventoryStatus status = i < response.getItemsCount() ? response.getItems(i) : null;
+            if (status == null || !status.getProductId().equals(key.productId())) {
+                if (byProductId == null) {
+                    byProductId = new LinkedHashMap<>();
+                    for (InventoryStatus item : response.getItemsList()) {
+                        byProductId.putIfAbsent(item.getProductId(), item);
+                    }
+                }
+                status = byProductId.get(key.productId());
+            }
+
+            PendingItem item = batch.get(key);
+            CheckInventoryResponse.Builder result = CheckInventoryResponse.newBuilder()
+                    .setProductId(key.productId())
+                    .setResultStatus(response.getResultStatus())
+                    .setLatencyMs(response.getLatencyMs());
+            if (status != null) {
+                result.setAvailable(status.getAvailable())
+                        .setAvailableQuantity(status.getAvailableQuantity())
+                        .setStatus(status.getStatus());
+            } else {
+                result.setStatus(item.lastKnownStatus != null ? item.lastKnownStatus : "");
+            }
+            item.result.complete(result.build());
+        }
+    }
+}
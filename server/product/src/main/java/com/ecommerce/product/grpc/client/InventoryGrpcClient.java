@@ -1,63 +1,209 @@
 package com.ecommerce.product.grpc.client;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.ecommerce.grpc.common.Metadata;
+import com.ecommerce.grpc.common.Status;
 import com.ecommerce.grpc.inventory.CheckInventoryBatchRequest;
 import com.ecommerce.grpc.inventory.CheckInventoryBatchResponse;
 import com.ecommerce.grpc.inventory.CheckInventoryRequest;
 import com.ecommerce.grpc.inventory.CheckInventoryResponse;
 import com.ecommerce.grpc.inventory.InventoryItem;
 import com.ecommerce.grpc.inventory.InventoryServiceGrpc;
+import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.ecommerce.grpc.inventory.InventoryStatusChange;
 import com.ecommerce.grpc.inventory.ProductInfo;
+import com.ecommerce.product.cache.InventoryResultCache;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.InventoryStatusTable;
+import com.ecommerce.product.service.RequestDeadline;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
 import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class InventoryGrpcClient {
 
+    private static final String AVAILABLE = "available";
+
+    // Trả về khi không gọi được inventory service: status là trạng thái biết được gần nhất
+    private static final Status FALLBACK_STATUS = Status.newBuilder()
+            .setCode(Status.Code.OK)
+            .setMessage("fallback: last known status")
+            .build();
+
+    private final InventoryStatusOverlay inventoryStatusOverlay;
+    private final InventoryStatusTable inventoryStatusTable;
+    private final InventoryResultCache inventoryResultCache;
+    private final MeterRegistry meterRegistry;
+
     @Value("${grpc.client.inventory.host:localhost}")
     private String inventoryHost;
 
     @Value("${grpc.client.inventory.port:50054}")
     private int inventoryPort;
 
-    private ManagedChannel channel;
-    private InventoryServiceGrpc.InventoryServiceBlockingStub blockingStub;
+    // Danh sách host:port cách nhau bởi dấu phẩy, hoặc một target có resolver (vd. dns:///inventory:50054)
+    @Value("${grpc.client.inventory.endpoints:}")
+    private String endpoints;
+
+    @Value("${grpc.client.inventory.load-balancing:round-robin}")
+    private String loadBalancing;
+
+    @Value("${grpc.client.inventory.channels-per-endpoint:1}")
+    private int channelsPerEndpoint;
+
+    @Value("${grpc.client.inventory.health-check-interval-ms:5000}")
+    private long healthCheckIntervalMs;
+
+    @Value("${grpc.client.inventory.ejection-failure-threshold:3}")
+    private int ejectionFailureThreshold;
+
+    @Value("${grpc.client.inventory.test-connection-on-startup:true}")
+    private boolean testConnectionOnStartup;
+
+    @Value("${grpc.client.inventory.subscription.enabled:true}")
+    private boolean subscriptionEnabled;
+
+    @Value("${grpc.client.inventory.subscription.initial-backoff-ms:500}")
+    private long subscriptionInitialBackoffMs;
+
+    @Value("${grpc.client.inventory.subscription.max-backoff-ms:60000}")
+    private long subscriptionMaxBackoffMs;
+
+    @Value("${spring.application.name:product-service}")
+    private String applicationName;
+
+    @Value("${grpc.client.inventory.deadline-ms:1000}")
+    private long deadlineMs;
+
+    @Value("${grpc.client.inventory.batch-deadline-ms:2000}")
+    private long batchDeadlineMs;
+
+    @Value("${grpc.client.inventory.concurrency-limit.enabled:true}")
+    private boolean concurrencyLimitEnabled;
+
+    @Value("${grpc.client.inventory.concurrency-limit.initial-limit:20}")
+    private int concurrencyInitialLimit;
+
+    @Value("${grpc.client.inventory.concurrency-limit.min-limit:5}")
+    private int concurrencyMinLimit;
+
+    @Value("${grpc.client.inventory.concurrency-limit.max-limit:200}")
+    private int concurrencyMaxLimit;
+
+    @Value("${grpc.client.inventory.concurrency-limit.backoff-ratio:0.9}")
+    private double concurrencyBackoffRatio;
+
+    @Value("${grpc.client.inventory.concurrency-limit.latency-tolerance:2.0}")
+    private double concurrencyLatencyTolerance;
+
+    @Value("${grpc.client.inventory.circuit-breaker.window-size:50}")
+    private int circuitWindowSize;
+
+    @Value("${grpc.client.inventory.circuit-breaker.minimum-calls:20}")
+    private int circuitMinimumCalls;
+
+    @Value("${grpc.client.inventory.circuit-breaker.failure-rate-threshold:50}")
+    private int circuitFailureRateThreshold;
+
+    @Value("${grpc.client.inventory.circuit-breaker.slow-call-threshold-ms:500}")
+    private long circuitSlowCallThresholdMs;
+
+    @Value("${grpc.client.inventory.circuit-breaker.slow-call-rate-threshold:80}")
+    private int circuitSlowCallRateThreshold;
+
+    @Value("${grpc.client.inventory.circuit-breaker.open-duration-ms:10000}")
+    private long circuitOpenDurationMs;
+
+    @Value("${grpc.client.inventory.circuit-breaker.half-open-calls:5}")
+    private int circuitHalfOpenCalls;
+
+    private InventoryChannelPool channelPool;
+    private CircuitBreaker circuitBreaker;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private InventoryStatusSubscription statusSubscription;
 
     @PostConstruct
     public void init() {
+        circuitBreaker = new CircuitBreaker("inventory", circuitWindowSize, circuitMinimumCalls,
+                circuitFailureRateThreshold, Duration.ofMillis(circuitSlowCallThresholdMs),
+                circuitSlowCallRateThreshold, Duration.ofMillis(circuitOpenDurationMs), circuitHalfOpenCalls,
+                meterRegistry);
+        if (concurrencyLimitEnabled) {
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter("inventory", concurrencyInitialLimit,
+                    concurrencyMinLimit, concurrencyMaxLimit, concurrencyBackoffRatio, concurrencyLatencyTolerance,
+                    meterRegistry);
+        }
+
         try {
-            channel = ManagedChannelBuilder.forAddress(inventoryHost, inventoryPort)
-                    .usePlaintext()
-                    .keepAliveTime(30, TimeUnit.SECONDS)
-                    .keepAliveTimeout(5, TimeUnit.SECONDS)
-                    .keepAliveWithoutCalls(true)
-                    .maxInboundMessageSize(4 * 1024 * 1024)
-                    .build();
-            
-            blockingStub = InventoryServiceGrpc.newBlockingStub(channel);
-            
-            log.info("Inventory gRPC client initialized: {}:{}", inventoryHost, inventoryPort);
+            List<String> targets = endpoints == null || endpoints.isBlank()
+                    ? List.of(inventoryHost + ":" + inventoryPort)
+                    : Arrays.stream(endpoints.split(",")).map(String::trim).filter(t -> !t.isEmpty()).toList();
+
+            channelPool = new InventoryChannelPool(targets, channelsPerEndpoint, InventoryGrpcClient::createChannel,
+                    InventoryChannelPool.Balancer.fromProperty(loadBalancing), Duration.ofMillis(healthCheckIntervalMs),
+                    ejectionFailureThreshold, meterRegistry);
+
+            log.info("Inventory gRPC client initialized: {}", targets);
             
             // Test connection (without product info for test)
-            testConnection();
+            if (testConnectionOnStartup) {
+                testConnection();
+            }
+
+            if (subscriptionEnabled) {
+                statusSubscription = new InventoryStatusSubscription(channelPool, inventoryStatusTable,
+                        this::onStatusChange, applicationName, Duration.ofMillis(subscriptionInitialBackoffMs),
+                        Duration.ofMillis(subscriptionMaxBackoffMs), meterRegistry);
+                statusSubscription.start();
+            }
             
         } catch (Exception e) {
             log.error("Failed to initialize gRPC client", e);
         }
     }
 
+    private static ManagedChannel createChannel(String target) {
+        ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forTarget(target);
+        if (target.contains("://")) {
+            // Target có resolver trả nhiều địa chỉ: để gRPC chia đều request giữa các địa chỉ đó
+            builder.defaultLoadBalancingPolicy("round_robin");
+        }
+        return builder
+                .usePlaintext()
+                .keepAliveTime(30, TimeUnit.SECONDS)
+                .keepAliveTimeout(5, TimeUnit.SECONDS)
+                .keepAliveWithoutCalls(true)
+                .maxInboundMessageSize(4 * 1024 * 1024)
+                .build();
+    }
+
     private void testConnection() {
         try {
             CheckInventoryRequest testRequest = CheckInventoryRequest.newBuilder()
@@ -69,134 +215,298 @@ public class InventoryGrpcClient {
                             .build())
                     .build();
             
-            InventoryServiceGrpc.InventoryServiceBlockingStub stub = blockingStub
-                    .withDeadlineAfter(5, TimeUnit.SECONDS);
-            
-            stub.checkInventory(testRequest);
+            InventoryChannelPool.Lease lease = channelPool.acquire();
+            try {
+                InventoryServiceGrpc.newBlockingStub(lease.channel())
+                        .withDeadlineAfter(5, TimeUnit.SECONDS)
+                        .checkInventory(testRequest);
+                lease.release(false);
+            } catch (StatusRuntimeException e) {
+                lease.release(isConnectionFailure(e));
+                throw e;
+            }
             log.info("gRPC connection test successful");
         } catch (Exception e) {
             log.warn("gRPC connection test failed: {}", e.getMessage());
         }
     }
 
+    // Thay đổi được đẩy về: ghép vào response ngay, kết quả tra đã lưu không còn đúng
+    private void onStatusChange(InventoryStatusChange change) {
+        LocalDateTime updatedAt = change.getUpdatedAt() > 0
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(change.getUpdatedAt()), ZoneId.systemDefault())
+                : null;
+        inventoryStatusOverlay.update(change.getProductId(), change.getStatus(), updatedAt);
+        inventoryResultCache.invalidate(change.getProductId());
+    }
+
     @PreDestroy
     public void destroy() {
-        if (channel != null && !channel.isShutdown()) {
-            try {
-                channel.shutdown();
-                if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
-                    channel.shutdownNow();
-                }
-                log.info("gRPC client shutdown completed");
-            } catch (InterruptedException e) {
-                channel.shutdownNow();
-                Thread.currentThread().interrupt();
-                log.warn("gRPC client shutdown interrupted");
-            }
+        if (statusSubscription != null) {
+            statusSubscription.stop();
+        }
+        if (channelPool != null) {
+            channelPool.shutdown();
+            log.info("gRPC client shutdown completed");
         }
     }
 
     /**
-     * Check inventory for a single product with product information
+     * Check inventory for a single product with product information.
+     * Never fails: on error, timeout or an open circuit the product's last known status is returned.
      */
-    public CheckInventoryResponse checkInventoryWithProductInfo(String productId, int quantity, 
+    public CompletableFuture<CheckInventoryResponse> checkInventoryWithProductInfoAsync(String productId, int quantity,
             String inventoryStatus, String productName, double price) {
-        try {
-            ProductInfo.Builder productInfoBuilder = ProductInfo.newBuilder()
-                    .setInventoryStatus(inventoryStatus != null ? inventoryStatus : "")
-                    .setName(productName != null ? productName : "")
-                    .setPrice(price);
-
-            CheckInventoryRequest request = CheckInventoryRequest.newBuilder()
-                    .setProductId(productId)
-                    .setQuantity(quantity)
-                    .setProductInfo(productInfoBuilder.build())
-                    .setMetadata(Metadata.newBuilder()
-                            .putData("source", "product-service")
-                            .putData("timestamp", String.valueOf(System.currentTimeMillis()))
-                            .putData("operation", "check_inventory_with_product_info")
-                            .build())
-                    .build();
+        ProductInfo.Builder productInfoBuilder = ProductInfo.newBuilder()
+                .setInventoryStatus(inventoryStatus != null ? inventoryStatus : "")
+                .setName(productName != null ? productName : "")
+                .setPrice(price);
 
-            InventoryServiceGrpc.InventoryServiceBlockingStub stub = blockingStub
-                    .withDeadlineAfter(10, TimeUnit.SECONDS);
+        CheckInventoryRequest request = CheckInventoryRequest.newBuilder()
+                .setProductId(productId)
+                .setQuantity(quantity)
+                .setProductInfo(productInfoBuilder.build())
+                .setMetadata(Metadata.newBuilder()
+                        .putData("source", "product-service")
+                        .putData("timestamp", String.valueOf(System.currentTimeMillis()))
+                        .putData("operation", "check_inventory_with_product_info")
+                        .build())
+                .build();
 
-            CheckInventoryResponse response = stub.checkInventory(request);
-            
-            log.debug("Inventory check completed for product: {} - available: {}, quantity: {}", 
-                    productId, response.getAvailable(), response.getAvailableQuantity());
-            
-            return response;
-            
-        } catch (StatusRuntimeException e) {
-            log.error("gRPC call failed for checkInventoryWithProductInfo: productId={}, status={}", 
-                    productId, e.getStatus());
-            throw new RuntimeException("Failed to check inventory for product: " + productId, e);
-        } catch (Exception e) {
-            log.error("Unexpected error in checkInventoryWithProductInfo: productId={}", productId, e);
-            throw new RuntimeException("Failed to check inventory for product: " + productId, e);
-        }
+        return call("checkInventory", deadlineMs, stub -> stub.checkInventory(request),
+                () -> fallbackResponse(productId, inventoryStatus));
+    }
+
+    public CompletableFuture<CheckInventoryResponse> checkInventoryAsync(String productId, int quantity) {
+        return checkInventoryWithProductInfoAsync(productId, quantity, "", "", 0.0);
     }
 
     /**
-     * Legacy method for backward compatibility
+     * Check inventory batch. Never fails: items fall back to their last known status.
      */
-    public CheckInventoryResponse checkInventory(String productId, int quantity) {
-        return checkInventoryWithProductInfo(productId, quantity, "", "", 0.0);
+    public CompletableFuture<CheckInventoryBatchResponse> checkInventoryBatchWithProductInfoAsync(
+            List<InventoryCheckItemWithInfo> items) {
+        List<InventoryItem> grpcItems = items.stream()
+                .map(item -> InventoryItem.newBuilder()
+                        .setProductId(item.getProductId())
+                        .setQuantity(item.getQuantity())
+                        .build())
+                .toList();
+
+        CheckInventoryBatchRequest request = CheckInventoryBatchRequest.newBuilder()
+                .addAllItems(grpcItems)
+                .setMetadata(Metadata.newBuilder()
+                        .putData("source", "product-service")
+                        .putData("timestamp", String.valueOf(System.currentTimeMillis()))
+                        .putData("operation", "check_inventory_batch")
+                        .putData("item_count", String.valueOf(items.size()))
+                        .build())
+                .build();
+
+        return call("checkInventoryBatch", batchDeadlineMs, stub -> stub.checkInventoryBatch(request),
+                () -> fallbackBatchResponse(items));
+    }
+
+    public CompletableFuture<CheckInventoryBatchResponse> checkInventoryBatchAsync(List<InventoryCheckItem> items) {
+        return checkInventoryBatchWithProductInfoAsync(withoutProductInfo(items));
     }
 
     /**
-     * Check inventory batch with product information
+     * Blocking variant of {@link #checkInventoryWithProductInfoAsync}, waits at most the call deadline.
      */
+    public CheckInventoryResponse checkInventoryWithProductInfo(String productId, int quantity,
+            String inventoryStatus, String productName, double price) {
+        return checkInventoryWithProductInfoAsync(productId, quantity, inventoryStatus, productName, price).join();
+    }
+
+    public CheckInventoryResponse checkInventory(String productId, int quantity) {
+        return checkInventoryAsync(productId, quantity).join();
+    }
+
     public CheckInventoryBatchResponse checkInventoryBatchWithProductInfo(List<InventoryCheckItemWithInfo> items) {
-        try {
-            List<InventoryItem> grpcItems = items.stream()
-                    .map(item -> InventoryItem.newBuilder()
-                            .setProductId(item.getProductId())
-                            .setQuantity(item.getQuantity())
-                            .build())
-                    .toList();
+        return checkInventoryBatchWithProductInfoAsync(items).join();
+    }
 
-            CheckInventoryBatchRequest request = CheckInventoryBatchRequest.newBuilder()
-                    .addAllItems(grpcItems)
-                    .setMetadata(Metadata.newBuilder()
-                            .putData("source", "product-service")
-                            .putData("timestamp", String.valueOf(System.currentTimeMillis()))
-                            .putData("operation", "check_inventory_batch")
-                            .putData("item_count", String.valueOf(items.size()))
-                            .build())
-                    .build();
+    public CheckInventoryBatchResponse checkInventoryBatch(List<InventoryCheckItem> items) {
+        return checkInventoryBatchAsync(items).join();
+    }
 
-            InventoryServiceGrpc.InventoryServiceBlockingStub stub = blockingStub
-                    .withDeadlineAfter(15, TimeUnit.SECONDS);
+    /**
+     * Whether a response status marks a fallback answer (last known status) rather than one from the inventory service.
+     */
+    public static boolean isFallback(Status status) {
+        return FALLBACK_STATUS.equals(status);
+    }
 
-            CheckInventoryBatchResponse response = stub.checkInventoryBatch(request);
-            
-            log.info("Inventory batch check completed: {} items processed", response.getItemsCount());
-            
-            return response;
-            
-        } catch (StatusRuntimeException e) {
-            log.error("gRPC call failed for checkInventoryBatchWithProductInfo: itemsCount={}, status={}", 
-                    items.size(), e.getStatus());
-            throw new RuntimeException("Failed to check inventory batch", e);
-        } catch (Exception e) {
-            log.error("Unexpected error in checkInventoryBatchWithProductInfo: itemsCount={}", items.size(), e);
-            throw new RuntimeException("Failed to check inventory batch", e);
-        }
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
     }
 
     /**
-     * Legacy method for backward compatibility  
+     * Current adaptive limit of concurrent inventory calls, or -1 when limiting is disabled.
      */
-    public CheckInventoryBatchResponse checkInventoryBatch(List<InventoryCheckItem> items) {
-        List<InventoryCheckItemWithInfo> itemsWithInfo = items.stream()
-                .map(item -> new InventoryCheckItemWithInfo(
-                        item.getProductId(), 
-                        item.getQuantity(), 
-                        "", "", 0.0))
+    public int getConcurrencyLimit() {
+        return concurrencyLimiter != null ? concurrencyLimiter.getLimit() : -1;
+    }
+
+    /**
+     * Runs {@code rpc} with at most {@code timeoutMs}, or less when the calling request has less time left.
+     */
+    private <T> CompletableFuture<T> call(String method, long timeoutMs,
+            Function<InventoryServiceGrpc.InventoryServiceFutureStub, ListenableFuture<T>> rpc, Supplier<T> fallback) {
+        RequestDeadline caller = RequestDeadline.current();
+        // Caller đã huỷ hoặc hết hạn: không tốn thêm một lời gọi mà không ai chờ kết quả
+        if (caller.isAbandoned()) {
+            count(method, "abandoned");
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+        if (channelPool == null) {
+            count(method, "rejected");
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+        // Vượt giới hạn đồng thời: trả ngay giá trị dự phòng, không xếp hàng chờ inventory service
+        if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+            count(method, "limited");
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            releaseLimitWithoutSample();
+            count(method, "rejected");
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+
+        long start = System.nanoTime();
+        InventoryChannelPool.Lease lease = channelPool.acquire();
+        ListenableFuture<T> future;
+        try {
+            long timeoutNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(timeoutMs), caller.remainingNanos());
+            future = rpc.apply(InventoryServiceGrpc.newFutureStub(lease.channel())
+                    .withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS));
+        } catch (RuntimeException e) {
+            lease.release(true);
+            releaseLimitWithoutSample();
+            circuitBreaker.record(System.nanoTime() - start, true);
+            count(method, "fallback");
+            log.warn("Failed to start inventory {} call: {}", method, e.getMessage());
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                // Huỷ luôn lời gọi gRPC bên dưới
+                future.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        Futures.addCallback(future, new FutureCallback<T>() {
+            @Override
+            public void onSuccess(T response) {
+                long elapsed = System.nanoTime() - start;
+                lease.release(false);
+                releaseLimit(elapsed, false);
+                circuitBreaker.record(elapsed, false);
+                count(method, "success");
+                result.complete(response);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                long elapsed = System.nanoTime() - start;
+                boolean connectionFailure = isConnectionFailure(t);
+                lease.release(connectionFailure);
+                if (future.isCancelled()) {
+                    releaseLimitWithoutSample();
+                    circuitBreaker.releaseWithoutRecord();
+                    return;
+                }
+                if (caller.isAbandoned()) {
+                    // Hết hạn theo caller chứ không phải inventory service lỗi: không lấy mẫu cho limit và circuit breaker
+                    releaseLimitWithoutSample();
+                    circuitBreaker.releaseWithoutRecord();
+                    count(method, "abandoned");
+                    result.complete(fallback.get());
+                    return;
+                }
+                releaseLimit(elapsed, connectionFailure);
+                circuitBreaker.record(elapsed, true);
+                count(method, "fallback");
+                log.warn("Inventory {} call failed, using last known status: {}", method,
+                        t instanceof StatusRuntimeException statusException ? statusException.getStatus() : t.toString());
+                result.complete(fallback.get());
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    private void releaseLimit(long elapsedNanos, boolean dropped) {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release(elapsedNanos, dropped);
+        }
+    }
+
+    // Lời gọi bị huỷ hoặc không bắt đầu được: latency không phản ánh tải của inventory service
+    private void releaseLimitWithoutSample() {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.releaseWithoutSample();
+        }
+    }
+
+    // Chỉ lỗi kết nối / quá hạn mới tính là endpoint không khoẻ, lỗi nghiệp vụ thì không
+    private static boolean isConnectionFailure(Throwable t) {
+        if (t instanceof StatusRuntimeException statusException) {
+            io.grpc.Status.Code code = statusException.getStatus().getCode();
+            return code == io.grpc.Status.Code.UNAVAILABLE || code == io.grpc.Status.Code.DEADLINE_EXCEEDED;
+        }
+        return false;
+    }
+
+    private String lastKnownStatus(String productId, String inventoryStatus) {
+        String latest = inventoryStatusOverlay.statusOf(productId);
+        if (latest != null) {
+            return latest;
+        }
+        return inventoryStatus != null ? inventoryStatus : "";
+    }
+
+    private CheckInventoryResponse fallbackResponse(String productId, String inventoryStatus) {
+        String status = lastKnownStatus(productId, inventoryStatus);
+        return CheckInventoryResponse.newBuilder()
+                .setProductId(productId)
+                .setStatus(status)
+                .setAvailable(AVAILABLE.equals(status))
+                .setResultStatus(FALLBACK_STATUS)
+                .build();
+    }
+
+    private CheckInventoryBatchResponse fallbackBatchResponse(List<InventoryCheckItemWithInfo> items) {
+        CheckInventoryBatchResponse.Builder response = CheckInventoryBatchResponse.newBuilder()
+                .setResultStatus(FALLBACK_STATUS);
+        for (InventoryCheckItemWithInfo item : items) {
+            String status = lastKnownStatus(item.getProductId(), item.getInventoryStatus());
+            response.addItems(InventoryStatus.newBuilder()
+                    .setProductId(item.getProductId())
+                    .setStatus(status)
+                    .setAvailable(AVAILABLE.equals(status))
+                    .setErrorMessage(FALLBACK_STATUS.getMessage())
+                    .build());
+        }
+        return response.build();
+    }
+
+    private static List<InventoryCheckItemWithInfo> withoutProductInfo(List<InventoryCheckItem> items) {
+        return items.stream()
+                .map(item -> new InventoryCheckItemWithInfo(item.getProductId(), item.getQuantity(), "", "", 0.0))
                 .toList();
-        return checkInventoryBatchWithProductInfo(itemsWithInfo);
+    }
+
+    private void count(String method, String result) {
+        Counter.builder("grpc.client.inventory.calls")
+                .description("Inventory gRPC calls by outcome")
+                .tag("method", method)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
     }
 
     // Inner classes for request items
@@ -0,0 +1,187 @@
+package com.ecommerce.product.grpc.client;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.ecommerce.grpc.common.Metadata;
+import com.ecommerce.grpc.inventory.InventoryServiceGrpc;
+import com.ecommerce.grpc.inventory.InventoryStatusChange;
+import com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest;
+import com.ecommerce.product.cache.InventoryStatusTable;
+
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Giữ một stream SubscribeInventoryStatus tới inventory service và đổ các thay đổi vào {@link InventoryStatusTable}.
+ * Khi stream đứt thì bảng thôi trả lời tra cứu, kết nối lại với backoff và resume từ version cuối đã nhận;
+ * inventory service gửi RESET + snapshot nếu không resume được.
+ */
+@Slf4j
+public class InventoryStatusSubscription {
+
+    private final InventoryChannelPool channelPool;
+    private final InventoryStatusTable table;
+    private final Consumer<InventoryStatusChange> onChange;
+    private final String subscriberId;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Counter changes;
+    private final Counter reconnects;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile long backoffNanos;
+    private ClientCallStreamObserver<SubscribeInventoryStatusRequest> call;
+    private boolean stopped;
+
+    /**
+     * @param onChange called for every change received after the snapshot, including changes replayed on resume
+     */
+    public InventoryStatusSubscription(InventoryChannelPool channelPool, InventoryStatusTable table,
+            Consumer<InventoryStatusChange> onChange, String subscriberId, Duration initialBackoff,
+            Duration maxBackoff, MeterRegistry meterRegistry) {
+        this.channelPool = channelPool;
+        this.table = table;
+        this.onChange = onChange;
+        this.subscriberId = subscriberId;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = Math.max(initialBackoffNanos, maxBackoff.toNanos());
+        this.backoffNanos = initialBackoffNanos;
+        this.changes = Counter.builder("grpc.client.inventory.subscription.changes")
+                .description("Inventory status changes received over the subscription")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("grpc.client.inventory.subscription.reconnects")
+                .description("Times the inventory status subscription was reopened")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-status-subscription");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.execute(this::subscribe);
+    }
+
+    public void stop() {
+        synchronized (this) {
+            stopped = true;
+            if (call != null) {
+                call.cancel("product service shutting down", null);
+            }
+        }
+        table.setLive(false);
+        scheduler.shutdownNow();
+    }
+
+    private void subscribe() {
+        long fromVersion = table.resumeVersion();
+        SubscribeInventoryStatusRequest request = SubscribeInventoryStatusRequest.newBuilder()
+                .setFromVersion(fromVersion)
+                .setSubscriberId(subscriberId)
+                .setMetadata(Metadata.newBuilder()
+                        .putData("source", "product-service")
+                        .putData("timestamp", String.valueOf(System.currentTimeMillis()))
+                        .build())
+                .build();
+
+        InventoryChannelPool.Lease lease = channelPool.acquire();
+        log.info("Subscribing to inventory status changes on {} from version {}", lease.target(), fromVersion);
+        InventoryServiceGrpc.newStub(lease.channel()).subscribeInventoryStatus(request, new ChangeObserver(lease));
+    }
+
+    private void resubscribe() {
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            call = null;
+        }
+        table.setLive(false);
+        reconnects.increment();
+        long delay = backoffNanos;
+        backoffNanos = Math.min(maxBackoffNanos, backoffNanos * 2);
+        try {
+            scheduler.schedule(this::subscribe, delay, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            // Scheduler đã dừng cùng lúc với stop()
+            log.debug("Inventory status subscription not rescheduled: {}", e.getMessage());
+        }
+    }
+
+    private final class ChangeObserver implements ClientResponseObserver<SubscribeInventoryStatusRequest, InventoryStatusChange> {
+
+        private final InventoryChannelPool.Lease lease;
+        // Giữa RESET và SNAPSHOT_END: trạng thái hiện có, không phải thay đổi mới
+        private boolean inSnapshot;
+
+        private ChangeObserver(InventoryChannelPool.Lease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<SubscribeInventoryStatusRequest> requestStream) {
+            synchronized (InventoryStatusSubscription.this) {
+                if (stopped) {
+                    requestStream.cancel("product service shutting down", null);
+                }
+                call = requestStream;
+            }
+        }
+
+        @Override
+        public void onNext(InventoryStatusChange change) {
+            switch (change.getType()) {
+                case RESET -> {
+                    log.info("Inventory status subscription cannot resume, reloading snapshot");
+                    inSnapshot = true;
+                    table.setLive(false);
+                    table.reset();
+                }
+                case SNAPSHOT_END -> {
+                    inSnapshot = false;
+                    table.snapshotComplete(change.getVersion());
+                    table.setLive(true);
+                    backoffNanos = initialBackoffNanos;
+                }
+                case CHANGE -> {
+                    table.apply(change);
+                    if (!inSnapshot) {
+                        changes.increment();
+                        onChange.accept(change);
+                    }
+                }
+                default -> log.debug("Ignoring inventory status message of type {}", change.getType());
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            Status status = Status.fromThrowable(t);
+            lease.release(status.getCode() == Status.Code.UNAVAILABLE);
+            if (status.getCode() == Status.Code.UNIMPLEMENTED) {
+                // Bản inventory service cũ chưa có stream: thử lại thưa, tra cứu vẫn gọi RPC như cũ
+                log.info("Inventory service does not support status subscriptions");
+                backoffNanos = maxBackoffNanos;
+            } else if (status.getCode() != Status.Code.CANCELLED) {
+                log.warn("Inventory status subscription failed: {}", status);
+            }
+            resubscribe();
+        }
+
+        @Override
+        public void onCompleted() {
+            lease.release(false);
+            log.info("Inventory status subscription closed by the inventory service");
+            resubscribe();
+        }
+    }
+}
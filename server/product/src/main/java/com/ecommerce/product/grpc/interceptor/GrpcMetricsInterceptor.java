@@ -0,0 +1,198 @@
+package com.ecommerce.product.grpc.interceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.MessageLite;
+
+import io.grpc.Context;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Metrics cho mọi gRPC call, xem qua /actuator/metrics:
+ * {@code grpc.server.calls} (latency theo method và status, có histogram), {@code grpc.server.calls.in-flight},
+ * {@code grpc.server.request.size} và {@code grpc.server.response.size} (byte mỗi message),
+ * {@code grpc.server.work-after-cancel} (thời gian handler còn chạy sau khi client huỷ hoặc hết deadline).
+ * Meter của mỗi method được tạo một lần rồi giữ lại, không tra registry mỗi call.
+ */
+@Component
+@RequiredArgsConstructor
+public class GrpcMetricsInterceptor implements ServerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        MethodMeters method = meters.computeIfAbsent(call.getMethodDescriptor().getFullMethodName(),
+                name -> new MethodMeters(call.getMethodDescriptor()));
+        long startTime = System.nanoTime();
+        AtomicBoolean finished = new AtomicBoolean();
+        WastedWork wastedWork = new WastedWork(method);
+        method.inFlight.incrementAndGet();
+        // Context của call bị huỷ cả khi call kết thúc bình thường, WastedWork bỏ qua trường hợp đó
+        Context.current().addListener(context -> wastedWork.cancelled(), MoreExecutors.directExecutor());
+
+        ServerCall.Listener<ReqT> listener = next.startCall(
+                new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+                    @Override
+                    public void sendMessage(RespT message) {
+                        if (message instanceof MessageLite protobuf) {
+                            // Kích thước được protobuf ghi nhớ, lúc serialize không phải tính lại
+                            method.responseSize.record(protobuf.getSerializedSize());
+                        }
+                        super.sendMessage(message);
+                    }
+
+                    @Override
+                    public void close(Status status, Metadata trailers) {
+                        wastedWork.closed();
+                        if (finished.compareAndSet(false, true)) {
+                            method.finish(status.getCode(), System.nanoTime() - startTime);
+                        }
+                        super.close(status, trailers);
+                    }
+                }, headers);
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                if (message instanceof MessageLite protobuf) {
+                    method.requestSize.record(protobuf.getSerializedSize());
+                }
+                super.onMessage(message);
+                wastedWork.callbackReturned();
+            }
+
+            @Override
+            public void onHalfClose() {
+                // Handler unary chạy trong callback này
+                super.onHalfClose();
+                wastedWork.callbackReturned();
+            }
+
+            @Override
+            public void onReady() {
+                super.onReady();
+                wastedWork.callbackReturned();
+            }
+
+            @Override
+            public void onCancel() {
+                // Client huỷ hoặc hết deadline: server không gọi close()
+                if (finished.compareAndSet(false, true)) {
+                    method.finish(Status.Code.CANCELLED, System.nanoTime() - startTime);
+                }
+                super.onCancel();
+            }
+        };
+    }
+
+    /**
+     * Thời gian từ lúc call bị huỷ tới khi handler ngừng chạy: callback đang chạy trả về hoặc server đóng call.
+     */
+    private static final class WastedWork {
+
+        private final MethodMeters method;
+        private volatile boolean closed;
+        private volatile long cancelledAt;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private WastedWork(MethodMeters method) {
+            this.method = method;
+        }
+
+        void cancelled() {
+            if (!closed) {
+                cancelledAt = System.nanoTime();
+            }
+        }
+
+        void closed() {
+            closed = true;
+            callbackReturned();
+        }
+
+        void callbackReturned() {
+            long cancelledAt = this.cancelledAt;
+            if (cancelledAt != 0 && recorded.compareAndSet(false, true)) {
+                method.workAfterCancel.record(System.nanoTime() - cancelledAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private final class MethodMeters {
+
+        private final String service;
+        private final String method;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        private final Timer workAfterCancel;
+        private final Map<Status.Code, Timer> latency = new EnumMap<>(Status.Code.class);
+
+        private MethodMeters(MethodDescriptor<?, ?> descriptor) {
+            this.service = descriptor.getServiceName();
+            this.method = descriptor.getBareMethodName();
+            Gauge.builder("grpc.server.calls.in-flight", inFlight, AtomicInteger::get)
+                    .description("gRPC calls currently being handled")
+                    .tags("service", service, "method", method)
+                    .register(meterRegistry);
+            this.requestSize = DistributionSummary.builder("grpc.server.request.size")
+                    .description("Size of received gRPC request messages")
+                    .baseUnit("bytes")
+                    .tags("service", service, "method", method)
+                    .register(meterRegistry);
+            this.responseSize = DistributionSummary.builder("grpc.server.response.size")
+                    .description("Size of sent gRPC response messages")
+                    .baseUnit("bytes")
+                    .tags("service", service, "method", method)
+                    .register(meterRegistry);
+            this.workAfterCancel = Timer.builder("grpc.server.work-after-cancel")
+                    .description("Time handlers kept working after the call was cancelled or its deadline passed")
+                    .tags("service", service, "method", method)
+                    .register(meterRegistry);
+        }
+
+        void finish(Status.Code code, long latencyNanos) {
+            Timer timer;
+            synchronized (latency) {
+                timer = latency.computeIfAbsent(code, this::timer);
+            }
+            timer.record(latencyNanos, TimeUnit.NANOSECONDS);
+            inFlight.decrementAndGet();
+        }
+
+        private Timer timer(Status.Code code) {
+            return Timer.builder("grpc.server.calls")
+                    .description("Latency of handled gRPC calls")
+                    .tags("service", service, "method", method, "status", code.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
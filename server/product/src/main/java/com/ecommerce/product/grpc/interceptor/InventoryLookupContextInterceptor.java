@@ -0,0 +1,25 @@
+package com.ecommerce.product.grpc.interceptor;
+
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.product.service.InventoryLookupContext;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+// Mỗi gRPC call một InventoryLookupContext riêng
+@Component
+public class InventoryLookupContextInterceptor implements ServerInterceptor {
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        return Contexts.interceptCall(InventoryLookupContext.attach(Context.current()), call, headers, next);
+    }
+}
@@ -1,20 +1,32 @@
 package com.ecommerce.product.grpc.interceptor;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.stereotype.Component;
 
+import com.ecommerce.product.config.GrpcLoggingConfig;
+
 import io.grpc.ForwardingServerCall;
-import io.grpc.ForwardingServerCallListener;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Chỉ log call lỗi, call chậm hơn ngưỡng và một phần call lấy mẫu, theo {@link GrpcLoggingConfig}.
+ * Latency và số call của mọi request có trong metrics của {@link GrpcMetricsInterceptor}.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LoggingInterceptor implements ServerInterceptor {
 
+    private final GrpcLoggingConfig loggingConfig;
+
     @Override
     public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
             ServerCall<ReqT, RespT> call,
@@ -22,27 +34,32 @@ public class LoggingInterceptor implements ServerInterceptor {
             ServerCallHandler<ReqT, RespT> next) {
 
         String methodName = call.getMethodDescriptor().getFullMethodName();
-        long startTime = System.currentTimeMillis();
-
-        log.info("gRPC call started: {}", methodName);
-
-        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(
-                next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
-                    @Override
-                    public void close(Status status, Metadata trailers) {
-                        long endTime = System.currentTimeMillis();
-                        long latency = endTime - startTime;
-
-                        if (status.isOk()) {
-                            log.info("gRPC call completed: {} - completed in {} ms", methodName, latency);
-                        } else {
-                            log.error("gRPC call failed: {} - status: {} message: {} - took {} ms",
-                                    methodName, status.getCode(), status.getDescription(), latency);
-                        }
-
-                        super.close(status, trailers);
-                    }
-                }, headers)) {
-        };
+        GrpcLoggingConfig.Policy policy = loggingConfig.policyOf(call.getMethodDescriptor().getBareMethodName());
+        long slowCallNanos = TimeUnit.MILLISECONDS.toNanos(policy.getSlowCallThresholdMs());
+        boolean sampled = policy.getSampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < policy.getSampleRate();
+        long startTime = System.nanoTime();
+
+        log.debug("gRPC call started: {}", methodName);
+
+        return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                long latency = System.nanoTime() - startTime;
+
+                if (!status.isOk()) {
+                    log.warn("gRPC call failed: {} - status: {} message: {} - took {} ms", methodName,
+                            status.getCode(), status.getDescription(), TimeUnit.NANOSECONDS.toMillis(latency));
+                } else if (latency >= slowCallNanos) {
+                    log.warn("Slow gRPC call: {} - completed in {} ms", methodName,
+                            TimeUnit.NANOSECONDS.toMillis(latency));
+                } else if (sampled) {
+                    log.info("gRPC call completed: {} - completed in {} ms", methodName,
+                            TimeUnit.NANOSECONDS.toMillis(latency));
+                }
+
+                super.close(status, trailers);
+            }
+        }, headers);
     }
-}
\ No newline at end of file
+}
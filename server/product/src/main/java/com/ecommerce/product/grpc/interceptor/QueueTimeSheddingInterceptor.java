@@ -0,0 +1,52 @@
+package com.ecommerce.product.grpc.interceptor;
+
+import java.time.Duration;
+
+import com.ecommerce.product.grpc.server.GrpcServerExecutor;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Từ chối call với RESOURCE_EXHAUSTED khi nó đã chờ trong hàng đợi của {@link GrpcServerExecutor} quá lâu:
+ * lúc tới lượt thì caller (cart, order) thường đã gần hết deadline, xử lý tiếp chỉ làm hàng đợi dài thêm.
+ * Phải là interceptor ngoài cùng để call bị từ chối không chạm tới handler.
+ */
+@Slf4j
+public class QueueTimeSheddingInterceptor implements ServerInterceptor {
+
+    private final long maxQueueWaitNanos;
+    private final Counter shed;
+
+    public QueueTimeSheddingInterceptor(Duration maxQueueWait, MeterRegistry meterRegistry) {
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.shed = Counter.builder("grpc.server.executor.shed")
+                .description("gRPC calls rejected because they waited too long for a server thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        long waited = GrpcServerExecutor.currentQueueWaitNanos();
+        if (waited > maxQueueWaitNanos) {
+            shed.increment();
+            log.debug("Shedding {} after {} ms in the server queue",
+                    call.getMethodDescriptor().getFullMethodName(), waited / 1_000_000);
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("product service overloaded, retry later"),
+                    new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return next.startCall(call, headers);
+    }
+}
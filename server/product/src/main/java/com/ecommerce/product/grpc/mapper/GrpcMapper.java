@@ -2,6 +2,7 @@ package com.ecommerce.product.grpc.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
@@ -11,6 +12,7 @@ import com.ecommerce.grpc.product.CategoryInfo;
 import com.ecommerce.grpc.product.ImageInfo;
 import com.ecommerce.grpc.product.ProductSummary;
 import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 
 @Component
 public class GrpcMapper {
@@ -48,17 +50,16 @@ public class GrpcMapper {
 
         // Brand info
         if (dto.getBrand() != null) {
-            BrandInfo brandInfo = BrandInfo.newBuilder()
+            BrandInfo.Builder brandInfo = BrandInfo.newBuilder()
                     .setId(dto.getBrand().getId())
-                    .setName(dto.getBrand().getName())
-                    .build();
+                    .setName(dto.getBrand().getName());
 
             if (dto.getBrand().getSlug() != null) {
-                brandInfo = brandInfo.toBuilder().setSlug(dto.getBrand().getSlug()).build();
+                brandInfo.setSlug(dto.getBrand().getSlug());
             }
 
             if (dto.getBrand().getCountryOfOrigin() != null) {
-                brandInfo = brandInfo.toBuilder().setCountryOfOrigin(dto.getBrand().getCountryOfOrigin()).build();
+                brandInfo.setCountryOfOrigin(dto.getBrand().getCountryOfOrigin());
             }
 
             builder.setBrand(brandInfo);
@@ -116,4 +117,32 @@ public class GrpcMapper {
                 .map(this::toProductSummaryProto)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * The given summaries holding only the named ProductSummary fields (proto field names, e.g. {@code id},
+     * {@code price}). Unknown names are ignored; no names means all fields. Applied to the cached protos from
+     * {@code ProductSummaryProtoCache.toProductSummaryList(...)}.
+     */
+    public List<ProductSummary> selectFields(List<ProductSummary> summaries, List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return summaries;
+        }
+
+        List<FieldDescriptor> selected = fields.stream()
+                .map(name -> ProductSummary.getDescriptor().findFieldByName(name.trim()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return summaries.stream()
+                .map(summary -> {
+                    ProductSummary.Builder builder = ProductSummary.newBuilder();
+                    for (FieldDescriptor field : selected) {
+                        if (field.isRepeated() ? summary.getRepeatedFieldCount(field) > 0 : summary.hasField(field)) {
+                            builder.setField(field, summary.getField(field));
+                        }
+                    }
+                    return builder.build();
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.product.grpc.server;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
@@ -9,10 +10,14 @@ import javax.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.ecommerce.product.grpc.interceptor.GrpcMetricsInterceptor;
+import com.ecommerce.product.grpc.interceptor.InventoryLookupContextInterceptor;
 import com.ecommerce.product.grpc.interceptor.LoggingInterceptor;
+import com.ecommerce.product.grpc.interceptor.QueueTimeSheddingInterceptor;
 
 import io.grpc.Server;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,17 +32,43 @@ public class GrpcServer {
     @Value("${grpc.server.host:localhost}")
     private String host;
 
+    // bounded | virtual (Java 21+, nếu không có thì dùng bounded) | default (cached pool không giới hạn của gRPC)
+    @Value("${grpc.server.executor.mode:bounded}")
+    private String executorMode;
+
+    @Value("${grpc.server.executor.threads:64}")
+    private int executorThreads;
+
+    @Value("${grpc.server.executor.max-queue-wait-ms:500}")
+    private long maxQueueWaitMs;
+
     private Server server;
+    private GrpcServerExecutor executor;
 
     private final ProductGrpcService productGrpcService;
     private final LoggingInterceptor loggingInterceptor;
+    private final InventoryLookupContextInterceptor inventoryLookupContextInterceptor;
+    private final GrpcMetricsInterceptor grpcMetricsInterceptor;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     public void start() throws IOException {
         try {
-            server = NettyServerBuilder.forPort(port)
+            NettyServerBuilder builder = NettyServerBuilder.forPort(port)
                     .addService(productGrpcService)
-                    .intercept(loggingInterceptor)
+                    .intercept(inventoryLookupContextInterceptor)
+                    .intercept(loggingInterceptor);
+            if (!"default".equalsIgnoreCase(executorMode.trim())) {
+                executor = new GrpcServerExecutor(GrpcServerExecutor.Mode.from(executorMode), executorThreads,
+                        meterRegistry);
+                // Chạy trước logging và handler
+                builder.executor(executor)
+                        .intercept(new QueueTimeSheddingInterceptor(Duration.ofMillis(maxQueueWaitMs), meterRegistry));
+            }
+            // Ngoài cùng: call bị từ chối vì quá tải cũng được tính vào metrics
+            builder.intercept(grpcMetricsInterceptor);
+
+            server = builder
                     .maxInboundMessageSize(10 * 1024 * 1024) // 10MB
                     .maxInboundMetadataSize(8192) // 8KB
                     .keepAliveTime(30, TimeUnit.SECONDS)
@@ -80,6 +111,9 @@ public class GrpcServer {
             
             log.info("gRPC server shut down successfully");
         }
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 
     // Block main thread to keep server alive (if needed)
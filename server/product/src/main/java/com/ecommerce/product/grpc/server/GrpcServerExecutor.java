@@ -0,0 +1,113 @@
+package com.ecommerce.product.grpc.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executor chạy handler gRPC thay cho cached thread pool không giới hạn mặc định của gRPC.
+ * Ghi lại thời gian mỗi task chờ trong hàng đợi; {@link #currentQueueWaitNanos()} cho biết task đang chạy
+ * đã chờ bao lâu để {@code QueueTimeSheddingInterceptor} từ chối call khi server quá tải.
+ */
+@Slf4j
+public class GrpcServerExecutor implements Executor {
+
+    public enum Mode {
+        BOUNDED, VIRTUAL;
+
+        public static Mode from(String value) {
+            return "virtual".equalsIgnoreCase(value.trim()) ? VIRTUAL : BOUNDED;
+        }
+    }
+
+    private static final ThreadLocal<Long> QUEUE_WAIT_NANOS = new ThreadLocal<>();
+
+    private final ExecutorService delegate;
+    private final Mode mode;
+    private final Timer queueWait;
+
+    public GrpcServerExecutor(Mode mode, int threads, MeterRegistry meterRegistry) {
+        ExecutorService virtual = mode == Mode.VIRTUAL ? newVirtualThreadExecutor() : null;
+        if (virtual != null) {
+            this.delegate = virtual;
+            this.mode = Mode.VIRTUAL;
+        } else {
+            // Số thread cố định, hàng đợi không giới hạn: quá tải thể hiện qua thời gian chờ, không qua số thread
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "grpc-server-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            Gauge.builder("grpc.server.executor.queued", pool, p -> p.getQueue().size())
+                    .description("gRPC server tasks waiting for a thread")
+                    .register(meterRegistry);
+            Gauge.builder("grpc.server.executor.active", pool, ThreadPoolExecutor::getActiveCount)
+                    .description("gRPC server threads running a task")
+                    .register(meterRegistry);
+            this.delegate = pool;
+            this.mode = Mode.BOUNDED;
+        }
+        this.queueWait = Timer.builder("grpc.server.executor.queue-wait")
+                .description("Time gRPC server tasks wait before a thread picks them up")
+                .tag("mode", this.mode.name().toLowerCase())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        log.info("gRPC server executor: {}{}", this.mode.name().toLowerCase(),
+                this.mode == Mode.BOUNDED ? " (" + threads + " threads)" : "");
+    }
+
+    /**
+     * How long the task running on the current thread waited in the queue, -1 outside this executor.
+     */
+    public static long currentQueueWaitNanos() {
+        Long wait = QUEUE_WAIT_NANOS.get();
+        return wait != null ? wait : -1;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long enqueuedAt = System.nanoTime();
+        delegate.execute(() -> {
+            long wait = System.nanoTime() - enqueuedAt;
+            queueWait.record(wait, TimeUnit.NANOSECONDS);
+            QUEUE_WAIT_NANOS.set(wait);
+            try {
+                command.run();
+            } finally {
+                QUEUE_WAIT_NANOS.remove();
+            }
+        });
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() chỉ có từ Java 21
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not available on Java {}, using a bounded gRPC server executor",
+                    Runtime.version().feature());
+            return null;
+        }
+    }
+}
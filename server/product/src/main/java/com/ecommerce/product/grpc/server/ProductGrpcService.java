@@ -1,14 +1,18 @@
 package com.ecommerce.product.grpc.server;
 
+import java.io.UnsupportedEncodingException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.ecommerce.grpc.common.Status;
+import com.ecommerce.grpc.inventory.InventoryStatus;
 import com.ecommerce.grpc.product.CategoryRequest;
 import com.ecommerce.grpc.product.ProductBatchRequest;
 import com.ecommerce.grpc.product.ProductBatchResponse;
@@ -19,12 +23,18 @@ import com.ecommerce.grpc.product.ProductServiceGrpc;
 import com.ecommerce.grpc.product.ProductSummary;
 import com.ecommerce.grpc.product.ProductUIAction;
 import com.ecommerce.grpc.product.SearchProductRequest;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.ProductSummaryProtoCache;
+import com.ecommerce.product.dto.PagedResponseDTO;
 import com.ecommerce.product.dto.ProductDetailDTO;
+import com.ecommerce.product.dto.ProductFilterDTO;
 import com.ecommerce.product.dto.ProductSummaryDTO;
 import com.ecommerce.product.grpc.mapper.GrpcMapper;
 import com.ecommerce.product.service.InventoryIntegrationService;
 import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.RequestDeadline;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,16 +44,33 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBase {
 
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_BATCH_CHUNK_SIZE = 1000;
+
     private final ProductService productService;
     private final GrpcMapper grpcMapper;
     private final InventoryIntegrationService inventoryIntegrationService;
+    private final InventoryStatusOverlay inventoryStatusOverlay;
+    private final ProductSummaryProtoCache productSummaryProtoCache;
+
+    @Value("${grpc.search.default-results:5}")
+    private int searchDefaultResults;
+
+    @Value("${grpc.search-stream.page-size:10}")
+    private int searchStreamPageSize;
+
+    @Value("${grpc.search-stream.max-results:50}")
+    private int searchStreamMaxResults;
+
+    @Value("${grpc.products-batch-stream.chunk-size:200}")
+    private int batchStreamChunkSize;
 
     @Override
     public void searchProduct(SearchProductRequest request, StreamObserver<ProductResponse> responseObserver) {
         Instant start = Instant.now();
         String query = request.getQuery();
 
-        log.info("gRPC searchProduct called with query: {}", query);
+        log.debug("gRPC searchProduct called with query: {}", query);
 
         try {
             // Chuẩn bị UI action
@@ -54,7 +81,17 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
                     .putData("timestamp", String.valueOf(System.currentTimeMillis()))
                     .build();
 
-            String message = String.format("Tôi đã tìm thấy một số sản phẩm phù hợp với từ khóa '%s'.", query);
+            // Top-N lấy từ cùng đường tìm kiếm có cache với REST /products/search, chatbot không cần gọi thêm
+            int limit = request.getMaxResults() > 0
+                    ? Math.min(request.getMaxResults(), MAX_SEARCH_RESULTS)
+                    : searchDefaultResults;
+            PagedResponseDTO<ProductSummaryDTO> result = productService.searchProductsWithFilters(
+                    ProductFilterDTO.builder().q(query).build(), 0, limit);
+            List<ProductSummaryDTO> products = inventoryStatusOverlay.apply(result.getContent());
+
+            String message = result.getTotalElements() > 0
+                    ? String.format("Tôi đã tìm thấy %d sản phẩm phù hợp với từ khóa '%s'.", result.getTotalElements(), query)
+                    : String.format("Tôi không tìm thấy sản phẩm nào phù hợp với từ khóa '%s'.", query);
 
             // Tính độ trễ
             double latencyMs = Duration.between(start, Instant.now()).toMillis();
@@ -71,6 +108,9 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
                     .setUiAction(uiAction)
                     .setStatus(status)
                     .setLatencyMs(latencyMs)
+                    .addAllProducts(grpcMapper.selectFields(productSummaryProtoCache.toProductSummaryList(products),
+                            request.getFieldsList()))
+                    .setTotalResults(result.getTotalElements())
                     .build();
 
             responseObserver.onNext(response);
@@ -88,11 +128,11 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
         String productId = request.getProductId();
         String productName = request.getProductName();
 
-        log.info("gRPC getProductDetail called with id: {}, name: {}", productId, productName);
+        log.debug("gRPC getProductDetail called with id: {}, name: {}", productId, productName);
 
         try {
             // Lấy thông tin chi tiết sản phẩm từ service hiện có
-            ProductDetailDTO product = productService.getProductById(productId);
+            ProductDetailDTO product = inventoryStatusOverlay.apply(productService.getProductById(productId));
 
             // Tạo UI action
             ProductUIAction.Builder uiActionBuilder = ProductUIAction.newBuilder()
@@ -149,7 +189,7 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
         String categoryId = request.getCategoryId();
         String categoryName = request.getCategoryName();
 
-        log.info("gRPC getCategory called with id: {}, name: {}", categoryId, categoryName);
+        log.debug("gRPC getCategory called with id: {}, name: {}", categoryId, categoryName);
 
         try {
             // Tạo UI action
@@ -204,17 +244,26 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
         Instant start = Instant.now();
         List<String> productIds = request.getProductIdsList();
 
-        log.info("gRPC getProductsBatch called with {} ids", productIds.size());
+        log.debug("gRPC getProductsBatch called with {} ids", productIds.size());
 
         try {
+            // Kiểm tra tồn kho chạy song song với việc load sản phẩm từ DB/cache
+            CompletableFuture<Map<String, InventoryStatus>> inventoryCheck =
+                    inventoryIntegrationService.startInventoryCheck(productIds);
+
             // Lấy thông tin sản phẩm từ service
             List<ProductSummaryDTO> products = productService.getProductsByIds(productIds);
+            if (RequestDeadline.current().isAbandoned()) {
+                // Client đã huỷ hoặc hết deadline: không ai nhận response, bỏ phần việc còn lại
+                log.debug("getProductsBatch abandoned by the caller after loading {} products", products.size());
+                return;
+            }
 
             // Enrich with inventory information
-            products = inventoryIntegrationService.enrichWithInventoryInfo(products);
+            products = inventoryIntegrationService.applyInventoryInfo(products, inventoryCheck);
 
             // Chuyển đổi sang message protobuf
-            List<ProductSummary> productMessages = grpcMapper.toProductSummaryList(products);
+            List<ProductSummary> productMessages = productSummaryProtoCache.toProductSummaryList(products);
 
             // Tính độ trễ
             double latencyMs = Duration.between(start, Instant.now()).toMillis();
@@ -241,7 +290,7 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
                     .setMetadata(metadata)
                     .build();
 
-            log.info("Successfully returned {} products out of {} requested ({}ms)", 
+            log.debug("Successfully returned {} products out of {} requested ({}ms)", 
                     products.size(), productIds.size(), latencyMs);
 
             responseObserver.onNext(response);
@@ -271,87 +320,268 @@ public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBas
     }
 
     @Override
-    public void searchProductStream(SearchProductRequest request,
-            StreamObserver<ProductResponseChunk> responseObserver) {
-        String query = request.getQuery();
+    public void getProductsBatchStream(ProductBatchRequest request,
+            StreamObserver<ProductBatchResponse> responseObserver) {
+        log.debug("gRPC getProductsBatchStream called with {} ids", request.getProductIdsCount());
+
+        ServerCallStreamObserver<ProductBatchResponse> call = (ServerCallStreamObserver<ProductBatchResponse>) responseObserver;
+        BatchChunkStream stream = new BatchChunkStream(call, request.getProductIdsList(),
+                request.getChunkSize() > 0 ? Math.min(request.getChunkSize(), MAX_BATCH_CHUNK_SIZE) : batchStreamChunkSize);
+        call.setOnCancelHandler(stream::cancel);
+        call.setOnReadyHandler(stream::drain);
+        stream.drain();
+    }
 
-        log.info("gRPC searchProductStream called with query: {}", query);
+    /**
+     * Enriches the requested ids chunk by chunk (DB/cache load and inventory check) and emits each chunk as soon as
+     * it is ready, only while the client keeps up, so at most one chunk is held in memory.
+     * Runs on the call's serialized executor like {@link SearchResultStream}.
+     */
+    private final class BatchChunkStream {
+
+        private final ServerCallStreamObserver<ProductBatchResponse> call;
+        private final List<String> productIds;
+        private final int chunkSize;
+        private final Instant start = Instant.now();
+
+        private volatile boolean cancelled;
+        private boolean done;
+        private int chunk;
+        private int offset;
+        private int found;
+
+        private BatchChunkStream(ServerCallStreamObserver<ProductBatchResponse> call, List<String> productIds,
+                int chunkSize) {
+            this.call = call;
+            this.productIds = productIds;
+            this.chunkSize = chunkSize;
+        }
 
-        try {
-            // Chuẩn bị UI action
-            ProductUIAction uiAction = ProductUIAction.newBuilder()
-                    .setType("redirect")
-                    .setUrl("/search?q=" + java.net.URLEncoder.encode(query, "UTF-8"))
-                    .putData("query", query)
-                    .putData("streaming", "true")
-                    .build();
+        void cancel() {
+            cancelled = true;
+            log.debug("getProductsBatchStream cancelled after {} of {} ids", offset, productIds.size());
+        }
 
-            // Tạo message
-            String message = String
-                    .format("Tôi đã tìm kiếm sản phẩm '%s' cho bạn và đã tìm thấy một số kết quả phù hợp.", query);
+        // onCancel chỉ chạy sau khi drain trả về, call.isCancelled() thấy huỷ/hết deadline ngay giữa chừng
+        private boolean abandoned() {
+            return cancelled || call.isCancelled();
+        }
 
-            // Tạo status
-            Status status = Status.newBuilder()
-                    .setCode(Status.Code.OK)
-                    .setMessage("Success")
-                    .build();
+        void drain() {
+            try {
+                while (!done && !abandoned() && call.isReady()) {
+                    sendNextChunk();
+                }
+            } catch (Exception e) {
+                log.error("Error in getProductsBatchStream gRPC service", e);
+                done = true;
+                if (!abandoned()) {
+                    sendBatchError(call, start, e);
+                }
+            }
+        }
 
-            // Chia message thành các chunk để streaming
-            String[] chunks = message.split("\\s+");
-            StringBuilder builder = new StringBuilder();
+        private void sendNextChunk() {
+            Instant chunkStart = Instant.now();
+            List<String> ids = productIds.subList(offset, Math.min(offset + chunkSize, productIds.size()));
 
-            // Gửi các chunk
-            for (int i = 0; i < chunks.length; i++) {
-                builder.append(chunks[i]).append(" ");
+            // Kiểm tra tồn kho của chunk chạy song song với việc load chunk từ DB/cache
+            CompletableFuture<Map<String, InventoryStatus>> inventoryCheck =
+                    inventoryIntegrationService.startInventoryCheck(ids);
+            List<ProductSummaryDTO> products = productService.getProductsByIds(ids);
+            if (abandoned()) {
+                return;
+            }
+            products = inventoryIntegrationService.applyInventoryInfo(products, inventoryCheck);
+            if (abandoned()) {
+                return;
+            }
+
+            offset += ids.size();
+            found += products.size();
+            boolean last = offset >= productIds.size();
+            double latencyMs = Duration.between(chunkStart, Instant.now()).toMillis();
+
+            ProductBatchResponse.Builder response = ProductBatchResponse.newBuilder()
+                    .addAllProducts(productSummaryProtoCache.toProductSummaryList(products))
+                    .setStatus(Status.newBuilder()
+                            .setCode(Status.Code.OK)
+                            .setMessage("Success")
+                            .build())
+                    .setLatencyMs(latencyMs)
+                    .setChunk(chunk)
+                    .setFinished(last)
+                    .setMetadata(com.ecommerce.grpc.common.Metadata.newBuilder()
+                            .putData("chunk_requested", String.valueOf(ids.size()))
+                            .putData("chunk_found", String.valueOf(products.size()))
+                            .putData("total_requested", String.valueOf(productIds.size()))
+                            .putData("inventory_enriched", "true")
+                            .build());
+            if (last) {
+                response.getMetadataBuilder()
+                        .putData("total_found", String.valueOf(found))
+                        .putData("processing_time_ms", String.valueOf(Duration.between(start, Instant.now()).toMillis()));
+            }
 
-                if ((i + 1) % 3 == 0 || i == chunks.length - 1) {
-                    boolean isLast = (i == chunks.length - 1);
+            call.onNext(response.build());
+            chunk++;
+            if (last) {
+                done = true;
+                log.debug("Streamed {} products out of {} requested in {} chunk(s)", found, productIds.size(), chunk);
+                call.onCompleted();
+            }
+        }
+    }
+
+    @Override
+    public void searchProductStream(SearchProductRequest request,
+            StreamObserver<ProductResponseChunk> responseObserver) {
+        String query = request.getQuery();
 
-                    ProductResponseChunk chunk = ProductResponseChunk.newBuilder()
-                            .setChunk(builder.toString().trim())
-                            .setFinished(isLast)
-                            .setStatus(status)
-                            .build();
+        log.debug("gRPC searchProductStream called with query: {}", query);
+
+        ServerCallStreamObserver<ProductResponseChunk> call = (ServerCallStreamObserver<ProductResponseChunk>) responseObserver;
+        SearchResultStream stream = new SearchResultStream(call, query, request.getFieldsList(),
+                request.getPageSize() > 0 ? Math.min(request.getPageSize(), MAX_SEARCH_RESULTS) : searchStreamPageSize,
+                request.getMaxResults() > 0 ? Math.min(request.getMaxResults(), searchStreamMaxResults) : searchStreamMaxResults);
+        // Client huỷ: dừng tìm trang tiếp theo. Client đọc chậm: tạm dừng tới khi stream sẵn sàng lại
+        call.setOnCancelHandler(stream::cancel);
+        call.setOnReadyHandler(stream::drain);
+        // Trang đầu gửi ngay, không đợi callback onReady
+        stream.drain();
+    }
 
-                    // Chỉ gửi UI action ở chunk cuối cùng
-                    if (isLast) {
-                        chunk = chunk.toBuilder().setUiAction(uiAction).build();
-                    }
+    /**
+     * Streams search result pages one chunk per page, fetching the next page only when the client can take it.
+     * Runs on the call's serialized executor: {@link #drain} is re-entered from the onReady handler.
+     */
+    private final class SearchResultStream {
+
+        private final ServerCallStreamObserver<ProductResponseChunk> call;
+        private final String query;
+        private final List<String> fields;
+        private final int pageSize;
+        private final int maxResults;
+        private final ProductFilterDTO filter;
+
+        private volatile boolean cancelled;
+        private boolean done;
+        private int page;
+        private int sent;
+
+        private SearchResultStream(ServerCallStreamObserver<ProductResponseChunk> call, String query,
+                List<String> fields, int pageSize, int maxResults) {
+            this.call = call;
+            this.query = query;
+            this.fields = fields;
+            this.pageSize = pageSize;
+            this.maxResults = maxResults;
+            this.filter = ProductFilterDTO.builder().q(query).build();
+        }
 
-                    responseObserver.onNext(chunk);
+        void cancel() {
+            cancelled = true;
+            log.debug("searchProductStream for '{}' cancelled after {} page(s)", query, page);
+        }
 
-                    // Giả lập độ trễ giữa các chunk
-                    try {
-                        Thread.sleep(50);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
+        private boolean abandoned() {
+            return cancelled || call.isCancelled();
+        }
 
-                    builder = new StringBuilder();
+        void drain() {
+            try {
+                while (!done && !abandoned() && call.isReady()) {
+                    sendNextPage();
+                }
+            } catch (Exception e) {
+                log.error("Error in searchProductStream gRPC service", e);
+                done = true;
+                if (!abandoned()) {
+                    sendErrorChunk(call, e);
                 }
             }
+        }
 
-            responseObserver.onCompleted();
+        private void sendNextPage() throws UnsupportedEncodingException {
+            int size = Math.min(pageSize, maxResults - sent);
+            // Kích thước trang cố định để offset đúng, phần thừa của trang cuối bị cắt
+            PagedResponseDTO<ProductSummaryDTO> result = productService.searchProductsWithFilters(filter, page, pageSize);
+            List<ProductSummaryDTO> products = inventoryStatusOverlay.apply(result.getContent());
+            if (products.size() > size) {
+                products = products.subList(0, size);
+            }
+            sent += products.size();
+            boolean last = result.isLast() || products.isEmpty() || sent >= maxResults;
+            if (abandoned()) {
+                return;
+            }
 
-        } catch (Exception e) {
-            log.error("Error in searchProductStream gRPC service", e);
+            ProductResponseChunk.Builder chunk = ProductResponseChunk.newBuilder()
+                    .addAllProducts(grpcMapper.selectFields(productSummaryProtoCache.toProductSummaryList(products), fields))
+                    .setPage(page)
+                    .setTotalResults(result.getTotalElements())
+                    .setFinished(last)
+                    .setStatus(Status.newBuilder()
+                            .setCode(Status.Code.OK)
+                            .setMessage("Success")
+                            .build());
+            if (page == 0) {
+                chunk.setChunk(result.getTotalElements() > 0
+                        ? String.format("Tôi đã tìm thấy %d sản phẩm phù hợp với từ khóa '%s'.",
+                                result.getTotalElements(), query)
+                        : String.format("Tôi không tìm thấy sản phẩm nào phù hợp với từ khóa '%s'.", query));
+            }
+            // Chỉ gửi UI action ở chunk cuối cùng
+            if (last) {
+                chunk.setUiAction(ProductUIAction.newBuilder()
+                        .setType("redirect")
+                        .setUrl("/search?q=" + java.net.URLEncoder.encode(query, "UTF-8"))
+                        .putData("query", query)
+                        .putData("streaming", "true")
+                        .putData("total_results", String.valueOf(result.getTotalElements()))
+                        .build());
+            }
 
-            // Tạo status lỗi
-            Status status = Status.newBuilder()
-                    .setCode(Status.Code.ERROR)
-                    .setMessage("Error: " + e.getMessage())
-                    .build();
+            call.onNext(chunk.build());
+            page++;
+            if (last) {
+                done = true;
+                call.onCompleted();
+            }
+        }
+    }
 
-            // Gửi chunk lỗi
-            ProductResponseChunk errorChunk = ProductResponseChunk.newBuilder()
-                    .setChunk("Đã xảy ra lỗi khi tìm kiếm sản phẩm.")
-                    .setFinished(true)
-                    .setStatus(status)
-                    .build();
+    private void sendBatchError(StreamObserver<ProductBatchResponse> responseObserver, Instant start, Exception e) {
+        // Chunk lỗi kết thúc stream, các chunk đã gửi trước đó vẫn hợp lệ
+        ProductBatchResponse response = ProductBatchResponse.newBuilder()
+                .setStatus(Status.newBuilder()
+                        .setCode(Status.Code.ERROR)
+                        .setMessage("Error: " + e.getMessage())
+                        .build())
+                .setLatencyMs(Duration.between(start, Instant.now()).toMillis())
+                .setFinished(true)
+                .build();
 
-            responseObserver.onNext(errorChunk);
-            responseObserver.onCompleted();
-        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private void sendErrorChunk(StreamObserver<ProductResponseChunk> responseObserver, Exception e) {
+        // Tạo status lỗi
+        Status status = Status.newBuilder()
+                .setCode(Status.Code.ERROR)
+                .setMessage("Error: " + e.getMessage())
+                .build();
+
+        // Gửi chunk lỗi
+        ProductResponseChunk errorChunk = ProductResponseChunk.newBuilder()
+                .setChunk("Đã xảy ra lỗi khi tìm kiếm sản phẩm.")
+                .setFinished(true)
+                .setStatus(status)
+                .build();
+
+        responseObserver.onNext(errorChunk);
+        responseObserver.onCompleted();
     }
 
     private void sendErrorResponse(StreamObserver<ProductResponse> responseObserver, 
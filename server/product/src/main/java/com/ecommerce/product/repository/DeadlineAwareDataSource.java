@@ -0,0 +1,89 @@
+package com.ecommerce.product.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.ecommerce.product.service.RequestDeadline;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * DataSource đặt query timeout của mỗi statement theo thời gian còn lại của request ({@link RequestDeadline}),
+ * và không mở connection hay statement mới khi caller đã huỷ hoặc hết hạn.
+ * Không có deadline thì statement giữ nguyên timeout mặc định.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final Supplier<Counter> abandoned;
+
+    /**
+     * @param abandoned counter of connections and statements refused because the caller gave up,
+     *                  looked up lazily since the data source is created before the meter registry
+     */
+    public DeadlineAwareDataSource(DataSource targetDataSource, Supplier<Counter> abandoned) {
+        super(targetDataSource);
+        this.abandoned = abandoned;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkNotAbandoned(RequestDeadline.current());
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkNotAbandoned(RequestDeadline.current());
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    RequestDeadline deadline = STATEMENT_FACTORIES.contains(method.getName())
+                            ? RequestDeadline.current()
+                            : null;
+                    if (deadline != null) {
+                        checkNotAbandoned(deadline);
+                    }
+
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+
+                    if (deadline != null && deadline.hasDeadline() && result instanceof Statement statement) {
+                        // JDBC chỉ nhận timeout theo giây: làm tròn lên, tối thiểu 1 giây
+                        long remainingNanos = deadline.remainingNanos();
+                        long seconds = Math.max(1, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1)
+                                / TimeUnit.SECONDS.toNanos(1));
+                        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, seconds));
+                    }
+                    return result;
+                });
+    }
+
+    private void checkNotAbandoned(RequestDeadline deadline) throws SQLTimeoutException {
+        if (deadline.isAbandoned()) {
+            abandoned.get().increment();
+            throw new SQLTimeoutException(deadline.isCancelled()
+                    ? "Request was cancelled by the caller"
+                    : "Request deadline exceeded before the query was sent");
+        }
+    }
+}
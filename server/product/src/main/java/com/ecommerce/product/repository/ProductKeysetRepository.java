@@ -0,0 +1,23 @@
+package com.ecommerce.product.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ecommerce.product.dto.ProductCursor;
+import com.ecommerce.product.entity.Product;
+
+// Keyset (seek) pagination - thay OFFSET bằng điều kiện (sort key, id) > cursor
+public interface ProductKeysetRepository {
+
+    /**
+     * Positions (sort value + id) of up to {@code limit} products following {@code after},
+     * ordered by the sort key then id. Products without a sort value are skipped.
+     *
+     * @param spec  optional filter, may be null
+     * @param after cursor of the previous page, null for the first page
+     */
+    List<ProductCursor> findPositionsAfter(Specification<Product> spec, ProductCursor.SortKey sortKey,
+            Sort.Direction direction, ProductCursor after, int limit);
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.product.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ecommerce.product.dto.ProductCursor;
+import com.ecommerce.product.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class ProductKeysetRepositoryImpl implements ProductKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public List<ProductCursor> findPositionsAfter(Specification<Product> spec, ProductCursor.SortKey sortKey,
+            Sort.Direction direction, ProductCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+
+        Path<Comparable> key = root.get(sortKey.getProperty());
+        Path<String> id = root.get("id");
+        boolean descending = direction.isDescending();
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicates.add(filter);
+            }
+        }
+        predicates.add(cb.isNotNull(key));
+
+        if (after != null) {
+            // (key, id) đứng sau cursor: key vượt qua giá trị cũ, hoặc bằng và id vượt qua id cũ
+            Comparable value = after.getValue();
+            Predicate pastKey = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+            Predicate pastId = descending ? cb.lessThan(id, after.getId()) : cb.greaterThan(id, after.getId());
+            predicates.add(cb.or(pastKey, cb.and(cb.equal(key, value), pastId)));
+        }
+
+        // Chọn cả sort key để dùng được với DISTINCT (filter theo category) và để tạo cursor
+        query.multiselect(id, key)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(descending ? cb.desc(key) : cb.asc(key), descending ? cb.desc(id) : cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> new ProductCursor(sortKey, direction, (Comparable<?>) row.get(1), row.get(0, String.class)))
+                .toList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.product.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ecommerce.product.entity.Product;
+
+// Truy vấn theo Specification chỉ lấy ID - dữ liệu hiển thị lấy từ fragment cache
+public interface ProductSliceRepository {
+
+    /**
+     * Ids of the requested page in the pageable's sort order, fetched with one extra row
+     * to compute {@code hasNext} instead of running a count query.
+     *
+     * @param spec optional filter, may be null
+     */
+    Slice<String> findIdSlice(Specification<Product> spec, Pageable pageable);
+
+    /**
+     * Ids of the requested page in the pageable's sort order, with the total from a count query.
+     *
+     * @param spec optional filter, may be null
+     */
+    Page<String> findIdPage(Specification<Product> spec, Pageable pageable);
+}
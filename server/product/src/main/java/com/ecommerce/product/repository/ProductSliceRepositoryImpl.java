@@ -0,0 +1,100 @@
+package com.ecommerce.product.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.ecommerce.product.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class ProductSliceRepositoryImpl implements ProductSliceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<String> findIdSlice(Specification<Product> spec, Pageable pageable) {
+        List<String> ids = findIds(spec, pageable, pageable.getPageSize() + 1);
+
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable, hasNext);
+    }
+
+    @Override
+    public Page<String> findIdPage(Specification<Product> spec, Pageable pageable) {
+        List<String> ids = findIds(spec, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(spec));
+    }
+
+    private List<String> findIds(Specification<Product> spec, Pageable pageable, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        applySpec(spec, root, query, cb);
+
+        // Cột sort cũng phải nằm trong SELECT khi query dùng DISTINCT (filter theo category)
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        selections.add(root.get("id"));
+        for (Sort.Order order : pageable.getSort()) {
+            Path<?> path = path(root, order.getProperty());
+            selections.add(path);
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.multiselect(selections).orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> row.get(0, String.class))
+                .toList();
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        applySpec(spec, root, query, cb);
+
+        // Join theo category có thể nhân bản dòng nên đếm DISTINCT khi spec bật distinct
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applySpec(Specification<Product> spec, Root<Product> root, CriteriaQuery<?> query,
+            CriteriaBuilder cb) {
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                query.where(filter);
+            }
+        }
+    }
+
+    private static Path<?> path(Root<Product> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+}
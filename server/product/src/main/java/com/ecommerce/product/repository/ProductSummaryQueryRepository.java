@@ -0,0 +1,171 @@
+package com.ecommerce.product.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ecommerce.product.dto.BrandDTO;
+import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.ImageDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.dto.SellerDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read path riêng cho ProductSummaryDTO: đọc thẳng các cột cần thiết qua JDBC,
+ * không tạo entity, không đi qua persistence context (không flush, không dirty checking).
+ *
+ * 3 truy vấn theo danh sách id, độc lập với nhau:
+ * product + brand + seller (cột phẳng), top 3 ảnh mỗi sản phẩm (window function), categories.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductSummaryQueryRepository {
+
+    public static final int MAX_IMAGES_PER_PRODUCT = 3;
+
+    static final String SUMMARY_SQL = """
+            SELECT p.id, p.name, p.short_description, p.price, p.original_price, p.rating_average,
+                   p.review_count, p.inventory_status, p.quantity_sold,
+                   b.id AS brand_id, b.name AS brand_name, b.slug AS brand_slug, b.country_of_origin,
+                   s.id AS seller_id, s.name AS seller_name, s.is_official
+            FROM products p
+            LEFT JOIN brands b ON b.id = p.brand_id
+            LEFT JOIN sellers s ON s.id = p.seller_id
+            WHERE p.id IN (:ids)
+            """;
+
+    // Ảnh không có position xếp sau cùng, giống thứ tự hiển thị cũ
+    static final String TOP_IMAGES_SQL = """
+            SELECT product_id, id, url, position
+            FROM (
+                SELECT i.product_id, i.id, i.url, i.position,
+                       ROW_NUMBER() OVER (PARTITION BY i.product_id
+                                          ORDER BY CASE WHEN i.position IS NULL THEN 1 ELSE 0 END, i.position) AS rn
+                FROM images i
+                WHERE i.product_id IN (:ids)
+            ) ranked
+            WHERE rn <= :limit
+            ORDER BY product_id, rn
+            """;
+
+    static final String CATEGORIES_SQL = """
+            SELECT pc.product_id, c.id, c.name, c.url, c.parent_id, c.level
+            FROM product_categories pc
+            JOIN categories c ON c.id = pc.category_id
+            WHERE pc.product_id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Build summaries for the given ids. Order of the result is unspecified; unknown ids are skipped.
+     */
+    public List<ProductSummaryDTO> findSummariesByIds(Collection<String> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ProductSummaryDTO> summaries = findFlatSummaries(productIds);
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        return attach(summaries, findTopImages(productIds), findCategories(productIds));
+    }
+
+    /**
+     * Attach images and categories loaded separately to the flat summaries.
+     */
+    public static List<ProductSummaryDTO> attach(List<ProductSummaryDTO> summaries,
+            Map<String, List<ImageDTO>> images, Map<String, List<CategoryDTO>> categories) {
+        for (ProductSummaryDTO summary : summaries) {
+            summary.setImages(images.getOrDefault(summary.getId(), Collections.emptyList()));
+            summary.setCategories(categories.getOrDefault(summary.getId(), Collections.emptyList()));
+        }
+        return summaries;
+    }
+
+    /**
+     * Flat product columns with brand and seller, images and categories left unset.
+     */
+    public List<ProductSummaryDTO> findFlatSummaries(Collection<String> productIds) {
+        return jdbcTemplate.query(SUMMARY_SQL, new MapSqlParameterSource("ids", productIds),
+                (rs, rowNum) -> mapSummary(rs));
+    }
+
+    /**
+     * First {@value #MAX_IMAGES_PER_PRODUCT} images of each product by position.
+     */
+    public Map<String, List<ImageDTO>> findTopImages(Collection<String> productIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", productIds)
+                .addValue("limit", MAX_IMAGES_PER_PRODUCT);
+
+        Map<String, List<ImageDTO>> imagesByProductId = new LinkedHashMap<>();
+        jdbcTemplate.query(TOP_IMAGES_SQL, params, rs -> {
+            imagesByProductId.computeIfAbsent(rs.getString("product_id"), k -> new ArrayList<>(MAX_IMAGES_PER_PRODUCT))
+                    .add(ImageDTO.builder()
+                            .id(rs.getString("id"))
+                            .url(rs.getString("url"))
+                            .position(rs.getObject("position", Integer.class))
+                            .build());
+        });
+        return imagesByProductId;
+    }
+
+    public Map<String, List<CategoryDTO>> findCategories(Collection<String> productIds) {
+        Map<String, List<CategoryDTO>> categoriesByProductId = new HashMap<>();
+        jdbcTemplate.query(CATEGORIES_SQL, new MapSqlParameterSource("ids", productIds), rs -> {
+            categoriesByProductId.computeIfAbsent(rs.getString("product_id"), k -> new ArrayList<>())
+                    .add(CategoryDTO.builder()
+                            .id(rs.getString("id"))
+                            .name(rs.getString("name"))
+                            .url(rs.getString("url"))
+                            .parentId(rs.getString("parent_id"))
+                            .level(rs.getObject("level", Integer.class))
+                            .build());
+        });
+        return categoriesByProductId;
+    }
+
+    private static ProductSummaryDTO mapSummary(ResultSet rs) throws SQLException {
+        String brandId = rs.getString("brand_id");
+        String sellerId = rs.getString("seller_id");
+
+        return ProductSummaryDTO.builder()
+                .id(rs.getString("id"))
+                .name(rs.getString("name"))
+                .shortDescription(rs.getString("short_description"))
+                .price(rs.getBigDecimal("price"))
+                .originalPrice(rs.getBigDecimal("original_price"))
+                .ratingAverage(rs.getBigDecimal("rating_average"))
+                .reviewCount(rs.getObject("review_count", Integer.class))
+                .inventoryStatus(rs.getString("inventory_status"))
+                .quantitySold(rs.getObject("quantity_sold", Integer.class))
+                .brand(brandId == null ? null : BrandDTO.builder()
+                        .id(brandId)
+                        .name(rs.getString("brand_name"))
+                        .slug(rs.getString("brand_slug"))
+                        .countryOfOrigin(rs.getString("country_of_origin"))
+                        .build())
+                .seller(sellerId == null ? null : SellerDTO.builder()
+                        .id(sellerId)
+                        .name(rs.getString("seller_name"))
+                        .isOfficial(rs.getObject("is_official", Boolean.class))
+                        .build())
+                .images(Collections.emptyList())
+                .categories(Collections.emptyList())
+                .build();
+    }
+}
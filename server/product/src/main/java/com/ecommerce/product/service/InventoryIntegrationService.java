@@ -1,18 +1,23 @@
 package com.ecommerce.product.service;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import com.ecommerce.grpc.inventory.CheckInventoryBatchResponse;
+import com.ecommerce.grpc.common.Status.Code;
 import com.ecommerce.grpc.inventory.CheckInventoryResponse;
 import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.ecommerce.product.cache.InventoryResultCache;
+import com.ecommerce.product.cache.InventoryStatusTable;
 import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.grpc.client.InventoryCheckBatcher;
 import com.ecommerce.product.grpc.client.InventoryGrpcClient;
-import com.ecommerce.product.grpc.client.InventoryGrpcClient.InventoryCheckItemWithInfo;
+import com.ecommerce.product.grpc.client.InventoryGrpcClient.InventoryCheckItem;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,43 +28,19 @@ import lombok.extern.slf4j.Slf4j;
 public class InventoryIntegrationService {
 
     private final InventoryGrpcClient inventoryGrpcClient;
+    private final InventoryCheckBatcher inventoryCheckBatcher;
+    private final InventoryResultCache inventoryResultCache;
+    private final InventoryStatusTable inventoryStatusTable;
 
     /**
      * Check inventory for a single product and update its inventory status
      */
     public ProductSummaryDTO enrichWithInventoryInfo(ProductSummaryDTO product) {
-        try {
-            String inventoryStatus = product.getInventoryStatus() != null ? product.getInventoryStatus() : "";
-            String productName = product.getName() != null ? product.getName() : "";
-            double price = product.getPrice() != null ? product.getPrice().doubleValue() : 0.0;
-
-            CheckInventoryResponse response = inventoryGrpcClient.checkInventoryWithProductInfo(
-                    product.getId(), 
-                    1, // Check for 1 unit
-                    inventoryStatus,
-                    productName, 
-                    price
-            );
-
-            // Update inventory status based on response
-            if (response.getResultStatus().getCode() == com.ecommerce.grpc.common.Status.Code.OK) {
-                product.setInventoryStatus(response.getStatus());
-                
-                // You might want to add availability info to DTO if needed
-                log.debug("Product {} inventory updated: status={}, available={}, quantity={}", 
-                        product.getId(), response.getStatus(), response.getAvailable(), response.getAvailableQuantity());
-            } else {
-                log.warn("Failed to get inventory info for product {}: {}", 
-                        product.getId(), response.getResultStatus().getMessage());
-            }
-
-            return product;
-
-        } catch (Exception e) {
-            log.error("Error enriching product {} with inventory info", product.getId(), e);
-            // Don't throw exception, just return original product
-            return product;
+        if (product == null) {
+            return null;
         }
+        applyInventoryInfo(List.of(product), startInventoryCheck(List.of(product.getId())));
+        return product;
     }
 
     /**
@@ -69,46 +50,44 @@ public class InventoryIntegrationService {
         if (products == null || products.isEmpty()) {
             return products;
         }
+        return applyInventoryInfo(products, startInventoryCheck(products.stream().map(ProductSummaryDTO::getId).toList()));
+    }
 
-        try {
-            // Prepare batch request
-            List<InventoryCheckItemWithInfo> inventoryItems = products.stream()
-                    .map(product -> new InventoryCheckItemWithInfo(
-                            product.getId(),
-                            1, // Check for 1 unit
-                            product.getInventoryStatus() != null ? product.getInventoryStatus() : "",
-                            product.getName() != null ? product.getName() : "",
-                            product.getPrice() != null ? product.getPrice().doubleValue() : 0.0
-                    ))
-                    .collect(Collectors.toList());
-
-            // Call inventory service
-            CheckInventoryBatchResponse response = inventoryGrpcClient.checkInventoryBatchWithProductInfo(inventoryItems);
-
-            if (response.getResultStatus().getCode() == com.ecommerce.grpc.common.Status.Code.OK) {
-                // Create map for quick lookup
-                Map<String, InventoryStatus> inventoryMap = response.getItemsList().stream()
-                        .collect(Collectors.toMap(
-                                InventoryStatus::getProductId,
-                                item -> item
-                        ));
-
-                // Update products with inventory info
-                products.forEach(product -> {
-                    InventoryStatus inventoryStatus = inventoryMap.get(product.getId());
-                    if (inventoryStatus != null) {
-                        product.setInventoryStatus(inventoryStatus.getStatus());
-                        
-                        log.debug("Product {} inventory updated: status={}, available={}, quantity={}", 
-                                product.getId(), inventoryStatus.getStatus(), 
-                                inventoryStatus.getAvailable(), inventoryStatus.getAvailableQuantity());
-                    }
-                });
+    /**
+     * Start an inventory check without waiting for it, so it runs while the caller loads the products.
+     * Within a request, products already checked are not sent again. Pass the result to {@link #applyInventoryInfo}.
+     */
+    public CompletableFuture<Map<String, InventoryStatus>> startInventoryCheck(List<String> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        InventoryLookupContext context = InventoryLookupContext.current();
+        return context != null ? context.lookup(productIds, this::loadStatuses) : loadStatuses(productIds);
+    }
 
-                log.info("Successfully enriched {} products with inventory information", products.size());
-            } else {
-                log.warn("Failed to get batch inventory info: {}", response.getResultStatus().getMessage());
-            }
+    /**
+     * Wait for a started inventory check (bounded by the client deadline) and update the products' inventory status.
+     */
+    public List<ProductSummaryDTO> applyInventoryInfo(List<ProductSummaryDTO> products,
+            CompletableFuture<Map<String, InventoryStatus>> pendingCheck) {
+        if (products == null || products.isEmpty()) {
+            return products;
+        }
+
+        try {
+            Map<String, InventoryStatus> inventoryMap = pendingCheck.join();
+
+            // Update products with inventory info, fallback items without a known status keep the current one
+            products.forEach(product -> {
+                InventoryStatus inventoryStatus = inventoryMap.get(product.getId());
+                if (inventoryStatus != null && !inventoryStatus.getStatus().isEmpty()) {
+                    product.setInventoryStatus(inventoryStatus.getStatus());
+                    
+                    log.debug("Product {} inventory updated: status={}, available={}, quantity={}", 
+                            product.getId(), inventoryStatus.getStatus(), 
+                            inventoryStatus.getAvailable(), inventoryStatus.getAvailableQuantity());
+                }
+            });
 
         } catch (Exception e) {
             log.error("Error enriching products with inventory info", e);
@@ -118,21 +97,106 @@ public class InventoryIntegrationService {
         return products;
     }
 
+    // Bảng trạng thái được đẩy về trả lời trước, rồi tới InventoryResultCache; chỉ gọi inventory service cho phần còn lại
+    private CompletableFuture<Map<String, InventoryStatus>> loadStatuses(List<String> productIds) {
+        Map<String, InventoryStatus> cached = new HashMap<>();
+        List<String> misses = inventoryStatusTable.lookup(productIds, cached);
+        if (!misses.isEmpty()) {
+            misses = inventoryResultCache.lookup(misses, cached);
+        }
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return fetchStatuses(misses).thenApply(loaded -> {
+            if (cached.isEmpty()) {
+                return loaded;
+            }
+            cached.putAll(loaded);
+            return cached;
+        });
+    }
+
+    // Một sản phẩm đi qua batcher (gom với request khác), nhiều sản phẩm gửi thẳng một batch RPC
+    private CompletableFuture<Map<String, InventoryStatus>> fetchStatuses(List<String> productIds) {
+        long generation = inventoryResultCache.generation();
+        if (productIds.size() == 1) {
+            String productId = productIds.get(0);
+            return inventoryCheckBatcher.checkInventory(productId, 1, "")
+                    .thenApply(response -> {
+                        Code code = response.getResultStatus().getCode();
+                        if (code == Code.NOT_FOUND) {
+                            inventoryResultCache.putMissing(productId, generation);
+                            return Map.of();
+                        }
+                        if (code != Code.OK) {
+                            return Map.of();
+                        }
+                        InventoryStatus status = InventoryStatus.newBuilder()
+                                .setProductId(productId)
+                                .setAvailable(response.getAvailable())
+                                .setAvailableQuantity(response.getAvailableQuantity())
+                                .setStatus(response.getStatus())
+                                .build();
+                        if (!InventoryGrpcClient.isFallback(response.getResultStatus())) {
+                            cacheResult(productId, status, generation);
+                        }
+                        return Map.of(productId, status);
+                    });
+        }
+
+        List<InventoryCheckItem> items = productIds.stream()
+                .map(productId -> new InventoryCheckItem(productId, 1))
+                .toList();
+        return inventoryGrpcClient.checkInventoryBatchAsync(items)
+                .thenApply(response -> {
+                    if (response.getResultStatus().getCode() != Code.OK) {
+                        log.warn("Failed to get batch inventory info: {}", response.getResultStatus().getMessage());
+                        return Map.of();
+                    }
+                    Map<String, InventoryStatus> statuses = response.getItemsList().stream()
+                            .collect(Collectors.toMap(InventoryStatus::getProductId, item -> item,
+                                    (first, second) -> first));
+                    if (!InventoryGrpcClient.isFallback(response.getResultStatus())) {
+                        productIds.forEach(productId -> cacheResult(productId, statuses.get(productId), generation));
+                    }
+                    return statuses;
+                });
+    }
+
+    // Không có trong response, status rỗng hoặc có lỗi: inventory service không biết sản phẩm này
+    private void cacheResult(String productId, InventoryStatus status, long generation) {
+        if (status == null || status.getStatus().isEmpty() || !status.getErrorMessage().isEmpty()) {
+            inventoryResultCache.putMissing(productId, generation);
+        } else {
+            inventoryResultCache.put(status, generation);
+        }
+    }
+
     /**
      * Check if a product is available for purchase
      */
     public boolean isProductAvailable(String productId, int quantity, 
             String inventoryStatus, String productName, BigDecimal price) {
         try {
-            CheckInventoryResponse response = inventoryGrpcClient.checkInventoryWithProductInfo(
+            // Kết quả gần đây đủ để trả lời: không biết sản phẩm, hoặc còn đủ hàng
+            InventoryStatus cached = inventoryResultCache.getIfPresent(productId);
+            if (cached != null && (cached.getProductId().isEmpty()
+                    || cached.getAvailable() && cached.getAvailableQuantity() >= quantity)) {
+                return cached.getAvailable();
+            }
+
+            CheckInventoryResponse response = inventoryCheckBatcher.checkInventory(
                     productId,
                     quantity,
-                    inventoryStatus != null ? inventoryStatus : "",
-                    productName != null ? productName : "",
-                    price != null ? price.doubleValue() : 0.0
-            );
+                    inventoryStatus != null ? inventoryStatus : ""
+            ).join();
 
-            if (response.getResultStatus().getCode() == com.ecommerce.grpc.common.Status.Code.OK) {
+            if (InventoryGrpcClient.isFallback(response.getResultStatus())) {
+                // Chỉ là trạng thái biết được gần nhất, không xác nhận được số lượng yêu cầu
+                log.warn("Inventory service unreachable, product {} reported as unavailable", productId);
+                return false;
+            }
+            if (response.getResultStatus().getCode() == Code.OK) {
                 return response.getAvailable();
             } else {
                 log.warn("Failed to check availability for product {}: {}", 
@@ -151,21 +215,12 @@ public class InventoryIntegrationService {
      */
     public int getAvailableQuantity(String productId, String inventoryStatus, String productName, BigDecimal price) {
         try {
-            CheckInventoryResponse response = inventoryGrpcClient.checkInventoryWithProductInfo(
-                    productId,
-                    1, // Check for 1 unit
-                    inventoryStatus != null ? inventoryStatus : "",
-                    productName != null ? productName : "",
-                    price != null ? price.doubleValue() : 0.0
-            );
-
-            if (response.getResultStatus().getCode() == com.ecommerce.grpc.common.Status.Code.OK) {
-                return response.getAvailableQuantity();
-            } else {
-                log.warn("Failed to get available quantity for product {}: {}", 
-                        productId, response.getResultStatus().getMessage());
-                return 0;
+            InventoryStatus status = startInventoryCheck(List.of(productId)).join().get(productId);
+            if (status != null) {
+                return status.getAvailableQuantity();
             }
+            log.warn("Failed to get available quantity for product {}", productId);
+            return 0;
 
         } catch (Exception e) {
             log.error("Error getting available quantity for product {}", productId, e);
@@ -0,0 +1,120 @@
+package com.ecommerce.product.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.ecommerce.grpc.inventory.InventoryStatus;
+
+import io.grpc.Context;
+
+/**
+ * Kết quả kiểm tra tồn kho (số lượng 1) theo product id, sống trong một request REST hoặc gRPC.
+ * Mọi lớp trong cùng request hỏi lại một sản phẩm sẽ dùng chung kết quả, không gửi RPC lần nữa.
+ */
+public final class InventoryLookupContext {
+
+    private static final Context.Key<InventoryLookupContext> GRPC_KEY = Context.key("inventoryLookupContext");
+    private static final String REQUEST_ATTRIBUTE = InventoryLookupContext.class.getName();
+
+    private final Map<String, CompletableFuture<InventoryStatus>> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * Context of the current gRPC call or servlet request, or null outside of a request (e.g. Kafka listeners).
+     */
+    public static InventoryLookupContext current() {
+        InventoryLookupContext grpcContext = GRPC_KEY.get();
+        if (grpcContext != null) {
+            return grpcContext;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object existing = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof InventoryLookupContext context) {
+            return context;
+        }
+        InventoryLookupContext context = new InventoryLookupContext();
+        attributes.setAttribute(REQUEST_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        return context;
+    }
+
+    /**
+     * gRPC context carrying a fresh lookup context, attached for the lifetime of one call.
+     */
+    public static Context attach(Context parent) {
+        return parent.withValue(GRPC_KEY, new InventoryLookupContext());
+    }
+
+    /**
+     * Statuses of the given products. Products not asked for earlier in this request are fetched
+     * together with a single call to {@code loader}; products the loader does not return are left out.
+     */
+    public CompletableFuture<Map<String, InventoryStatus>> lookup(Collection<String> productIds,
+            Function<List<String>, CompletableFuture<Map<String, InventoryStatus>>> loader) {
+        Map<String, CompletableFuture<InventoryStatus>> requested = new HashMap<>();
+        Map<String, CompletableFuture<InventoryStatus>> owned = new HashMap<>();
+
+        for (String productId : new LinkedHashSet<>(productIds)) {
+            CompletableFuture<InventoryStatus> created = new CompletableFuture<>();
+            CompletableFuture<InventoryStatus> existing = statuses.putIfAbsent(productId, created);
+            if (existing == null) {
+                owned.put(productId, created);
+                requested.put(productId, created);
+            } else {
+                requested.put(productId, existing);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            load(owned, loader);
+        }
+
+        return CompletableFuture.allOf(requested.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, InventoryStatus> result = new HashMap<>();
+                    requested.forEach((productId, status) -> {
+                        InventoryStatus value = status.join();
+                        if (value != null) {
+                            result.put(productId, value);
+                        }
+                    });
+                    return result;
+                });
+    }
+
+    public int size() {
+        return statuses.size();
+    }
+
+    private void load(Map<String, CompletableFuture<InventoryStatus>> owned,
+            Function<List<String>, CompletableFuture<Map<String, InventoryStatus>>> loader) {
+        CompletableFuture<Map<String, InventoryStatus>> loaded;
+        try {
+            loaded = loader.apply(new ArrayList<>(owned.keySet()));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+
+        loaded.whenComplete((result, e) -> owned.forEach((productId, status) -> {
+            if (e != null) {
+                // Không giữ lỗi lại trong context, lần hỏi sau trong request được thử lại
+                statuses.remove(productId, status);
+                status.completeExceptionally(e);
+            } else {
+                status.complete(result.get(productId));
+            }
+        }));
+    }
+}
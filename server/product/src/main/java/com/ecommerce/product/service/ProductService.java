@@ -3,10 +3,13 @@ package com.ecommerce.product.service;
 import java.math.BigDecimal;
 import java.util.List;
 
+import com.ecommerce.product.dto.CursorPagedResponseDTO;
 import com.ecommerce.product.dto.PagedResponseDTO;
 import com.ecommerce.product.dto.ProductDetailDTO;
 import com.ecommerce.product.dto.ProductFilterDTO;
+import com.ecommerce.product.dto.ProductListing;
 import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.dto.TotalCountMode;
 
 
 public interface ProductService {
@@ -38,6 +41,13 @@ public interface ProductService {
     PagedResponseDTO<ProductSummaryDTO> getTopRatedProductsWithFilters(ProductFilterDTO filter, int page, int size);
     PagedResponseDTO<ProductSummaryDTO> getNewArrivalsWithFilters(ProductFilterDTO filter, int page, int size);
 
+    // Cursor (keyset) pagination - sort key/direction từ filter, cursor rỗng là trang đầu
+    CursorPagedResponseDTO<ProductSummaryDTO> getProductsAfterCursor(ProductFilterDTO filter, String cursor, int size);
+
+    // Trang không COUNT (hoặc tổng gần đúng từ cache) cho client không cần tổng số trang
+    PagedResponseDTO<ProductSummaryDTO> getProductSlice(ProductListing listing, ProductFilterDTO filter, int page, int size,
+            TotalCountMode countMode);
+
     // Clear cache
     void clearProductCaches(String productId);
 }
\ No newline at end of file
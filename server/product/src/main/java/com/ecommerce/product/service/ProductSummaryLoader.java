@@ -0,0 +1,338 @@
+package com.ecommerce.product.service;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+
+import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.ImageDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.exception.ProductServiceException;
+import com.ecommerce.product.repository.ProductSummaryQueryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Load ProductSummaryDTO cho danh sách id. Ở chế độ fan-out, truy vấn images và categories chạy song song
+ * với truy vấn cột phẳng trên executor giới hạn, mỗi truy vấn một connection riêng.
+ * Khi pool Hikari sắp cạn thì chạy tuần tự trên thread gọi để không tranh connection với request khác.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSummaryLoader {
+
+    private final ProductSummaryQueryRepository productSummaryQueryRepository;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.summary.fan-out.enabled:true}")
+    private boolean fanOutEnabled;
+
+    // virtual | platform - virtual cần runtime Java 21+, nếu không có sẽ dùng platform threads
+    @Value("${product.summary.fan-out.executor:virtual}")
+    private String executorType;
+
+    @Value("${product.summary.fan-out.threads:8}")
+    private int threads;
+
+    @Value("${product.summary.fan-out.max-concurrency:32}")
+    private int maxConcurrency;
+
+    @Value("${product.summary.fan-out.budget-ms:250}")
+    private long budgetMs;
+
+    // Thời gian tối đa chờ một truy vấn worker đã nhận, sau đó báo timeout thay vì chờ mãi
+    @Value("${product.summary.fan-out.timeout-ms:2000}")
+    private long timeoutMs;
+
+    @Value("${product.summary.fan-out.min-idle-connections:2}")
+    private int minIdleConnections;
+
+    private ExecutorService executor;
+    private Semaphore permits;
+    private HikariDataSource hikariDataSource;
+
+    @PostConstruct
+    public void init() {
+        executor = createExecutor();
+        permits = new Semaphore(maxConcurrency);
+        hikariDataSource = unwrapHikari();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Summaries of the given ids, in unspecified order. Unknown ids are skipped.
+     */
+    public List<ProductSummaryDTO> load(Collection<String> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!fanOutEnabled) {
+            return loadSequential(productIds, "disabled");
+        }
+        if (poolUnderPressure()) {
+            return loadSequential(productIds, "pool-pressure");
+        }
+        return loadParallel(productIds);
+    }
+
+    private List<ProductSummaryDTO> loadSequential(Collection<String> productIds, String reason) {
+        count("sequential", reason);
+        return timer("sequential").record(() -> productSummaryQueryRepository.findSummariesByIds(productIds));
+    }
+
+    private List<ProductSummaryDTO> loadParallel(Collection<String> productIds) {
+        count("parallel", "fan-out");
+        long start = System.nanoTime();
+        long budgetDeadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        long timeoutDeadline = start + Math.min(TimeUnit.MILLISECONDS.toNanos(timeoutMs),
+                RequestDeadline.current().remainingNanos());
+
+        Lookup<Map<String, List<ImageDTO>>> images = submit(
+                () -> productSummaryQueryRepository.findTopImages(productIds));
+        Lookup<Map<String, List<CategoryDTO>>> categories = submit(
+                () -> productSummaryQueryRepository.findCategories(productIds));
+
+        try {
+            // Truy vấn chính chạy trên thread gọi (dùng connection của transaction nếu có)
+            List<ProductSummaryDTO> summaries = productSummaryQueryRepository.findFlatSummaries(productIds);
+            if (summaries.isEmpty()) {
+                return summaries;
+            }
+            return ProductSummaryQueryRepository.attach(summaries, images.await(budgetDeadline, timeoutDeadline),
+                    categories.await(budgetDeadline, timeoutDeadline));
+        } finally {
+            images.cancel();
+            categories.cancel();
+            timer("parallel").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> Lookup<T> submit(Supplier<T> query) {
+        // Worker không thấy request: mang deadline theo để truy vấn có query timeout đúng
+        Lookup<T> lookup = new Lookup<>(RequestDeadline.current().propagate(query));
+        if (!permits.tryAcquire()) {
+            // Executor đã đủ việc, truy vấn sẽ chạy trên thread gọi
+            inline("saturated");
+            return lookup;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    lookup.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            lookup.submitted = true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            inline("rejected");
+        }
+        return lookup;
+    }
+
+    /**
+     * One lookup that runs exactly once, either on a worker or on the calling thread,
+     * whichever claims it first.
+     */
+    private final class Lookup<T> {
+
+        private final Supplier<T> query;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile boolean submitted;
+
+        private Lookup(Supplier<T> query) {
+            this.query = query;
+        }
+
+        void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(query.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void cancel() {
+            // Worker chưa bắt đầu thì bỏ qua luôn
+            claimed.compareAndSet(false, true);
+        }
+
+        T await(long budgetDeadlineNanos, long timeoutDeadlineNanos) {
+            if (!submitted) {
+                run();
+                return join();
+            }
+            try {
+                return get(budgetDeadlineNanos);
+            } catch (TimeoutException e) {
+                // Hết budget khi truy vấn còn nằm trong hàng đợi: tự chạy trên thread gọi.
+                // Truy vấn đã chạy trên worker thì chờ nó thêm, tối đa tới timeoutDeadlineNanos.
+                if (!claimed.get()) {
+                    inline("budget");
+                }
+                run();
+            }
+            try {
+                return get(timeoutDeadlineNanos);
+            } catch (TimeoutException e) {
+                // Không trả kết quả thiếu images/categories: nó sẽ bị cache như kết quả đầy đủ
+                log.warn("Product summary lookup still running after {} ms, giving up", timeoutMs);
+                throw new QueryTimeoutException("Product summary lookup did not finish in time", e);
+            }
+        }
+
+        private T get(long deadlineNanos) throws TimeoutException {
+            try {
+                return result.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProductServiceException("Interrupted while loading product summaries", e);
+            } catch (ExecutionException e) {
+                throw unwrap(e.getCause());
+            }
+        }
+
+        private T join() {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProductServiceException("Interrupted while loading product summaries", e);
+            } catch (ExecutionException e) {
+                throw unwrap(e.getCause());
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ProductServiceException("Failed to load product summaries", cause);
+    }
+
+    private boolean poolUnderPressure() {
+        if (hikariDataSource == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return false;
+        }
+        // Fan-out cần thêm 2 connection cho mỗi request
+        return pool.getThreadsAwaitingConnection() > 0 || pool.getIdleConnections() < minIdleConnections;
+    }
+
+    private HikariDataSource unwrapHikari() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.debug("Cannot unwrap Hikari data source: {}", e.getMessage());
+        }
+        log.info("Data source is not Hikari, summary fan-out will not check pool pressure");
+        return null;
+    }
+
+    // Platform threads: build chạy Java 17, chưa có virtual threads
+    private ExecutorService createExecutor() {
+        // Số việc đang chạy đã bị giới hạn bởi permits nên mỗi lookup một virtual thread là đủ
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            ExecutorService virtual = newVirtualThreadExecutor();
+            if (virtual != null) {
+                log.info("Summary fan-out executor: virtual");
+                return virtual;
+            }
+        }
+        log.info("Summary fan-out executor: platform ({} threads)", threads);
+        // Số việc chờ đã bị giới hạn bởi permits nên hàng đợi không cần bound riêng
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "summary-fan-out-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() chỉ có từ Java 21
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not available on Java {}, using platform threads for summary fan-out",
+                    Runtime.version().feature());
+            return null;
+        }
+    }
+
+    private void count(String mode, String reason) {
+        Counter.builder("product.summary.load")
+                .description("Product summary loads by execution mode")
+                .tag("mode", mode)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void inline(String reason) {
+        Counter.builder("product.summary.fan-out.inline")
+                .description("Fan-out lookups that ran on the calling thread instead of a worker")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(String mode) {
+        return Timer.builder("product.summary.load.latency")
+                .description("Time to build a batch of product summaries")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.product.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+
+/**
+ * Thời hạn của request hiện tại: deadline của gRPC call (kèm trạng thái huỷ), hoặc budget REST gửi qua header
+ * {@value #BUDGET_HEADER}. Truy vấn DB và lời gọi inventory service dùng nó để không chạy quá lúc caller đã bỏ cuộc.
+ * Thread worker không thấy request, nên việc chạy hộ request phải đi qua {@link #propagate}.
+ */
+public final class RequestDeadline {
+
+    public static final String BUDGET_HEADER = "X-Request-Budget-Ms";
+    public static final String REQUEST_ATTRIBUTE = RequestDeadline.class.getName();
+
+    private static final RequestDeadline NONE = new RequestDeadline(Long.MAX_VALUE, null);
+    private static final ThreadLocal<RequestDeadline> PROPAGATED = new ThreadLocal<>();
+
+    // System.nanoTime(), Long.MAX_VALUE = không có deadline
+    private final long deadlineNanos;
+    // Context của gRPC call để biết client đã huỷ chưa, null với REST
+    private final Context grpcContext;
+
+    private RequestDeadline(long deadlineNanos, Context grpcContext) {
+        this.deadlineNanos = deadlineNanos;
+        this.grpcContext = grpcContext;
+    }
+
+    /**
+     * Deadline of the current gRPC call, servlet request or propagated task; never null.
+     */
+    public static RequestDeadline current() {
+        RequestDeadline propagated = PROPAGATED.get();
+        if (propagated != null) {
+            return propagated;
+        }
+
+        Context context = Context.current();
+        if (context != Context.ROOT) {
+            Deadline deadline = context.getDeadline();
+            return new RequestDeadline(deadline != null
+                    ? System.nanoTime() + deadline.timeRemaining(TimeUnit.NANOSECONDS)
+                    : Long.MAX_VALUE, context);
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object budget = attributes != null
+                ? attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        return budget instanceof RequestDeadline deadline ? deadline : NONE;
+    }
+
+    /**
+     * Deadline {@code budget} from now, for a REST request that sent {@value #BUDGET_HEADER}.
+     */
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos(), null);
+    }
+
+    /**
+     * Runs {@code task} outside the current request, for work shared with other requests that must not inherit
+     * this caller's deadline or cancellation.
+     */
+    public static void runDetached(Runnable task) {
+        RequestDeadline previous = PROPAGATED.get();
+        PROPAGATED.set(NONE);
+        try {
+            Context.ROOT.run(task);
+        } finally {
+            if (previous != null) {
+                PROPAGATED.set(previous);
+            } else {
+                PROPAGATED.remove();
+            }
+        }
+    }
+
+    public boolean hasDeadline() {
+        return deadlineNanos != Long.MAX_VALUE;
+    }
+
+    /**
+     * Nanoseconds left, {@link Long#MAX_VALUE} without a deadline, zero or less once expired.
+     */
+    public long remainingNanos() {
+        return hasDeadline() ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isCancelled() {
+        return grpcContext != null && grpcContext.isCancelled();
+    }
+
+    /**
+     * Whether the caller has given up: the call was cancelled or the deadline passed.
+     */
+    public boolean isAbandoned() {
+        return isCancelled() || remainingNanos() <= 0;
+    }
+
+    /**
+     * {@code task} running on another thread under this deadline.
+     */
+    public <T> Supplier<T> propagate(Supplier<T> task) {
+        if (this == NONE) {
+            return task;
+        }
+        return () -> {
+            RequestDeadline previous = PROPAGATED.get();
+            PROPAGATED.set(this);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    PROPAGATED.set(previous);
+                } else {
+                    PROPAGATED.remove();
+                }
+            }
+        };
+    }
+}
@@ -4,45 +4,45 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
-import com.ecommerce.grpc.inventory.CheckInventoryBatchResponse;
-import com.ecommerce.grpc.inventory.CheckInventoryResponse;
-import com.ecommerce.grpc.inventory.InventoryStatus;
-import com.ecommerce.product.dto.BrandDTO;
-import com.ecommerce.product.dto.CategoryDTO;
-import com.ecommerce.product.dto.ImageDTO;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.CacheRefresher;
+import com.ecommerce.product.cache.CacheTags;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.ProductCountCache;
+import com.ecommerce.product.cache.ProductSummaryCache;
+import com.ecommerce.product.dto.CursorPagedResponseDTO;
 import com.ecommerce.product.dto.PagedResponseDTO;
 import com.ecommerce.product.dto.ProductDetailDTO;
+import com.ecommerce.product.dto.ProductCursor;
 import com.ecommerce.product.dto.ProductFilterDTO;
+import com.ecommerce.product.dto.ProductListing;
 import com.ecommerce.product.dto.ProductSummaryDTO;
-import com.ecommerce.product.dto.SellerDTO;
-import com.ecommerce.product.entity.Brand;
-import com.ecommerce.product.entity.Category;
-import com.ecommerce.product.entity.Image;
+import com.ecommerce.product.dto.TotalCountMode;
 import com.ecommerce.product.entity.Product;
-import com.ecommerce.product.entity.Seller;
 import com.ecommerce.product.exception.ResourceNotFoundException;
-import com.ecommerce.product.grpc.client.InventoryGrpcClient;
 import com.ecommerce.product.mapper.ProductMapper;
 import com.ecommerce.product.repository.ProductRepository;
 import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.ProductSummaryLoader;
 import com.ecommerce.product.specification.ProductSpecification;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,48 +51,67 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ProductServiceImpl implements ProductService {
 
+    private static final String PRODUCT_SLICES_CACHE = "productSlices";
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
-    private final InventoryGrpcClient inventoryGrpcClient;
+    private final InventoryStatusOverlay inventoryStatusOverlay;
+    private final ProductSummaryCache productSummaryCache;
+    private final CacheInvalidationIndex cacheInvalidationIndex;
+    private final ProductCountCache productCountCache;
+    private final ProductSummaryLoader productSummaryLoader;
+    private final CacheRefresher cacheRefresher;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+
+    /**
+     * Loaders for the refresh-ahead caches, rebuilt from the cache key and run in a read-only transaction
+     * on the refresher's threads. Filtered caches key on the filter itself so the query can be rebuilt.
+     */
+    @PostConstruct
+    void registerRefreshLoaders() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        cacheRefresher.registerLoader("topSellingProducts", key -> readOnly.execute(status ->
+                loadTopSellingProducts(pageOf(key, 0), pageOf(key, 1))));
+        cacheRefresher.registerLoader("topRatedProducts", key -> readOnly.execute(status ->
+                loadTopRatedProducts(pageOf(key, 0), pageOf(key, 1))));
+        cacheRefresher.registerLoader("newArrivals", key -> readOnly.execute(status ->
+                loadNewArrivals(pageOf(key, 0), pageOf(key, 1))));
+        cacheRefresher.registerLoader("topSellingFiltered", key -> readOnly.execute(status ->
+                loadTopSellingProductsWithFilters(filterOf(key), pageOf(key, 1), pageOf(key, 2))));
+        cacheRefresher.registerLoader("topRatedFiltered", key -> readOnly.execute(status ->
+                loadTopRatedProductsWithFilters(filterOf(key), pageOf(key, 1), pageOf(key, 2))));
+        cacheRefresher.registerLoader("newArrivalsFiltered", key -> readOnly.execute(status ->
+                loadNewArrivalsWithFilters(filterOf(key), pageOf(key, 1), pageOf(key, 2))));
+    }
+
+    // Key của các cache trên là list SpEL, vd {#filter.snapshot(), #page, #size}
+    private static int pageOf(Object key, int index) {
+        return (Integer) ((List<?>) key).get(index);
+    }
+
+    private static ProductFilterDTO filterOf(Object key) {
+        return ((ProductFilterDTO.Snapshot) ((List<?>) key).get(0)).toFilter();
+    }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "productById", key = "#id", unless = "#result == null")
+    @Cacheable(value = "productById", key = "#id", sync = true)
     public ProductDetailDTO getProductById(String id) {
         log.debug("Getting product by id: {}", id);
         
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
 
-        ProductDetailDTO productDetail = productMapper.toProductDetailDTO(product);
-        
-        // Check inventory status with better error handling
-        try {
-            CheckInventoryResponse inventoryResponse = inventoryGrpcClient.checkInventory(id, 1);
-            if (inventoryResponse.getResultStatus().getCode() == com.ecommerce.grpc.common.Status.Code.OK) {
-                String currentStatus = productDetail.getInventoryStatus();
-                String inventoryStatus = inventoryResponse.getStatus();
-                
-                if (!inventoryStatus.equals(currentStatus)) {
-                    log.debug("Updating inventory status for product {}: {} -> {}", 
-                            id, currentStatus, inventoryStatus);
-                    productDetail.setInventoryStatus(inventoryStatus);
-                }
-            } else {
-                log.warn("Inventory service returned error for product {}: {}", 
-                        id, inventoryResponse.getResultStatus().getMessage());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to check inventory for product {}: {}. Using product's current status.", 
-                    id, e.getMessage());
-        }
-
-        return productDetail;
+        // Trạng thái tồn kho lấy từ DB, thay đổi mới hơn được ghép lúc trả response (InventoryStatusOverlay)
+        return productMapper.toProductDetailDTO(product);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "allProducts", key = "{#page, #size, #sortBy, #direction}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "allProducts", key = "{#page, #size, #sortBy, #direction}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getAllProducts(int page, int size, String sortBy, String direction) {
         log.debug("Getting all products with page: {}, size: {}, sortBy: {}, direction: {}", page, size, sortBy,
                 direction);
@@ -101,37 +120,10 @@ public class ProductServiceImpl implements ProductService {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         try {
-            // 1. Lấy danh sách sản phẩm với phân trang (không load relationships)
-            Page<Product> productPage = productRepository.findAll(pageable);
-            List<Product> products = productPage.getContent();
+            // Chỉ lấy ID theo thứ tự sắp xếp, phần hiển thị lấy từ fragment cache
+            Page<String> idPage = productRepository.findAllProductIds(pageable);
 
-            if (products.isEmpty()) {
-                return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
-            }
-
-            // 2. Lấy product IDs, brand IDs, seller IDs
-            List<String> productIds = getProductIds(products);
-            List<String> brandIds = getBrandIds(products);
-            List<String> sellerIds = getSellerIds(products);
-
-            // 3. Lấy thông tin liên quan theo batch
-            List<Image> allImages = productRepository.findImagesByProductIds(productIds);
-            List<Brand> allBrands = getBrands(brandIds);
-            List<Seller> allSellers = getSellers(sellerIds);
-            List<Category> allCategories = loadCategoriesForProducts(productIds);
-
-            // 4. Tạo maps để tìm kiếm nhanh
-            Map<String, List<Image>> imagesByProductId = groupImagesByProductId(allImages);
-            Map<String, Brand> brandsById = mapBrandsById(allBrands);
-            Map<String, Seller> sellersById = mapSellersById(allSellers);
-            Map<String, List<CategoryDTO>> categoriesByProductId = groupCategoriesByProductId(productIds, allCategories);
-
-            // 5. Chuyển đổi sang DTOs
-            List<ProductSummaryDTO> productDTOs = products.stream()
-                    .map(product -> convertToProductSummaryDTO(product, imagesByProductId, brandsById, sellersById, categoriesByProductId))
-                    .collect(Collectors.toList());
-
-            return productMapper.toPagedResponseDTO(productPage, productDTOs);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting all products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -148,66 +140,16 @@ public class ProductServiceImpl implements ProductService {
         }
 
         try {
-            // 1. Lấy danh sách sản phẩm theo IDs
-            List<Product> products = productRepository.findByIdIn(ids);
-            
-            if (products.isEmpty()) {
-                return new ArrayList<>();
-            }
+            // 1. Lấy fragments từ cache, chỉ enrich các sản phẩm bị miss
+            List<ProductSummaryDTO> productDTOs = productSummaryCache.getAll(ids,
+                    productSummaryLoader::load);
 
-            // 2. Lấy product IDs, brand IDs, seller IDs
-            List<String> productIds = getProductIds(products);
-            List<String> brandIds = getBrandIds(products);
-            List<String> sellerIds = getSellerIds(products);
-
-            // 3. Lấy thông tin liên quan theo batch
-            List<Image> allImages = productRepository.findImagesByProductIds(productIds);
-            List<Brand> allBrands = getBrands(brandIds);
-            List<Seller> allSellers = getSellers(sellerIds);
-            List<Category> allCategories = loadCategoriesForProducts(productIds);
-
-            // 4. Tạo maps để tìm kiếm nhanh
-            Map<String, List<Image>> imagesByProductId = groupImagesByProductId(allImages);
-            Map<String, Brand> brandsById = mapBrandsById(allBrands);
-            Map<String, Seller> sellersById = mapSellersById(allSellers);
-            Map<String, List<CategoryDTO>> categoriesByProductId = groupCategoriesByProductId(productIds, allCategories);
-
-            // 5. Chuyển đổi sang DTOs
-            List<ProductSummaryDTO> productDTOs = products.stream()
-                    .map(product -> convertToProductSummaryDTO(product, imagesByProductId, brandsById, sellersById, categoriesByProductId))
-                    .collect(Collectors.toList());
-
-            // 6. Batch check inventory for all products
-            try {
-                List<InventoryGrpcClient.InventoryCheckItem> inventoryItems = productDTOs.stream()
-                        .map(p -> new InventoryGrpcClient.InventoryCheckItem(p.getId(), 1))
-                        .toList();
-
-                CheckInventoryBatchResponse inventoryResponse = inventoryGrpcClient.checkInventoryBatch(inventoryItems);
-                
-                if (inventoryResponse.getResultStatus().getCode() == com.ecommerce.grpc.common.Status.Code.OK) {
-                    // Update inventory status for each product
-                    Map<String, String> inventoryStatusMap = inventoryResponse.getItemsList().stream()
-                            .collect(Collectors.toMap(
-                                    InventoryStatus::getProductId,
-                                    InventoryStatus::getStatus
-                            ));
-
-                    productDTOs.forEach(product -> {
-                        String inventoryStatus = inventoryStatusMap.get(product.getId());
-                        if (inventoryStatus != null && !inventoryStatus.equals(product.getInventoryStatus())) {
-                            log.debug("Updating inventory status for product {}: {} -> {}", 
-                                    product.getId(), product.getInventoryStatus(), inventoryStatus);
-                            product.setInventoryStatus(inventoryStatus);
-                        }
-                    });
-                }
-            } catch (Exception e) {
-                log.warn("Failed to batch check inventory for {} products: {}", productDTOs.size(), e.getMessage());
-                // Continue without inventory check
+            if (productDTOs.isEmpty()) {
+                return new ArrayList<>();
             }
 
-            return productDTOs;
+            // 2. Ghép trạng thái tồn kho mới nhất từ event, không gọi inventory service mỗi request
+            return inventoryStatusOverlay.apply(productDTOs);
             
         } catch (Exception e) {
             log.error("Error getting products by ids: {}", ids, e);
@@ -217,15 +159,15 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "productsByCategory", key = "{#categoryId, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "productsByCategory", key = "{#categoryId, #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getProductsByCategory(String categoryId, int page, int size) {
         log.debug("Getting products for category id: {}", categoryId);
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.findByCategoryId(categoryId, pageable);
+            Page<String> idPage = productRepository.findProductIdsByCategoryId(categoryId, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting products by category: {}", categoryId, e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -234,15 +176,15 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "productsByBrand", key = "{#brandId, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "productsByBrand", key = "{#brandId, #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getProductsByBrand(String brandId, int page, int size) {
         log.debug("Getting products for brand id: {}", brandId);
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.findByBrandId(brandId, pageable);
+            Page<String> idPage = productRepository.findProductIdsByBrandId(brandId, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting products by brand: {}", brandId, e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -250,16 +192,16 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "productsByPriceRange", key = "{#minPrice, #maxPrice, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "productsByPriceRange", key = "{#minPrice, #maxPrice, #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice,
             int page, int size) {
         log.debug("Getting products for price range: {} - {}", minPrice, maxPrice);
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.findByPriceBetween(minPrice, maxPrice, pageable);
+            Page<String> idPage = productRepository.findProductIdsByPriceBetween(minPrice, maxPrice, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting products by price range", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -276,9 +218,9 @@ public class ProductServiceImpl implements ProductService {
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.searchByKeyword(keyword.trim(), pageable);
+            Page<String> idPage = productRepository.searchProductIdsByKeyword(keyword.trim(), pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error searching products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -286,15 +228,18 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "topSellingProducts", key = "{#page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "topSellingProducts", key = "{#page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getTopSellingProducts(int page, int size) {
         log.debug("Getting top selling products");
+        return loadTopSellingProducts(page, size);
+    }
 
+    private PagedResponseDTO<ProductSummaryDTO> loadTopSellingProducts(int page, int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.findTopSellingProducts(pageable);
+            Page<String> idPage = productRepository.findTopSellingProductIds(pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting top selling products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -302,15 +247,18 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "topRatedProducts", key = "{#page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "topRatedProducts", key = "{#page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getTopRatedProducts(int page, int size) {
         log.debug("Getting top rated products");
+        return loadTopRatedProducts(page, size);
+    }
 
+    private PagedResponseDTO<ProductSummaryDTO> loadTopRatedProducts(int page, int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.findTopRatedProducts(pageable);
+            Page<String> idPage = productRepository.findTopRatedProductIds(pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting top rated products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -318,208 +266,129 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "newArrivals", key = "{#page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "newArrivals", key = "{#page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getNewArrivals(int page, int size) {
         log.debug("Getting new arrivals");
+        return loadNewArrivals(page, size);
+    }
 
+    private PagedResponseDTO<ProductSummaryDTO> loadNewArrivals(int page, int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Product> productPage = productRepository.findNewArrivals(pageable);
+            Page<String> idPage = productRepository.findNewArrivalIds(pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting new arrivals", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
         }
     }
 
-    // ✅ Helper methods - Updated and properly implemented
-
-    private PagedResponseDTO<ProductSummaryDTO> convertToPagedResponse(Page<Product> productPage, int page, int size) {
-        List<Product> products = productPage.getContent();
-
-        if (products.isEmpty()) {
-            return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
-        }
-
-        // Lấy product IDs, brand IDs, seller IDs
-        List<String> productIds = getProductIds(products);
-        List<String> brandIds = getBrandIds(products);
-        List<String> sellerIds = getSellerIds(products);
-
-        // Lấy thông tin liên quan theo batch
-        List<Image> allImages = productRepository.findImagesByProductIds(productIds);
-        List<Brand> allBrands = getBrands(brandIds);
-        List<Seller> allSellers = getSellers(sellerIds);
-        List<Category> allCategories = loadCategoriesForProducts(productIds);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponseDTO<ProductSummaryDTO> getProductsAfterCursor(ProductFilterDTO filter, String cursor, int size) {
+        log.debug("Getting products after cursor: {} with filters: {}", cursor, filter);
 
-        // Tạo maps để tìm kiếm nhanh
-        Map<String, List<Image>> imagesByProductId = groupImagesByProductId(allImages);
-        Map<String, Brand> brandsById = mapBrandsById(allBrands);
-        Map<String, Seller> sellersById = mapSellersById(allSellers);
-        Map<String, List<CategoryDTO>> categoriesByProductId = groupCategoriesByProductId(productIds, allCategories);
+        // Không chọn sort key thì mặc định là sản phẩm mới nhất trước
+        ProductCursor.SortKey sortKey = ProductCursor.SortKey.fromProperty(filter.getSortBy());
+        Sort.Direction direction = filter.getSortBy() == null || filter.getSortBy().isEmpty()
+                || "desc".equalsIgnoreCase(filter.getDirection()) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        ProductCursor after = cursor == null || cursor.isEmpty() ? null : ProductCursor.decode(cursor, sortKey, direction);
 
-        // Chuyển đổi sang DTOs
-        List<ProductSummaryDTO> productDTOs = products.stream()
-                .map(product -> convertToProductSummaryDTO(product, imagesByProductId, brandsById, sellersById, categoriesByProductId))
-                .collect(Collectors.toList());
+        try {
+            Specification<Product> spec = filter.hasFilters() ? ProductSpecification.withFilters(filter) : null;
 
-        return productMapper.toPagedResponseDTO(productPage, productDTOs);
-    }
+            // Lấy thêm 1 dòng để biết còn trang sau mà không cần COUNT
+            List<ProductCursor> positions = productRepository.findPositionsAfter(spec, sortKey, direction, after, size + 1);
+            boolean hasNext = positions.size() > size;
+            if (hasNext) {
+                positions = positions.subList(0, size);
+            }
+            if (positions.isEmpty()) {
+                return new CursorPagedResponseDTO<>(Collections.emptyList(), size, null, false);
+            }
 
-    private List<String> getProductIds(List<Product> products) {
-        return products.stream()
-                .map(Product::getId)
-                .collect(Collectors.toList());
-    }
+            List<String> productIds = positions.stream().map(ProductCursor::getId).toList();
+            List<ProductSummaryDTO> productDTOs = productSummaryCache.getAll(productIds,
+                    productSummaryLoader::load);
 
-    private List<String> getBrandIds(List<Product> products) {
-        return products.stream()
-                .filter(p -> p.getBrand() != null)
-                .map(p -> p.getBrand().getId())
-                .distinct()
-                .collect(Collectors.toList());
+            String nextCursor = hasNext ? positions.get(positions.size() - 1).encode() : null;
+            return new CursorPagedResponseDTO<>(productDTOs, size, nextCursor, hasNext);
+        } catch (Exception e) {
+            log.error("Error getting products after cursor", e);
+            return new CursorPagedResponseDTO<>(Collections.emptyList(), size, null, false);
+        }
     }
 
-    private List<String> getSellerIds(List<Product> products) {
-        return products.stream()
-                .filter(p -> p.getSeller() != null)
-                .map(p -> p.getSeller().getId())
-                .distinct()
-                .collect(Collectors.toList());
-    }
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<ProductSummaryDTO> getProductSlice(ProductListing listing, ProductFilterDTO filter,
+            int page, int size, TotalCountMode countMode) {
+        log.debug("Getting {} product slice page: {}, size: {}, count mode: {}", listing, page, size, countMode);
 
-    private List<Brand> getBrands(List<String> brandIds) {
-        if (brandIds.isEmpty()) {
-            return Collections.emptyList();
+        if (listing == ProductListing.SEARCH && (filter.getQ() == null || filter.getQ().trim().isEmpty())) {
+            return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
         }
-        return productRepository.findBrandsByIds(brandIds);
-    }
 
-    private List<Seller> getSellers(List<String> sellerIds) {
-        if (sellerIds.isEmpty()) {
-            return Collections.emptyList();
+        PagedResponseDTO<ProductSummaryDTO> slice;
+        try {
+            // Chỉ cache nội dung trang; tổng số lấy từ ProductCountCache mỗi lần để không giữ mãi giá trị UNKNOWN
+            // của lúc count cache còn lạnh
+            Cache cache = cacheManager.getCache(PRODUCT_SLICES_CACHE);
+            List<Object> key = List.of(listing, filter.getCacheKey(), page, size);
+            slice = cache != null
+                    ? cache.get(key, () -> loadProductSlice(listing, filter, page, size))
+                    : loadProductSlice(listing, filter, page, size);
+        } catch (Exception e) {
+            log.error("Error getting {} product slice", listing, e);
+            return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
         }
-        return productRepository.findSellersByIds(sellerIds);
-    }
 
-    // ✅ Properly implemented categories loading
-    private List<Category> loadCategoriesForProducts(List<String> productIds) {
-        if (productIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return productRepository.findCategoriesByProductIds(productIds);
-    }
+        long totalElements = countMode == TotalCountMode.APPROXIMATE
+                ? productCountCache.getApproximateTotal(listing, filter)
+                : ProductCountCache.UNKNOWN;
+        int totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / size);
 
-    private Map<String, List<Image>> groupImagesByProductId(List<Image> images) {
-        Map<String, List<Image>> imagesByProductId = new HashMap<>();
-        for (Image image : images) {
-            String productId = image.getProduct().getId();
-            imagesByProductId.computeIfAbsent(productId, k -> new ArrayList<>()).add(image);
-        }
-        return imagesByProductId;
+        return new PagedResponseDTO<>(slice.getContent(), page, size, totalElements, totalPages, slice.isLast());
     }
 
-    private Map<String, Brand> mapBrandsById(List<Brand> brands) {
-        return brands.stream()
-                .collect(Collectors.toMap(Brand::getId, brand -> brand));
-    }
+    // Giá trị được cache: nội dung và cờ last, tổng số để UNKNOWN
+    private PagedResponseDTO<ProductSummaryDTO> loadProductSlice(ProductListing listing, ProductFilterDTO filter,
+            int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, sortFor(listing, filter));
+        Slice<String> idSlice = productRepository.findIdSlice(ProductSpecification.forListing(listing, filter), pageable);
+
+        List<ProductSummaryDTO> productDTOs = idSlice.getContent().isEmpty()
+                ? Collections.emptyList()
+                : productSummaryCache.getAll(idSlice.getContent(),
+                        productSummaryLoader::load);
 
-    private Map<String, Seller> mapSellersById(List<Seller> sellers) {
-        return sellers.stream()
-                .collect(Collectors.toMap(Seller::getId, seller -> seller));
+        return new PagedResponseDTO<>(productDTOs, page, size, ProductCountCache.UNKNOWN, -1, !idSlice.hasNext());
     }
 
-    // ✅ Properly implemented categories grouping
-    private Map<String, List<CategoryDTO>> groupCategoriesByProductId(List<String> productIds, List<Category> categories) {
-        Map<String, List<CategoryDTO>> categoriesByProductId = new HashMap<>();
-        
-        try {
-            // Lấy product-category mappings
-            List<Object[]> mappings = productRepository.findProductCategoryMappings(productIds);
-            
-            for (Object[] mapping : mappings) {
-                String productId = (String) mapping[0];
-                String categoryId = (String) mapping[1];
-                String categoryName = (String) mapping[2];
-                String categoryUrl = (String) mapping[3];
-                String parentId = (String) mapping[4];
-                Integer level = (Integer) mapping[5];
-                
-                CategoryDTO categoryDTO = CategoryDTO.builder()
-                        .id(categoryId)
-                        .name(categoryName)
-                        .url(categoryUrl)
-                        .parentId(parentId)
-                        .level(level)
-                        .build();
-                
-                categoriesByProductId.computeIfAbsent(productId, k -> new ArrayList<>()).add(categoryDTO);
-            }
-        } catch (Exception e) {
-            log.error("Error grouping categories by product ID", e);
-        }
-        
-        return categoriesByProductId;
+    private Sort sortFor(ProductListing listing, ProductFilterDTO filter) {
+        return switch (listing) {
+            case TOP_SELLING -> Sort.by(Sort.Direction.DESC, "allTimeQuantitySold");
+            case TOP_RATED -> Sort.by(Sort.Direction.DESC, "ratingAverage");
+            case NEW_ARRIVALS -> Sort.by(Sort.Direction.DESC, "createdAt");
+            default -> createSort(filter.getSortBy(), filter.getDirection());
+        };
     }
 
-    // ✅ Updated conversion method to include seller and categories
-    private ProductSummaryDTO convertToProductSummaryDTO(Product product,
-            Map<String, List<Image>> imagesByProductId,
-            Map<String, Brand> brandsById,
-            Map<String, Seller> sellersById,
-            Map<String, List<CategoryDTO>> categoriesByProductId) {
-        
-        ProductSummaryDTO dto = new ProductSummaryDTO();
-        dto.setId(product.getId());
-        dto.setName(product.getName());
-        dto.setShortDescription(product.getShortDescription());
-        dto.setPrice(product.getPrice());
-        dto.setOriginalPrice(product.getOriginalPrice());
-        dto.setRatingAverage(product.getRatingAverage());
-        dto.setReviewCount(product.getReviewCount());
-        dto.setInventoryStatus(product.getInventoryStatus());
-        dto.setQuantitySold(product.getQuantitySold());
-
-        // Set brand
-        if (product.getBrand() != null && brandsById.containsKey(product.getBrand().getId())) {
-            Brand brand = brandsById.get(product.getBrand().getId());
-            BrandDTO brandDTO = productMapper.toBrandDTO(brand);
-            dto.setBrand(brandDTO);
-        }
+    // ✅ Helper methods - Updated and properly implemented
 
-        // ✅ Set seller
-        if (product.getSeller() != null && sellersById.containsKey(product.getSeller().getId())) {
-            Seller seller = sellersById.get(product.getSeller().getId());
-            SellerDTO sellerDTO = productMapper.toSellerDTO(seller);
-            dto.setSeller(sellerDTO);
-        }
+    private PagedResponseDTO<ProductSummaryDTO> convertIdPageToPagedResponse(Page<String> idPage, int page, int size) {
+        List<String> productIds = idPage.getContent();
 
-        // Set images (tối đa 3 ảnh)
-        if (imagesByProductId.containsKey(product.getId())) {
-            List<Image> productImages = imagesByProductId.get(product.getId());
-            List<ImageDTO> imageDTOs = productImages.stream()
-                    .sorted((i1, i2) -> {
-                        if (i1.getPosition() == null) return 1;
-                        if (i2.getPosition() == null) return -1;
-                        return i1.getPosition().compareTo(i2.getPosition());
-                    })
-                    .limit(3)
-                    .map(productMapper::toImageDTO)
-                    .collect(Collectors.toList());
-            dto.setImages(imageDTOs);
-        } else {
-            dto.setImages(Collections.emptyList());
+        if (productIds.isEmpty()) {
+            return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
         }
 
-        // ✅ Set categories
-        if (categoriesByProductId.containsKey(product.getId())) {
-            dto.setCategories(categoriesByProductId.get(product.getId()));
-        } else {
-            dto.setCategories(Collections.emptyList());
-        }
+        // Chỉ load entity + enrich cho những sản phẩm bị miss trong fragment cache
+        List<ProductSummaryDTO> productDTOs = productSummaryCache.getAll(productIds,
+                productSummaryLoader::load);
 
-        return dto;
+        return productMapper.toPagedResponseDTO(idPage, productDTOs);
     }
 
     private Sort createSort(String sortBy, String direction) {
@@ -535,27 +404,14 @@ public class ProductServiceImpl implements ProductService {
         return Sort.by(sortDirection, sortBy);
     }
 
-    // Phương thức để xóa cache
-    @Caching(evict = {
-            @CacheEvict(value = "productById", key = "#id"),
-            @CacheEvict(value = "allProducts", allEntries = true),
-            @CacheEvict(value = "productsByCategory", allEntries = true),
-            @CacheEvict(value = "productsByBrand", allEntries = true),
-            @CacheEvict(value = "topSellingProducts", allEntries = true),
-            @CacheEvict(value = "topRatedProducts", allEntries = true),
-            @CacheEvict(value = "newArrivals", allEntries = true)
-    })
+    // Phương thức để xóa cache - chỉ xóa các entry có chứa sản phẩm này
     public void evictCachesForProduct(String id) {
         log.debug("Evicting caches for product with id: {}", id);
+        cacheInvalidationIndex.evictProductAfterCommit(id);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "productById", key = "#productId"),
-        @CacheEvict(value = "topSellingProducts", allEntries = true),
-        @CacheEvict(value = "allProducts", allEntries = true)
-    })
     public void updateProductSalesStats(String productId, int quantitySold) {
         log.debug("Updating sales stats for product: {} with quantity: {}", productId, quantitySold);
         
@@ -575,6 +431,8 @@ public class ProductServiceImpl implements ProductService {
             
             log.info("Updated sales stats for product {}: +{} (total: {})", 
                     productId, quantitySold, product.getAllTimeQuantitySold());
+
+            cacheInvalidationIndex.evictProductAfterCommit(productId);
                     
         } catch (Exception e) {
             log.error("Failed to update sales stats for product: {}", productId, e);
@@ -584,11 +442,6 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "productById", key = "#productId"),
-        @CacheEvict(value = "topRatedProducts", allEntries = true),
-        @CacheEvict(value = "allProducts", allEntries = true)
-    })
     public void updateProductRating(String productId, BigDecimal newRating, int reviewCount) {
         log.debug("Updating rating for product: {} to rating: {}, reviews: {}", 
                 productId, newRating, reviewCount);
@@ -605,6 +458,9 @@ public class ProductServiceImpl implements ProductService {
             
             log.info("Updated rating for product {}: {} ({} reviews)", 
                     productId, newRating, reviewCount);
+
+            cacheInvalidationIndex.evictProductAfterCommit(productId);
+            cacheInvalidationIndex.evictTagAfterCommit(CacheTags.reviewsOfProduct(productId));
                     
         } catch (Exception e) {
             log.error("Failed to update rating for product: {}", productId, e);
@@ -614,10 +470,6 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "productById", key = "#productId"),
-        @CacheEvict(value = "allProducts", allEntries = true)
-    })
     public void updateInventoryStatus(String productId, String status) {
         log.debug("Updating inventory status for product: {} to: {}", productId, status);
         
@@ -634,6 +486,9 @@ public class ProductServiceImpl implements ProductService {
                 
                 log.info("Updated inventory status for product {}: {} -> {}", 
                         productId, oldStatus, status);
+
+                // Không evict cache sản phẩm: trạng thái mới đã nằm trong InventoryStatusOverlay,
+                // cache chỉ bị evict khi entry overlay hết hạn
             }
                     
         } catch (Exception e) {
@@ -643,22 +498,14 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "productById", key = "#productId"),
-        @CacheEvict(value = "allProducts", allEntries = true),
-        @CacheEvict(value = "productsByCategory", allEntries = true),
-        @CacheEvict(value = "productsByBrand", allEntries = true),
-        @CacheEvict(value = "topSellingProducts", allEntries = true),
-        @CacheEvict(value = "topRatedProducts", allEntries = true),
-        @CacheEvict(value = "newArrivals", allEntries = true)
-    })
     public void clearProductCaches(String productId) {
         log.debug("Clearing caches for product: {}", productId);
+        cacheInvalidationIndex.evictProductAfterCommit(productId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "filteredProducts", key = "{#filter.cacheKey, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "filteredProducts", key = "{#filter.snapshot(), #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getAllProductsWithFilters(ProductFilterDTO filter, int page, int size) {
         log.debug("Getting all products with filters: {}", filter);
         
@@ -667,9 +514,9 @@ public class ProductServiceImpl implements ProductService {
             Sort sort = createSort(filter.getSortBy(), filter.getDirection());
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Product> productPage = productRepository.findAll(spec, pageable);
+            Page<String> idPage = productRepository.findIdPage(spec, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting filtered products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -678,7 +525,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "searchResults", key = "{#filter.cacheKey, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "searchResults", key = "{#filter.snapshot(), #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> searchProductsWithFilters(ProductFilterDTO filter, int page, int size) {
         log.debug("Searching products with filters: {}", filter);
         
@@ -691,9 +538,9 @@ public class ProductServiceImpl implements ProductService {
             Sort sort = createSort(filter.getSortBy(), filter.getDirection());
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Product> productPage = productRepository.findAll(spec, pageable);
+            Page<String> idPage = productRepository.findIdPage(spec, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error searching filtered products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -702,10 +549,13 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topSellingFiltered", key = "{#filter.cacheKey, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "topSellingFiltered", key = "{#filter.snapshot(), #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getTopSellingProductsWithFilters(ProductFilterDTO filter, int page, int size) {
         log.debug("Getting top selling products with filters: {}", filter);
-        
+        return loadTopSellingProductsWithFilters(filter, page, size);
+    }
+
+    private PagedResponseDTO<ProductSummaryDTO> loadTopSellingProductsWithFilters(ProductFilterDTO filter, int page, int size) {
         try {
             Specification<Product> spec = Specification.where(ProductSpecification.isTopSelling())
                     .and(ProductSpecification.withFilters(filter));
@@ -713,9 +563,9 @@ public class ProductServiceImpl implements ProductService {
             Sort sort = Sort.by(Sort.Direction.DESC, "allTimeQuantitySold");
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Product> productPage = productRepository.findAll(spec, pageable);
+            Page<String> idPage = productRepository.findIdPage(spec, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting filtered top selling products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -724,10 +574,13 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topRatedFiltered", key = "{#filter.cacheKey, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "topRatedFiltered", key = "{#filter.snapshot(), #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getTopRatedProductsWithFilters(ProductFilterDTO filter, int page, int size) {
         log.debug("Getting top rated products with filters: {}", filter);
-        
+        return loadTopRatedProductsWithFilters(filter, page, size);
+    }
+
+    private PagedResponseDTO<ProductSummaryDTO> loadTopRatedProductsWithFilters(ProductFilterDTO filter, int page, int size) {
         try {
             Specification<Product> spec = Specification.where(ProductSpecification.isTopRated())
                     .and(ProductSpecification.withFilters(filter));
@@ -735,9 +588,9 @@ public class ProductServiceImpl implements ProductService {
             Sort sort = Sort.by(Sort.Direction.DESC, "ratingAverage");
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Product> productPage = productRepository.findAll(spec, pageable);
+            Page<String> idPage = productRepository.findIdPage(spec, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting filtered top rated products", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
@@ -746,10 +599,13 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "newArrivalsFiltered", key = "{#filter.cacheKey, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "newArrivalsFiltered", key = "{#filter.snapshot(), #page, #size}", sync = true)
     public PagedResponseDTO<ProductSummaryDTO> getNewArrivalsWithFilters(ProductFilterDTO filter, int page, int size) {
         log.debug("Getting new arrivals with filters: {}", filter);
-        
+        return loadNewArrivalsWithFilters(filter, page, size);
+    }
+
+    private PagedResponseDTO<ProductSummaryDTO> loadNewArrivalsWithFilters(ProductFilterDTO filter, int page, int size) {
         try {
             Specification<Product> spec = Specification.where(ProductSpecification.isNewArrival())
                     .and(ProductSpecification.withFilters(filter));
@@ -757,9 +613,9 @@ public class ProductServiceImpl implements ProductService {
             Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Product> productPage = productRepository.findAll(spec, pageable);
+            Page<String> idPage = productRepository.findIdPage(spec, pageable);
             
-            return convertToPagedResponse(productPage, page, size);
+            return convertIdPageToPagedResponse(idPage, page, size);
         } catch (Exception e) {
             log.error("Error getting filtered new arrivals", e);
             return new PagedResponseDTO<>(Collections.emptyList(), page, size, 0, 0, true);
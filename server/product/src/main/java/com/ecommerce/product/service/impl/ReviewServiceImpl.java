@@ -3,7 +3,6 @@ package com.ecommerce.product.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -12,6 +11,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.CacheTags;
 import com.ecommerce.product.dto.PagedResponseDTO;
 import com.ecommerce.product.dto.ReviewDTO;
 import com.ecommerce.product.entity.Review;
@@ -29,10 +30,11 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ProductMapper productMapper;
+    private final CacheInvalidationIndex cacheInvalidationIndex;
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "reviewsByProduct", key = "{#productId, #page, #size, #sortBy}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "reviewsByProduct", key = "{#productId, #page, #size, #sortBy}", sync = true)
     public PagedResponseDTO<ReviewDTO> getReviewsByProductId(String productId, int page, int size, String sortBy) {
         log.debug("Getting reviews for product id: {}, with sort: {}", productId, sortBy);
 
@@ -61,7 +63,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "reviewsByUser", key = "{#userId, #page, #size}", unless = "#result.content.isEmpty()")
+    @Cacheable(value = "reviewsByUser", key = "{#userId, #page, #size}", sync = true)
     public PagedResponseDTO<ReviewDTO> getReviewsByUserId(String userId, int page, int size) {
         log.debug("Getting reviews for user id: {}", userId);
 
@@ -75,15 +77,15 @@ public class ReviewServiceImpl implements ReviewService {
         return productMapper.toPagedResponseDTO(reviewPage, reviewDTOs);
     }
 
-    // Phương thức để xóa cache khi có review mới hoặc review được cập nhật
-    @CacheEvict(value = "reviewsByProduct", key = "{#productId, '*', '*', '*'}")
+    // Phương thức để xóa cache khi có review mới hoặc review được cập nhật (mọi trang, mọi kiểu sắp xếp)
     public void evictReviewCacheForProduct(String productId) {
         log.debug("Evicting review cache for product id: {}", productId);
+        cacheInvalidationIndex.evictTagAfterCommit(CacheTags.reviewsOfProduct(productId));
     }
 
     // Phương thức để xóa cache khi user thêm hoặc cập nhật review
-    @CacheEvict(value = "reviewsByUser", key = "{#userId, '*', '*'}")
     public void evictReviewCacheForUser(String userId) {
         log.debug("Evicting review cache for user id: {}", userId);
+        cacheInvalidationIndex.evictTagAfterCommit(CacheTags.reviewsOfUser(userId));
     }
 }
\ No newline at end of file
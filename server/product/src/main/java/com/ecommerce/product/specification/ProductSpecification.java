@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.ecommerce.product.dto.ProductFilterDTO;
+import com.ecommerce.product.dto.ProductListing;
 import com.ecommerce.product.entity.Product;
 
 import jakarta.persistence.criteria.Join;
@@ -88,6 +89,17 @@ public class ProductSpecification {
         };
     }
 
+    // Điều kiện đầy đủ của một loại danh sách: điều kiện nền + filter của request
+    public static Specification<Product> forListing(ProductListing listing, ProductFilterDTO filter) {
+        Specification<Product> filters = withFilters(filter);
+        return switch (listing) {
+            case TOP_SELLING -> Specification.where(isTopSelling()).and(filters);
+            case TOP_RATED -> Specification.where(isTopRated()).and(filters);
+            case NEW_ARRIVALS -> Specification.where(isNewArrival()).and(filters);
+            default -> filters;
+        };
+    }
+
     // Specific specifications for different product types
     public static Specification<Product> isTopSelling() {
         return (root, query, criteriaBuilder) ->
@@ -0,0 +1,58 @@
+package com.ecommerce.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.product.dto.ProductSummaryDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheInvalidationIndexTest {
+
+    private final CacheInvalidationIndex index = new CacheInvalidationIndex(new SimpleMeterRegistry());
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IndexedCache(new ConcurrentMapCache("productSummaries"), index);
+        index.registerCache(cache);
+        cache.put("p-1", ProductSummaryDTO.builder().id("p-1").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictsAfterCommitInsideTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.evictProductAfterCommit("p-1");
+        // Chưa commit: entry vẫn còn
+        assertThat(cache.get("p-1")).isNotNull();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get("p-1")).isNull();
+    }
+
+    @Test
+    void evictsImmediatelyOutsideTransaction() {
+        index.evictProductAfterCommit("p-1");
+
+        assertThat(cache.get("p-1")).isNull();
+    }
+}
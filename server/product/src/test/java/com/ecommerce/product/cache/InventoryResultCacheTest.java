@@ -0,0 +1,68 @@
+package com.ecommerce.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.grpc.inventory.InventoryStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InventoryResultCacheTest {
+
+    private InventoryResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InventoryResultCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "positiveTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        cache.init();
+    }
+
+    @Test
+    void dropsResultStartedBeforeInvalidationOfSameProduct() {
+        long generation = cache.generation();
+        cache.invalidate("p-1");
+
+        cache.put(status("p-1"), generation);
+        cache.putMissing("p-1", generation);
+
+        assertThat(cache.getIfPresent("p-1")).isNull();
+    }
+
+    @Test
+    void keepsResultWhenAnotherProductIsInvalidated() {
+        long generation = cache.generation();
+        cache.invalidate("p-2");
+
+        cache.put(status("p-1"), generation);
+        cache.putMissing("p-3", generation);
+
+        assertThat(cache.getIfPresent("p-1")).isEqualTo(status("p-1"));
+        assertThat(cache.getIfPresent("p-3")).isEqualTo(InventoryStatus.getDefaultInstance());
+    }
+
+    @Test
+    void cachesResultStartedAfterInvalidation() {
+        cache.invalidate("p-1");
+        long generation = cache.generation();
+
+        cache.put(status("p-1"), generation);
+
+        assertThat(cache.getIfPresent("p-1")).isEqualTo(status("p-1"));
+    }
+
+    private static InventoryStatus status(String productId) {
+        return InventoryStatus.newBuilder()
+                .setProductId(productId)
+                .setAvailable(true)
+                .setAvailableQuantity(5)
+                .setStatus("available")
+                .build();
+    }
+}
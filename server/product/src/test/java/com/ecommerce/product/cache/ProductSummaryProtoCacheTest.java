@@ -0,0 +1,94 @@
+package com.ecommerce.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.grpc.product.ProductSummary;
+import com.ecommerce.product.dto.BrandDTO;
+import com.ecommerce.product.dto.ImageDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.grpc.mapper.GrpcMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductSummaryProtoCacheTest {
+
+    private final GrpcMapper mapper = new GrpcMapper();
+    private final CacheInvalidationIndex invalidationIndex = new CacheInvalidationIndex(new SimpleMeterRegistry());
+
+    private ProductSummaryProtoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductSummaryProtoCache(mapper, new SimpleMeterRegistry(), invalidationIndex);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "expireAfterAccessMinutes", 30L);
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        cache.init();
+    }
+
+    @Test
+    void unchangedProductReusesTheSameMessage() {
+        ProductSummaryDTO fragment = product("p-1", BigDecimal.TEN);
+
+        ProductSummary first = cache.toProductSummaryProto(fragment.toBuilder().build());
+        ProductSummary second = cache.toProductSummaryProto(fragment.toBuilder().build());
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(mapper.toProductSummaryProto(fragment));
+    }
+
+    @Test
+    void changedProductIsRebuilt() {
+        ProductSummary before = cache.toProductSummaryProto(product("p-1", BigDecimal.TEN));
+        ProductSummary after = cache.toProductSummaryProto(product("p-1", BigDecimal.ONE));
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getPrice()).isEqualTo(1.0);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void inventoryStatusIsPatchedOntoCachedMessage() {
+        ProductSummaryDTO fragment = product("p-1", BigDecimal.TEN);
+        ProductSummary cached = cache.toProductSummaryProto(fragment);
+
+        ProductSummary patched = cache.toProductSummaryProto(
+                fragment.toBuilder().inventoryStatus("out_of_stock").build());
+
+        assertThat(patched.getInventoryStatus()).isEqualTo("out_of_stock");
+        assertThat(patched.getBrand()).isSameAs(cached.getBrand());
+        assertThat(patched.getImagesList()).isEqualTo(cached.getImagesList());
+        // Message đã cache vẫn giữ trạng thái cũ, lần sau không đổi thì dùng lại nguyên message
+        assertThat(cache.toProductSummaryProto(fragment)).isSameAs(cached);
+    }
+
+    @Test
+    void productEvictionDropsCachedMessage() {
+        ProductSummaryDTO fragment = product("p-1", BigDecimal.TEN);
+        ProductSummary cached = cache.toProductSummaryProto(fragment);
+        cache.toProductSummaryProto(product("p-2", BigDecimal.TEN));
+
+        invalidationIndex.evictProduct("p-1");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.toProductSummaryProto(fragment)).isNotSameAs(cached).isEqualTo(cached);
+    }
+
+    private static ProductSummaryDTO product(String id, BigDecimal price) {
+        return ProductSummaryDTO.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(price)
+                .inventoryStatus("available")
+                .brand(BrandDTO.builder().id("b-1").name("Brand").slug("brand").build())
+                .images(List.of(ImageDTO.builder().id("i-1").url("/i-1.jpg").position(0).build()))
+                .build();
+    }
+}
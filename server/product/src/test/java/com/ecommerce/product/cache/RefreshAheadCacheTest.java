@@ -0,0 +1,64 @@
+package com.ecommerce.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RefreshAheadCacheTest {
+
+    private static final String CACHE_NAME = "topSellingProducts";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Soft TTL 0: entry nào cũng cũ ngay sau khi ghi
+    private final CacheRefresher refresher = new CacheRefresher(Duration.ZERO, 1, 10, meterRegistry);
+    private final RefreshAheadCache cache = new RefreshAheadCache(
+            new CoalescingCache(new CaffeineCache(CACHE_NAME,
+                    Caffeine.newBuilder().expireAfterWrite(1, TimeUnit.HOURS).build()), meterRegistry),
+            refresher, new CacheInvalidationIndex(meterRegistry));
+
+    @AfterEach
+    void tearDown() {
+        refresher.destroy();
+    }
+
+    @Test
+    void refreshesWithRegisteredLoaderInsteadOfCallerLoader() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        refresher.registerLoader(CACHE_NAME, key -> "fresh-" + loads.incrementAndGet());
+        AtomicInteger callerLoads = new AtomicInteger();
+        List<Integer> key = List.of(0, 10);
+
+        assertThat(cache.get(key, () -> "initial-" + callerLoads.incrementAndGet())).isEqualTo("initial-1");
+        // Entry cũ vẫn trả ngay, refresh chạy ở background bằng loader đã đăng ký
+        assertThat(cache.get(key, () -> "initial-" + callerLoads.incrementAndGet())).isEqualTo("initial-1");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"fresh-1".equals(cache.get(key).get())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        assertThat(callerLoads).hasValue(1);
+    }
+
+    @Test
+    void doesNotRefreshWithoutLoader() throws Exception {
+        List<Integer> key = List.of(0, 10);
+        cache.get(key, () -> "initial");
+        cache.get(key, () -> "other");
+
+        Thread.sleep(50);
+        assertThat(cache.get(key).get()).isEqualTo("initial");
+        assertThat(meterRegistry.find("cache.refresh").counter()).isNull();
+    }
+}
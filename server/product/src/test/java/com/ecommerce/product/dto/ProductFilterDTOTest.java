@@ -0,0 +1,39 @@
+package com.ecommerce.product.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ProductFilterDTOTest {
+
+    @Test
+    void snapshotIsNotChangedByLaterChangesToFilter() {
+        List<String> brandIds = new ArrayList<>(List.of("b-1"));
+        ProductFilterDTO filter = ProductFilterDTO.builder().q("phone").brandIds(brandIds).build();
+
+        ProductFilterDTO.Snapshot key = filter.snapshot();
+        filter.setQ("laptop");
+        brandIds.add("b-2");
+
+        assertThat(key.q()).isEqualTo("phone");
+        assertThat(key.brandIds()).containsExactly("b-1");
+        assertThat(key).isNotEqualTo(filter.snapshot());
+    }
+
+    @Test
+    void equalFiltersGiveEqualSnapshots() {
+        ProductFilterDTO filter = filter();
+
+        assertThat(filter.snapshot()).isEqualTo(filter().snapshot());
+        assertThat(filter.snapshot().toFilter()).isEqualTo(filter);
+    }
+
+    private static ProductFilterDTO filter() {
+        return ProductFilterDTO.builder().minPrice(BigDecimal.ONE).categoryIds(List.of("c-1")).sortBy("price")
+                .direction("asc").build();
+    }
+}
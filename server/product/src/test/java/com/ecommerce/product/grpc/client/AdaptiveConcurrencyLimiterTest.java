@@ -0,0 +1,106 @@
+package com.ecommerce.product.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Đồng hồ giả thay cho System.nanoTime: mỗi lần giảm giới hạn chỉ phụ thuộc vào RTT được báo và thời gian tự đặt.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+    // Giới hạn ban đầu 10 trong [2, 12], giảm còn 0.5 lần, quá tải khi latency > 2 lần latency nền
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", 10, 2, 12, 0.5,
+            2.0, meterRegistry, clock::get);
+
+    @Test
+    void rejectsCallsBeyondLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+        assertThat(meterRegistry.get("grpc.client.concurrency.rejected").counter().count()).isEqualTo(1);
+
+        limiter.releaseWithoutSample();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void droppedCallHalvesLimitOncePerRtt() {
+        acquire(3);
+
+        limiter.release(RTT, true);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        // Cùng đợt: lời gọi lỗi thứ hai trong một RTT không giảm thêm
+        clock.addAndGet(RTT - 1);
+        limiter.release(RTT, true);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        clock.addAndGet(1);
+        limiter.release(RTT, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void latencyAboveToleranceDecreasesLimit() {
+        acquire(2);
+        limiter.release(RTT, false);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.release(RTT * 3, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void neverDropsBelowMinLimit() {
+        for (int i = 0; i < 5; i++) {
+            acquire(1);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            limiter.release(RTT, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void growsWhileLimitIsUsedAndStopsAtMaxLimit() {
+        for (int round = 0; round < 100; round++) {
+            acquire(limiter.getLimit());
+            for (int i = limiter.getInFlight(); i > 0; i--) {
+                limiter.release(RTT, false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void doesNotGrowWhenMostOfLimitIsUnused() {
+        for (int i = 0; i < 100; i++) {
+            acquire(1);
+            limiter.release(RTT, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private void acquire(int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.ecommerce.product.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Đồng hồ giả thay cho System.nanoTime: chuyển trạng thái chỉ phụ thuộc vào kết quả được ghi và thời gian tự đặt.
+ */
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+    // Cửa sổ 10, mở khi >= 50% lỗi hoặc >= 80% chậm (>= 100ms) sau ít nhất 4 lời gọi, 2 lượt thử half-open
+    private final CircuitBreaker breaker = new CircuitBreaker("inventory", 10, 4, 50, Duration.ofMillis(100), 80,
+            OPEN_DURATION, 2, new SimpleMeterRegistry(), clock::get);
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            call(FAST, true);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        call(FAST, false);
+        call(FAST, false);
+        call(FAST, true);
+        call(FAST, true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void opensWhenMostCallsAreSlow() {
+        for (int i = 0; i < 4; i++) {
+            call(SLOW, false);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void closesAfterSuccessfulHalfOpenCalls() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        // Hết lượt thử: lời gọi khác bị từ chối tới khi có kết quả
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.record(FAST, false);
+        breaker.record(FAST, false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void reopensWhenHalfOpenCallsFail() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        call(FAST, true);
+        call(FAST, false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void cancelledHalfOpenCallsGiveTheirPermitBack() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.releaseWithoutRecord();
+        breaker.releaseWithoutRecord();
+
+        // Lượt thử được trả lại: mạch vẫn đóng lại được thay vì kẹt ở half-open
+        call(FAST, false);
+        call(FAST, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void ignoresResultsOfCallsStartedBeforeOpening() {
+        assertThat(breaker.tryAcquire()).isTrue();
+        open();
+
+        breaker.record(FAST, false);
+        clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(FAST, true);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(long durationNanos, boolean failed) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.record(durationNanos, failed);
+    }
+}
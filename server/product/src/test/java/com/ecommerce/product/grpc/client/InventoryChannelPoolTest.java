@@ -0,0 +1,195 @@
+package com.ecommerce.product.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.grpc.inventory.CheckInventoryRequest;
+import com.ecommerce.grpc.inventory.CheckInventoryResponse;
+import com.ecommerce.grpc.inventory.InventoryServiceGrpc;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Chạy với nhiều inventory service giả in-process, mỗi instance chỉ xử lý được 2 request cùng lúc.
+ */
+class InventoryChannelPoolTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final int CALLS = 800;
+    private static final int WARMUP = 20;
+
+    /**
+     * Stand-in for one inventory instance: a fixed amount of work per call on a small server executor.
+     */
+    private static final class SlowInventoryService extends InventoryServiceGrpc.InventoryServiceImplBase {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void checkInventory(CheckInventoryRequest request, StreamObserver<CheckInventoryResponse> responseObserver) {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            responseObserver.onNext(CheckInventoryResponse.newBuilder()
+                    .setProductId(request.getProductId())
+                    .setAvailable(true)
+                    .setStatus("available")
+                    .build());
+            responseObserver.onCompleted();
+        }
+    }
+
+    private final List<Server> servers = new ArrayList<>();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final List<InventoryChannelPool> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(InventoryChannelPool::shutdown);
+        servers.forEach(Server::shutdownNow);
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    void concurrentLoadIsSharedByAllEndpoints() throws Exception {
+        List<SlowInventoryService> services = new ArrayList<>();
+        runConcurrently(startServers(4, services), InventoryChannelPool.Balancer.LEAST_OUTSTANDING);
+
+        // Mỗi instance chỉ xử lý 2 request cùng lúc: với 32 request đang chờ, instance nào cũng phải nhận phần việc
+        assertThat(services.stream().mapToInt(service -> service.calls.get()).sum()).isEqualTo(WARMUP + CALLS);
+        services.forEach(service -> assertThat(service.calls.get()).isGreaterThanOrEqualTo(CALLS / 8));
+    }
+
+    @Test
+    void callsAreSpreadAcrossEndpoints() throws Exception {
+        List<SlowInventoryService> services = new ArrayList<>();
+        List<String> targets = startServers(3, services);
+        InventoryChannelPool pool = pool(targets, InventoryChannelPool.Balancer.ROUND_ROBIN);
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(call(pool)).isTrue();
+        }
+
+        services.forEach(service -> assertThat(service.calls.get()).isEqualTo(10));
+    }
+
+    @Test
+    void unreachableEndpointIsEjected() throws Exception {
+        List<SlowInventoryService> services = new ArrayList<>();
+        List<String> targets = new ArrayList<>(startServers(2, services));
+        // Không có server nào với tên này: mọi lời gọi tới đây đều UNAVAILABLE
+        targets.add("missing-" + UUID.randomUUID());
+        InventoryChannelPool pool = pool(targets, InventoryChannelPool.Balancer.ROUND_ROBIN);
+
+        int failed = 0;
+        for (int i = 0; i < 60; i++) {
+            failed += call(pool) ? 0 : 1;
+        }
+
+        // Sau ejection-failure-threshold (3) lỗi liên tiếp, endpoint hỏng không còn nhận request
+        assertThat(failed).isLessThanOrEqualTo(3);
+        assertThat(services.get(0).calls.get() + services.get(1).calls.get()).isEqualTo(60 - failed);
+    }
+
+    private void runConcurrently(List<String> targets, InventoryChannelPool.Balancer balancer) throws Exception {
+        InventoryChannelPool pool = pool(targets, balancer);
+        // Làm nóng kết nối
+        for (int i = 0; i < WARMUP; i++) {
+            call(pool);
+        }
+
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < CALLS; i++) {
+            inFlight.acquire();
+            InventoryChannelPool.Lease lease = pool.acquire();
+            Futures.addCallback(InventoryServiceGrpc.newFutureStub(lease.channel())
+                    .checkInventory(request()), new FutureCallback<>() {
+                        @Override
+                        public void onSuccess(CheckInventoryResponse result) {
+                            lease.release(false);
+                            completed.incrementAndGet();
+                            inFlight.release();
+                        }
+
+                        @Override
+                        public void onFailure(Throwable t) {
+                            lease.release(true);
+                            inFlight.release();
+                        }
+                    }, MoreExecutors.directExecutor());
+        }
+        inFlight.acquire(CONCURRENCY);
+
+        assertThat(completed.get()).isEqualTo(CALLS);
+    }
+
+    private boolean call(InventoryChannelPool pool) {
+        InventoryChannelPool.Lease lease = pool.acquire();
+        try {
+            InventoryServiceGrpc.newBlockingStub(lease.channel())
+                    .withDeadlineAfter(2, TimeUnit.SECONDS)
+                    .checkInventory(request());
+            lease.release(false);
+            return true;
+        } catch (StatusRuntimeException e) {
+            lease.release(e.getStatus().getCode() == Status.Code.UNAVAILABLE);
+            return false;
+        }
+    }
+
+    private static CheckInventoryRequest request() {
+        return CheckInventoryRequest.newBuilder().setProductId("p-1").setQuantity(1).build();
+    }
+
+    private InventoryChannelPool pool(List<String> targets, InventoryChannelPool.Balancer balancer) {
+        InventoryChannelPool pool = new InventoryChannelPool(targets, 1,
+                target -> InProcessChannelBuilder.forName(target).build(),
+                balancer, Duration.ofSeconds(30), 3, new SimpleMeterRegistry());
+        pools.add(pool);
+        return pool;
+    }
+
+    private List<String> startServers(int count, List<SlowInventoryService> services) throws IOException {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = "inventory-" + UUID.randomUUID();
+            SlowInventoryService service = new SlowInventoryService();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            servers.add(InProcessServerBuilder.forName(name)
+                    .executor(executor)
+                    .addService(service)
+                    .build()
+                    .start());
+            executors.add(executor);
+            services.add(service);
+            names.add(name);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,364 @@
+package com.ecommerce.product.grpc.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.ecommerce.grpc.common.Status;
+import com.ecommerce.grpc.inventory.CheckInventoryBatchRequest;
+import com.ecommerce.grpc.inventory.CheckInventoryBatchResponse;
+import com.ecommerce.grpc.inventory.CheckInventoryRequest;
+import com.ecommerce.grpc.inventory.CheckInventoryResponse;
+import com.ecommerce.grpc.inventory.InventoryItem;
+import com.ecommerce.grpc.inventory.InventoryServiceGrpc;
+import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.ecommerce.grpc.inventory.InventoryStatusChange;
+import com.ecommerce.grpc.inventory.SubscribeInventoryStatusRequest;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Inventory service giả chạy trong cùng JVM, thay cho inventory service thật khi đo đường gọi tồn kho.
+ * Độ trễ lấy theo phân phối cấu hình được, một phần lời gọi trả lỗi gRPC, tồn kho lấy từ map cho trước.
+ * Response được trả trên scheduler riêng nên độ trễ giả không chiếm thread của gRPC server.
+ * SubscribeInventoryStatus đẩy mọi thay đổi từ {@link #setStock}, giữ {@code changeLogCapacity} thay đổi gần nhất
+ * để subscriber resume; xa hơn thì gửi RESET + snapshot.
+ *
+ * <pre>
+ * InventoryStandIn standIn = InventoryStandIn.builder()
+ *         .latency(InventoryStandIn.Latency.logNormal(Duration.ofMillis(3), Duration.ofMillis(40)))
+ *         .errorRate(0.01)
+ *         .stock(Map.of("p-1", 10, "p-2", 0))
+ *         .build();
+ * Server server = standIn.start(ServerBuilder.forPort(0));
+ * </pre>
+ */
+public final class InventoryStandIn extends InventoryServiceGrpc.InventoryServiceImplBase implements AutoCloseable {
+
+    /**
+     * Phân phối độ trễ của một lời gọi, tính bằng micro giây.
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        long nextMicros();
+
+        static Latency none() {
+            return () -> 0;
+        }
+
+        static Latency fixed(Duration latency) {
+            long micros = toMicros(latency);
+            return () -> micros;
+        }
+
+        static Latency uniform(Duration min, Duration max) {
+            long from = toMicros(min);
+            long to = toMicros(max);
+            return () -> from == to ? from : ThreadLocalRandom.current().nextLong(from, to + 1);
+        }
+
+        /**
+         * Đuôi dài như service thật: trung vị {@code median}, 1% lời gọi chậm hơn {@code p99}.
+         */
+        static Latency logNormal(Duration median, Duration p99) {
+            double mu = Math.log(toMicros(median));
+            // z của phân vị 99 trong phân phối chuẩn
+            double sigma = Math.log((double) toMicros(p99) / toMicros(median)) / 2.326;
+            return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+
+        private static long toMicros(Duration duration) {
+            return Math.max(1, TimeUnit.NANOSECONDS.toMicros(duration.toNanos()));
+        }
+    }
+
+    private final Latency latency;
+    private final Latency batchItemLatency;
+    private final double errorRate;
+    private final io.grpc.Status errorStatus;
+    private final Map<String, Integer> stock;
+    private final int defaultQuantity;
+    private final ScheduledExecutorService scheduler;
+    private final int changeLogCapacity;
+
+    // version, changeLog và subscribers chỉ đổi khi giữ lock của this, để mọi subscriber nhận đúng thứ tự
+    private long version;
+    private final Deque<InventoryStatusChange> changeLog = new ArrayDeque<>();
+    private final List<StreamObserver<InventoryStatusChange>> subscribers = new ArrayList<>();
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong batchCalls = new AtomicLong();
+    private final AtomicLong batchItems = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+
+    private InventoryStandIn(Builder builder) {
+        this.latency = builder.latency;
+        this.batchItemLatency = builder.batchItemLatency;
+        this.errorRate = builder.errorRate;
+        this.errorStatus = builder.errorStatus;
+        this.stock = new ConcurrentHashMap<>(builder.stock);
+        this.defaultQuantity = builder.defaultQuantity;
+        this.changeLogCapacity = builder.changeLogCapacity;
+        this.scheduler = Executors.newScheduledThreadPool(builder.schedulerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "inventory-stand-in");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Đăng ký service vào builder cho trước (in-process hoặc Netty) và khởi động server.
+     */
+    public Server start(ServerBuilder<?> serverBuilder) throws IOException {
+        return serverBuilder.addService(this).build().start();
+    }
+
+    @Override
+    public void checkInventory(CheckInventoryRequest request, StreamObserver<CheckInventoryResponse> responseObserver) {
+        calls.incrementAndGet();
+        long delayMicros = latency.nextMicros();
+        respond(responseObserver, delayMicros, () -> {
+            int quantity = stock.getOrDefault(request.getProductId(), defaultQuantity);
+            boolean available = quantity >= Math.max(1, request.getQuantity());
+            return CheckInventoryResponse.newBuilder()
+                    .setProductId(request.getProductId())
+                    .setAvailable(available)
+                    .setAvailableQuantity(quantity)
+                    .setStatus(statusOf(quantity))
+                    .setResultStatus(Status.newBuilder().setCode(Status.Code.OK).setMessage("Success").build())
+                    .setLatencyMs(delayMicros / 1000.0)
+                    .build();
+        });
+    }
+
+    @Override
+    public void checkInventoryBatch(CheckInventoryBatchRequest request,
+            StreamObserver<CheckInventoryBatchResponse> responseObserver) {
+        batchCalls.incrementAndGet();
+        batchItems.addAndGet(request.getItemsCount());
+        long delayMicros = latency.nextMicros();
+        for (int i = 0; i < request.getItemsCount(); i++) {
+            delayMicros += batchItemLatency.nextMicros();
+        }
+        long latencyMicros = delayMicros;
+        respond(responseObserver, delayMicros, () -> {
+            CheckInventoryBatchResponse.Builder response = CheckInventoryBatchResponse.newBuilder()
+                    .setResultStatus(Status.newBuilder().setCode(Status.Code.OK).setMessage("Success").build())
+                    .setLatencyMs(latencyMicros / 1000.0);
+            for (InventoryItem item : request.getItemsList()) {
+                int quantity = stock.getOrDefault(item.getProductId(), defaultQuantity);
+                response.addItems(InventoryStatus.newBuilder()
+                        .setProductId(item.getProductId())
+                        .setAvailable(quantity >= Math.max(1, item.getQuantity()))
+                        .setAvailableQuantity(quantity)
+                        .setStatus(statusOf(quantity))
+                        .build());
+            }
+            return response.build();
+        });
+    }
+
+    @Override
+    public void subscribeInventoryStatus(SubscribeInventoryStatusRequest request,
+            StreamObserver<InventoryStatusChange> responseObserver) {
+        ((ServerCallStreamObserver<InventoryStatusChange>) responseObserver).setOnCancelHandler(() -> {
+            synchronized (this) {
+                subscribers.remove(responseObserver);
+            }
+        });
+        synchronized (this) {
+            long fromVersion = request.getFromVersion();
+            long oldest = changeLog.isEmpty() ? version + 1 : changeLog.peekFirst().getVersion();
+            if (fromVersion <= 0 || fromVersion > version || fromVersion < oldest - 1) {
+                responseObserver.onNext(InventoryStatusChange.newBuilder()
+                        .setType(InventoryStatusChange.Type.RESET)
+                        .setVersion(version)
+                        .build());
+                stock.forEach((productId, quantity) -> responseObserver.onNext(change(productId, quantity, version)));
+            } else {
+                changeLog.stream()
+                        .filter(change -> change.getVersion() > fromVersion)
+                        .forEach(responseObserver::onNext);
+            }
+            responseObserver.onNext(InventoryStatusChange.newBuilder()
+                    .setType(InventoryStatusChange.Type.SNAPSHOT_END)
+                    .setVersion(version)
+                    .build());
+            subscribers.add(responseObserver);
+        }
+    }
+
+    private <T> void respond(StreamObserver<T> responseObserver, long delayMicros, Supplier<T> response) {
+        boolean fail = errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        Runnable complete = () -> {
+            if (fail) {
+                failedCalls.incrementAndGet();
+                responseObserver.onError(errorStatus.withDescription("injected by InventoryStandIn").asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(response.get());
+            responseObserver.onCompleted();
+        };
+        if (delayMicros <= 0) {
+            complete.run();
+        } else {
+            scheduler.schedule(complete, delayMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    private static String statusOf(int quantity) {
+        return quantity > 0 ? "available" : "out_of_stock";
+    }
+
+    private static InventoryStatusChange change(String productId, int quantity, long version) {
+        return InventoryStatusChange.newBuilder()
+                .setType(InventoryStatusChange.Type.CHANGE)
+                .setProductId(productId)
+                .setAvailable(quantity > 0)
+                .setAvailableQuantity(quantity)
+                .setStatus(statusOf(quantity))
+                .setVersion(version)
+                .setUpdatedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * Đổi tồn kho của một sản phẩm trong lúc chạy và đẩy thay đổi tới các subscriber.
+     */
+    public synchronized void setStock(String productId, int quantity) {
+        stock.put(productId, quantity);
+        InventoryStatusChange change = change(productId, quantity, ++version);
+        changeLog.addLast(change);
+        while (changeLog.size() > changeLogCapacity) {
+            changeLog.removeFirst();
+        }
+        subscribers.forEach(subscriber -> subscriber.onNext(change));
+    }
+
+    /**
+     * Cắt mọi stream SubscribeInventoryStatus đang mở, như khi inventory service khởi động lại.
+     */
+    public synchronized void disconnectSubscribers() {
+        subscribers.forEach(subscriber -> subscriber.onError(
+                io.grpc.Status.UNAVAILABLE.withDescription("disconnected by InventoryStandIn").asRuntimeException()));
+        subscribers.clear();
+    }
+
+    public synchronized int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long batchCalls() {
+        return batchCalls.get();
+    }
+
+    public long batchItems() {
+        return batchItems.get();
+    }
+
+    public long failedCalls() {
+        return failedCalls.get();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public static final class Builder {
+
+        private Latency latency = Latency.none();
+        private Latency batchItemLatency = Latency.none();
+        private double errorRate;
+        private io.grpc.Status errorStatus = io.grpc.Status.UNAVAILABLE;
+        private Map<String, Integer> stock = Map.of();
+        private int defaultQuantity = 100;
+        private int schedulerThreads = 2;
+        private int changeLogCapacity = 1000;
+
+        private Builder() {
+        }
+
+        public Builder latency(Latency latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Độ trễ cộng thêm cho mỗi sản phẩm trong một CheckInventoryBatch.
+         */
+        public Builder batchItemLatency(Latency batchItemLatency) {
+            this.batchItemLatency = batchItemLatency;
+            return this;
+        }
+
+        /**
+         * Tỉ lệ lời gọi (0..1) trả lỗi {@code errorStatus}.
+         */
+        public Builder errorRate(double errorRate) {
+            if (errorRate < 0 || errorRate > 1) {
+                throw new IllegalArgumentException("errorRate must be between 0 and 1");
+            }
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder errorStatus(io.grpc.Status errorStatus) {
+            this.errorStatus = errorStatus;
+            return this;
+        }
+
+        public Builder stock(Map<String, Integer> stock) {
+            this.stock = stock;
+            return this;
+        }
+
+        /**
+         * Tồn kho của sản phẩm không có trong {@link #stock}.
+         */
+        public Builder defaultQuantity(int defaultQuantity) {
+            this.defaultQuantity = defaultQuantity;
+            return this;
+        }
+
+        public Builder schedulerThreads(int schedulerThreads) {
+            this.schedulerThreads = schedulerThreads;
+            return this;
+        }
+
+        /**
+         * Số thay đổi gần nhất được giữ để subscriber resume mà không cần snapshot.
+         */
+        public Builder changeLogCapacity(int changeLogCapacity) {
+            this.changeLogCapacity = changeLogCapacity;
+            return this;
+        }
+
+        public InventoryStandIn build() {
+            return new InventoryStandIn(this);
+        }
+    }
+}
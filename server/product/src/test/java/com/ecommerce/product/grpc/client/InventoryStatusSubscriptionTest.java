@@ -0,0 +1,137 @@
+package com.ecommerce.product.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.grpc.inventory.InventoryStatus;
+import com.ecommerce.grpc.inventory.InventoryStatusChange;
+import com.ecommerce.product.cache.InventoryStatusTable;
+
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Stream SubscribeInventoryStatus tới {@link InventoryStandIn} in-process: snapshot, thay đổi, resume và RESET.
+ */
+class InventoryStatusSubscriptionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<InventoryStatusChange> changes = new CopyOnWriteArrayList<>();
+
+    private InventoryStandIn inventory;
+    private Server server;
+    private InventoryChannelPool pool;
+    private InventoryStatusTable table;
+    private InventoryStatusSubscription subscription;
+
+    @BeforeEach
+    void setUp() {
+        table = new InventoryStatusTable(meterRegistry);
+        table.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (subscription != null) {
+            subscription.stop();
+        }
+        pool.shutdown();
+        server.shutdownNow();
+        inventory.close();
+    }
+
+    @Test
+    void snapshotThenPushedChanges() throws Exception {
+        start(InventoryStandIn.builder().stock(Map.of("p-1", 5, "p-2", 0)));
+
+        await(table::isServing);
+        assertThat(lookup("p-1").getStatus()).isEqualTo("available");
+        assertThat(lookup("p-2").getStatus()).isEqualTo("out_of_stock");
+        // Bảng đầy đủ: sản phẩm không có trong bảng thì không cần gọi inventory service
+        assertThat(table.lookup(List.of("unknown"), new HashMap<>())).isEmpty();
+        // Snapshot không phải thay đổi mới
+        assertThat(changes).isEmpty();
+
+        inventory.setStock("p-1", 0);
+
+        await(() -> "out_of_stock".equals(lookup("p-1").getStatus()));
+        assertThat(changes).extracting(InventoryStatusChange::getProductId).containsExactly("p-1");
+    }
+
+    @Test
+    void resumesFromLastVersionAfterDisconnect() throws Exception {
+        start(InventoryStandIn.builder().stock(Map.of("p-1", 5)));
+        await(table::isServing);
+        inventory.setStock("p-1", 4);
+        await(() -> changes.size() == 1);
+
+        inventory.disconnectSubscribers();
+        inventory.setStock("p-2", 7);
+        inventory.setStock("p-1", 0);
+
+        await(() -> table.isServing() && changes.size() == 3);
+        // Thay đổi bị lỡ được gửi lại, không cần snapshot
+        assertThat(changes).extracting(InventoryStatusChange::getProductId).containsExactly("p-1", "p-2", "p-1");
+        assertThat(lookup("p-1").getStatus()).isEqualTo("out_of_stock");
+        assertThat(lookup("p-2").getAvailableQuantity()).isEqualTo(7);
+        assertThat(table.resumeVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void reloadsSnapshotWhenTooFarBehind() throws Exception {
+        start(InventoryStandIn.builder().stock(Map.of("p-1", 5)).changeLogCapacity(2));
+        await(table::isServing);
+        inventory.setStock("p-9", 1);
+        await(() -> changes.size() == 1);
+
+        inventory.disconnectSubscribers();
+        for (int i = 0; i < 5; i++) {
+            inventory.setStock("p-" + i, i);
+        }
+
+        await(() -> table.isServing() && table.resumeVersion() == 6);
+        // Trạng thái lấy từ snapshot mới, không phát lại như thay đổi
+        assertThat(changes).hasSize(1);
+        assertThat(table.size()).isEqualTo(6);
+        assertThat(lookup("p-0").getStatus()).isEqualTo("out_of_stock");
+        assertThat(lookup("p-4").getAvailableQuantity()).isEqualTo(4);
+    }
+
+    private void start(InventoryStandIn.Builder builder) throws Exception {
+        String name = "inventory-" + UUID.randomUUID();
+        inventory = builder.build();
+        server = inventory.start(InProcessServerBuilder.forName(name));
+        pool = new InventoryChannelPool(List.of(name), 1, target -> InProcessChannelBuilder.forName(target).build(),
+                InventoryChannelPool.Balancer.ROUND_ROBIN, Duration.ofSeconds(30), 3, meterRegistry);
+        subscription = new InventoryStatusSubscription(pool, table, changes::add, "test",
+                Duration.ofMillis(20), Duration.ofMillis(200), meterRegistry);
+        subscription.start();
+    }
+
+    private InventoryStatus lookup(String productId) {
+        Map<String, InventoryStatus> found = new HashMap<>();
+        table.lookup(List.of(productId), found);
+        return found.getOrDefault(productId, InventoryStatus.getDefaultInstance());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ecommerce.product.grpc.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.grpc.product.ProductDetailRequest;
+import com.ecommerce.grpc.product.ProductResponse;
+import com.ecommerce.grpc.product.ProductServiceGrpc;
+
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GrpcMetricsInterceptorTest {
+
+    private static final String SERVICE = "ecommerce.product.ProductService";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ProductServiceGrpc.ProductServiceImplBase service = new ProductServiceGrpc.ProductServiceImplBase() {
+            @Override
+            public void getProductDetail(ProductDetailRequest request, StreamObserver<ProductResponse> responseObserver) {
+                switch (request.getProductId()) {
+                    case "missing" -> responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+                    // Không trả lời: call chỉ kết thúc khi client huỷ
+                    case "pending" -> {
+                    }
+                    // Chạy tiếp 50ms sau khi call hết deadline rồi mới trả lời
+                    case "busy" -> {
+                        while (!Context.current().isCancelled()) {
+                            sleep(5);
+                        }
+                        sleep(50);
+                        responseObserver.onNext(ProductResponse.getDefaultInstance());
+                        responseObserver.onCompleted();
+                    }
+                    default -> {
+                        responseObserver.onNext(ProductResponse.newBuilder()
+                                .setMessage("Sản phẩm " + request.getProductId())
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+                }
+            }
+        };
+
+        String name = "product-" + UUID.randomUUID();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(service, new GrpcMetricsInterceptor(meterRegistry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void recordsLatencyByStatusAndMessageSizes() {
+        ProductResponse response = call("p-1");
+        call("p-2");
+        assertThatThrownBy(() -> call("missing")).isInstanceOf(StatusRuntimeException.class);
+
+        assertThat(timer("OK").count()).isEqualTo(2);
+        assertThat(timer("NOT_FOUND").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("grpc.server.request.size").tag("method", "GetProductDetail")
+                .summary().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("grpc.server.response.size").tag("method", "GetProductDetail")
+                .summary().totalAmount()).isEqualTo(2.0 * response.getSerializedSize());
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void tracksInFlightCallsAndClientCancellation() throws Exception {
+        ProductServiceGrpc.ProductServiceFutureStub stub = ProductServiceGrpc.newFutureStub(channel);
+        var pending = stub.getProductDetail(ProductDetailRequest.newBuilder().setProductId("pending").build());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+
+        pending.cancel(true);
+        while (inFlight() > 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        assertThat(timer("CANCELLED").count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsWorkDoneAfterDeadline() throws Exception {
+        assertThatThrownBy(() -> ProductServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(100, TimeUnit.MILLISECONDS)
+                .getProductDetail(ProductDetailRequest.newBuilder().setProductId("busy").build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (workAfterCancel().count() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        assertThat(workAfterCancel().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40);
+
+        // Call kết thúc bình thường thì không tính
+        call("p-1");
+        assertThat(workAfterCancel().count()).isEqualTo(1);
+    }
+
+    private ProductResponse call(String productId) {
+        return ProductServiceGrpc.newBlockingStub(channel)
+                .getProductDetail(ProductDetailRequest.newBuilder().setProductId(productId).build());
+    }
+
+    private Timer timer(String status) {
+        return meterRegistry.get("grpc.server.calls")
+                .tags("service", SERVICE, "method", "GetProductDetail", "status", status)
+                .timer();
+    }
+
+    private Timer workAfterCancel() {
+        return meterRegistry.get("grpc.server.work-after-cancel").tag("method", "GetProductDetail").timer();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double inFlight() {
+        // Gauge chỉ có sau call đầu tiên của method
+        Gauge gauge = meterRegistry.find("grpc.server.calls.in-flight").tag("method", "GetProductDetail").gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.product.grpc.mapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.grpc.product.ProductBatchResponse;
+import com.ecommerce.grpc.product.ProductSummary;
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.ProductSummaryProtoCache;
+import com.ecommerce.product.dto.BrandDTO;
+import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.ImageDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JMH: chi phí dựng và encode một ProductBatchResponse 100 sản phẩm, dựng lại từ DTO bằng GrpcMapper
+ * so với lấy message từ ProductSummaryProtoCache (có và không vá inventory status).
+ * DTO mỗi lần gọi là bản sao nông như ProductSummaryCache trả về.
+ *
+ * <pre>
+ * mvn test -Dtest=ProductSummaryEncodeBenchmarkTest -Dbenchmark.jmh=true
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSummaryEncodeBenchmarkTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    private GrpcMapper mapper;
+    private ProductSummaryProtoCache cache;
+    private List<ProductSummaryDTO> fragments;
+    private List<ProductSummaryDTO> batch;
+    private List<ProductSummaryDTO> batchWithNewStatuses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new GrpcMapper();
+        cache = new ProductSummaryProtoCache(mapper, new SimpleMeterRegistry(), new CacheInvalidationIndex(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "expireAfterAccessMinutes", 30L);
+        ReflectionTestUtils.setField(cache, "maximumSize", 10_000L);
+        cache.init();
+
+        fragments = IntStream.range(0, BATCH_SIZE).mapToObj(ProductSummaryEncodeBenchmarkTest::product).toList();
+        batch = fragments.stream().map(dto -> dto.toBuilder().build()).toList();
+        // Một nửa sản phẩm có inventory status mới từ overlay
+        batchWithNewStatuses = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> fragments.get(i).toBuilder().inventoryStatus(i % 2 == 0 ? "out_of_stock" : "available")
+                        .build())
+                .toList();
+        cache.toProductSummaryList(batch);
+    }
+
+    @Benchmark
+    public byte[] mapFromDtos() {
+        return encode(mapper.toProductSummaryList(batch));
+    }
+
+    @Benchmark
+    public byte[] cachedMessages() {
+        return encode(cache.toProductSummaryList(batch));
+    }
+
+    @Benchmark
+    public byte[] cachedMessagesWithStatusPatch() {
+        return encode(cache.toProductSummaryList(batchWithNewStatuses));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.jmh", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ProductSummaryEncodeBenchmarkTest.class.getName())
+                .build())
+                .run();
+    }
+
+    private static byte[] encode(List<ProductSummary> products) {
+        return ProductBatchResponse.newBuilder()
+                .addAllProducts(products)
+                .build()
+                .toByteArray();
+    }
+
+    private static ProductSummaryDTO product(int i) {
+        List<ImageDTO> images = new ArrayList<>();
+        for (int position = 0; position < 4; position++) {
+            images.add(ImageDTO.builder().id("img-" + i + "-" + position)
+                    .url("https://cdn.example.com/products/" + i + "/" + position + ".jpg").position(position).build());
+        }
+        return ProductSummaryDTO.builder()
+                .id("product-" + i)
+                .name("Điện thoại thông minh " + i)
+                .shortDescription("Màn hình 6.5 inch, pin 5000 mAh, camera 50MP")
+                .price(BigDecimal.valueOf(4_990_000 + i))
+                .originalPrice(BigDecimal.valueOf(5_490_000 + i))
+                .ratingAverage(BigDecimal.valueOf(4.5))
+                .reviewCount(120 + i)
+                .quantitySold(1_000 + i)
+                .inventoryStatus("available")
+                .brand(BrandDTO.builder().id("brand-" + i % 10).name("Brand " + i % 10).slug("brand-" + i % 10)
+                        .countryOfOrigin("Việt Nam").build())
+                .images(images)
+                .categories(List.of(
+                        CategoryDTO.builder().id("c-1").name("Điện thoại").url("/dien-thoai").level(1).build(),
+                        CategoryDTO.builder().id("c-" + i % 5).name("Android").url("/android").parentId("c-1")
+                                .level(2).build()))
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.ecommerce.product.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.grpc.product.ProductDetailRequest;
+import com.ecommerce.grpc.product.ProductResponse;
+import com.ecommerce.grpc.product.ProductServiceGrpc;
+import com.ecommerce.product.grpc.interceptor.QueueTimeSheddingInterceptor;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Executor một thread: call thứ hai phải chờ call đầu và bị từ chối khi chờ quá ngưỡng.
+ */
+class GrpcServerExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private GrpcServerExecutor executor;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = new GrpcServerExecutor(GrpcServerExecutor.Mode.BOUNDED, 1, meterRegistry);
+        ProductServiceGrpc.ProductServiceImplBase service = new ProductServiceGrpc.ProductServiceImplBase() {
+            @Override
+            public void getProductDetail(ProductDetailRequest request, StreamObserver<ProductResponse> responseObserver) {
+                if ("slow".equals(request.getProductId())) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                responseObserver.onNext(ProductResponse.newBuilder().setMessage(request.getProductId()).build());
+                responseObserver.onCompleted();
+            }
+        };
+
+        String name = "product-" + UUID.randomUUID();
+        server = InProcessServerBuilder.forName(name)
+                .executor(executor)
+                .addService(ServerInterceptors.intercept(service,
+                        new QueueTimeSheddingInterceptor(Duration.ofMillis(50), meterRegistry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        channel.shutdownNow();
+        server.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void callsWithinQueueBudgetAreServed() {
+        assertThat(call("fast").getMessage()).isEqualTo("fast");
+        assertThat(meterRegistry.get("grpc.server.executor.queue-wait").timer().count()).isPositive();
+        assertThat(meterRegistry.get("grpc.server.executor.shed").counter().count()).isZero();
+    }
+
+    @Test
+    void callQueuedTooLongIsRejectedWithResourceExhausted() throws Exception {
+        CompletableFuture<ProductResponse> slow = CompletableFuture.supplyAsync(() -> call("slow"));
+        // Đợi call chậm chiếm thread duy nhất
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("grpc.server.executor.active").gauge().value() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+
+        CompletableFuture<ProductResponse> queued = CompletableFuture.supplyAsync(() -> call("queued"));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(slow.get(5, TimeUnit.SECONDS).getMessage()).isEqualTo("slow");
+        CompletionException rejected = catchThrowableOfType(CompletionException.class, queued::join);
+        assertThat(Status.fromThrowable(rejected.getCause()).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+        assertThat(meterRegistry.get("grpc.server.executor.shed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void virtualModeFallsBackToBoundedBeforeJava21() {
+        GrpcServerExecutor virtual = new GrpcServerExecutor(GrpcServerExecutor.Mode.VIRTUAL, 2,
+                new SimpleMeterRegistry());
+        try {
+            assertThat(virtual.getMode()).isEqualTo(Runtime.version().feature() >= 21
+                    ? GrpcServerExecutor.Mode.VIRTUAL
+                    : GrpcServerExecutor.Mode.BOUNDED);
+        } finally {
+            virtual.shutdown();
+        }
+    }
+
+    private ProductResponse call(String productId) {
+        return ProductServiceGrpc.newBlockingStub(channel)
+                .getProductDetail(ProductDetailRequest.newBuilder().setProductId(productId).build());
+    }
+}
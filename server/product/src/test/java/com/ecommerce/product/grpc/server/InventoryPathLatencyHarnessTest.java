@@ -0,0 +1,268 @@
+package com.ecommerce.product.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.ecommerce.grpc.common.Status;
+import com.ecommerce.grpc.product.ProductBatchRequest;
+import com.ecommerce.grpc.product.ProductBatchResponse;
+import com.ecommerce.grpc.product.ProductServiceGrpc;
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.InventoryResultCache;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.InventoryStatusTable;
+import com.ecommerce.product.cache.ProductSummaryProtoCache;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.grpc.client.InventoryCheckBatcher;
+import com.ecommerce.product.grpc.client.InventoryGrpcClient;
+import com.ecommerce.product.grpc.client.InventoryStandIn;
+import com.ecommerce.product.grpc.mapper.GrpcMapper;
+import com.ecommerce.product.service.InventoryIntegrationService;
+import com.ecommerce.product.service.ProductService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Đo p50/p99/p999 của gRPC {@code GetProductsBatch} qua đường tồn kho thật (InventoryIntegrationService,
+ * InventoryCheckBatcher, InventoryResultCache, InventoryGrpcClient) với {@link InventoryStandIn} chạy trong cùng JVM
+ * thay cho inventory service. Sản phẩm lấy từ ProductService giả trong bộ nhớ nên không cần database. Mặc định
+ * chỉ chạy một lượt smoke ngắn trong CI; phép đo đầy đủ chỉ chạy khi đặt {@code benchmark.requests}:
+ *
+ * <pre>
+ * mvn test -Dtest=InventoryPathLatencyHarnessTest -Dbenchmark.requests=20000 -Dbenchmark.concurrency=64 \
+ *     -Dbenchmark.inventory.median-ms=3 -Dbenchmark.inventory.p99-ms=40 -Dbenchmark.inventory.error-rate=0.01
+ * </pre>
+ *
+ * Đặt {@code -Dbenchmark.max-p99-ms=...} để test fail khi p99 vượt ngưỡng.
+ */
+@Slf4j
+@SpringJUnitConfig(InventoryPathLatencyHarnessTest.HarnessConfig.class)
+class InventoryPathLatencyHarnessTest {
+
+    // Không đặt benchmark.requests: smoke check vài chục request cho CI
+    private static final boolean MEASURE = System.getProperty("benchmark.requests") != null;
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", MEASURE ? 16 : 4);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", MEASURE ? 100 : 10);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 50);
+    private static final int PRODUCTS = 500;
+    private static final int BULK_SIZE = 20;
+
+    private static final List<String> PRODUCT_IDS = IntStream.range(0, PRODUCTS)
+            .mapToObj(i -> "p-" + i)
+            .toList();
+
+    private static final InventoryStandIn INVENTORY = InventoryStandIn.builder()
+            .latency(InventoryStandIn.Latency.logNormal(
+                    Duration.ofMillis(Long.getLong("benchmark.inventory.median-ms", 3)),
+                    Duration.ofMillis(Long.getLong("benchmark.inventory.p99-ms", 40))))
+            .errorRate(Double.parseDouble(System.getProperty("benchmark.inventory.error-rate", "0.01")))
+            .build();
+
+    private static Server inventoryServer;
+
+    @Configuration
+    @Import({ ProductGrpcService.class, GrpcMapper.class, ProductSummaryProtoCache.class,
+            InventoryIntegrationService.class, InventoryCheckBatcher.class, InventoryGrpcClient.class,
+            InventoryResultCache.class, InventoryStatusOverlay.class, InventoryStatusTable.class })
+    static class HarnessConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CacheInvalidationIndex cacheInvalidationIndex(MeterRegistry meterRegistry) {
+            return new CacheInvalidationIndex(meterRegistry);
+        }
+
+        // Thay cho database: mọi id trong PRODUCT_IDS đều tồn tại
+        @Bean
+        ProductService productService() {
+            ProductService productService = mock(ProductService.class);
+            when(productService.getProductsByIds(anyList())).thenAnswer(invocation -> {
+                List<String> ids = invocation.getArgument(0);
+                return ids.stream()
+                        .map(id -> ProductSummaryDTO.builder().id(id).name("Product " + id).price(BigDecimal.TEN)
+                                .build())
+                        .toList();
+            });
+            return productService;
+        }
+    }
+
+    @DynamicPropertySource
+    static void inventoryStandIn(DynamicPropertyRegistry registry) throws IOException {
+        if (inventoryServer == null) {
+            inventoryServer = INVENTORY.start(ServerBuilder.forPort(0));
+        }
+        registry.add("grpc.client.inventory.endpoints", () -> "localhost:" + inventoryServer.getPort());
+        registry.add("grpc.client.inventory.test-connection-on-startup", () -> "false");
+        // Đo đường gọi RPC tới inventory service, không trả lời từ bảng trạng thái được đẩy về
+        registry.add("grpc.client.inventory.subscription.enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopInventory() {
+        if (inventoryServer != null) {
+            inventoryServer.shutdownNow();
+        }
+        INVENTORY.close();
+    }
+
+    @Autowired
+    private ProductGrpcService productGrpcService;
+
+    private Server productServer;
+    private ManagedChannel productChannel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Tồn kho ngẫu nhiên, khoảng 10% hết hàng
+        PRODUCT_IDS.forEach(id -> INVENTORY.setStock(id,
+                ThreadLocalRandom.current().nextInt(10) == 0 ? 0 : ThreadLocalRandom.current().nextInt(1, 500)));
+
+        String name = "product-" + UUID.randomUUID();
+        productServer = InProcessServerBuilder.forName(name).addService(productGrpcService).build().start();
+        productChannel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        productChannel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        productServer.shutdownNow();
+    }
+
+    @Test
+    void measureGetProductsBatchLatency() throws Exception {
+        Map<String, Percentiles> results = new LinkedHashMap<>();
+        results.put("gRPC GetProductsBatch", run(this::getProductsBatch));
+
+        log.info("inventory stand-in: {} calls, {} batch calls ({} items), {} injected failures",
+                INVENTORY.calls(), INVENTORY.batchCalls(), INVENTORY.batchItems(), INVENTORY.failedCalls());
+        log.info("{} requests, concurrency {}", REQUESTS, CONCURRENCY);
+        results.forEach((name, result) -> log.info("  {} p50 {} ms  p99 {} ms  p999 {} ms  errors {}",
+                String.format("%-22s", name), String.format("%8.2f", result.p50()),
+                String.format("%8.2f", result.p99()), String.format("%8.2f", result.p999()), result.errors()));
+
+        // Số đo chỉ có nghĩa khi request thật sự đi tới inventory service
+        assertThat(INVENTORY.calls() + INVENTORY.batchCalls()).isPositive();
+        results.forEach((name, result) -> assertThat(result.errors()).as(name + " errors").isZero());
+        String maxP99 = System.getProperty("benchmark.max-p99-ms");
+        if (maxP99 != null) {
+            results.forEach((name, result) -> assertThat(result.p99()).as(name + " p99")
+                    .isLessThanOrEqualTo(Double.parseDouble(maxP99)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+
+        boolean execute() throws Exception;
+    }
+
+    private record Percentiles(double p50, double p99, double p999, int errors) {
+    }
+
+    private Percentiles run(Call call) throws InterruptedException {
+        execute(call, WARMUP, new long[WARMUP], new AtomicInteger());
+
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger errors = new AtomicInteger();
+        execute(call, REQUESTS, latencies, errors);
+
+        Arrays.sort(latencies);
+        return new Percentiles(percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                errors.get());
+    }
+
+    // CONCURRENCY client cùng gửi request (closed loop) tới khi đủ số request
+    private void execute(Call call, int requests, long[] latencies, AtomicInteger errors) throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        AtomicLong next = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(CONCURRENCY);
+        for (int c = 0; c < CONCURRENCY; c++) {
+            clients.execute(() -> {
+                try {
+                    for (long i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = call.execute();
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        latencies[(int) i] = System.nanoTime() - start;
+                        if (!ok) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        clients.shutdown();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private boolean getProductsBatch() {
+        ProductBatchResponse response = ProductServiceGrpc.newBlockingStub(productChannel)
+                .withDeadlineAfter(10, TimeUnit.SECONDS)
+                .getProductsBatch(ProductBatchRequest.newBuilder().addAllProductIds(randomIds()).build());
+        return response.getStatus().getCode() == Status.Code.OK && response.getProductsCount() == BULK_SIZE;
+    }
+
+    private static List<String> randomIds() {
+        List<String> ids = new ArrayList<>(BULK_SIZE);
+        int offset = ThreadLocalRandom.current().nextInt(PRODUCTS - BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            ids.add(PRODUCT_IDS.get(offset + i));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,202 @@
+package com.ecommerce.product.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.grpc.common.Status;
+import com.ecommerce.grpc.product.ProductBatchRequest;
+import com.ecommerce.grpc.product.ProductBatchResponse;
+import com.ecommerce.grpc.product.ProductServiceGrpc;
+import com.ecommerce.grpc.product.ProductSummary;
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.ProductSummaryProtoCache;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.grpc.mapper.GrpcMapper;
+import com.ecommerce.product.service.InventoryIntegrationService;
+import com.ecommerce.product.service.ProductService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * GetProductsBatchStream qua transport in-process: mỗi chunk id được load và kiểm tra tồn kho riêng,
+ * chunk sau chỉ xử lý khi client đọc.
+ */
+class ProductGrpcServiceBatchStreamTest {
+
+    private final ProductService productService = mock(ProductService.class);
+    private final InventoryIntegrationService inventoryIntegrationService = mock(InventoryIntegrationService.class);
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Id bắt đầu bằng "x-" không tồn tại
+        when(productService.getProductsByIds(anyList())).thenAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(id -> !id.startsWith("x-"))
+                    .map(id -> ProductSummaryDTO.builder().id(id).name("Product " + id).price(BigDecimal.TEN).build())
+                    .toList();
+        });
+        when(inventoryIntegrationService.startInventoryCheck(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of()));
+        when(inventoryIntegrationService.applyInventoryInfo(anyList(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        GrpcMapper grpcMapper = new GrpcMapper();
+        ProductGrpcService service = new ProductGrpcService(productService, grpcMapper,
+                inventoryIntegrationService, mock(InventoryStatusOverlay.class),
+                new ProductSummaryProtoCache(grpcMapper, new SimpleMeterRegistry(),
+                        new CacheInvalidationIndex(new SimpleMeterRegistry())));
+        ReflectionTestUtils.setField(service, "batchStreamChunkSize", 4);
+
+        String name = "product-" + UUID.randomUUID();
+        server = InProcessServerBuilder.forName(name).addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void streamsOneMessagePerChunkInRequestOrder() {
+        List<ProductBatchResponse> chunks = new ArrayList<>();
+        ProductServiceGrpc.newBlockingStub(channel)
+                .getProductsBatchStream(request(10, "x-1"))
+                .forEachRemaining(chunks::add);
+
+        assertThat(chunks).extracting(ProductBatchResponse::getChunk).containsExactly(0, 1, 2);
+        assertThat(chunks).extracting(ProductBatchResponse::getProductsCount).containsExactly(4, 4, 2);
+        assertThat(chunks).extracting(ProductBatchResponse::getFinished).containsExactly(false, false, true);
+        assertThat(chunks.get(0).getProductsList()).extracting(ProductSummary::getId)
+                .containsExactly("p-0", "p-1", "p-2", "p-3");
+        assertThat(chunks.get(2).getMetadata().getDataMap())
+                .containsEntry("total_requested", "11")
+                .containsEntry("total_found", "10");
+        verify(productService, times(3)).getProductsByIds(anyList());
+        verify(inventoryIntegrationService, times(3)).startInventoryCheck(anyList());
+    }
+
+    @Test
+    void requestChunkSizeOverridesDefault() {
+        List<ProductBatchResponse> chunks = new ArrayList<>();
+        ProductServiceGrpc.newBlockingStub(channel)
+                .getProductsBatchStream(request(10).toBuilder().setChunkSize(5).build())
+                .forEachRemaining(chunks::add);
+
+        assertThat(chunks).extracting(ProductBatchResponse::getProductsCount).containsExactly(5, 5);
+    }
+
+    @Test
+    void emptyRequestCompletesWithOneFinishedChunk() {
+        List<ProductBatchResponse> chunks = new ArrayList<>();
+        ProductServiceGrpc.newBlockingStub(channel)
+                .getProductsBatchStream(request(0))
+                .forEachRemaining(chunks::add);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).getFinished()).isTrue();
+        assertThat(chunks.get(0).getStatus().getCode()).isEqualTo(Status.Code.OK);
+    }
+
+    @Test
+    void nextChunkIsLoadedOnlyWhenClientReads() throws Exception {
+        ManualClient client = new ManualClient();
+        ProductServiceGrpc.newStub(channel).getProductsBatchStream(request(12), client);
+
+        assertThat(client.chunks.poll(5, TimeUnit.SECONDS)).isNotNull();
+        verify(productService, after(200).times(1)).getProductsByIds(anyList());
+
+        client.requestStream.request(1);
+        assertThat(client.chunks.poll(5, TimeUnit.SECONDS)).isNotNull();
+        verify(productService, timeout(1000).times(2)).getProductsByIds(anyList());
+
+        client.requestStream.cancel("client went away", null);
+        client.requestStream.request(10);
+        verify(productService, after(300).times(2)).getProductsByIds(anyList());
+    }
+
+    @Test
+    void failedChunkEndsStreamWithErrorStatus() {
+        when(productService.getProductsByIds(anyList()))
+                .thenReturn(List.of(ProductSummaryDTO.builder().id("p-0").name("Product p-0")
+                        .price(BigDecimal.TEN).build()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        List<ProductBatchResponse> chunks = new ArrayList<>();
+        ProductServiceGrpc.newBlockingStub(channel)
+                .getProductsBatchStream(request(10))
+                .forEachRemaining(chunks::add);
+
+        assertThat(chunks).extracting(response -> response.getStatus().getCode())
+                .containsExactly(Status.Code.OK, Status.Code.ERROR);
+        assertThat(chunks.get(1).getFinished()).isTrue();
+    }
+
+    private static ProductBatchRequest request(int count, String... extraIds) {
+        return ProductBatchRequest.newBuilder()
+                .addAllProductIds(IntStream.range(0, count).mapToObj(i -> "p-" + i).toList())
+                .addAllProductIds(List.of(extraIds))
+                .build();
+    }
+
+    // Client chỉ nhận một message cho tới khi gọi request() thêm
+    private static final class ManualClient implements ClientResponseObserver<ProductBatchRequest, ProductBatchResponse> {
+
+        private final BlockingQueue<ProductBatchResponse> chunks = new LinkedBlockingQueue<>();
+        private ClientCallStreamObserver<ProductBatchRequest> requestStream;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ProductBatchRequest> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(1);
+        }
+
+        @Override
+        public void onNext(ProductBatchResponse chunk) {
+            chunks.add(chunk);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
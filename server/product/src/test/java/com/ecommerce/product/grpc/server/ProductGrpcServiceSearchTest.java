@@ -0,0 +1,204 @@
+package com.ecommerce.product.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.grpc.product.ProductResponse;
+import com.ecommerce.grpc.product.ProductResponseChunk;
+import com.ecommerce.grpc.product.ProductServiceGrpc;
+import com.ecommerce.grpc.product.ProductSummary;
+import com.ecommerce.grpc.product.SearchProductRequest;
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.ProductSummaryProtoCache;
+import com.ecommerce.product.dto.PagedResponseDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.grpc.mapper.GrpcMapper;
+import com.ecommerce.product.service.InventoryIntegrationService;
+import com.ecommerce.product.service.ProductService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SearchProduct và SearchProductStream qua transport in-process. Flow control in-process theo số message
+ * client yêu cầu, nên có thể kiểm tra server chỉ tìm trang tiếp theo khi client đọc.
+ */
+class ProductGrpcServiceSearchTest {
+
+    private static final int TOTAL = 25;
+    private static final int PAGE_SIZE = 10;
+
+    private final ProductService productService = mock(ProductService.class);
+    private final InventoryStatusOverlay inventoryStatusOverlay = mock(InventoryStatusOverlay.class);
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(productService.searchProductsWithFilters(any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int page = invocation.getArgument(1);
+            int size = invocation.getArgument(2);
+            List<ProductSummaryDTO> content = IntStream.range(page * size, Math.min(TOTAL, (page + 1) * size))
+                    .mapToObj(i -> ProductSummaryDTO.builder().id("p-" + i).name("Product " + i)
+                            .price(BigDecimal.TEN).build())
+                    .toList();
+            int totalPages = (TOTAL + size - 1) / size;
+            return new PagedResponseDTO<>(content, page, size, TOTAL, totalPages, page >= totalPages - 1);
+        });
+        when(inventoryStatusOverlay.apply(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        GrpcMapper grpcMapper = new GrpcMapper();
+        ProductGrpcService service = new ProductGrpcService(productService, grpcMapper,
+                mock(InventoryIntegrationService.class), inventoryStatusOverlay,
+                new ProductSummaryProtoCache(grpcMapper, new SimpleMeterRegistry(),
+                        new CacheInvalidationIndex(new SimpleMeterRegistry())));
+        ReflectionTestUtils.setField(service, "searchDefaultResults", 5);
+        ReflectionTestUtils.setField(service, "searchStreamPageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(service, "searchStreamMaxResults", 50);
+
+        String name = "product-" + UUID.randomUUID();
+        server = InProcessServerBuilder.forName(name).addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void searchReturnsTopResultsInOneResponse() {
+        ProductResponse response = ProductServiceGrpc.newBlockingStub(channel)
+                .searchProduct(SearchProductRequest.newBuilder().setQuery("phone").build());
+
+        assertThat(response.getProductsList()).extracting(ProductSummary::getId)
+                .containsExactly("p-0", "p-1", "p-2", "p-3", "p-4");
+        assertThat(response.getTotalResults()).isEqualTo(TOTAL);
+        assertThat(response.getMessage()).contains("25");
+        assertThat(response.getUiAction().getUrl()).isEqualTo("/search?q=phone");
+    }
+
+    @Test
+    void searchReturnsOnlyRequestedFields() {
+        ProductResponse response = ProductServiceGrpc.newBlockingStub(channel)
+                .searchProduct(SearchProductRequest.newBuilder().setQuery("phone").setMaxResults(2)
+                        .addFields("id").addFields("price").addFields("unknown").build());
+
+        assertThat(response.getProductsList()).hasSize(2);
+        ProductSummary first = response.getProducts(0);
+        assertThat(first.getId()).isEqualTo("p-0");
+        assertThat(first.getPrice()).isEqualTo(10.0);
+        assertThat(first.getName()).isEmpty();
+        verify(productService).searchProductsWithFilters(any(), eq(0), eq(2));
+    }
+
+    @Test
+    void streamsOneChunkPerResultPage() {
+        List<ProductResponseChunk> chunks = new ArrayList<>();
+        ProductServiceGrpc.newBlockingStub(channel)
+                .searchProductStream(SearchProductRequest.newBuilder().setQuery("phone").build())
+                .forEachRemaining(chunks::add);
+
+        assertThat(chunks).extracting(ProductResponseChunk::getProductsCount).containsExactly(10, 10, 5);
+        assertThat(chunks).extracting(ProductResponseChunk::getFinished).containsExactly(false, false, true);
+        assertThat(chunks.get(0).getChunk()).contains("25");
+        assertThat(chunks.get(0).getTotalResults()).isEqualTo(TOTAL);
+        assertThat(chunks.get(2).getUiAction().getUrl()).isEqualTo("/search?q=phone");
+    }
+
+    @Test
+    void maxResultsLimitsTheStream() {
+        List<ProductResponseChunk> chunks = new ArrayList<>();
+        ProductServiceGrpc.newBlockingStub(channel)
+                .searchProductStream(SearchProductRequest.newBuilder().setQuery("phone").setPageSize(8)
+                        .setMaxResults(12).build())
+                .forEachRemaining(chunks::add);
+
+        assertThat(chunks).extracting(ProductResponseChunk::getProductsCount).containsExactly(8, 4);
+        assertThat(chunks.get(1).getFinished()).isTrue();
+    }
+
+    @Test
+    void nextPageIsSearchedOnlyWhenClientReads() throws Exception {
+        ManualClient client = new ManualClient();
+        ProductServiceGrpc.newStub(channel)
+                .searchProductStream(SearchProductRequest.newBuilder().setQuery("phone").build(), client);
+
+        assertThat(client.chunks.poll(5, TimeUnit.SECONDS)).isNotNull();
+        verify(productService, after(200).times(1)).searchProductsWithFilters(any(), anyInt(), anyInt());
+
+        client.requestStream.request(1);
+        assertThat(client.chunks.poll(5, TimeUnit.SECONDS)).isNotNull();
+        verify(productService, timeout(1000).times(2)).searchProductsWithFilters(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void cancelStopsSearching() throws Exception {
+        ManualClient client = new ManualClient();
+        ProductServiceGrpc.newStub(channel)
+                .searchProductStream(SearchProductRequest.newBuilder().setQuery("phone").build(), client);
+
+        assertThat(client.chunks.poll(5, TimeUnit.SECONDS)).isNotNull();
+        client.requestStream.cancel("client went away", null);
+        client.requestStream.request(10);
+
+        verify(productService, after(300).times(1)).searchProductsWithFilters(any(), anyInt(), anyInt());
+    }
+
+    // Client chỉ nhận một message cho tới khi gọi request() thêm
+    private static final class ManualClient implements ClientResponseObserver<SearchProductRequest, ProductResponseChunk> {
+
+        private final BlockingQueue<ProductResponseChunk> chunks = new LinkedBlockingQueue<>();
+        private ClientCallStreamObserver<SearchProductRequest> requestStream;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<SearchProductRequest> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(1);
+        }
+
+        @Override
+        public void onNext(ProductResponseChunk chunk) {
+            chunks.add(chunk);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
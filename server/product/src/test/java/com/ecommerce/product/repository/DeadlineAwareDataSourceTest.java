@@ -0,0 +1,92 @@
+package com.ecommerce.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.product.service.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DeadlineAwareDataSourceTest {
+
+    private static final String SQL = "SELECT 1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Counter abandoned = meterRegistry.counter("jdbc.statements.abandoned");
+
+    private PreparedStatement statement;
+    private DeadlineAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new DeadlineAwareDataSource(target, () -> abandoned);
+    }
+
+    @Test
+    void setsQueryTimeoutFromRemainingBudget() throws Exception {
+        RequestDeadline.after(Duration.ofMillis(2500)).propagate(() -> prepare()).get();
+
+        // 2.5 giây còn lại được làm tròn lên
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    void keepsDefaultTimeoutWithoutDeadline() throws Exception {
+        prepare();
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void refusesConnectionsOnceDeadlinePassed() {
+        assertThatThrownBy(() -> RequestDeadline.after(Duration.ofMillis(-1))
+                .propagate(() -> {
+                    try {
+                        return dataSource.getConnection();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).get())
+                .hasCauseInstanceOf(SQLTimeoutException.class);
+        assertThat(abandoned.count()).isEqualTo(1);
+    }
+
+    @Test
+    void stillUnwrapsToHikari() throws Exception {
+        HikariDataSource hikari = new HikariDataSource();
+        DeadlineAwareDataSource wrapped = new DeadlineAwareDataSource(hikari, () -> abandoned);
+
+        assertThat(wrapped.isWrapperFor(HikariDataSource.class)).isTrue();
+        assertThat(wrapped.unwrap(HikariDataSource.class)).isSameAs(hikari);
+    }
+
+    private PreparedStatement prepare() {
+        try {
+            return dataSource.getConnection().prepareStatement(SQL);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.ecommerce.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.ecommerce.product.dto.BrandDTO;
+import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.ImageDTO;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.dto.SellerDTO;
+import com.ecommerce.product.entity.Brand;
+import com.ecommerce.product.entity.Category;
+import com.ecommerce.product.entity.Image;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.Seller;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * So sánh số câu SQL và lượng cấp phát mỗi trang (20 sản phẩm) giữa đường cũ (entity + 5 truy vấn enrich)
+ * và ProductSummaryQueryRepository. Cần DB đã có dữ liệu, ví dụ:
+ *
+ * <pre>
+ * mvn test -Dtest=ProductSummaryReadPathBenchmarkTest -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Dbenchmark.db.url=jdbc:mysql://localhost:3306/product -Dbenchmark.db.username=root -Dbenchmark.db.password=...
+ * </pre>
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${benchmark.db.url}",
+        "spring.datasource.username=${benchmark.db.username:root}",
+        "spring.datasource.password=${benchmark.db.password:}",
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.flyway.enabled=false",
+        "spring.flyway.baseline-on-migrate=false",
+        "spring.flyway.locations=classpath:db/migration",
+        "logging.level.org.springframework.web=INFO",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.com.ecommerce=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ProductSummaryQueryRepository.class, ProductSummaryReadPathBenchmarkTest.StatementCounting.class })
+@EnabledIfSystemProperty(named = "benchmark.db.url", matches = ".+")
+class ProductSummaryReadPathBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    static final AtomicLong STATEMENTS = new AtomicLong();
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSummaryQueryRepository productSummaryQueryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compareSummaryReadPaths() {
+        List<String> ids = productRepository
+                .findAllProductIds(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .getContent();
+        assertThat(ids).as("benchmark needs a seeded product table").isNotEmpty();
+
+        Result legacy = measure(() -> legacySummaries(ids));
+        Result projection = measure(() -> productSummaryQueryRepository.findSummariesByIds(ids));
+
+        System.out.printf("page of %d products, %d iterations%n", ids.size(), ITERATIONS);
+        System.out.printf("  legacy entity path : %5.1f statements/page  %10d bytes/page  %8.3f ms/page%n",
+                legacy.statements(), legacy.bytes(), legacy.millis());
+        System.out.printf("  projection path    : %5.1f statements/page  %10d bytes/page  %8.3f ms/page%n",
+                projection.statements(), projection.bytes(), projection.millis());
+
+        assertThat(projection.statements()).isLessThan(legacy.statements());
+    }
+
+    private record Result(double statements, long bytes, double millis) {
+    }
+
+    private Result measure(Supplier<List<ProductSummaryDTO>> page) {
+        for (int i = 0; i < WARMUP; i++) {
+            page.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long statementsBefore = STATEMENTS.get();
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            page.get();
+            // Mỗi request có persistence context riêng
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+
+        return new Result((STATEMENTS.get() - statementsBefore) / (double) ITERATIONS, bytes / ITERATIONS,
+                elapsed / 1_000_000.0 / ITERATIONS);
+    }
+
+    // Đường đọc cũ của ProductServiceImpl.buildProductSummaries, giữ lại để so sánh
+    private List<ProductSummaryDTO> legacySummaries(List<String> ids) {
+        List<Product> products = productRepository.findByIdIn(ids);
+        List<String> productIds = products.stream().map(Product::getId).toList();
+        List<String> brandIds = products.stream().filter(p -> p.getBrand() != null)
+                .map(p -> p.getBrand().getId()).distinct().toList();
+        List<String> sellerIds = products.stream().filter(p -> p.getSeller() != null)
+                .map(p -> p.getSeller().getId()).distinct().toList();
+
+        List<Image> images = entityManager
+                .createQuery("SELECT i FROM Image i WHERE i.product.id IN :productIds ORDER BY i.position", Image.class)
+                .setParameter("productIds", productIds).getResultList();
+        Map<String, Brand> brands = byId(brandIds.isEmpty() ? List.of() : entityManager
+                .createQuery("SELECT b FROM Brand b WHERE b.id IN :brandIds", Brand.class)
+                .setParameter("brandIds", brandIds).getResultList(), Brand::getId);
+        Map<String, Seller> sellers = byId(sellerIds.isEmpty() ? List.of() : entityManager
+                .createQuery("SELECT s FROM Seller s WHERE s.id IN :sellerIds", Seller.class)
+                .setParameter("sellerIds", sellerIds).getResultList(), Seller::getId);
+        entityManager.createQuery("SELECT c FROM Category c JOIN c.products p WHERE p.id IN :productIds", Category.class)
+                .setParameter("productIds", productIds).getResultList();
+        List<Object[]> mappings = entityManager.createQuery(
+                "SELECT p.id, c.id, c.name, c.url, c.parentId, c.level FROM Product p JOIN p.categories c WHERE p.id IN :productIds",
+                Object[].class).setParameter("productIds", productIds).getResultList();
+
+        Map<String, List<Image>> imagesByProduct = new HashMap<>();
+        images.forEach(image -> imagesByProduct.computeIfAbsent(image.getProduct().getId(), k -> new ArrayList<>()).add(image));
+        Map<String, List<CategoryDTO>> categoriesByProduct = new HashMap<>();
+        for (Object[] row : mappings) {
+            categoriesByProduct.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add(CategoryDTO.builder()
+                    .id((String) row[1]).name((String) row[2]).url((String) row[3])
+                    .parentId((String) row[4]).level((Integer) row[5]).build());
+        }
+
+        return products.stream().map(product -> {
+            Brand brand = product.getBrand() == null ? null : brands.get(product.getBrand().getId());
+            Seller seller = product.getSeller() == null ? null : sellers.get(product.getSeller().getId());
+            return ProductSummaryDTO.builder()
+                    .id(product.getId())
+                    .name(product.getName())
+                    .shortDescription(product.getShortDescription())
+                    .price(product.getPrice())
+                    .originalPrice(product.getOriginalPrice())
+                    .ratingAverage(product.getRatingAverage())
+                    .reviewCount(product.getReviewCount())
+                    .inventoryStatus(product.getInventoryStatus())
+                    .quantitySold(product.getQuantitySold())
+                    .brand(brand == null ? null : BrandDTO.builder().id(brand.getId()).name(brand.getName())
+                            .slug(brand.getSlug()).countryOfOrigin(brand.getCountryOfOrigin()).build())
+                    .seller(seller == null ? null : SellerDTO.builder().id(seller.getId()).name(seller.getName())
+                            .isOfficial(seller.getIsOfficial()).build())
+                    .images(imagesByProduct.getOrDefault(product.getId(), List.of()).stream()
+                            .sorted(Comparator.comparing(Image::getPosition, Comparator.nullsLast(Comparator.naturalOrder())))
+                            .limit(ProductSummaryQueryRepository.MAX_IMAGES_PER_PRODUCT)
+                            .map(image -> ImageDTO.builder().id(image.getId()).url(image.getUrl())
+                                    .position(image.getPosition()).build())
+                            .toList())
+                    .categories(categoriesByProduct.getOrDefault(product.getId(), List.of()))
+                    .build();
+        }).toList();
+    }
+
+    private static <T> Map<String, T> byId(List<T> items, Function<T, String> id) {
+        Map<String, T> map = new HashMap<>();
+        items.forEach(item -> map.put(id.apply(item), item));
+        return map;
+    }
+
+    // Đếm mọi statement được prepare, áp dụng cho cả Hibernate lẫn JdbcTemplate
+    @TestConfiguration
+    static class StatementCounting {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] { DataSource.class },
+                            (proxy, method, args) -> {
+                                Object result = invoke(method, dataSource, args);
+                                return result instanceof Connection connection ? countingConnection(connection) : result;
+                            });
+                }
+            };
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        return invoke(method, connection, args);
+                    });
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
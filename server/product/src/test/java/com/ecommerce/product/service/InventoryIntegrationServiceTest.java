@@ -0,0 +1,107 @@
+package com.ecommerce.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.ecommerce.product.cache.CacheInvalidationIndex;
+import com.ecommerce.product.cache.InventoryResultCache;
+import com.ecommerce.product.cache.InventoryStatusOverlay;
+import com.ecommerce.product.cache.InventoryStatusTable;
+import com.ecommerce.product.grpc.client.CircuitBreaker;
+import com.ecommerce.product.grpc.client.InventoryCheckBatcher;
+import com.ecommerce.product.grpc.client.InventoryGrpcClient;
+import com.ecommerce.product.grpc.client.InventoryStandIn;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Inventory service luôn lỗi: kết quả dự phòng (trạng thái biết được gần nhất) không được coi là còn hàng.
+ */
+@SpringJUnitConfig(InventoryIntegrationServiceTest.TestConfig.class)
+class InventoryIntegrationServiceTest {
+
+    private static final InventoryStandIn INVENTORY = InventoryStandIn.builder()
+            .errorRate(1.0)
+            .errorStatus(io.grpc.Status.INTERNAL)
+            .build();
+
+    private static Server inventoryServer;
+
+    @Configuration
+    @Import({ InventoryIntegrationService.class, InventoryCheckBatcher.class, InventoryGrpcClient.class,
+            InventoryResultCache.class, InventoryStatusOverlay.class, InventoryStatusTable.class })
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CacheInvalidationIndex cacheInvalidationIndex(MeterRegistry meterRegistry) {
+            return new CacheInvalidationIndex(meterRegistry);
+        }
+    }
+
+    @DynamicPropertySource
+    static void inventoryStandIn(DynamicPropertyRegistry registry) throws IOException {
+        if (inventoryServer == null) {
+            inventoryServer = INVENTORY.start(ServerBuilder.forPort(0));
+        }
+        registry.add("grpc.client.inventory.endpoints", () -> "localhost:" + inventoryServer.getPort());
+        registry.add("grpc.client.inventory.test-connection-on-startup", () -> "false");
+        // Không dùng bảng trạng thái được đẩy về: tra cứu phải đi qua RPC bị lỗi
+        registry.add("grpc.client.inventory.subscription.enabled", () -> "false");
+        registry.add("grpc.client.inventory.circuit-breaker.window-size", () -> "2");
+        registry.add("grpc.client.inventory.circuit-breaker.minimum-calls", () -> "2");
+    }
+
+    @AfterAll
+    static void stopInventory() {
+        inventoryServer.shutdownNow();
+        INVENTORY.close();
+    }
+
+    @Autowired
+    private InventoryIntegrationService inventoryIntegrationService;
+
+    @Autowired
+    private InventoryGrpcClient inventoryGrpcClient;
+
+    @Autowired
+    private InventoryStatusOverlay inventoryStatusOverlay;
+
+    @Test
+    void lastKnownAvailableStatusIsNotReportedAsAvailableWhenCircuitIsOpen() {
+        inventoryStatusOverlay.update("p-1", "available", null);
+
+        // Hai lời gọi lỗi liên tiếp mở mạch
+        assertThat(isAvailable()).isFalse();
+        assertThat(isAvailable()).isFalse();
+        assertThat(inventoryGrpcClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        long calls = INVENTORY.calls() + INVENTORY.batchCalls();
+        assertThat(isAvailable()).isFalse();
+        // Mạch mở: trả lời từ dự phòng, không gọi inventory service
+        assertThat(INVENTORY.calls() + INVENTORY.batchCalls()).isEqualTo(calls);
+    }
+
+    private boolean isAvailable() {
+        return inventoryIntegrationService.isProductAvailable("p-1", 5, "available", "Product p-1", BigDecimal.TEN);
+    }
+}
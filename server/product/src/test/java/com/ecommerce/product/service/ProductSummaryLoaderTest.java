@@ -0,0 +1,73 @@
+package com.ecommerce.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.repository.ProductSummaryQueryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductSummaryLoaderTest {
+
+    private final ProductSummaryQueryRepository repository = mock(ProductSummaryQueryRepository.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ProductSummaryLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new ProductSummaryLoader(repository, mock(DataSource.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(loader, "fanOutEnabled", true);
+        ReflectionTestUtils.setField(loader, "threads", 2);
+        ReflectionTestUtils.setField(loader, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(loader, "budgetMs", 10L);
+        ReflectionTestUtils.setField(loader, "timeoutMs", 200L);
+        loader.init();
+
+        when(repository.findFlatSummaries(any())).thenReturn(List.of(ProductSummaryDTO.builder().id("p-1").build()));
+        when(repository.findCategories(any())).thenReturn(Map.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        loader.shutdown();
+    }
+
+    @Test
+    void failsWithQueryTimeoutWhenWorkerQueryOutlivesTimeout() {
+        // Truy vấn images đã nằm trên worker và không xong
+        when(repository.findTopImages(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of();
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> loader.load(List.of("p-1"))).isInstanceOf(QueryTimeoutException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    }
+
+    @Test
+    void attachesLookupsFinishingWithinBudget() {
+        when(repository.findTopImages(any())).thenReturn(Map.of());
+
+        assertThat(loader.load(List.of("p-1"))).extracting(ProductSummaryDTO::getId).containsExactly("p-1");
+    }
+}